@@ -0,0 +1,91 @@
+package com.nhnacademy.bookingservice.common.adaptor;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.nhnacademy.bookingservice.common.config.AsyncConfig;
+import com.nhnacademy.bookingservice.dto.MeetingRoomResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * {@link MeetingRoomAdaptor} 앞에 두는 회의실 정보 캐시입니다.
+ * <ul>
+ *   <li>회의실 정보는 거의 바뀌지 않으므로 목록/메일 발송 시 반복되는 동일 조회를 캐시로 흡수합니다.</li>
+ *   <li>{@code refresh-after-write}가 지난 항목은 다음 조회 시 기존 값을 반환하고 백그라운드에서 갱신합니다.</li>
+ *   <li>{@code expire-after-write}가 지난 항목은 제거되어 다음 조회 시 동기로 다시 읽습니다.</li>
+ *   <li>전체 회의실 목록도 같은 주기로 캐시하고, 목록을 읽을 때 회의실별 항목도 함께 채웁니다.</li>
+ *   <li>백그라운드 갱신은 Feign 호출로 스레드를 막으므로 공용 ForkJoinPool 대신 {@value AsyncConfig#CACHE_REFRESH_EXECUTOR} 풀에서 실행합니다.
+ *       풀이 가득 차 거절되면 이번 갱신만 건너뛰고 다음 조회 때 다시 시도합니다.</li>
+ * </ul>
+ * 적중/실패/제거 지표는 {@code cache.*{cache="meetingRooms"}}, {@code cache.*{cache="meetingRoomList"}} 로 노출됩니다.
+ */
+@Primary
+@Component
+public class CachingMeetingRoomAdaptor implements MeetingRoomAdaptor {
+
+    static final String CACHE_NAME = "meetingRooms";
+    static final String LIST_CACHE_NAME = "meetingRoomList";
+    private static final String ALL = "all";
+
+    private final LoadingCache<Long, MeetingRoomResponse> cache;
+    private final LoadingCache<String, List<MeetingRoomResponse>> listCache;
+
+    @Autowired
+    public CachingMeetingRoomAdaptor(@Qualifier("resilientMeetingRoomAdaptor") MeetingRoomAdaptor meetingRoomClient,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${booking.cache.meeting-room.maximum-size:500}") long maximumSize,
+                                     @Value("${booking.cache.meeting-room.expire-after-write:PT30M}") Duration expireAfterWrite,
+                                     @Value("${booking.cache.meeting-room.refresh-after-write:PT10M}") Duration refreshAfterWrite,
+                                     @Qualifier(AsyncConfig.CACHE_REFRESH_EXECUTOR) Executor refreshExecutor) {
+        this(meetingRoomClient, meterRegistry, maximumSize, expireAfterWrite, refreshAfterWrite,
+                Ticker.systemTicker(), refreshExecutor);
+    }
+
+    CachingMeetingRoomAdaptor(MeetingRoomAdaptor meetingRoomClient, MeterRegistry meterRegistry, long maximumSize,
+                              Duration expireAfterWrite, Duration refreshAfterWrite, Ticker ticker, Executor executor) {
+        this.cache = Caffeine.newBuilder()
+                .ticker(ticker)
+                .executor(executor)
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .refreshAfterWrite(refreshAfterWrite)
+                .recordStats()
+                .build(meetingRoomClient::getMeetingRoom);
+        this.listCache = Caffeine.newBuilder()
+                .ticker(ticker)
+                .executor(executor)
+                .expireAfterWrite(expireAfterWrite)
+                .refreshAfterWrite(refreshAfterWrite)
+                .recordStats()
+                .build(key -> {
+                    List<MeetingRoomResponse> rooms = meetingRoomClient.getMeetingRooms();
+                    if (rooms == null) {
+                        return List.of();
+                    }
+                    rooms.forEach(room -> cache.put(room.getNo(), room));
+                    return List.copyOf(rooms);
+                });
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, listCache, LIST_CACHE_NAME);
+    }
+
+    @Override
+    public MeetingRoomResponse getMeetingRoom(Long no) {
+        return cache.get(no);
+    }
+
+    @Override
+    public List<MeetingRoomResponse> getMeetingRooms() {
+        return listCache.get(ALL);
+    }
+}
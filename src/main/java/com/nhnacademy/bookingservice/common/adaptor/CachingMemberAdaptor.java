@@ -0,0 +1,70 @@
+package com.nhnacademy.bookingservice.common.adaptor;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.nhnacademy.bookingservice.dto.ConfirmPasswordRequest;
+import com.nhnacademy.bookingservice.dto.MemberResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * {@link MemberAdaptor} 앞에 두는 회원 정보 캐시입니다.
+ * <ul>
+ *   <li>요청마다 "X-USER" 헤더로 수행하는 이메일 기반 회원 조회를 짧은 TTL로 캐시합니다.</li>
+ *   <li>같은 이메일을 동시에 조회하면 한 요청만 member-service를 호출하고 나머지는 그 결과를 기다립니다.</li>
+ *   <li>회원 번호 조회, 일괄 조회, 비밀번호 확인은 캐시하지 않고 그대로 위임합니다.</li>
+ * </ul>
+ * 적중/실패/제거 지표는 {@code cache.*{cache="membersByEmail"}} 로 노출됩니다.
+ */
+@Primary
+@Component
+public class CachingMemberAdaptor implements MemberAdaptor {
+
+    static final String CACHE_NAME = "membersByEmail";
+
+    private final MemberAdaptor memberClient;
+    private final LoadingCache<String, MemberResponse> cache;
+
+    public CachingMemberAdaptor(@Qualifier("resilientMemberAdaptor") MemberAdaptor memberClient,
+                                MeterRegistry meterRegistry,
+                                @Value("${booking.cache.member.maximum-size:1000}") long maximumSize,
+                                @Value("${booking.cache.member.expire-after-write:PT30S}") Duration expireAfterWrite) {
+        this.memberClient = memberClient;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build(memberClient::getMemberByEmail);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public MemberResponse getMemberByEmail(String email) {
+        if (email == null) {
+            return memberClient.getMemberByEmail(null);
+        }
+        return cache.get(email);
+    }
+
+    @Override
+    public MemberResponse getMemberByMbNo(Long no) {
+        return memberClient.getMemberByMbNo(no);
+    }
+
+    @Override
+    public List<MemberResponse> getMembersByMbNos(List<Long> mbNos) {
+        return memberClient.getMembersByMbNos(mbNos);
+    }
+
+    @Override
+    public Boolean verify(Long mbNo, ConfirmPasswordRequest request) {
+        return memberClient.verify(mbNo, request);
+    }
+}
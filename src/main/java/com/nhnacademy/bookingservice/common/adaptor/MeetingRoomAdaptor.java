@@ -5,9 +5,19 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 
-@FeignClient(name = "meeting-room-service", url = "http://localhost:10258", path = "/api/v1/meeting-rooms")
+import java.util.List;
+
+@FeignClient(name = "meeting-room-service", qualifiers = "meetingRoomClient", primary = false, url = "${meeting-room-service.url:http://localhost:10258}", path = "/api/v1/meeting-rooms")
 public interface MeetingRoomAdaptor {
 
     @GetMapping("/{no}")
     MeetingRoomResponse getMeetingRoom(@PathVariable("no") Long no);
+
+    /**
+     * 전체 회의실 목록을 조회합니다.
+     *
+     * @return 회의실 목록
+     */
+    @GetMapping
+    List<MeetingRoomResponse> getMeetingRooms();
 }
@@ -10,7 +10,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
-@FeignClient(name = "member-service", url = "http://localhost:10255", path = "/api/v1/members")
+import java.util.List;
+
+@FeignClient(name = "member-service", qualifiers = "memberClient", primary = false, url = "${member-service.url:http://localhost:10255}", path = "/api/v1/members")
 public interface MemberAdaptor {
 
     @GetMapping("/email/{email}?view=summary")
@@ -19,6 +21,15 @@ public interface MemberAdaptor {
     @GetMapping("/{no}?view=summary")
     MemberResponse getMemberByMbNo(@PathVariable("no") Long no);
 
+    /**
+     * 여러 회원의 요약 정보를 한 번에 조회합니다. 존재하지 않는 회원은 결과에서 빠집니다.
+     *
+     * @param mbNos 회원 번호 목록
+     * @return 회원 요약 정보 목록
+     */
+    @PostMapping("/batch?view=summary")
+    List<MemberResponse> getMembersByMbNos(@RequestBody List<Long> mbNos);
+
     @PostMapping("/{mbNo}/password")
     Boolean verify(
             @PathVariable("mbNo") Long mbNo,
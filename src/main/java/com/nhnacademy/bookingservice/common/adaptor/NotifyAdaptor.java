@@ -1,11 +1,14 @@
 package com.nhnacademy.bookingservice.common.adaptor;
 
+import com.nhnacademy.bookingservice.dto.BulkEmailRequest;
 import com.nhnacademy.bookingservice.dto.EmailRequest;
 import com.nhnacademy.bookingservice.dto.RemindRequest;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
-@FeignClient(name = "notify-service", url = "http://localhost:10260", path = "/api/v1/email")
+@FeignClient(name = "notify-service", qualifiers = "notifyClient", primary = false, url = "${notify-service.url:http://localhost:10260}", path = "/api/v1/email")
 public interface NotifyAdaptor {
 
     @GetMapping("/html")
@@ -13,4 +16,7 @@ public interface NotifyAdaptor {
 
     @GetMapping("/text")
     String sendRemindText(RemindRequest request);
+
+    @PostMapping("/bulk")
+    String sendBulk(@RequestBody BulkEmailRequest request);
 }
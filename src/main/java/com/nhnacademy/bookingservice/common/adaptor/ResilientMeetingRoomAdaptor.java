@@ -0,0 +1,66 @@
+package com.nhnacademy.bookingservice.common.adaptor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nhnacademy.bookingservice.common.resilience.ClientGuard;
+import com.nhnacademy.bookingservice.dto.MeetingRoomResponse;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * meeting-room-service 호출을 {@link ClientGuard}로 감쌉니다. {@link CachingMeetingRoomAdaptor}가 이 어댑터를 거쳐 호출합니다.
+ * <p>
+ * 조회에 성공한 회의실과 회의실 목록은 기억해 두고, meeting-room-service가 응답하지 못하면 마지막으로 조회한 값을 반환합니다.
+ * 한 번도 조회한 적 없는 회의실은 정원을 알 수 없으므로 대체 값 없이 실패합니다.
+ */
+@Component
+public class ResilientMeetingRoomAdaptor implements MeetingRoomAdaptor {
+
+    static final String SERVICE_NAME = "meeting-room-service";
+
+    private final MeetingRoomAdaptor meetingRoomClient;
+    private final ClientGuard guard;
+    private final Cache<Long, MeetingRoomResponse> lastKnown;
+    private final AtomicReference<List<MeetingRoomResponse>> lastKnownRooms = new AtomicReference<>();
+
+    public ResilientMeetingRoomAdaptor(@Qualifier("meetingRoomClient") MeetingRoomAdaptor meetingRoomClient,
+                                       CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry,
+                                       @Value("${booking.resilience.meeting-room-service.max-concurrent-calls:20}") int maxConcurrentCalls,
+                                       @Value("${booking.resilience.fallback.maximum-size:10000}") long fallbackSize,
+                                       @Value("${booking.resilience.fallback.expire-after-write:PT1H}") Duration fallbackTtl) {
+        this.meetingRoomClient = meetingRoomClient;
+        this.guard = new ClientGuard(SERVICE_NAME, maxConcurrentCalls, circuitBreakerRegistry, bulkheadRegistry);
+        this.lastKnown = Caffeine.newBuilder().maximumSize(fallbackSize).expireAfterWrite(fallbackTtl).build();
+    }
+
+    @Override
+    public MeetingRoomResponse getMeetingRoom(Long no) {
+        return guard.call(() -> {
+            MeetingRoomResponse room = meetingRoomClient.getMeetingRoom(no);
+            if (room != null && no != null) {
+                lastKnown.put(no, room);
+            }
+            return room;
+        }, () -> Optional.ofNullable(no).map(lastKnown::getIfPresent));
+    }
+
+    @Override
+    public List<MeetingRoomResponse> getMeetingRooms() {
+        return guard.call(() -> {
+            List<MeetingRoomResponse> rooms = meetingRoomClient.getMeetingRooms();
+            if (rooms != null) {
+                lastKnownRooms.set(rooms);
+                rooms.forEach(room -> lastKnown.put(room.getNo(), room));
+            }
+            return rooms;
+        }, () -> Optional.ofNullable(lastKnownRooms.get()));
+    }
+}
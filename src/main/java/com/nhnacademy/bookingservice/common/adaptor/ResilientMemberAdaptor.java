@@ -0,0 +1,78 @@
+package com.nhnacademy.bookingservice.common.adaptor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nhnacademy.bookingservice.common.resilience.ClientGuard;
+import com.nhnacademy.bookingservice.dto.ConfirmPasswordRequest;
+import com.nhnacademy.bookingservice.dto.MemberResponse;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * member-service 호출을 {@link ClientGuard}로 감쌉니다. {@link CachingMemberAdaptor}가 이 어댑터를 거쳐 호출합니다.
+ * <ul>
+ *   <li>조회에 성공한 회원은 번호로 기억해 두고, member-service가 응답하지 못하면 번호 조회는 마지막으로 조회한 값을 반환합니다.</li>
+ *   <li>일괄 조회는 기억해 둔 회원만 반환합니다. 나머지 회원은 결과에서 빠지므로 목록에는 이름 없이 표시됩니다.</li>
+ *   <li>이메일 조회는 로그인 회원과 권한({@code ROLE_ADMIN})을 확인하는 데 쓰이므로, 탈퇴나 권한 회수가 늦게 반영되지 않도록 대체 값 없이 503으로 실패합니다.</li>
+ *   <li>비밀번호 확인은 대체 값 없이 실패합니다.</li>
+ * </ul>
+ */
+@Component
+public class ResilientMemberAdaptor implements MemberAdaptor {
+
+    static final String SERVICE_NAME = "member-service";
+
+    private final MemberAdaptor memberClient;
+    private final ClientGuard guard;
+    private final Cache<Long, MemberResponse> lastKnownByNo;
+
+    public ResilientMemberAdaptor(@Qualifier("memberClient") MemberAdaptor memberClient,
+                                  CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry,
+                                  @Value("${booking.resilience.member-service.max-concurrent-calls:20}") int maxConcurrentCalls,
+                                  @Value("${booking.resilience.fallback.maximum-size:10000}") long fallbackSize,
+                                  @Value("${booking.resilience.fallback.expire-after-write:PT1H}") Duration fallbackTtl) {
+        this.memberClient = memberClient;
+        this.guard = new ClientGuard(SERVICE_NAME, maxConcurrentCalls, circuitBreakerRegistry, bulkheadRegistry);
+        this.lastKnownByNo = Caffeine.newBuilder().maximumSize(fallbackSize).expireAfterWrite(fallbackTtl).build();
+    }
+
+    @Override
+    public MemberResponse getMemberByEmail(String email) {
+        return guard.call(() -> remember(memberClient.getMemberByEmail(email)));
+    }
+
+    @Override
+    public MemberResponse getMemberByMbNo(Long no) {
+        return guard.call(() -> remember(memberClient.getMemberByMbNo(no)),
+                () -> Optional.ofNullable(no).map(lastKnownByNo::getIfPresent));
+    }
+
+    @Override
+    public List<MemberResponse> getMembersByMbNos(List<Long> mbNos) {
+        return guard.call(() -> {
+            List<MemberResponse> members = memberClient.getMembersByMbNos(mbNos);
+            members.forEach(this::remember);
+            return members;
+        }, () -> Optional.of(mbNos.stream().filter(Objects::nonNull).map(lastKnownByNo::getIfPresent).filter(Objects::nonNull).toList()));
+    }
+
+    @Override
+    public Boolean verify(Long mbNo, ConfirmPasswordRequest request) {
+        return guard.call(() -> memberClient.verify(mbNo, request));
+    }
+
+    private MemberResponse remember(MemberResponse member) {
+        if (member != null && member.getNo() != null) {
+            lastKnownByNo.put(member.getNo(), member);
+        }
+        return member;
+    }
+}
@@ -0,0 +1,48 @@
+package com.nhnacademy.bookingservice.common.adaptor;
+
+import com.nhnacademy.bookingservice.common.resilience.ClientGuard;
+import com.nhnacademy.bookingservice.dto.BulkEmailRequest;
+import com.nhnacademy.bookingservice.dto.EmailRequest;
+import com.nhnacademy.bookingservice.dto.RemindRequest;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * notify-service 호출을 {@link ClientGuard}로 감쌉니다.
+ * 대체 값은 없으며, 호출이 막히면 알림 발송함이 실패로 기록하고 나중에 다시 보냅니다.
+ */
+@Primary
+@Component
+public class ResilientNotifyAdaptor implements NotifyAdaptor {
+
+    static final String SERVICE_NAME = "notify-service";
+
+    private final NotifyAdaptor notifyClient;
+    private final ClientGuard guard;
+
+    public ResilientNotifyAdaptor(@Qualifier("notifyClient") NotifyAdaptor notifyClient,
+                                  CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry,
+                                  @Value("${booking.resilience.notify-service.max-concurrent-calls:10}") int maxConcurrentCalls) {
+        this.notifyClient = notifyClient;
+        this.guard = new ClientGuard(SERVICE_NAME, maxConcurrentCalls, circuitBreakerRegistry, bulkheadRegistry);
+    }
+
+    @Override
+    public String sendHtmlEmail(EmailRequest request) {
+        return guard.call(() -> notifyClient.sendHtmlEmail(request));
+    }
+
+    @Override
+    public String sendRemindText(RemindRequest request) {
+        return guard.call(() -> notifyClient.sendRemindText(request));
+    }
+
+    @Override
+    public String sendBulk(BulkEmailRequest request) {
+        return guard.call(() -> notifyClient.sendBulk(request));
+    }
+}
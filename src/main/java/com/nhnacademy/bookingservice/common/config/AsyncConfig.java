@@ -0,0 +1,81 @@
+package com.nhnacademy.bookingservice.common.config;
+
+import com.nhnacademy.bookingservice.common.executor.BoundedExecutors;
+import com.nhnacademy.bookingservice.common.executor.BoundedExecutors.RejectionPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 비동기 작업 종류별 스레드 풀입니다. 메일이 몰려도 다른 작업의 스레드를 빼앗지 않도록 풀을 나눕니다.
+ * <ul>
+ *   <li>{@value #NOTIFICATION_EXECUTOR}: 알림 발송함 메일 작성과 결과 기록, 가득 차면 거절해 발송함 행을 대기 상태로 두고 임대가 끝난 뒤 다시 가져갑니다.</li>
+ *   <li>{@value #REMINDER_EXECUTOR}: 회의 시작 전 알림, 늦게 보내는 알림은 의미가 없으므로 가득 차면 버립니다.</li>
+ *   <li>{@value #ENRICHMENT_EXECUTOR}: 목록 조회의 회원/회의실 정보 보강, 가득 차면 요청 스레드가 직접 조회합니다.</li>
+ *   <li>{@value #BROADCAST_EXECUTOR}: 실시간 피드 구독자에게 이벤트 전송, 가득 차면 거절해 해당 구독자의 연결을 끊습니다. 이벤트를 발행한 스레드는 소켓에 쓰지 않습니다.</li>
+ *   <li>{@value #CACHE_REFRESH_EXECUTOR}: 회의실 캐시의 백그라운드 갱신, 가득 차면 거절해 이번 갱신을 건너뛰고 기존 값을 계속 반환합니다.</li>
+ * </ul>
+ * {@code spring.threads.virtual.enabled}가 켜져 있으면 모든 풀을 가상 스레드로 실행하되, 동시 실행 수와 대기열 제한은 유지합니다.
+ */
+@Configuration
+public class AsyncConfig {
+
+    public static final String NOTIFICATION_EXECUTOR = "notificationExecutor";
+    public static final String REMINDER_EXECUTOR = "reminderExecutor";
+    public static final String ENRICHMENT_EXECUTOR = "enrichmentExecutor";
+    public static final String BROADCAST_EXECUTOR = "broadcastExecutor";
+    public static final String CACHE_REFRESH_EXECUTOR = "cacheRefreshExecutor";
+
+    private final boolean virtualThreads;
+
+    public AsyncConfig(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    @Bean(NOTIFICATION_EXECUTOR)
+    public ThreadPoolTaskExecutor notificationExecutor(MeterRegistry meterRegistry,
+                                                       @Value("${booking.executor.notification.core-size:4}") int coreSize,
+                                                       @Value("${booking.executor.notification.max-size:4}") int maxSize,
+                                                       @Value("${booking.executor.notification.queue-capacity:200}") int queueCapacity,
+                                                       @Value("${booking.executor.notification.rejection:REJECT}") RejectionPolicy policy) {
+        return BoundedExecutors.create("notification", coreSize, maxSize, queueCapacity, policy, virtualThreads, meterRegistry);
+    }
+
+    @Bean(REMINDER_EXECUTOR)
+    public ThreadPoolTaskExecutor reminderExecutor(MeterRegistry meterRegistry,
+                                                   @Value("${booking.executor.reminder.core-size:2}") int coreSize,
+                                                   @Value("${booking.executor.reminder.max-size:4}") int maxSize,
+                                                   @Value("${booking.executor.reminder.queue-capacity:500}") int queueCapacity,
+                                                   @Value("${booking.executor.reminder.rejection:DROP}") RejectionPolicy policy) {
+        return BoundedExecutors.create("reminder", coreSize, maxSize, queueCapacity, policy, virtualThreads, meterRegistry);
+    }
+
+    @Bean(ENRICHMENT_EXECUTOR)
+    public ThreadPoolTaskExecutor enrichmentExecutor(MeterRegistry meterRegistry,
+                                                     @Value("${booking.executor.enrichment.core-size:16}") int coreSize,
+                                                     @Value("${booking.executor.enrichment.max-size:16}") int maxSize,
+                                                     @Value("${booking.executor.enrichment.queue-capacity:200}") int queueCapacity,
+                                                     @Value("${booking.executor.enrichment.rejection:CALLER_RUNS}") RejectionPolicy policy) {
+        return BoundedExecutors.create("enrichment", coreSize, maxSize, queueCapacity, policy, virtualThreads, meterRegistry);
+    }
+
+    @Bean(BROADCAST_EXECUTOR)
+    public ThreadPoolTaskExecutor broadcastExecutor(MeterRegistry meterRegistry,
+                                                    @Value("${booking.executor.broadcast.core-size:8}") int coreSize,
+                                                    @Value("${booking.executor.broadcast.max-size:8}") int maxSize,
+                                                    @Value("${booking.executor.broadcast.queue-capacity:10000}") int queueCapacity,
+                                                    @Value("${booking.executor.broadcast.rejection:REJECT}") RejectionPolicy policy) {
+        return BoundedExecutors.create("broadcast", coreSize, maxSize, queueCapacity, policy, virtualThreads, meterRegistry);
+    }
+
+    @Bean(CACHE_REFRESH_EXECUTOR)
+    public ThreadPoolTaskExecutor cacheRefreshExecutor(MeterRegistry meterRegistry,
+                                                       @Value("${booking.executor.cache-refresh.core-size:2}") int coreSize,
+                                                       @Value("${booking.executor.cache-refresh.max-size:2}") int maxSize,
+                                                       @Value("${booking.executor.cache-refresh.queue-capacity:100}") int queueCapacity,
+                                                       @Value("${booking.executor.cache-refresh.rejection:REJECT}") RejectionPolicy policy) {
+        return BoundedExecutors.create("cache-refresh", coreSize, maxSize, queueCapacity, policy, virtualThreads, meterRegistry);
+    }
+}
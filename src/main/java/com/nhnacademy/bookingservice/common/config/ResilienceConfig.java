@@ -0,0 +1,57 @@
+package com.nhnacademy.bookingservice.common.config;
+
+import com.nhnacademy.bookingservice.common.resilience.ClientGuard;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 외부 서비스 호출에 쓰는 서킷 브레이커와 벌크헤드의 기본 설정입니다. 서비스별 인스턴스는 {@link ClientGuard}가 만듭니다.
+ * <p>
+ * 상태와 호출 지표는 {@code resilience4j.circuitbreaker.*}, {@code resilience4j.bulkhead.*}로 {@code /actuator/metrics}에 노출됩니다.
+ */
+@Configuration
+public class ResilienceConfig {
+
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry(MeterRegistry meterRegistry,
+                                                         @Value("${booking.resilience.sliding-window-size:20}") int slidingWindowSize,
+                                                         @Value("${booking.resilience.minimum-calls:10}") int minimumCalls,
+                                                         @Value("${booking.resilience.failure-rate-threshold:50}") float failureRateThreshold,
+                                                         @Value("${booking.resilience.slow-call-duration:PT2S}") Duration slowCallDuration,
+                                                         @Value("${booking.resilience.open-duration:PT30S}") Duration openDuration,
+                                                         @Value("${booking.resilience.half-open-calls:3}") int halfOpenCalls) {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(slowCallDuration)
+                .waitDurationInOpenState(openDuration)
+                .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .ignoreException(e -> ClientGuard.isClientError(e) || e instanceof BulkheadFullException)
+                .build());
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean
+    public BulkheadRegistry bulkheadRegistry(MeterRegistry meterRegistry) {
+        BulkheadRegistry registry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+}
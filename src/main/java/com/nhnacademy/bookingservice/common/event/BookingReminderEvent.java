@@ -3,18 +3,17 @@ package com.nhnacademy.bookingservice.common.event;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
+/**
+ * 예약 시작 10분 전 알림 시각이 되었음을 알리는 이벤트입니다.
+ * 수신자 정보는 발송 시점에 예약을 다시 읽어 확인합니다.
+ */
 @Getter
-@SuppressWarnings("unused")
 public class BookingReminderEvent extends ApplicationEvent {
 
-    private final String email;
-
     private final Long bookingNo;
 
-
-    public BookingReminderEvent(Object source, String email, Long bookingNo) {
+    public BookingReminderEvent(Object source, Long bookingNo) {
         super(source);
-        this.email = email;
         this.bookingNo = bookingNo;
     }
 }
@@ -1,41 +1,86 @@
 package com.nhnacademy.bookingservice.common.event;
 
 import com.nhnacademy.bookingservice.common.adaptor.MeetingRoomAdaptor;
-import com.nhnacademy.bookingservice.common.adaptor.NotifyAdaptor;
+import com.nhnacademy.bookingservice.common.adaptor.MemberAdaptor;
+import com.nhnacademy.bookingservice.common.config.AsyncConfig;
 import com.nhnacademy.bookingservice.common.exception.booking.BookingNotFoundException;
+import com.nhnacademy.bookingservice.common.notify.NotificationBatcher;
+import com.nhnacademy.bookingservice.common.template.BookingEmailTemplates;
+import com.nhnacademy.bookingservice.domain.BookingChangeType;
 import com.nhnacademy.bookingservice.dto.BookingResponse;
+import com.nhnacademy.bookingservice.dto.BulkEmailRequest;
 import com.nhnacademy.bookingservice.dto.MeetingRoomResponse;
+import com.nhnacademy.bookingservice.dto.MemberResponse;
 import com.nhnacademy.bookingservice.dto.RemindRequest;
 import com.nhnacademy.bookingservice.repository.BookingRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Set;
 
+@Slf4j
+@Component
 @RequiredArgsConstructor
 public class BookingReminderEventListener{
 
-    private final NotifyAdaptor notifyAdaptor;
+    private static final Set<String> CLOSED = Set.of(
+            BookingChangeType.CANCEL.getName(), BookingChangeType.FINISH.getName(), BookingChangeType.INUSE.getName());
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final NotificationBatcher notificationBatcher;
+    private final BookingEmailTemplates bookingEmailTemplates;
     private final MeetingRoomAdaptor meetingRoomAdaptor;
+    private final MemberAdaptor memberAdaptor;
     private final BookingRepository bookingRepository;
 
-    @Async
+    @Async(AsyncConfig.REMINDER_EXECUTOR)
+    @EventListener(BookingReminderEvent.class)
     public void sendReminder(BookingReminderEvent event) {
         BookingResponse booking = bookingRepository.findByNo(event.getBookingNo()).orElseThrow(BookingNotFoundException::new);
 
+        // 다른 인스턴스에서 취소/변경된 예약일 수 있으므로 발송 직전에 DB 기준으로 다시 확인합니다.
+        if (!isRemindable(booking, LocalDateTime.now())) {
+            log.info("알림 대상 아님 - 예약번호: {}", booking.getNo());
+            return;
+        }
+
+        MemberResponse member = memberAdaptor.getMemberByMbNo(booking.getMember().getNo());
         MeetingRoomResponse room = getMeetingRoom(booking.getRoom().getNo());
         booking.getRoom().setName(room.getMeetingRoomName());
 
         RemindRequest request = new RemindRequest(
-                event.getEmail(),
+                member.getEmail(),
                 "회의 10분 전 알림",
-                "%s에 %s에서 회의가 시작됩니다. 입실해 주세요.".formatted(
-                        booking.getStartsAt().format(DateTimeFormatter.ofPattern("HH:mm")),
+                bookingEmailTemplates.reminder(
+                        booking.getStartsAt().format(TIME_FORMAT),
                         room.getMeetingRoomName()),
                 "ROLE_ALL");
 
-        notifyAdaptor.sendRemindText(request);
+        Long bookingNo = booking.getNo();
+        notificationBatcher.submit(BulkEmailRequest.Message.text(request)).whenComplete((ignored, e) -> {
+            if (e == null) {
+                log.info("알림 전송 완료 - 예약번호: {}", bookingNo);
+            } else {
+                log.error("알림 전송 실패 - 예약번호: {}, 이유: {}", bookingNo, e.getMessage());
+            }
+        });
+    }
 
+    /**
+     * 취소/종료/입실되지 않았고 10분 안에 시작하는 예약만 알림 대상입니다.
+     * 스케줄러는 시작 10분 전 이후에만 이벤트를 발행하므로, 정상 발행된 알림은 이 범위를 벗어나지 않습니다.
+     */
+    static boolean isRemindable(BookingResponse booking, LocalDateTime now) {
+        if (booking.getFinishesAt() == null || (booking.getChangeName() != null && CLOSED.contains(booking.getChangeName()))) {
+            return false;
+        }
+        return booking.getStartsAt().isAfter(now) && !booking.getStartsAt().isAfter(now.plusMinutes(10));
     }
 
     private MeetingRoomResponse getMeetingRoom(Long roomNo){
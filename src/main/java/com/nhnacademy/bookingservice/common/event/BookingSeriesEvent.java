@@ -0,0 +1,26 @@
+package com.nhnacademy.bookingservice.common.event;
+
+import com.nhnacademy.bookingservice.domain.NotificationType;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 정기 예약이 등록/변경/취소되었음을 알리는 이벤트입니다. 회차마다가 아니라 정기 예약마다 한 번 발행되어 요약 메일 한 통으로 이어집니다.
+ * {@code bookingNo}는 변경이 반영된 첫 회차의 예약 번호입니다.
+ */
+@Getter
+public class BookingSeriesEvent extends ApplicationEvent {
+
+    private final NotificationType type;
+
+    private final String email;
+
+    private final Long bookingNo;
+
+    public BookingSeriesEvent(Object source, NotificationType type, String email, Long bookingNo) {
+        super(source);
+        this.type = type;
+        this.email = email;
+        this.bookingNo = bookingNo;
+    }
+}
@@ -0,0 +1,45 @@
+package com.nhnacademy.bookingservice.common.event;
+
+import com.nhnacademy.bookingservice.domain.BookingChangeType;
+import com.nhnacademy.bookingservice.domain.BookingSlot;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 예약의 회의실 점유 구간이 변경되었음을 알리는 이벤트입니다.
+ * <p>
+ * 변경 전/후 구간을 함께 전달하며, 신규 예약은 {@code previous}가, 취소된 예약은 {@code current}가 {@code null}입니다.
+ * 신규 예약의 {@code changeType}은 {@code null}입니다.
+ * 예약 인원도 변경 전/후 값을 함께 전달합니다.
+ * </p>
+ */
+@Getter
+public class BookingSlotChangedEvent extends ApplicationEvent {
+
+    private final Long bookingNo;
+
+    private final BookingChangeType changeType;
+
+    private final BookingSlot previous;
+
+    private final BookingSlot current;
+
+    private final Integer previousAttendeeCount;
+
+    private final Integer currentAttendeeCount;
+
+    public BookingSlotChangedEvent(Object source, Long bookingNo, BookingChangeType changeType, BookingSlot previous, BookingSlot current) {
+        this(source, bookingNo, changeType, previous, current, null, null);
+    }
+
+    public BookingSlotChangedEvent(Object source, Long bookingNo, BookingChangeType changeType, BookingSlot previous, BookingSlot current,
+                                   Integer previousAttendeeCount, Integer currentAttendeeCount) {
+        super(source);
+        this.bookingNo = bookingNo;
+        this.changeType = changeType;
+        this.previous = previous;
+        this.current = current;
+        this.previousAttendeeCount = previousAttendeeCount;
+        this.currentAttendeeCount = currentAttendeeCount;
+    }
+}
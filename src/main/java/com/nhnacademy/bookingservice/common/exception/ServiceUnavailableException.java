@@ -0,0 +1,17 @@
+package com.nhnacademy.bookingservice.common.exception;
+
+public class ServiceUnavailableException extends CommonHttpException {
+    private static final int STATUS_CODE = 503;
+
+    public ServiceUnavailableException() {
+        super("service unavailable", STATUS_CODE);
+    }
+
+    public ServiceUnavailableException(String message) {
+        super(message, STATUS_CODE);
+    }
+
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause, STATUS_CODE);
+    }
+}
@@ -0,0 +1,10 @@
+package com.nhnacademy.bookingservice.common.exception.booking;
+
+import com.nhnacademy.bookingservice.common.exception.ConflictException;
+
+@SuppressWarnings("java:S110")
+public class BookingLockTimeoutException extends ConflictException {
+    public BookingLockTimeoutException(Long roomNo) {
+        super("다른 예약 요청을 처리 중입니다. 잠시 후 다시 시도해 주세요.[회의실: %d]".formatted(roomNo));
+    }
+}
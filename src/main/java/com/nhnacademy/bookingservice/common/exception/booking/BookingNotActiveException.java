@@ -0,0 +1,10 @@
+package com.nhnacademy.bookingservice.common.exception.booking;
+
+import com.nhnacademy.bookingservice.common.exception.ConflictException;
+
+@SuppressWarnings("java:S110")
+public class BookingNotActiveException extends ConflictException {
+    public BookingNotActiveException(Long bookingNo) {
+        super("현재 상태에서는 처리할 수 없는 예약입니다.[예약번호: %d]".formatted(bookingNo));
+    }
+}
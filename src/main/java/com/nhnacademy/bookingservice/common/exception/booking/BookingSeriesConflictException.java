@@ -0,0 +1,16 @@
+package com.nhnacademy.bookingservice.common.exception.booking;
+
+import com.nhnacademy.bookingservice.common.exception.ConflictException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@SuppressWarnings("java:S110")
+public class BookingSeriesConflictException extends ConflictException {
+
+    public BookingSeriesConflictException(List<LocalDateTime> conflicts) {
+        super("이미 예약된 회차가 있습니다. 다른 시간대를 선택해 주세요.[시간: %s]".formatted(
+                conflicts.stream().map(LocalDateTime::toString).collect(Collectors.joining(", "))));
+    }
+}
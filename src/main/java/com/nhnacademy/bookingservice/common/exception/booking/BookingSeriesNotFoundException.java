@@ -0,0 +1,11 @@
+package com.nhnacademy.bookingservice.common.exception.booking;
+
+import com.nhnacademy.bookingservice.common.exception.NotFoundException;
+
+@SuppressWarnings("java:S110")
+public class BookingSeriesNotFoundException extends NotFoundException {
+
+    public BookingSeriesNotFoundException(Long no) {
+        super("정기 예약을 찾을 수 없습니다(id: %d)".formatted(no));
+    }
+}
@@ -0,0 +1,10 @@
+package com.nhnacademy.bookingservice.common.exception.booking;
+
+import com.nhnacademy.bookingservice.common.exception.BadRequestException;
+
+@SuppressWarnings("java:S110")
+public class InvalidBookingCursorException extends BadRequestException {
+    public InvalidBookingCursorException() {
+        super("잘못된 커서입니다. 처음부터 다시 조회해 주세요.");
+    }
+}
@@ -0,0 +1,126 @@
+package com.nhnacademy.bookingservice.common.executor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 작업 종류마다 따로 쓰는, 크기와 대기열이 제한된 스레드 풀을 만듭니다.
+ * <ul>
+ *   <li>대기열이 가득 차면 {@link RejectionPolicy}에 따라 호출한 스레드에서 실행하거나, 버리거나, 제출한 쪽에 거절을 알립니다.</li>
+ *   <li>풀마다 {@code booking.executor.queued}, {@code booking.executor.active} 게이지와
+ *       {@code booking.executor.task.wait}(대기열에서 기다린 시간), {@code booking.executor.task.duration}(실행 시간) 타이머,
+ *       {@code booking.executor.rejected} 카운터를 {@code name} 태그로 구분해 노출합니다.</li>
+ * </ul>
+ */
+@Slf4j
+public final class BoundedExecutors {
+
+    static final String QUEUED_METRIC = "booking.executor.queued";
+    static final String ACTIVE_METRIC = "booking.executor.active";
+    static final String WAIT_METRIC = "booking.executor.task.wait";
+    static final String DURATION_METRIC = "booking.executor.task.duration";
+    static final String REJECTED_METRIC = "booking.executor.rejected";
+
+    private BoundedExecutors() {
+    }
+
+    /**
+     * 대기열이 가득 찼을 때의 처리 방식입니다.
+     */
+    public enum RejectionPolicy {
+        /**
+         * 제출한 스레드에서 직접 실행해 제출 속도를 늦춥니다.
+         */
+        CALLER_RUNS,
+        /**
+         * 경고를 남기고 버립니다.
+         */
+        DROP,
+        /**
+         * {@link RejectedExecutionException}을 던져, 제출한 쪽이 나중에 다시 시도하게 합니다.
+         */
+        REJECT
+    }
+
+    /**
+     * 스레드 풀을 만듭니다. 반환된 풀은 빈으로 등록되거나 {@link ThreadPoolTaskExecutor#initialize()}를 호출한 뒤 사용할 수 있습니다.
+     *
+     * @param name 풀 이름, 스레드 이름 접두사와 지표 태그로 쓰입니다.
+     * @param coreSize 기본 스레드 수
+     * @param maxSize 최대 스레드 수, 대기열이 가득 찬 뒤에만 늘어납니다.
+     * @param queueCapacity 대기열 크기
+     * @param policy 대기열이 가득 찼을 때의 처리 방식
+     * @param virtualThreads true면 작업 스레드를 가상 스레드로 만듭니다. 동시 실행 수 제한과 대기열은 그대로 적용됩니다.
+     * @param meterRegistry 지표 등록 대상
+     * @return 스레드 풀
+     */
+    @SuppressWarnings("java:S107")
+    public static ThreadPoolTaskExecutor create(String name, int coreSize, int maxSize, int queueCapacity,
+                                                RejectionPolicy policy, boolean virtualThreads, MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setBeanName(name);
+        executor.setVirtualThreads(virtualThreads);
+        executor.setThreadNamePrefix(name + "-");
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(Math.max(coreSize, maxSize));
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+
+        Timer wait = Timer.builder(WAIT_METRIC).tag("name", name)
+                .description("작업이 대기열에서 기다린 시간").register(meterRegistry);
+        Timer duration = Timer.builder(DURATION_METRIC).tag("name", name)
+                .description("작업 실행 시간").register(meterRegistry);
+        executor.setTaskDecorator(task -> {
+            long submittedAt = System.nanoTime();
+            return () -> {
+                long startedAt = System.nanoTime();
+                wait.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    task.run();
+                } finally {
+                    duration.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            };
+        });
+
+        Counter rejected = Counter.builder(REJECTED_METRIC).tag("name", name).tag("policy", policy.name().toLowerCase())
+                .description("대기열이 가득 차 호출 스레드에서 실행되거나 버려진 작업 수").register(meterRegistry);
+        executor.setRejectedExecutionHandler(rejectionHandler(name, policy, rejected));
+
+        Gauge.builder(QUEUED_METRIC, executor, ThreadPoolTaskExecutor::getQueueSize).tag("name", name)
+                .description("대기열에 쌓인 작업 수").register(meterRegistry);
+        Gauge.builder(ACTIVE_METRIC, executor, ThreadPoolTaskExecutor::getActiveCount).tag("name", name)
+                .description("실행 중인 스레드 수").register(meterRegistry);
+        return executor;
+    }
+
+    private static RejectedExecutionHandler rejectionHandler(String name, RejectionPolicy policy, Counter rejected) {
+        return switch (policy) {
+            case CALLER_RUNS -> {
+                RejectedExecutionHandler callerRuns = new ThreadPoolExecutor.CallerRunsPolicy();
+                yield (task, executor) -> {
+                    rejected.increment();
+                    callerRuns.rejectedExecution(task, executor);
+                };
+            }
+            case DROP -> (task, executor) -> {
+                rejected.increment();
+                log.warn("{} 작업 대기열이 가득 차 작업을 버립니다. (대기열: {}건)", name, executor.getQueue().size());
+            };
+            case REJECT -> (task, executor) -> {
+                rejected.increment();
+                throw new RejectedExecutionException("%s 작업 대기열이 가득 찼습니다. (대기열: %d건)".formatted(name, executor.getQueue().size()));
+            };
+        };
+    }
+}
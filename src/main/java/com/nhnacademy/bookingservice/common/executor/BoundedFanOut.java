@@ -0,0 +1,110 @@
+package com.nhnacademy.bookingservice.common.executor;
+
+import com.nhnacademy.bookingservice.common.config.AsyncConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 한 요청 안의 외부 조회 여러 건을 동시에 실행하고, 요청 단위 제한 시간까지만 기다립니다.
+ * <ul>
+ *   <li>요청 하나가 동시에 쓰는 스레드는 {@code booking.enrichment.parallelism}개를 넘지 않으며,
+ *       스레드는 {@value AsyncConfig#ENRICHMENT_EXECUTOR} 풀을 여러 요청이 함께 씁니다.</li>
+ *   <li>{@code booking.enrichment.deadline} 안에 끝나지 않으면 끝난 조회 결과만으로 응답하도록 false를 반환합니다.</li>
+ *   <li>조회가 예외로 실패하면 나머지 조회가 끝난 뒤 그 예외를 그대로 던집니다.</li>
+ * </ul>
+ * 소요 시간은 {@code booking.enrichment.latency}, 제한 시간 초과는 {@code booking.enrichment.timeouts}로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class BoundedFanOut {
+
+    static final String LATENCY_METRIC = "booking.enrichment.latency";
+    static final String TIMEOUT_METRIC = "booking.enrichment.timeouts";
+
+    private final Executor executor;
+    private final int parallelism;
+    private final Duration deadline;
+    private final Timer latency;
+    private final Counter timeouts;
+
+    public BoundedFanOut(@Qualifier(AsyncConfig.ENRICHMENT_EXECUTOR) Executor executor, MeterRegistry meterRegistry,
+                         @Value("${booking.enrichment.parallelism:8}") int parallelism,
+                         @Value("${booking.enrichment.deadline:PT2S}") Duration deadline) {
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.deadline = deadline;
+        this.latency = Timer.builder(LATENCY_METRIC)
+                .description("요청 한 번의 외부 조회 보강 소요 시간")
+                .register(meterRegistry);
+        this.timeouts = Counter.builder(TIMEOUT_METRIC)
+                .description("제한 시간 안에 끝나지 않아 일부 결과로 응답한 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회를 모두 실행합니다. 결과는 각 조회가 스레드 안전한 저장소에 직접 담아야 합니다.
+     *
+     * @param lookups 실행할 조회
+     * @return 제한 시간 안에 모두 끝났으면 true
+     */
+    public boolean runAll(List<Runnable> lookups) {
+        if (lookups.isEmpty()) {
+            return true;
+        }
+
+        Queue<Runnable> queue = new ConcurrentLinkedQueue<>(lookups);
+        AtomicBoolean stopped = new AtomicBoolean();
+        AtomicInteger done = new AtomicInteger();
+        CompletableFuture<?>[] workers = new CompletableFuture<?>[Math.min(parallelism, lookups.size())];
+
+        Timer.Sample sample = Timer.start();
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = CompletableFuture.runAsync(() -> drain(queue, stopped, done), executor);
+        }
+
+        try {
+            CompletableFuture.allOf(workers).get(deadline.toNanos(), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            log.warn("조회 보강 제한 시간 초과 - {}건 중 {}건만 완료", lookups.size(), done.get());
+            return false;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            stopped.set(true);
+            sample.stop(latency);
+        }
+    }
+
+    private static void drain(Queue<Runnable> queue, AtomicBoolean stopped, AtomicInteger done) {
+        Runnable lookup;
+        while (!stopped.get() && (lookup = queue.poll()) != null) {
+            lookup.run();
+            done.incrementAndGet();
+        }
+    }
+}
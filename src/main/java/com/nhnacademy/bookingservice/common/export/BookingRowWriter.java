@@ -0,0 +1,25 @@
+package com.nhnacademy.bookingservice.common.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.bookingservice.dto.BookingResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 예약 목록을 한 행씩 출력 스트림에 기록합니다.
+ * 전체 목록을 메모리에 모으지 않고 조회한 묶음 단위로 기록/flush 하기 위해 사용합니다.
+ */
+public interface BookingRowWriter {
+
+    void write(BookingResponse booking) throws IOException;
+
+    void flush() throws IOException;
+
+    static BookingRowWriter of(ExportFormat format, OutputStream out, ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonBookingRowWriter(out, objectMapper);
+            case CSV -> new CsvBookingRowWriter(out);
+        };
+    }
+}
@@ -0,0 +1,62 @@
+package com.nhnacademy.bookingservice.common.export;
+
+import com.nhnacademy.bookingservice.dto.BookingResponse;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * 예약 한 건을 CSV 한 행으로 기록합니다. (text/csv, UTF-8)
+ * 첫 행에는 머리글을 기록합니다.
+ */
+class CsvBookingRowWriter implements BookingRowWriter {
+
+    private static final String HEADER = "no,code,startsAt,finishesAt,attendeeCount,changeName,memberNo,memberName,memberEmail,roomNo,roomName";
+
+    private final Writer writer;
+
+    CsvBookingRowWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write('\n');
+    }
+
+    @Override
+    public void write(BookingResponse booking) throws IOException {
+        BookingResponse.MemberInfo member = booking.getMember();
+        BookingResponse.MeetingRoomInfo room = booking.getRoom();
+
+        writer.write(String.join(",",
+                field(booking.getNo()),
+                field(booking.getCode()),
+                field(booking.getStartsAt()),
+                field(booking.getFinishesAt()),
+                field(booking.getAttendeeCount()),
+                field(booking.getChangeName()),
+                field(member == null ? null : member.getNo()),
+                field(member == null ? null : member.getName()),
+                field(member == null ? null : member.getEmail()),
+                field(room == null ? null : room.getNo()),
+                field(room == null ? null : room.getName())
+        ));
+        writer.write('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    static String field(Object value) {
+        String text = Objects.toString(value, "");
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
@@ -0,0 +1,44 @@
+package com.nhnacademy.bookingservice.common.export;
+
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+/**
+ * 예약 목록 내보내기 형식입니다. 요청의 Accept 헤더로 결정됩니다.
+ */
+public enum ExportFormat {
+
+    NDJSON(MediaType.APPLICATION_NDJSON),
+    CSV(new MediaType("text", "csv"));
+
+    public static final String NDJSON_VALUE = MediaType.APPLICATION_NDJSON_VALUE;
+    public static final String CSV_VALUE = "text/csv";
+
+    private final MediaType mediaType;
+
+    ExportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Accept 헤더에 나열된 순서대로 처음 일치하는 내보내기 형식을 고릅니다.
+     *
+     * @param accepted Accept 헤더의 미디어 타입 목록
+     * @return 내보내기 형식, 일치하는 형식이 없으면 {@link #NDJSON}
+     */
+    public static ExportFormat of(List<MediaType> accepted) {
+        for (MediaType mediaType : accepted) {
+            for (ExportFormat format : values()) {
+                if (!mediaType.isWildcardType() && mediaType.isCompatibleWith(format.mediaType)) {
+                    return format;
+                }
+            }
+        }
+        return NDJSON;
+    }
+}
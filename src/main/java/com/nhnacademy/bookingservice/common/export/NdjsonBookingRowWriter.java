@@ -0,0 +1,35 @@
+package com.nhnacademy.bookingservice.common.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.nhnacademy.bookingservice.dto.BookingResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 예약 한 건을 JSON 한 줄로 기록합니다. (application/x-ndjson)
+ */
+class NdjsonBookingRowWriter implements BookingRowWriter {
+
+    private static final byte NEW_LINE = '\n';
+
+    private final OutputStream out;
+    private final ObjectWriter writer;
+
+    NdjsonBookingRowWriter(OutputStream out, ObjectMapper objectMapper) {
+        this.out = out;
+        this.writer = objectMapper.writerFor(BookingResponse.class);
+    }
+
+    @Override
+    public void write(BookingResponse booking) throws IOException {
+        out.write(writer.writeValueAsBytes(booking));
+        out.write(NEW_LINE);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+}
@@ -0,0 +1,76 @@
+package com.nhnacademy.bookingservice.common.index;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nhnacademy.bookingservice.common.event.BookingSlotChangedEvent;
+import com.nhnacademy.bookingservice.domain.BookingSlot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회의실·날짜별 일일 예약 목록의 버전을 관리하고, 이를 강한 ETag로 만들어 줍니다.
+ * <ul>
+ *   <li>커밋된 {@link BookingSlotChangedEvent}를 받아, 변경 전/후 예약이 시작하는 날짜의 버전을 버립니다. 다음 조회 때 새 버전이 발급됩니다.</li>
+ *   <li>버전은 인스턴스 식별자를 포함하므로, 다른 인스턴스가 발급한 ETag와는 일치하지 않습니다.</li>
+ *   <li>이벤트로 알 수 없는 변경(다른 인스턴스의 예약 변경, 일괄 종료 처리, 회원 이름 변경)은 {@code expire-after-write}가 지나면 반영됩니다.</li>
+ * </ul>
+ */
+@Component
+public class DailyScheduleVersions {
+
+    private final String instanceId = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, Character.MAX_RADIX);
+    private final AtomicLong sequence = new AtomicLong();
+    private final Cache<RoomDay, Long> versions;
+
+    public DailyScheduleVersions(@Value("${booking.schedule-version.maximum-size:10000}") long maximumSize,
+                                 @Value("${booking.schedule-version.expire-after-write:PT1M}") Duration expireAfterWrite) {
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    /**
+     * 주어진 회의실과 날짜의 현재 ETag를 반환합니다. 응답 본문을 만들기 전에 읽어야, 그 사이에 커밋된 변경이 다음 버전으로 구분됩니다.
+     *
+     * @param roomNo 회의실 번호
+     * @param date 날짜
+     * @return 따옴표로 감싼 강한 ETag
+     */
+    public String getETag(Long roomNo, LocalDate date) {
+        long version = versions.get(new RoomDay(roomNo, date), key -> sequence.incrementAndGet());
+        return "\"%s-%d\"".formatted(instanceId, version);
+    }
+
+    /**
+     * 주어진 회의실과 날짜의 버전을 버립니다.
+     *
+     * @param roomNo 회의실 번호
+     * @param date 날짜
+     */
+    public void invalidate(Long roomNo, LocalDate date) {
+        versions.invalidate(new RoomDay(roomNo, date));
+    }
+
+    @TransactionalEventListener(classes = BookingSlotChangedEvent.class, phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBookingSlotChangedEvent(BookingSlotChangedEvent event) {
+        invalidate(event.getPrevious());
+        invalidate(event.getCurrent());
+    }
+
+    private void invalidate(BookingSlot slot) {
+        if (slot != null) {
+            invalidate(slot.getMeetingRoomNo(), slot.getStartsAt().toLocalDate());
+        }
+    }
+
+    private record RoomDay(Long roomNo, LocalDate date) {
+    }
+}
@@ -0,0 +1,110 @@
+package com.nhnacademy.bookingservice.common.index;
+
+import com.nhnacademy.bookingservice.domain.BookingSlot;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Base64;
+import java.util.Collection;
+
+/**
+ * 회의실 하나의 하루 점유 상태를 {@value #SLOT_MINUTES}분 단위 비트로 나타냅니다.
+ * <ul>
+ *   <li>i번째 비트는 [00:00 + i * {@value #SLOT_MINUTES}분, 다음 칸) 구간이며, 예약이 조금이라도 걸치면 1입니다.</li>
+ *   <li>만든 뒤에는 바뀌지 않으므로 잠금 없이 읽을 수 있고, 예약이 바뀌면 {@link RoomScheduleIndex}가 새로 만들어 교체합니다.</li>
+ *   <li>바이트 배열은 {@link BitSet#toByteArray()}와 같은 순서(첫 바이트의 최하위 비트가 00:00)이며, 길이는 칸 수 / 8로 고정입니다.</li>
+ * </ul>
+ */
+public final class RoomDayOccupancy {
+
+    public static final int SLOT_MINUTES = 10;
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int SLOTS_PER_DAY = MINUTES_PER_DAY / SLOT_MINUTES;
+
+    private final LocalDate date;
+    private final BitSet bits;
+
+    private RoomDayOccupancy(LocalDate date, BitSet bits) {
+        this.date = date;
+        this.bits = bits;
+    }
+
+    /**
+     * 예약 구간으로 하루 점유 상태를 만듭니다. 다른 날에 걸친 부분은 무시합니다.
+     *
+     * @param date 날짜
+     * @param slots 그날에 걸쳐 있는 예약 구간
+     * @return 점유 상태
+     */
+    static RoomDayOccupancy of(LocalDate date, Collection<BookingSlot> slots) {
+        LocalDateTime dayStart = date.atStartOfDay();
+        BitSet bits = new BitSet(SLOTS_PER_DAY);
+        for (BookingSlot slot : slots) {
+            long from = ChronoUnit.MINUTES.between(dayStart, slot.getStartsAt());
+            long to = ChronoUnit.MINUTES.between(dayStart, slot.getFinishesAt());
+            int fromSlot = (int) Math.clamp(Math.floorDiv(from, SLOT_MINUTES), 0, SLOTS_PER_DAY);
+            int toSlot = (int) Math.clamp(Math.ceilDiv(to, SLOT_MINUTES), 0, SLOTS_PER_DAY);
+            if (fromSlot < toSlot) {
+                bits.set(fromSlot, toSlot);
+            }
+        }
+        return new RoomDayOccupancy(date, bits);
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public boolean isEmpty() {
+        return bits.isEmpty();
+    }
+
+    /**
+     * 주어진 시간 구간에 걸친 칸이 모두 비어 있는지 확인합니다. 칸 단위로 판단하므로 칸 경계에 맞지 않는 예약이 있으면 보수적으로 점유로 봅니다.
+     *
+     * @param from 시작 시각 (포함)
+     * @param to 종료 시각 (제외), {@link LocalTime#MIDNIGHT}이면 하루의 끝
+     * @return 모두 비어 있으면 true
+     */
+    public boolean isFree(LocalTime from, LocalTime to) {
+        int slotSeconds = SLOT_MINUTES * 60;
+        int fromSlot = from.toSecondOfDay() / slotSeconds;
+        int toSlot = to.equals(LocalTime.MIDNIGHT) ? SLOTS_PER_DAY : Math.ceilDiv(to.toSecondOfDay(), slotSeconds);
+        int next = bits.nextSetBit(fromSlot);
+        return next < 0 || next >= toSlot;
+    }
+
+    /**
+     * {@code granularity}분 단위로 묶은 비트 배열을 만듭니다. 묶인 칸 중 하나라도 점유되어 있으면 1입니다.
+     *
+     * @param granularity {@value #SLOT_MINUTES}의 배수이면서 하루를 나누어떨어지게 하는 분 단위
+     * @return 길이가 (하루 칸 수 / 8)로 올림된 바이트 배열
+     */
+    public byte[] toByteArray(int granularity) {
+        int factor = granularity / SLOT_MINUTES;
+        int slots = SLOTS_PER_DAY / factor;
+        BitSet grouped = bits;
+        if (factor > 1) {
+            grouped = new BitSet(slots);
+            for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit((i / factor + 1) * factor)) {
+                grouped.set(i / factor);
+            }
+        }
+        return Arrays.copyOf(grouped.toByteArray(), Math.ceilDiv(slots, Byte.SIZE));
+    }
+
+    public String toBase64(int granularity) {
+        return Base64.getEncoder().encodeToString(toByteArray(granularity));
+    }
+
+    /**
+     * {@code granularity}를 쓸 수 있는지 확인합니다.
+     */
+    public static boolean isSupported(int granularity) {
+        return granularity >= SLOT_MINUTES && granularity % SLOT_MINUTES == 0 && MINUTES_PER_DAY % granularity == 0;
+    }
+}
@@ -0,0 +1,381 @@
+package com.nhnacademy.bookingservice.common.index;
+
+import com.nhnacademy.bookingservice.common.event.BookingSlotChangedEvent;
+import com.nhnacademy.bookingservice.domain.BookingSlot;
+import com.nhnacademy.bookingservice.domain.FreeSlot;
+import com.nhnacademy.bookingservice.repository.BookingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 회의실별 예약 점유 구간을 메모리에 보관하는 인덱스입니다.
+ * <ul>
+ *   <li>기동 시 오늘 이후의 예약을 {@code bookings} 테이블에서 읽어 채웁니다.</li>
+ *   <li>커밋된 {@link BookingSlotChangedEvent}를 받아 생성/수정/연장/취소를 반영합니다.</li>
+ *   <li>회의실마다 시작 시각 순으로 정렬된 타임라인을 두어 겹침 검사를 O(log n)에 처리합니다.</li>
+ *   <li>회의실·날짜별 점유 비트맵({@link RoomDayOccupancy})을 함께 두고, 구간이 바뀔 때마다 걸친 날짜만 다시 만듭니다.</li>
+ * </ul>
+ * 인스턴스마다 따로 유지되므로 다른 인스턴스의 변경은 반영되지 않을 수 있습니다. 그래서 회의실마다 반영한 점유 구간 버전
+ * ({@code booking_room_locks.schedule_version})을 함께 기록합니다.
+ * <ul>
+ *   <li>회의실 잠금 안에서 읽은 버전이 기록한 버전과 같으면 이 인덱스는 그 회의실의 최신 상태이므로, 겹침이 없다는 결과를 그대로 믿습니다.</li>
+ *   <li>버전이 다르면 그 회의실의 점유 구간을 DB에서 한 번 다시 읽어 교체합니다({@link #reload}).</li>
+ *   <li>취소처럼 점유 구간을 줄이기만 하는 변경은 버전을 올리지 않으므로, 겹친다는 결과는 항상 예약 번호로 다시 확인해야 합니다.</li>
+ * </ul>
+ * 오늘 0시({@link #horizon()}) 이전에 끝난 구간은 보관하지 않으므로, 그 이전에 시작하는 구간의 검사에는 쓸 수 없습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomScheduleIndex {
+
+    private final BookingRepository bookingRepository;
+
+    private final Map<Long, RoomTimeline> timelines = new ConcurrentHashMap<>();
+    private final Map<Long, BookingSlot> slots = new ConcurrentHashMap<>();
+    private final Map<Long, Map<LocalDate, RoomDayOccupancy>> occupancies = new ConcurrentHashMap<>();
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    /**
+     * 이 인덱스가 보관하는 구간의 기준 시각입니다. 이 시각 이후에 끝나는 구간은 모두 들어 있습니다.
+     */
+    public static LocalDateTime horizon() {
+        return LocalDate.now().atStartOfDay();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<BookingSlot> active = bookingRepository.findActiveSlots(horizon());
+        active.forEach(this::put);
+        log.info("회의실 예약 인덱스 적재 완료 (총 {}건)", active.size());
+    }
+
+    /**
+     * 주어진 회의실과 시간 구간에 겹치는 예약 구간을 찾습니다.
+     *
+     * @param roomNo 회의실 번호
+     * @param startsAt 확인할 시작 시각
+     * @param finishesAt 확인할 종료 시각
+     * @param excludeBookingNo 검사에서 제외할 예약 번호 (nullable)
+     * @return 겹치는 예약 구간
+     */
+    public Optional<BookingSlot> findOverlapping(Long roomNo, LocalDateTime startsAt, LocalDateTime finishesAt, Long excludeBookingNo) {
+        RoomTimeline timeline = timelines.get(roomNo);
+        if (timeline == null) {
+            return Optional.empty();
+        }
+        return timeline.findOverlapping(startsAt, finishesAt, excludeBookingNo);
+    }
+
+    /**
+     * 주어진 회의실과 시간 구간에 걸쳐 있는 예약 구간을 시작 시각 순으로 반환합니다.
+     *
+     * @param roomNo 회의실 번호
+     * @param from 조회 시작 시각
+     * @param to 조회 종료 시각
+     * @return 구간에 걸쳐 있는 예약 구간 목록
+     */
+    public List<BookingSlot> findSlots(Long roomNo, LocalDateTime from, LocalDateTime to) {
+        RoomTimeline timeline = timelines.get(roomNo);
+        if (timeline == null) {
+            return List.of();
+        }
+        return timeline.findAll(from, to);
+    }
+
+    /**
+     * 주어진 회의실의 시간 구간 안에서 {@code minDuration} 이상 비어 있는 구간을 시작 시각 순으로 찾습니다.
+     * 빈 구간은 조회 구간으로 잘라 반환합니다.
+     *
+     * @param roomNo 회의실 번호
+     * @param from 조회 시작 시각
+     * @param to 조회 종료 시각
+     * @param minDuration 최소 길이
+     * @return 비어 있는 구간 목록
+     */
+    public List<FreeSlot> findFreeSlots(Long roomNo, LocalDateTime from, LocalDateTime to, Duration minDuration) {
+        List<FreeSlot> free = new ArrayList<>();
+        LocalDateTime cursor = from;
+        for (BookingSlot slot : findSlots(roomNo, from, to)) {
+            if (fits(cursor, slot.getStartsAt(), minDuration)) {
+                free.add(new FreeSlot(roomNo, cursor, slot.getStartsAt()));
+            }
+            if (slot.getFinishesAt().isAfter(cursor)) {
+                cursor = slot.getFinishesAt();
+            }
+        }
+        if (fits(cursor, to, minDuration)) {
+            free.add(new FreeSlot(roomNo, cursor, to));
+        }
+        return free;
+    }
+
+    /**
+     * 주어진 회의실의 하루 점유 비트맵을 반환합니다.
+     *
+     * @param roomNo 회의실 번호
+     * @param date 날짜
+     * @return 점유 비트맵, 그날 예약이 없으면 빈 값
+     */
+    public Optional<RoomDayOccupancy> findOccupancy(Long roomNo, LocalDate date) {
+        return Optional.ofNullable(occupancies.getOrDefault(roomNo, Map.of()).get(date));
+    }
+
+    /**
+     * 주어진 날짜에 예약이 있는 모든 회의실의 점유 비트맵을 반환합니다.
+     *
+     * @param date 날짜
+     * @return 회의실 번호별 점유 비트맵
+     */
+    public Map<Long, RoomDayOccupancy> findOccupancies(LocalDate date) {
+        Map<Long, RoomDayOccupancy> result = new TreeMap<>();
+        occupancies.forEach((roomNo, days) -> {
+            RoomDayOccupancy occupancy = days.get(date);
+            if (occupancy != null) {
+                result.put(roomNo, occupancy);
+            }
+        });
+        return result;
+    }
+
+    private static boolean fits(LocalDateTime from, LocalDateTime to, Duration minDuration) {
+        return from.isBefore(to) && Duration.between(from, to).compareTo(minDuration) >= 0;
+    }
+
+    /**
+     * 예약 구간을 추가하거나 갱신합니다. 같은 예약 번호의 기존 구간은 먼저 제거됩니다.
+     *
+     * @param slot 예약 구간
+     */
+    public void put(BookingSlot slot) {
+        remove(slot.getBookingNo());
+        timelines.computeIfAbsent(slot.getMeetingRoomNo(), roomNo -> new RoomTimeline()).add(slot);
+        slots.put(slot.getBookingNo(), slot);
+        rebuildOccupancies(slot);
+    }
+
+    /**
+     * 예약 구간을 제거합니다.
+     *
+     * @param bookingNo 예약 번호
+     */
+    public void remove(Long bookingNo) {
+        BookingSlot removed = slots.remove(bookingNo);
+        if (removed != null) {
+            timelines.get(removed.getMeetingRoomNo()).remove(removed);
+            rebuildOccupancies(removed);
+        }
+    }
+
+    /**
+     * 구간이 걸친 날짜마다 타임라인에서 점유 비트맵을 다시 만듭니다.
+     * 같은 날짜의 갱신은 {@link Map#compute}로 순서대로 처리되므로 마지막 갱신이 항상 최신 타임라인을 반영합니다.
+     */
+    private void rebuildOccupancies(BookingSlot slot) {
+        Long roomNo = slot.getMeetingRoomNo();
+        Map<LocalDate, RoomDayOccupancy> days = occupancies.computeIfAbsent(roomNo, key -> new ConcurrentHashMap<>());
+        for (LocalDate date = slot.getStartsAt().toLocalDate();
+             date.atStartOfDay().isBefore(slot.getFinishesAt());
+             date = date.plusDays(1)) {
+            days.compute(date, (day, previous) -> {
+                List<BookingSlot> daySlots = findSlots(roomNo, day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+                RoomDayOccupancy occupancy = RoomDayOccupancy.of(day, daySlots);
+                return occupancy.isEmpty() ? null : occupancy;
+            });
+        }
+    }
+
+    /**
+     * 회의실의 점유 구간이 주어진 버전까지 반영되어 있는지 확인합니다.
+     *
+     * @param roomNo 회의실 번호
+     * @param version 회의실 잠금 안에서 읽은 점유 구간 버전
+     * @return 반영되어 있으면 true
+     */
+    public boolean isCurrent(Long roomNo, long version) {
+        Long current = versions.get(roomNo);
+        return current != null && current == version;
+    }
+
+    /**
+     * 회의실의 점유 구간을 DB에서 읽은 구간으로 교체하고 버전을 기록합니다. 회의실 잠금 안에서 읽은 구간과 버전이어야 합니다.
+     *
+     * @param roomNo 회의실 번호
+     * @param version 회의실 잠금 안에서 읽은 점유 구간 버전
+     * @param roomSlots {@link #horizon()} 이후에 끝나는 그 회의실의 모든 예약 구간
+     */
+    public void reload(Long roomNo, long version, List<BookingSlot> roomSlots) {
+        RoomTimeline timeline = timelines.get(roomNo);
+        if (timeline != null) {
+            timeline.snapshot().forEach(slot -> remove(slot.getBookingNo()));
+        }
+        roomSlots.forEach(this::put);
+        versions.put(roomNo, version);
+        log.debug("회의실 예약 인덱스 재적재 - 회의실: {}, 버전: {}, {}건", roomNo, version, roomSlots.size());
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 회의실의 기록된 버전을 {@code version}에서 하나 올립니다.
+     * 같은 트랜잭션에서 먼저 발행한 {@link BookingSlotChangedEvent}가 반영된 뒤에 실행되도록, 이벤트를 발행한 다음에 호출해야 합니다.
+     * 그 사이 다른 변경으로 기록된 버전이 달라졌으면 올리지 않고, 다음 검사에서 다시 읽습니다.
+     *
+     * @param roomNo 회의실 번호
+     * @param version 회의실 잠금 안에서 읽은, 올리기 전 점유 구간 버전
+     */
+    public void advanceOnCommit(Long roomNo, long version) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            versions.remove(roomNo);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    versions.replace(roomNo, version, version + 1);
+                }
+            }
+        });
+    }
+
+    /**
+     * DB에서 다시 읽은 예약 구간으로 인덱스를 교정합니다.
+     *
+     * @param bookingNo 예약 번호
+     * @param slot DB 기준 예약 구간, 점유하지 않는 예약이면 {@code null}
+     */
+    public void refresh(Long bookingNo, BookingSlot slot) {
+        if (slot == null) {
+            remove(bookingNo);
+        } else {
+            put(slot);
+        }
+    }
+
+    @TransactionalEventListener(classes = BookingSlotChangedEvent.class, phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBookingSlotChangedEvent(BookingSlotChangedEvent event) {
+        refresh(event.getBookingNo(), event.getCurrent());
+    }
+
+    /**
+     * 이미 끝난 예약 구간을 정리합니다.
+     */
+    @Scheduled(cron = "0 0 3 * * *")
+    public void evictFinished() {
+        LocalDateTime threshold = LocalDate.now().atStartOfDay();
+        List<Long> finished = slots.values().stream()
+                .filter(slot -> !slot.getFinishesAt().isAfter(threshold))
+                .map(BookingSlot::getBookingNo)
+                .toList();
+        finished.forEach(this::remove);
+        log.info("회의실 예약 인덱스 정리 완료 (총 {}건)", finished.size());
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    /**
+     * 한 회의실의 예약 구간을 시작 시각 순으로 보관합니다.
+     * 가장 긴 예약 길이를 함께 기록해 두어, 겹침 검사 시 [시작 - 최대 길이, 종료) 범위만 살펴봅니다.
+     */
+    static class RoomTimeline {
+
+        private static final Comparator<BookingSlot> ORDER = Comparator
+                .comparing(BookingSlot::getStartsAt)
+                .thenComparing(BookingSlot::getBookingNo);
+
+        private final TreeSet<BookingSlot> slots = new TreeSet<>(ORDER);
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private Duration longest = Duration.ZERO;
+
+        void add(BookingSlot slot) {
+            lock.writeLock().lock();
+            try {
+                slots.add(slot);
+                Duration duration = Duration.between(slot.getStartsAt(), slot.getFinishesAt());
+                if (duration.compareTo(longest) > 0) {
+                    longest = duration;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(BookingSlot slot) {
+            lock.writeLock().lock();
+            try {
+                slots.remove(slot);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        Optional<BookingSlot> findOverlapping(LocalDateTime from, LocalDateTime to, Long excludeBookingNo) {
+            lock.readLock().lock();
+            try {
+                for (BookingSlot slot : candidates(from, to)) {
+                    if (slot.getFinishesAt().isAfter(from) && !slot.getBookingNo().equals(excludeBookingNo)) {
+                        return Optional.of(slot);
+                    }
+                }
+                return Optional.empty();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        List<BookingSlot> snapshot() {
+            lock.readLock().lock();
+            try {
+                return new ArrayList<>(slots);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        List<BookingSlot> findAll(LocalDateTime from, LocalDateTime to) {
+            lock.readLock().lock();
+            try {
+                List<BookingSlot> result = new ArrayList<>();
+                for (BookingSlot slot : candidates(from, to)) {
+                    if (slot.getFinishesAt().isAfter(from)) {
+                        result.add(slot);
+                    }
+                }
+                return result;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private Iterable<BookingSlot> candidates(LocalDateTime from, LocalDateTime to) {
+            BookingSlot lower = new BookingSlot(Long.MIN_VALUE, null, from.minus(longest), from);
+            BookingSlot upper = new BookingSlot(Long.MIN_VALUE, null, to, to);
+            if (ORDER.compare(lower, upper) >= 0) {
+                return List.of();
+            }
+            return slots.subSet(lower, true, upper, false);
+        }
+    }
+}
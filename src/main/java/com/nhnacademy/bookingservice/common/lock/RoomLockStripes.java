@@ -0,0 +1,43 @@
+package com.nhnacademy.bookingservice.common.lock;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 회의실 번호를 고정된 개수의 잠금으로 나누어 배정하는 스트라이프 잠금입니다.
+ * <p>
+ * 회의실마다 잠금을 만들지 않고 번호의 해시로 잠금을 고르므로 메모리 사용량이 일정하며,
+ * 같은 회의실에 대한 요청은 항상 같은 잠금을 사용합니다.
+ * 대기 시간 제한이 있으므로, 먼저 온 요청이 계속 밀려나지 않도록 공정 잠금을 사용합니다.
+ * </p>
+ */
+public class RoomLockStripes {
+
+    private final Lock[] locks;
+
+    public RoomLockStripes(int stripes) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("stripes는 1 이상이어야 합니다: " + stripes);
+        }
+        this.locks = new Lock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new ReentrantLock(true);
+        }
+    }
+
+    /**
+     * 회의실 번호에 배정된 잠금을 반환합니다.
+     *
+     * @param roomNo 회의실 번호
+     * @return 잠금
+     */
+    public Lock get(Long roomNo) {
+        int hash = Long.hashCode(roomNo);
+        hash ^= (hash >>> 16);
+        return locks[Math.floorMod(hash, locks.length)];
+    }
+
+    public int size() {
+        return locks.length;
+    }
+}
@@ -0,0 +1,115 @@
+package com.nhnacademy.bookingservice.common.lock;
+
+import com.nhnacademy.bookingservice.common.exception.booking.BookingLockTimeoutException;
+import com.nhnacademy.bookingservice.domain.BookingRoomLock;
+import com.nhnacademy.bookingservice.repository.BookingRoomLockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * 회의실 단위로 예약 겹침 검사와 저장을 직렬화하는 잠금입니다.
+ * <ul>
+ *   <li>인스턴스 내부에서는 {@link RoomLockStripes}로 같은 회의실 요청을 줄 세워, DB 잠금 대기로 커넥션을 붙잡지 않도록 합니다.</li>
+ *   <li>인스턴스 간에는 {@code booking_room_locks} 행을 {@code SELECT ... FOR UPDATE}로 잠가 보장합니다.</li>
+ * </ul>
+ * 두 잠금 모두 현재 트랜잭션이 끝날 때(커밋/롤백) 해제되므로, 반드시 트랜잭션 안에서 호출해야 합니다.
+ * <p>
+ * 잠금 행에는 회의실 점유 구간 버전이 있어, 잠금을 잡은 쪽이 점유 구간을 바꾸면 {@link #advance(Long)}로 올립니다.
+ * 잠금 안에서 읽은 버전은 그 사이 다른 인스턴스가 바꿀 수 없으므로, 인메모리 인덱스가 최신인지 판단하는 기준이 됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class RoomReservationLock {
+
+    private final BookingRoomLockRepository bookingRoomLockRepository;
+    private final RoomLockStripes stripes;
+    private final Duration waitTimeout;
+
+    public RoomReservationLock(BookingRoomLockRepository bookingRoomLockRepository,
+                               @Value("${booking.lock.stripes:64}") int stripes,
+                               @Value("${booking.lock.wait-timeout:PT3S}") Duration waitTimeout) {
+        this.bookingRoomLockRepository = bookingRoomLockRepository;
+        this.stripes = new RoomLockStripes(stripes);
+        this.waitTimeout = waitTimeout;
+    }
+
+    /**
+     * 회의실 잠금을 획득합니다. 잠금은 현재 트랜잭션이 끝나면 해제됩니다.
+     *
+     * @param roomNo 회의실 번호
+     * @return 잠금을 잡은 시점의 회의실 점유 구간 버전
+     * @throws BookingLockTimeoutException 제한 시간 안에 잠금을 얻지 못한 경우
+     */
+    public long lock(Long roomNo) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("회의실 잠금은 트랜잭션 안에서만 사용할 수 있습니다.");
+        }
+
+        Lock lock = stripes.get(roomNo);
+        acquire(lock, roomNo);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+
+        try {
+            Optional<BookingRoomLock> row = bookingRoomLockRepository.findForUpdate(roomNo);
+            if (row.isEmpty()) {
+                return createLockRow(roomNo).getScheduleVersion();
+            }
+            return row.get().getScheduleVersion();
+        } catch (PessimisticLockingFailureException e) {
+            log.warn("회의실 잠금 대기 시간 초과 - 회의실: {}", roomNo);
+            throw new BookingLockTimeoutException(roomNo);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("회의실 잠금 행 생성 충돌 - 회의실: {}", roomNo);
+            throw new BookingLockTimeoutException(roomNo);
+        }
+    }
+
+    private void acquire(Lock lock, Long roomNo) {
+        try {
+            if (!lock.tryLock(waitTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new BookingLockTimeoutException(roomNo);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BookingLockTimeoutException(roomNo);
+        }
+    }
+
+    /**
+     * 처음 예약되는 회의실의 잠금 행을 현재 트랜잭션 안에서 생성합니다.
+     * 새로 삽입한 행은 커밋 전까지 이 트랜잭션이 점유하므로 별도로 잠그지 않아도 됩니다.
+     * <p>
+     * 별도 트랜잭션으로 만들면 커넥션을 하나 더 빌려야 하는데, 같은 회의실을 기다리는 요청들이
+     * 커넥션 풀을 모두 점유하고 있으면 교착 상태가 됩니다.
+     * 다른 인스턴스가 동시에 같은 행을 만든 경우에는 중복 키 오류로 이 요청만 실패합니다.
+     * </p>
+     */
+    private BookingRoomLock createLockRow(Long roomNo) {
+        return bookingRoomLockRepository.saveAndFlush(new BookingRoomLock(roomNo));
+    }
+
+    /**
+     * 회의실 점유 구간 버전을 올립니다. {@link #lock(Long)}으로 잠근 회의실에만 호출해야 합니다.
+     *
+     * @param roomNo 회의실 번호
+     */
+    public void advance(Long roomNo) {
+        bookingRoomLockRepository.advanceScheduleVersion(roomNo);
+    }
+}
@@ -0,0 +1,170 @@
+package com.nhnacademy.bookingservice.common.notify;
+
+import com.nhnacademy.bookingservice.common.adaptor.NotifyAdaptor;
+import com.nhnacademy.bookingservice.dto.BulkEmailRequest;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메일/알림 발송 요청을 모아 notify-service 일괄 발송 API로 보냅니다.
+ * <ul>
+ *   <li>첫 요청이 들어온 뒤 {@code booking.notify.batch.max-wait} 동안, 또는 {@code booking.notify.batch.max-size}건이 찰 때까지 모아 한 번에 보냅니다.</li>
+ *   <li>발송은 전용 스레드 하나가 한 묶음씩 처리하므로, notify-service가 느려지면 대기열이 차고
+ *       {@link #submit}이 최대 {@code booking.notify.queue.offer-timeout}만큼 기다리다 거절합니다.</li>
+ *   <li>묶음 크기는 {@code booking.notify.batch.size}, 묶음 발송 시간은 {@code booking.notify.batch.latency},
+ *       대기열 길이는 {@code booking.notify.queue.size}로 노출됩니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class NotificationBatcher {
+
+    static final String SIZE_METRIC = "booking.notify.batch.size";
+    static final String LATENCY_METRIC = "booking.notify.batch.latency";
+    static final String QUEUE_METRIC = "booking.notify.queue.size";
+
+    private final NotifyAdaptor notifyAdaptor;
+    private final BlockingQueue<Pending> queue;
+    private final int maxBatchSize;
+    private final Duration maxWait;
+    private final Duration offerTimeout;
+
+    private final DistributionSummary batchSize;
+    private final Timer.Builder latency;
+    private final MeterRegistry meterRegistry;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public NotificationBatcher(NotifyAdaptor notifyAdaptor, MeterRegistry meterRegistry,
+                               @Value("${booking.notify.batch.max-size:100}") int maxBatchSize,
+                               @Value("${booking.notify.batch.max-wait:PT0.2S}") Duration maxWait,
+                               @Value("${booking.notify.queue.capacity:1000}") int queueCapacity,
+                               @Value("${booking.notify.queue.offer-timeout:PT5S}") Duration offerTimeout) {
+        this.notifyAdaptor = notifyAdaptor;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.maxWait = maxWait;
+        this.offerTimeout = offerTimeout;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = DistributionSummary.builder(SIZE_METRIC)
+                .description("notify-service 일괄 발송 한 번에 담긴 메시지 수")
+                .register(meterRegistry);
+        this.latency = Timer.builder(LATENCY_METRIC)
+                .description("notify-service 일괄 발송 소요 시간");
+        Gauge.builder(QUEUE_METRIC, queue, BlockingQueue::size)
+                .description("일괄 발송 대기 중인 메시지 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        flusher = Thread.ofPlatform().name("notify-batcher").daemon().start(this::run);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (flusher != null) {
+            flusher.interrupt();
+        }
+    }
+
+    /**
+     * 메시지를 발송 대기열에 넣습니다. 대기열이 가득 차 있으면 자리가 날 때까지 기다립니다.
+     *
+     * @param message 발송할 메시지
+     * @return 메시지가 담긴 묶음의 발송 결과, 대기열에 넣지 못하면 {@link RejectedExecutionException}으로 완료
+     */
+    public CompletableFuture<Void> submit(BulkEmailRequest.Message message) {
+        Pending pending = new Pending(message, new CompletableFuture<>());
+        try {
+            if (!queue.offer(pending, offerTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                pending.result().completeExceptionally(new RejectedExecutionException("notify 발송 대기열이 가득 찼습니다."));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.result().completeExceptionally(e);
+        }
+        return pending.result();
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                Pending first = queue.poll(1, TimeUnit.SECONDS);
+                if (first != null) {
+                    flush(collect(first));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 첫 메시지부터 최대 대기 시간이 지나거나 최대 묶음 크기가 될 때까지 메시지를 모읍니다.
+     */
+    private List<Pending> collect(Pending first) throws InterruptedException {
+        List<Pending> batch = new ArrayList<>(maxBatchSize);
+        batch.add(first);
+        long deadline = System.nanoTime() + maxWait.toNanos();
+
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0) {
+                break;
+            }
+            Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void flush(List<Pending> batch) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Exception failure = null;
+        try {
+            notifyAdaptor.sendBulk(new BulkEmailRequest(batch.stream().map(Pending::message).toList()));
+        } catch (Exception e) {
+            failure = e;
+            log.warn("notify 일괄 발송 실패 - {}건, 이유: {}", batch.size(), e.getMessage());
+        }
+
+        // 결과를 기다리는 쪽이 지표를 바로 읽을 수 있도록 지표를 먼저 기록하고 완료시킵니다.
+        sample.stop(latency.tag("outcome", failure == null ? "success" : "failure").register(meterRegistry));
+        batchSize.record(batch.size());
+        for (Pending pending : batch) {
+            if (failure == null) {
+                pending.result().complete(null);
+            } else {
+                pending.result().completeExceptionally(failure);
+            }
+        }
+    }
+
+    private record Pending(BulkEmailRequest.Message message, CompletableFuture<Void> result) {
+    }
+}
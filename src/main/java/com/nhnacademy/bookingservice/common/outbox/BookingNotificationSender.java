@@ -0,0 +1,95 @@
+package com.nhnacademy.bookingservice.common.outbox;
+
+import com.nhnacademy.bookingservice.common.adaptor.MeetingRoomAdaptor;
+import com.nhnacademy.bookingservice.common.exception.booking.BookingNotFoundException;
+import com.nhnacademy.bookingservice.common.exception.booking.BookingSeriesNotFoundException;
+import com.nhnacademy.bookingservice.common.notify.NotificationBatcher;
+import com.nhnacademy.bookingservice.common.template.BookingEmailTemplates;
+import com.nhnacademy.bookingservice.domain.Booking;
+import com.nhnacademy.bookingservice.domain.BookingSeries;
+import com.nhnacademy.bookingservice.domain.NotificationOutbox;
+import com.nhnacademy.bookingservice.domain.NotificationType;
+import com.nhnacademy.bookingservice.dto.BookingResponse;
+import com.nhnacademy.bookingservice.dto.BulkEmailRequest;
+import com.nhnacademy.bookingservice.dto.EmailRequest;
+import com.nhnacademy.bookingservice.dto.MeetingRoomResponse;
+import com.nhnacademy.bookingservice.repository.BookingRepository;
+import com.nhnacademy.bookingservice.repository.BookingSeriesRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 알림 발송함({@link NotificationOutbox}) 행을 {@link BookingEmailTemplates}로 메일로 만들어 {@link NotificationBatcher}로 넘깁니다.
+ * 발송 결과는 반환한 {@link CompletableFuture}로 전달되며, 재시도 여부는 {@link NotificationOutboxDispatcher}가 정합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingNotificationSender {
+
+    private final NotificationBatcher notificationBatcher;
+    private final BookingEmailTemplates bookingEmailTemplates;
+    private final MeetingRoomAdaptor meetingRoomAdaptor;
+    private final BookingRepository bookingRepository;
+    private final BookingSeriesRepository bookingSeriesRepository;
+    private static final String ROLE_TYPE = "ROLE_ADMIN";
+
+    /**
+     * 발송함 행의 유형에 맞는 메일을 만들어 발송합니다. 예약/회의실 정보는 발송 시점에 다시 읽습니다.
+     *
+     * @param outbox 발송할 알림
+     * @return 메일이 담긴 묶음의 발송 결과
+     */
+    public CompletableFuture<Void> send(NotificationOutbox outbox) {
+        String subject = switch (outbox.getType()) {
+            case BOOKING_CREATED -> "[예약 완료] 회의실 예약이 확인되었습니다";
+            case BOOKING_CHANGED -> "[예약 변경] 회의실 변경되었습니다";
+            case BOOKING_CANCELLED -> "[알림] 회의실 예약이 취소되었습니다.";
+            case BOOKING_SERIES_CREATED -> "[정기 예약 완료] 회의실 정기 예약이 확인되었습니다";
+            case BOOKING_SERIES_CHANGED -> "[정기 예약 변경] 회의실 정기 예약이 변경되었습니다";
+            case BOOKING_SERIES_CANCELLED -> "[알림] 회의실 정기 예약이 취소되었습니다.";
+        };
+
+        BookingResponse booking = bookingRepository.findByNo(outbox.getBookingNo()).orElseThrow(() -> new BookingNotFoundException(outbox.getBookingNo()));
+
+        MeetingRoomResponse room = getMeetingRoom(booking.getRoom().getNo());
+        booking.getRoom().setName(room.getMeetingRoomName());
+
+        EmailRequest request = new EmailRequest(
+                outbox.getRecipient(),
+                subject,
+                bookingEmailTemplates.bookingMail(
+                        outbox.getType(),
+                        outbox.getRecipient(),
+                        booking.getCode(),
+                        booking.getRoom().getName(),
+                        isSeries(outbox.getType()) ? describeSeries(outbox.getBookingNo()) : booking.getStartsAt().toString().replace("T", " ")),
+                ROLE_TYPE
+        );
+        return notificationBatcher.submit(BulkEmailRequest.Message.html(request));
+    }
+
+    private static boolean isSeries(NotificationType type) {
+        return type == NotificationType.BOOKING_SERIES_CREATED
+                || type == NotificationType.BOOKING_SERIES_CHANGED
+                || type == NotificationType.BOOKING_SERIES_CANCELLED;
+    }
+
+    /**
+     * 정기 예약 요약 메일의 일시 항목을 만듭니다. 예) {@code 매주 09:00~10:00 (2025-05-05 ~ 2025-07-28, 총 13회)}
+     */
+    private String describeSeries(Long bookingNo) {
+        Booking booking = bookingRepository.findBookingByBookingNo(bookingNo).orElseThrow(() -> new BookingNotFoundException(bookingNo));
+        BookingSeries series = bookingSeriesRepository.findById(booking.getSeriesNo())
+                .orElseThrow(() -> new BookingSeriesNotFoundException(booking.getSeriesNo()));
+        return "%s %s~%s (%s ~ %s, 총 %d회)".formatted(series.getRecurrence().getName(), series.getStartTime(), series.getFinishTime(),
+                series.getFirstDate(), series.getLastDate(), series.getOccurrenceCount());
+    }
+
+    private MeetingRoomResponse getMeetingRoom(Long roomNo){
+        return meetingRoomAdaptor.getMeetingRoom(roomNo);
+    }
+
+}
+
@@ -0,0 +1,186 @@
+package com.nhnacademy.bookingservice.common.outbox;
+
+import com.nhnacademy.bookingservice.common.config.AsyncConfig;
+import com.nhnacademy.bookingservice.domain.NotificationOutbox;
+import com.nhnacademy.bookingservice.domain.NotificationStatus;
+import com.nhnacademy.bookingservice.repository.NotificationOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 알림 발송함({@link NotificationOutbox})에서 발송 시각이 된 행을 가져와 발송합니다.
+ * <ul>
+ *   <li>한 번에 {@code booking.outbox.batch-size}건을 {@code SKIP LOCKED}로 가져와 임대 시간만큼 다음 발송 시각을 미룹니다.</li>
+ *   <li>메일 작성은 {@value AsyncConfig#NOTIFICATION_EXECUTOR} 풀에서 처리하고, 발송은 {@code NotificationBatcher}가 묶어서 보냅니다.
+ *       결과 기록은 발송을 마친 스레드에서 바로 처리하므로 풀이 가득 차도 거절되지 않습니다.</li>
+ *   <li>발송 풀이 가득 차 거절되면 시도 횟수를 늘리지 않고 행을 대기 상태로 두어, 임대가 끝난 뒤 다시 가져갑니다.</li>
+ *   <li>실패하면 지수 백오프로 다음 발송 시각을 정하고, {@code booking.outbox.max-attempts}번 실패하면 {@link NotificationStatus#DEAD}로 남깁니다.</li>
+ * </ul>
+ * 스케줄러 스레드는 묶음을 가져와 넘기기만 하고 발송을 기다리지 않으므로, 메일이 느려도 다른 {@code @Scheduled} 작업이 밀리지 않습니다.
+ * 발송과 결과 기록 사이에 인스턴스가 죽으면 임대가 끝난 뒤 다시 발송되므로, 메일은 최소 한 번 발송됩니다.
+ */
+@Slf4j
+@Component
+public class NotificationOutboxDispatcher {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final BookingNotificationSender sender;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor executor;
+    private final Clock clock;
+
+    private final AtomicBoolean dispatching = new AtomicBoolean();
+
+    private final int batchSize;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    @Autowired
+    public NotificationOutboxDispatcher(NotificationOutboxRepository notificationOutboxRepository,
+                                        BookingNotificationSender sender,
+                                        TransactionTemplate transactionTemplate,
+                                        @Qualifier(AsyncConfig.NOTIFICATION_EXECUTOR) Executor executor,
+                                        @Value("${booking.outbox.batch-size:50}") int batchSize,
+                                        @Value("${booking.outbox.lease:PT1M}") Duration lease,
+                                        @Value("${booking.outbox.max-attempts:8}") int maxAttempts,
+                                        @Value("${booking.outbox.initial-backoff:PT10S}") Duration initialBackoff,
+                                        @Value("${booking.outbox.max-backoff:PT10M}") Duration maxBackoff) {
+        this(notificationOutboxRepository, sender, transactionTemplate, executor,
+                Clock.systemDefaultZone(), batchSize, lease, maxAttempts, initialBackoff, maxBackoff);
+    }
+
+    @SuppressWarnings("java:S107")
+    NotificationOutboxDispatcher(NotificationOutboxRepository notificationOutboxRepository, BookingNotificationSender sender,
+                                 TransactionTemplate transactionTemplate, Executor executor, Clock clock,
+                                 int batchSize, Duration lease, int maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.sender = sender;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    /**
+     * 발송을 시작하고 바로 돌아옵니다. 스케줄러 스레드는 발송 결과를 기다리지 않습니다.
+     * 이전 발송이 아직 끝나지 않았으면 아무것도 하지 않고, 묶음이 가득 차 있었으면 묶음 발송이 끝난 스레드에서 다음 묶음을 가져옵니다.
+     */
+    @Scheduled(fixedDelayString = "${booking.outbox.poll-interval:PT2S}")
+    public void dispatch() {
+        if (dispatching.compareAndSet(false, true)) {
+            dispatchNext();
+        }
+    }
+
+    private void dispatchNext() {
+        CompletableFuture<Integer> batch;
+        try {
+            batch = dispatchBatch();
+        } catch (RuntimeException e) {
+            dispatching.set(false);
+            throw e;
+        }
+        batch.whenComplete((dispatched, e) -> {
+            if (e == null && dispatched == batchSize) {
+                dispatchNext();
+            } else {
+                dispatching.set(false);
+            }
+        });
+    }
+
+    /**
+     * 발송 시각이 된 행을 한 묶음 가져와 모두 발송하고 결과를 기록합니다.
+     *
+     * @return 모두 발송하고 기록하면 완료되는 결과, 값은 가져온 행 수
+     */
+    CompletableFuture<Integer> dispatchBatch() {
+        List<NotificationOutbox> claimed = transactionTemplate.execute(status -> claim(LocalDateTime.now(clock)));
+        if (claimed == null || claimed.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+
+        List<CompletableFuture<Void>> deliveries = new ArrayList<>(claimed.size());
+        for (NotificationOutbox outbox : claimed) {
+            try {
+                deliveries.add(deliver(outbox));
+            } catch (RejectedExecutionException e) {
+                // 발송 풀이 가득 찼습니다. 남은 행은 시도 횟수를 늘리지 않고 대기 상태로 두어 임대가 끝난 뒤 다시 가져가고, 이번에는 다음 묶음을 가져오지 않습니다.
+                log.warn("알림 발송 풀이 가득 차 {}건을 {} 뒤로 미룹니다.", claimed.size() - deliveries.size(), lease);
+                return CompletableFuture.allOf(deliveries.toArray(CompletableFuture[]::new)).thenApply(ignored -> 0);
+            }
+        }
+        return CompletableFuture.allOf(deliveries.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> claimed.size());
+    }
+
+    private List<NotificationOutbox> claim(LocalDateTime now) {
+        List<NotificationOutbox> due = notificationOutboxRepository.findDueForUpdate(NotificationStatus.PENDING, now, Limit.of(batchSize));
+        due.forEach(outbox -> outbox.lease(now.plus(lease)));
+        return due;
+    }
+
+    /**
+     * 메일을 만들어 일괄 발송기에 넘기고, 묶음 발송 결과를 기록합니다.
+     * 메일 작성만 발송 풀에 넘기며, 풀이 가득 차 거부되면 발송하지 않은 채로 호출한 쪽에 알립니다.
+     * 결과 기록은 발송을 마친 스레드에서 바로 처리합니다. 기록을 다시 풀에 넘기면 이미 보낸 메일의 기록이 거부되어
+     * 임대가 끝난 뒤 같은 메일을 한 번 더 보낼 수 있기 때문입니다.
+     */
+    private CompletableFuture<Void> deliver(NotificationOutbox outbox) {
+        return CompletableFuture.supplyAsync(() -> sender.send(outbox), executor)
+                .thenCompose(Function.identity())
+                .handle((ignored, e) -> {
+                    if (e == null) {
+                        record(outbox.getOutboxNo(), o -> o.markSent(LocalDateTime.now(clock)));
+                    } else {
+                        fail(outbox, e instanceof CompletionException ? e.getCause() : e);
+                    }
+                    return null;
+                });
+    }
+
+    private void fail(NotificationOutbox outbox, Throwable e) {
+        int attempt = outbox.getAttempts() + 1;
+        LocalDateTime retryAt = attempt >= maxAttempts ? null : LocalDateTime.now(clock).plus(backoff(attempt));
+        log.warn("알림 발송 실패 - 알림번호: {}, 시도: {}, 다음 발송: {}, 이유: {}",
+                outbox.getOutboxNo(), attempt, retryAt, e.getMessage());
+        record(outbox.getOutboxNo(), o -> o.markFailed(e.getMessage(), retryAt));
+    }
+
+    private void record(Long outboxNo, Consumer<NotificationOutbox> update) {
+        transactionTemplate.executeWithoutResult(status -> notificationOutboxRepository.findById(outboxNo).ifPresent(update));
+    }
+
+    /**
+     * {@code attempt}번째 실패 뒤의 대기 시간입니다. 실패할 때마다 두 배로 늘어나며 {@code maxBackoff}를 넘지 않습니다.
+     */
+    Duration backoff(int attempt) {
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempt - 1, 30));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+}
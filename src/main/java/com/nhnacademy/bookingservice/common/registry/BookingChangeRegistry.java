@@ -0,0 +1,78 @@
+package com.nhnacademy.bookingservice.common.registry;
+
+import com.nhnacademy.bookingservice.domain.BookingChange;
+import com.nhnacademy.bookingservice.domain.BookingChangeType;
+import com.nhnacademy.bookingservice.repository.BookingChangeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * {@link BookingChangeType}별 {@link BookingChange}를 기동 시 한 번 읽어 보관하는 참조 데이터 저장소입니다.
+ * <ul>
+ *   <li>예약 상태를 바꿀 때마다 {@code booking_changes}를 조회하지 않고 보관한 엔티티를 그대로 연관관계에 지정합니다.</li>
+ *   <li>보관한 엔티티는 영속성 컨텍스트에서 분리된 상태이지만, 식별자만 외래키로 쓰이고 {@link BookingChange}가
+ *       {@code @Immutable}이라 변경이 반영될 일이 없습니다.</li>
+ *   <li>{@code booking_changes} 테이블과 열거형의 번호/이름이 하나라도 다르면 기동을 중단합니다.</li>
+ * </ul>
+ * 스키마/초기 데이터 적재가 끝난 뒤 읽도록 모든 싱글톤 빈이 만들어진 다음에 적재합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingChangeRegistry implements SmartInitializingSingleton {
+
+    private final BookingChangeRepository bookingChangeRepository;
+
+    private Map<BookingChangeType, BookingChange> changes = Map.of();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        changes = load(bookingChangeRepository.findAll());
+        log.info("예약 특이사항 참조 데이터 적재 완료 (총 {}건)", changes.size());
+    }
+
+    /**
+     * 예약 변경 유형에 해당하는 특이사항을 반환합니다.
+     *
+     * @param type 예약 변경 유형
+     * @return 특이사항 엔티티
+     */
+    public BookingChange get(BookingChangeType type) {
+        return changes.get(type);
+    }
+
+    static Map<BookingChangeType, BookingChange> load(List<BookingChange> rows) {
+        Map<Long, BookingChange> byNo = rows.stream()
+                .collect(Collectors.toMap(BookingChange::getNo, Function.identity()));
+
+        List<String> problems = new ArrayList<>();
+        Map<BookingChangeType, BookingChange> loaded = new EnumMap<>(BookingChangeType.class);
+        for (BookingChangeType type : BookingChangeType.values()) {
+            BookingChange change = byNo.remove(type.getId());
+            if (change == null) {
+                problems.add("%s(%d, %s) 행이 없습니다.".formatted(type, type.getId(), type.getName()));
+            } else if (!Objects.equals(change.getName(), type.getName())) {
+                problems.add("%s(%d)의 이름이 다릅니다. (열거형: %s, 테이블: %s)".formatted(type, type.getId(), type.getName(), change.getName()));
+            } else {
+                loaded.put(type, change);
+            }
+        }
+        byNo.values().forEach(change -> problems.add("열거형에 없는 행입니다. (%d, %s)".formatted(change.getNo(), change.getName())));
+
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException("booking_changes 테이블과 BookingChangeType이 일치하지 않습니다. " + problems);
+        }
+        return Collections.unmodifiableMap(loaded);
+    }
+}
@@ -0,0 +1,81 @@
+package com.nhnacademy.bookingservice.common.resilience;
+
+import com.nhnacademy.bookingservice.common.exception.CommonHttpException;
+import com.nhnacademy.bookingservice.common.exception.ServiceUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 외부 서비스 하나에 대한 호출을 서킷 브레이커와 벌크헤드로 감쌉니다.
+ * <ul>
+ *   <li>벌크헤드: 동시에 호출 중인 요청이 {@code maxConcurrentCalls}개를 넘으면 기다리지 않고 바로 거절해,
+ *       느린 서비스 하나가 요청 스레드를 모두 붙잡지 않게 합니다.</li>
+ *   <li>서킷 브레이커: 실패나 느린 호출 비율이 임계치를 넘으면 호출을 막고, 일정 시간 뒤 반열림 상태에서 몇 건만 시험 호출합니다.</li>
+ *   <li>4xx 응답({@link CommonHttpException} 상태 코드 500 미만)은 상대 서비스의 장애가 아니므로 실패로 세지 않고 그대로 던집니다.</li>
+ * </ul>
+ */
+@Slf4j
+public class ClientGuard {
+
+    private final String name;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    public ClientGuard(String name, int maxConcurrentCalls,
+                       CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry) {
+        this.name = name;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(name);
+        this.bulkhead = bulkheadRegistry.bulkhead(name, BulkheadConfig.from(bulkheadRegistry.getDefaultConfig())
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .build());
+    }
+
+    /**
+     * 요청이 잘못된 경우처럼 상대 서비스의 장애가 아닌 실패인지 판단합니다. 서킷 브레이커 설정에서도 같은 기준으로 제외합니다.
+     */
+    public static boolean isClientError(Throwable e) {
+        return e instanceof CommonHttpException http && http.getStatusCode() < 500;
+    }
+
+    /**
+     * 대체 값 없이 호출합니다. 호출이 막히거나 실패하면 {@link ServiceUnavailableException}을 던집니다.
+     */
+    public <T> T call(Supplier<T> call) {
+        return call(call, Optional::empty);
+    }
+
+    /**
+     * 호출하고, 호출이 막히거나 서비스 장애로 실패하면 대체 값을 반환합니다.
+     *
+     * @param call 외부 호출
+     * @param fallback 대체 값, 비어 있으면 {@link ServiceUnavailableException}을 던집니다.
+     */
+    public <T> T call(Supplier<T> call, Supplier<Optional<T>> fallback) {
+        try {
+            return circuitBreaker.executeSupplier(Bulkhead.decorateSupplier(bulkhead, call));
+        } catch (RuntimeException e) {
+            if (isClientError(e)) {
+                throw e;
+            }
+            if (e instanceof CallNotPermittedException || e instanceof BulkheadFullException) {
+                log.debug("{} 호출 거절: {}", name, e.getMessage());
+            } else {
+                log.warn("{} 호출 실패: {}", name, e.getMessage());
+            }
+            return fallback.get().orElseThrow(() -> new ServiceUnavailableException("%s 서비스를 사용할 수 없습니다.".formatted(name), e));
+        }
+    }
+
+    public CircuitBreaker.State getState() {
+        return circuitBreaker.getState();
+    }
+}
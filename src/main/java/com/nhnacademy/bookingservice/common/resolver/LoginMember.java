@@ -0,0 +1,17 @@
+package com.nhnacademy.bookingservice.common.resolver;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 요청 헤더 "X-USER"로 조회한 회원 정보를 주입받을 핸들러 파라미터에 붙입니다.
+ * 이 파라미터가 없는 핸들러는 회원 조회를 수행하지 않습니다.
+ *
+ * @see LoginMemberArgumentResolver
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoginMember {
+}
@@ -0,0 +1,47 @@
+package com.nhnacademy.bookingservice.common.resolver;
+
+import com.nhnacademy.bookingservice.common.adaptor.MemberAdaptor;
+import com.nhnacademy.bookingservice.dto.MemberResponse;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * {@link LoginMember}가 붙은 {@link MemberResponse} 파라미터를 요청 헤더 "X-USER"의 이메일로 조회해 주입합니다.
+ * <p>
+ * 모든 요청 전에 실행되던 {@code @ModelAttribute} 방식과 달리, 회원 정보가 필요한 핸들러에서만 조회합니다.
+ * </p>
+ *
+ * @see com.nhnacademy.bookingservice.common.adaptor.CachingMemberAdaptor 이메일 조회 캐시
+ */
+@Component
+public class LoginMemberArgumentResolver implements HandlerMethodArgumentResolver {
+
+    static final String HEADER_NAME = "X-USER";
+
+    private final MemberAdaptor memberAdaptor;
+
+    /**
+     * Feign 클라이언트는 생성 시 MVC 설정을 참조하므로, MVC 설정 단계에서 만들어지는 이 리졸버는
+     * 순환 참조를 피하기 위해 첫 요청 시점에 어댑터를 가져옵니다.
+     */
+    public LoginMemberArgumentResolver(@Lazy MemberAdaptor memberAdaptor) {
+        this.memberAdaptor = memberAdaptor;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(LoginMember.class)
+                && MemberResponse.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    public MemberResponse resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                          NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        return memberAdaptor.getMemberByEmail(webRequest.getHeader(HEADER_NAME));
+    }
+}
@@ -0,0 +1,86 @@
+package com.nhnacademy.bookingservice.common.schedule;
+
+import com.nhnacademy.bookingservice.repository.BookingRepository;
+import com.nhnacademy.bookingservice.service.BookingService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 종료 시각이 지났는데도 사용중으로 남은 예약을 주기적으로 종료 처리합니다.
+ * <p>
+ * 한 번에 {@code booking.close-out.batch-size}건씩 별도 트랜잭션의 일괄 UPDATE로 처리하며, 종료한 예약마다 종료 이벤트를 발행해
+ * 실시간 피드 구독자와 일일 일정 ETag에 반영합니다.
+ * 처리 건수는 {@code booking.close-out.rows}, 아직 처리하지 못한 가장 오래된 예약의 지연 시간(초)은
+ * {@code booking.close-out.lag} 로 노출됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class BookingCloseOutJob {
+
+    static final String ROWS_METRIC = "booking.close-out.rows";
+    static final String LAG_METRIC = "booking.close-out.lag";
+
+    private final BookingService bookingService;
+    private final BookingRepository bookingRepository;
+    private final int batchSize;
+    private final Clock clock;
+
+    private final Counter rows;
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    @Autowired
+    public BookingCloseOutJob(BookingService bookingService, BookingRepository bookingRepository, MeterRegistry meterRegistry,
+                              @Value("${booking.close-out.batch-size:500}") int batchSize) {
+        this(bookingService, bookingRepository, meterRegistry, batchSize, Clock.systemDefaultZone());
+    }
+
+    BookingCloseOutJob(BookingService bookingService, BookingRepository bookingRepository, MeterRegistry meterRegistry,
+                       int batchSize, Clock clock) {
+        this.bookingService = bookingService;
+        this.bookingRepository = bookingRepository;
+        this.batchSize = batchSize;
+        this.clock = clock;
+        this.rows = Counter.builder(ROWS_METRIC)
+                .description("자동 종료 처리한 예약 수")
+                .register(meterRegistry);
+        Gauge.builder(LAG_METRIC, lagSeconds, AtomicLong::get)
+                .description("종료 처리되지 않은 가장 오래된 예약의 지연 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${booking.close-out.interval:PT5M}")
+    public void finishExpiredBookings() {
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        int total = 0;
+        int finished;
+        do {
+            finished = bookingService.finishExpiredBookings(now, batchSize);
+            rows.increment(finished);
+            total += finished;
+        } while (finished == batchSize);
+
+        // 이번 실행 뒤에도 남아 있는(동시에 종료 시각이 지난) 예약이 얼마나 밀려 있는지 기록합니다.
+        LocalDateTime current = LocalDateTime.now(clock);
+        lagSeconds.set(bookingRepository.findOldestExpiredInUseFinishesAt(current)
+                .map(oldest -> Duration.between(oldest, current).toSeconds())
+                .orElse(0L));
+
+        if (total > 0) {
+            log.info("사용중 예약 자동 종료 완료 (총 {}건)", total);
+        }
+    }
+}
@@ -1,51 +1,104 @@
 package com.nhnacademy.bookingservice.common.schedule;
 
-
-import com.nhnacademy.bookingservice.common.adaptor.MemberAdaptor;
 import com.nhnacademy.bookingservice.common.event.BookingReminderEvent;
-import com.nhnacademy.bookingservice.dto.BookingResponse;
-import com.nhnacademy.bookingservice.dto.DailyBookingResponse;
-import com.nhnacademy.bookingservice.dto.MemberResponse;
+import com.nhnacademy.bookingservice.common.event.BookingSlotChangedEvent;
+import com.nhnacademy.bookingservice.domain.BookingChangeType;
+import com.nhnacademy.bookingservice.domain.BookingSlot;
 import com.nhnacademy.bookingservice.repository.BookingRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
+/**
+ * 회의 시작 10분 전 알림을 타이밍 휠로 예약해 두었다가 발송합니다.
+ * <ul>
+ *   <li>기동 시 아직 알림 시각이 지나지 않은 예약을 {@code bookings} 테이블에서 읽어 휠에 등록합니다.</li>
+ *   <li>커밋된 {@link BookingSlotChangedEvent}를 받아 생성/변경 시 다시 등록하고, 취소/종료/입실 시 제거합니다.</li>
+ *   <li>매 틱마다 만료된 예약 번호로 {@link BookingReminderEvent}를 발행하므로 알림 한 건의 비용은 O(1)입니다.</li>
+ * </ul>
+ * 인스턴스마다 따로 유지되므로, 발송 직전에 {@link com.nhnacademy.bookingservice.common.event.BookingReminderEventListener}가
+ * DB의 예약 상태를 한 번 더 확인합니다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class BookingReminderScheduler {
 
+    static final Duration REMIND_BEFORE = Duration.ofMinutes(10);
+
+    private static final Set<BookingChangeType> CLOSED = EnumSet.of(
+            BookingChangeType.CANCEL, BookingChangeType.FINISH, BookingChangeType.INUSE);
+
     private final BookingRepository bookingRepository;
-    private final MemberAdaptor memberAdaptor;
     private final ApplicationEventPublisher publisher;
+    private final Clock clock;
+    private final TimingWheel<Long> wheel;
 
-    @Scheduled(cron = "0 0/50 8-17 * * *")
-    public void sendUpcomingBookingReminders() {
-        log.info("🔔 [Scheduler] 예약 10분 전 알림 발송 시작");
+    @Autowired
+    public BookingReminderScheduler(BookingRepository bookingRepository, ApplicationEventPublisher publisher,
+                                    @Value("${booking.reminder.tick:PT1S}") Duration tick) {
+        this(bookingRepository, publisher, tick, Clock.systemDefaultZone());
+    }
 
-        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
-        LocalDateTime targetTime = now.plusMinutes(10);
+    BookingReminderScheduler(BookingRepository bookingRepository, ApplicationEventPublisher publisher, Duration tick, Clock clock) {
+        this.bookingRepository = bookingRepository;
+        this.publisher = publisher;
+        this.clock = clock;
+        this.wheel = new TimingWheel<>(tick, 5, clock.millis());
+    }
 
-        List<BookingResponse> reminders = bookingRepository.findBookingsToRemind(targetTime);
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<BookingSlot> active = bookingRepository.findActiveSlots(LocalDateTime.now(clock));
+        active.forEach(this::schedule);
+        log.info("🔔 [Scheduler] 예약 10분 전 알림 적재 완료 (총 {}건)", wheel.size());
+    }
 
-        for (BookingResponse reminder : reminders) {
-            try {
-                MemberResponse member = memberAdaptor.getMemberByMbNo(reminder.getMember().getNo());
-                publisher.publishEvent(new BookingReminderEvent(this, member.getEmail(), reminder.getNo()));
+    @TransactionalEventListener(classes = BookingSlotChangedEvent.class, phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBookingSlotChangedEvent(BookingSlotChangedEvent event) {
+        if (event.getCurrent() == null || CLOSED.contains(event.getChangeType())) {
+            wheel.cancel(event.getBookingNo());
+        } else {
+            schedule(event.getCurrent());
+        }
+    }
 
-                log.info("알림 전송 완료 - 예약번호: {}", reminder.getNo());
-            } catch (Exception e) {
-                log.error("알림 전송 실패 - 예약번호: {}, 이유: {}", reminder.getNo(), e.getMessage());
-            }
+    @Scheduled(fixedRateString = "${booking.reminder.tick:PT1S}")
+    public void sendUpcomingBookingReminders() {
+        for (Long bookingNo : wheel.advance(clock.millis())) {
+            publisher.publishEvent(new BookingReminderEvent(this, bookingNo));
+            log.info("알림 요청 - 예약번호: {}", bookingNo);
         }
+    }
 
-        log.info("🔔 [Scheduler] 예약 10분 전 알림 발송 종료 (총 {}건)", reminders.size());
+    public int size() {
+        return wheel.size();
+    }
+
+    /**
+     * 예약 시작 10분 전에 알림을 등록합니다. 알림 시각이 이미 지났으면 등록하지 않습니다.
+     *
+     * @param slot 예약 구간
+     */
+    private void schedule(BookingSlot slot) {
+        long remindAt = slot.getStartsAt().minus(REMIND_BEFORE).atZone(clock.getZone()).toInstant().toEpochMilli();
+        if (remindAt <= clock.millis()) {
+            wheel.cancel(slot.getBookingNo());
+            return;
+        }
+        wheel.schedule(slot.getBookingNo(), remindAt);
     }
 }
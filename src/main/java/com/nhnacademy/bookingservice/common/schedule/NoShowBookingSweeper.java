@@ -0,0 +1,56 @@
+package com.nhnacademy.bookingservice.common.schedule;
+
+import com.nhnacademy.bookingservice.service.BookingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * 시작 후 10분이 지나도록 입실하지 않은 예약을 주기적으로 취소합니다.
+ * <p>
+ * 예약 완료 메일에서 안내하는 자동 취소 정책을 수행하며, 한 번에 {@code booking.no-show.batch-size}건씩
+ * 별도 트랜잭션으로 취소해 행 잠금을 오래 잡지 않습니다. 취소된 예약은 커밋 후 회의실 예약 인덱스와
+ * 알림 휠에서도 제거됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class NoShowBookingSweeper {
+
+    private final BookingService bookingService;
+    private final int batchSize;
+    private final Clock clock;
+
+    @Autowired
+    public NoShowBookingSweeper(BookingService bookingService,
+                                @Value("${booking.no-show.batch-size:200}") int batchSize) {
+        this(bookingService, batchSize, Clock.systemDefaultZone());
+    }
+
+    NoShowBookingSweeper(BookingService bookingService, int batchSize, Clock clock) {
+        this.bookingService = bookingService;
+        this.batchSize = batchSize;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${booking.no-show.sweep-interval:PT1M}")
+    public void cancelNoShowBookings() {
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        int total = 0;
+        int cancelled;
+        do {
+            cancelled = bookingService.cancelNoShowBookings(now, batchSize);
+            total += cancelled;
+        } while (cancelled == batchSize);
+
+        if (total > 0) {
+            log.info("미입실 예약 자동 취소 완료 (총 {}건)", total);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.nhnacademy.bookingservice.common.schedule;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 키 단위로 만료 시각을 관리하는 계층형 타이밍 휠입니다.
+ * <ul>
+ *   <li>각 단계는 {@value #WHEEL_SIZE}칸이며, 단계가 올라갈 때마다 한 칸의 길이가 {@value #WHEEL_SIZE}배가 됩니다.</li>
+ *   <li>등록/취소는 키로 칸을 바로 찾아 O(1)에 처리합니다.</li>
+ *   <li>아래 단계가 한 바퀴 돌 때마다 위 단계의 한 칸을 아래로 내려 다시 배치합니다.</li>
+ * </ul>
+ * 만료 시각은 틱 단위로 올림하므로 등록한 시각보다 일찍 만료되지 않습니다.
+ *
+ * @param <K> 타이머 키
+ */
+public class TimingWheel<K> {
+
+    static final int WHEEL_SIZE = 64;
+
+    private static final int WHEEL_BITS = Integer.numberOfTrailingZeros(WHEEL_SIZE);
+    private static final int MASK = WHEEL_SIZE - 1;
+
+    private final long tickMillis;
+    private final int levels;
+    private final long span;
+    private final List<List<Map<K, Long>>> wheels = new ArrayList<>();
+    private final Map<K, Timer> timers = new HashMap<>();
+    private final List<K> expired = new ArrayList<>();
+
+    private long currentTick;
+
+    /**
+     * @param tick 한 칸의 길이
+     * @param levels 단계 수, 전체 범위는 {@code tick * 64^levels}
+     * @param startMillis 휠을 시작할 시각 (epoch millis)
+     */
+    public TimingWheel(Duration tick, int levels, long startMillis) {
+        this.tickMillis = tick.toMillis();
+        this.levels = levels;
+        this.span = 1L << (WHEEL_BITS * levels);
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+
+        for (int level = 0; level < levels; level++) {
+            List<Map<K, Long>> slots = new ArrayList<>(WHEEL_SIZE);
+            for (int i = 0; i < WHEEL_SIZE; i++) {
+                slots.add(new LinkedHashMap<>());
+            }
+            wheels.add(slots);
+        }
+    }
+
+    /**
+     * 타이머를 등록합니다. 같은 키의 기존 타이머는 대체됩니다.
+     * 이미 지난 시각이면 다음 {@link #advance(long)} 호출에서 만료됩니다.
+     *
+     * @param key 타이머 키
+     * @param deadlineMillis 만료 시각 (epoch millis)
+     */
+    public synchronized void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        place(key, Math.ceilDiv(deadlineMillis, tickMillis));
+    }
+
+    /**
+     * 타이머를 취소합니다.
+     *
+     * @param key 타이머 키
+     * @return 등록된 타이머가 있었으면 true
+     */
+    public synchronized boolean cancel(K key) {
+        Timer timer = timers.remove(key);
+        if (timer == null) {
+            return false;
+        }
+        if (timer.level < 0) {
+            expired.remove(key);
+        } else {
+            wheels.get(timer.level).get(timer.slot).remove(key);
+        }
+        return true;
+    }
+
+    /**
+     * 주어진 시각까지 휠을 진행하고 만료된 키를 만료 시각 순으로 반환합니다.
+     *
+     * @param nowMillis 현재 시각 (epoch millis)
+     * @return 만료된 타이머 키
+     */
+    public synchronized List<K> advance(long nowMillis) {
+        long nowTick = Math.floorDiv(nowMillis, tickMillis);
+        List<K> result = new ArrayList<>(drainExpired());
+
+        while (currentTick < nowTick) {
+            currentTick++;
+            for (int level = levels - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (WHEEL_BITS * level)) - 1)) == 0) {
+                    cascade(level);
+                }
+            }
+
+            cascade(0);
+            result.addAll(drainExpired());
+        }
+        return result;
+    }
+
+    public synchronized int size() {
+        return timers.size();
+    }
+
+    /**
+     * 현재 틱에 해당하는 칸을 비우고 다시 배치합니다. 만료 시각이 된 타이머는 만료 목록으로 옮겨집니다.
+     */
+    private void cascade(int level) {
+        Map<K, Long> slot = wheels.get(level).get((int) ((currentTick >>> (WHEEL_BITS * level)) & MASK));
+        List<Map.Entry<K, Long>> entries = new ArrayList<>(slot.entrySet());
+        slot.clear();
+        for (Map.Entry<K, Long> entry : entries) {
+            place(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void place(K key, long deadlineTick) {
+        long delta = deadlineTick - currentTick;
+        if (delta <= 0) {
+            expired.add(key);
+            timers.put(key, new Timer(-1, -1));
+            return;
+        }
+
+        // 범위를 벗어나는 타이머는 최상위 단계의 마지막 칸에 두었다가 내려올 때 다시 배치합니다.
+        long target = delta < span ? deadlineTick : currentTick + span - 1;
+        int level = 0;
+        while (level < levels - 1 && target - currentTick >= 1L << (WHEEL_BITS * (level + 1))) {
+            level++;
+        }
+        int slot = (int) ((target >>> (WHEEL_BITS * level)) & MASK);
+        wheels.get(level).get(slot).put(key, deadlineTick);
+        timers.put(key, new Timer(level, slot));
+    }
+
+    private List<K> drainExpired() {
+        if (expired.isEmpty()) {
+            return List.of();
+        }
+        List<K> drained = new ArrayList<>(expired);
+        drained.forEach(timers::remove);
+        expired.clear();
+        return drained;
+    }
+
+    private record Timer(int level, int slot) {
+    }
+}
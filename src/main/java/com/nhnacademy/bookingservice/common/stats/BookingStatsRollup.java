@@ -0,0 +1,98 @@
+package com.nhnacademy.bookingservice.common.stats;
+
+import com.nhnacademy.bookingservice.common.event.BookingSlotChangedEvent;
+import com.nhnacademy.bookingservice.domain.BookingChangeType;
+import com.nhnacademy.bookingservice.domain.BookingDailyStats;
+import com.nhnacademy.bookingservice.domain.BookingDailyStatsId;
+import com.nhnacademy.bookingservice.domain.BookingSlot;
+import com.nhnacademy.bookingservice.repository.BookingDailyStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 예약 변경 이벤트를 받아 회의실별/일별 집계({@link BookingDailyStats})에 증감값을 반영합니다.
+ * <p>
+ * 예약 트랜잭션 안에서 동기로 처리하므로 예약과 집계가 함께 커밋되거나 함께 롤백됩니다.
+ * 변경 전 구간의 기여분을 빼고 변경 후 구간의 기여분을 더하는 방식이라, 회의실/날짜가 바뀌는 변경도 같은 규칙으로 처리됩니다.
+ * 취소는 예약 건수를 유지한 채 취소 건수를 더하고 인원과 점유 시간만 뺍니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingStatsRollup {
+
+    private final BookingDailyStatsRepository bookingDailyStatsRepository;
+
+    @EventListener(BookingSlotChangedEvent.class)
+    public void handleBookingSlotChangedEvent(BookingSlotChangedEvent event) {
+        Map<BookingDailyStatsId, Delta> deltas = new LinkedHashMap<>();
+
+        if (event.getChangeType() == BookingChangeType.CANCEL) {
+            BookingSlot previous = event.getPrevious();
+            if (previous != null) {
+                delta(deltas, previous).add(0, 1, -attendees(event.getPreviousAttendeeCount()), -minutes(previous));
+            }
+        } else {
+            if (event.getPrevious() != null) {
+                delta(deltas, event.getPrevious()).add(-1, 0, -attendees(event.getPreviousAttendeeCount()), -minutes(event.getPrevious()));
+            }
+            if (event.getCurrent() != null) {
+                delta(deltas, event.getCurrent()).add(1, 0, attendees(event.getCurrentAttendeeCount()), minutes(event.getCurrent()));
+            }
+        }
+
+        deltas.forEach((id, delta) -> {
+            if (!delta.isZero()) {
+                apply(id, delta);
+            }
+        });
+    }
+
+    /**
+     * 행이 이미 있으면 증감 쿼리로 더하고, 없으면 새로 만듭니다.
+     * 같은 회의실의 예약 생성/변경은 {@code RoomReservationLock}으로 직렬화되므로 같은 행을 동시에 만들지 않습니다.
+     */
+    private void apply(BookingDailyStatsId id, Delta delta) {
+        int updated = bookingDailyStatsRepository.increment(id, delta.bookings, delta.cancels, delta.attendees, delta.minutes);
+        if (updated == 0) {
+            bookingDailyStatsRepository.saveAndFlush(new BookingDailyStats(id, delta.bookings, delta.cancels, delta.attendees, delta.minutes));
+        }
+    }
+
+    private static Delta delta(Map<BookingDailyStatsId, Delta> deltas, BookingSlot slot) {
+        BookingDailyStatsId id = new BookingDailyStatsId(slot.getMeetingRoomNo(), slot.getStartsAt().toLocalDate());
+        return deltas.computeIfAbsent(id, key -> new Delta());
+    }
+
+    private static long attendees(Integer attendeeCount) {
+        return Objects.requireNonNullElse(attendeeCount, 0);
+    }
+
+    private static long minutes(BookingSlot slot) {
+        return Duration.between(slot.getStartsAt(), slot.getFinishesAt()).toMinutes();
+    }
+
+    private static final class Delta {
+        private long bookings;
+        private long cancels;
+        private long attendees;
+        private long minutes;
+
+        void add(long bookings, long cancels, long attendees, long minutes) {
+            this.bookings += bookings;
+            this.cancels += cancels;
+            this.attendees += attendees;
+            this.minutes += minutes;
+        }
+
+        boolean isZero() {
+            return bookings == 0 && cancels == 0 && attendees == 0 && minutes == 0;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.nhnacademy.bookingservice.common.stream;
+
+import com.nhnacademy.bookingservice.common.config.AsyncConfig;
+import com.nhnacademy.bookingservice.common.event.BookingSlotChangedEvent;
+import com.nhnacademy.bookingservice.common.exception.ServiceUnavailableException;
+import com.nhnacademy.bookingservice.dto.ScheduleChangeResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 커밋된 예약 변경을 Server-Sent Events로 구독자에게 보냅니다.
+ * <ul>
+ *   <li>구독자는 회의실 하나 또는 전체 회의실을 구독합니다. 회의실을 옮긴 예약은 옮기기 전/후 회의실 구독자 모두에게 보냅니다.</li>
+ *   <li>노쇼 취소나 자동 종료처럼 한 번의 UPDATE로 처리한 변경도 예약마다 이벤트가 발행되므로, 단건 변경과 같이 보냅니다.</li>
+ *   <li>구독자마다 {@code booking.sse.buffer-size}건짜리 버퍼를 두고, {@link AsyncConfig#BROADCAST_EXECUTOR}에서 차례로 보냅니다.
+ *       이벤트를 발행한 스레드는 전송을 기다리지 않습니다.</li>
+ *   <li>버퍼가 가득 찬 느린 구독자, 전송 풀이 가득 차 보낼 수 없는 구독자, 전송에 실패한 구독자는 연결을 끊습니다. 클라이언트는 다시 연결한 뒤 일일 예약 목록을 한 번 조회하면 됩니다.</li>
+ *   <li>{@code booking.sse.heartbeat}마다 주석 이벤트를 보내 끊어진 연결을 정리하고, 프록시가 유휴 연결을 닫지 않게 합니다.</li>
+ * </ul>
+ * 연결은 서블릿 비동기 요청으로 유지되므로, 보낼 이벤트가 없는 구독자는 스레드를 점유하지 않습니다.
+ * 구독자 수는 {@code booking.sse.subscribers}, 끊은 연결 수는 {@code booking.sse.evictions}로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class RoomScheduleBroadcaster {
+
+    static final String SUBSCRIBERS_METRIC = "booking.sse.subscribers";
+    static final String EVICTIONS_METRIC = "booking.sse.evictions";
+    static final String EVENT_NAME = "schedule";
+
+    private final Executor executor;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final Duration timeout;
+    private final Duration reconnectTime;
+
+    private final Map<Long, Set<Subscriber>> roomSubscribers = new ConcurrentHashMap<>();
+    private final Set<Subscriber> allRoomSubscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Counter overflowEvictions;
+    private final Counter errorEvictions;
+    private final Counter rejectedEvictions;
+
+    public RoomScheduleBroadcaster(@Qualifier(AsyncConfig.BROADCAST_EXECUTOR) Executor executor, MeterRegistry meterRegistry,
+                                   @Value("${booking.sse.buffer-size:32}") int bufferSize,
+                                   @Value("${booking.sse.max-subscribers:10000}") int maxSubscribers,
+                                   @Value("${booking.sse.timeout:PT30M}") Duration timeout,
+                                   @Value("${booking.sse.reconnect-time:PT3S}") Duration reconnectTime) {
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeout = timeout;
+        this.reconnectTime = reconnectTime;
+        Gauge.builder(SUBSCRIBERS_METRIC, subscriberCount, AtomicInteger::get)
+                .description("실시간 예약 피드 구독자 수")
+                .register(meterRegistry);
+        this.overflowEvictions = evictions(meterRegistry, "overflow");
+        this.errorEvictions = evictions(meterRegistry, "error");
+        this.rejectedEvictions = evictions(meterRegistry, "rejected");
+    }
+
+    private static Counter evictions(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder(EVICTIONS_METRIC).tag("reason", reason)
+                .description("버퍼가 가득 차거나, 전송 풀이 가득 차거나, 전송에 실패해 끊은 구독자 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 예약 변경을 구독합니다.
+     *
+     * @param roomNo 회의실 번호, {@code null}이면 전체 회의실
+     * @return 이벤트를 보낼 emitter
+     * @throws ServiceUnavailableException 구독자 수가 {@code booking.sse.max-subscribers}에 이른 경우
+     */
+    public SseEmitter subscribe(Long roomNo) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceUnavailableException("실시간 예약 피드 구독자가 너무 많습니다.");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(roomNo, emitter, bufferSize);
+        subscribersOf(roomNo).add(subscriber);
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> unregister(subscriber));
+        emitter.onError(e -> unregister(subscriber));
+
+        // 응답 헤더를 바로 내보내 프록시가 첫 이벤트를 기다리지 않게 합니다.
+        offer(subscriber, SseEmitter.event().comment("connected").reconnectTime(reconnectTime.toMillis()).build());
+        return emitter;
+    }
+
+    @TransactionalEventListener(classes = BookingSlotChangedEvent.class, phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBookingSlotChangedEvent(BookingSlotChangedEvent event) {
+        ScheduleChangeResponse change = ScheduleChangeResponse.of(event);
+        // 한 번 만든 이벤트를 모든 구독자가 공유합니다. SseEventBuilder#build()는 호출할 때마다 내용을 덧붙이므로 다시 부르지 않습니다.
+        Set<DataWithMediaType> sse = SseEmitter.event()
+                .id(Long.toString(sequence.incrementAndGet()))
+                .name(EVENT_NAME)
+                .data(change, MediaType.APPLICATION_JSON)
+                .build();
+
+        List<Subscriber> targets = new ArrayList<>(allRoomSubscribers);
+        addRoomSubscribers(targets, change.getRoomNo());
+        if (!Objects.equals(change.getPreviousRoomNo(), change.getRoomNo())) {
+            addRoomSubscribers(targets, change.getPreviousRoomNo());
+        }
+        targets.forEach(subscriber -> offer(subscriber, sse));
+    }
+
+    private void addRoomSubscribers(List<Subscriber> targets, Long roomNo) {
+        if (roomNo != null) {
+            targets.addAll(roomSubscribers.getOrDefault(roomNo, Set.of()));
+        }
+    }
+
+    @Scheduled(fixedRateString = "${booking.sse.heartbeat:PT15S}")
+    public void heartbeat() {
+        Set<DataWithMediaType> ping = SseEmitter.event().comment("ping").build();
+        allRoomSubscribers.forEach(subscriber -> offer(subscriber, ping));
+        roomSubscribers.values().forEach(subscribers -> subscribers.forEach(subscriber -> offer(subscriber, ping)));
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void close() {
+        allRoomSubscribers.forEach(subscriber -> subscriber.emitter.complete());
+        roomSubscribers.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    private void offer(Subscriber subscriber, Set<DataWithMediaType> event) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+        if (!subscriber.buffer.offer(event)) {
+            log.warn("실시간 예약 피드 구독자가 느려 연결을 끊습니다. (회의실: {})", subscriber.roomNo);
+            evict(subscriber, overflowEvictions, null);
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                // 전송 풀이 가득 차도 이벤트를 발행한 스레드가 대신 보내지 않습니다. 버퍼가 넘친 경우와 같이 연결을 끊습니다.
+                log.warn("실시간 예약 피드 전송 풀이 가득 차 연결을 끊습니다. (회의실: {})", subscriber.roomNo);
+                evict(subscriber, rejectedEvictions, null);
+            }
+        }
+    }
+
+    /**
+     * 버퍼가 빌 때까지 보냅니다. 보내는 도중 들어온 이벤트는 같은 작업이 이어서 보내므로, 구독자마다 동시에 하나의 작업만 보냅니다.
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            do {
+                Set<DataWithMediaType> event;
+                while (!subscriber.closed.get() && (event = subscriber.buffer.poll()) != null) {
+                    subscriber.emitter.send(event);
+                }
+                subscriber.draining.set(false);
+            } while (!subscriber.buffer.isEmpty() && !subscriber.closed.get() && subscriber.draining.compareAndSet(false, true));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("실시간 예약 피드 전송 실패, 연결을 끊습니다. (회의실: {})", subscriber.roomNo, e);
+            evict(subscriber, errorEvictions, e);
+        }
+    }
+
+    private void evict(Subscriber subscriber, Counter counter, Throwable cause) {
+        if (unregister(subscriber)) {
+            counter.increment();
+            subscriber.buffer.clear();
+            if (cause == null) {
+                subscriber.emitter.complete();
+            } else {
+                subscriber.emitter.completeWithError(cause);
+            }
+        }
+    }
+
+    private boolean unregister(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return false;
+        }
+        subscribersOf(subscriber.roomNo).remove(subscriber);
+        subscriberCount.decrementAndGet();
+        return true;
+    }
+
+    private Set<Subscriber> subscribersOf(Long roomNo) {
+        if (roomNo == null) {
+            return allRoomSubscribers;
+        }
+        return roomSubscribers.computeIfAbsent(roomNo, key -> ConcurrentHashMap.newKeySet());
+    }
+
+    private static final class Subscriber {
+
+        private final Long roomNo;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(Long roomNo, SseEmitter emitter, int bufferSize) {
+            this.roomNo = roomNo;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
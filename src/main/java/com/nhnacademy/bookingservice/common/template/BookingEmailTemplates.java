@@ -0,0 +1,75 @@
+package com.nhnacademy.bookingservice.common.template;
+
+import com.nhnacademy.bookingservice.domain.NotificationType;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 예약 메일/알림 템플릿({@code classpath:mail/})을 기동 시 한 번 파싱해 보관합니다.
+ * 공통 조각은 {@code mail/_<이름>.html}에 두고 {@code {{>이름}}}으로 가져다 씁니다.
+ */
+@Component
+public class BookingEmailTemplates {
+
+    private static final String BASE = "mail/";
+
+    private final Map<NotificationType, EmailTemplate> bookingMails = new EnumMap<>(NotificationType.class);
+    private final EmailTemplate reminder;
+
+    public BookingEmailTemplates() {
+        bookingMails.put(NotificationType.BOOKING_CREATED, compileBookingMail("booking-created.html"));
+        bookingMails.put(NotificationType.BOOKING_CHANGED, compileBookingMail("booking-changed.html"));
+        bookingMails.put(NotificationType.BOOKING_CANCELLED, compileBookingMail("booking-cancelled.html"));
+        bookingMails.put(NotificationType.BOOKING_SERIES_CREATED, compileBookingMail("booking-series-created.html"));
+        bookingMails.put(NotificationType.BOOKING_SERIES_CHANGED, compileBookingMail("booking-series-changed.html"));
+        bookingMails.put(NotificationType.BOOKING_SERIES_CANCELLED, compileBookingMail("booking-series-cancelled.html"));
+        reminder = EmailTemplate.compile(read("booking-reminder.txt"), BookingEmailTemplates::partial, "time", "room");
+    }
+
+    /**
+     * 예약 생성/변경/취소 메일과 정기 예약 요약 메일 본문을 만듭니다.
+     *
+     * @param type 알림 유형
+     * @param recipient 받는 사람
+     * @param code 예약 번호
+     * @param room 회의실 이름
+     * @param date 예약 일시, 정기 예약이면 반복 일정 요약
+     * @return HTML 본문
+     */
+    public String bookingMail(NotificationType type, String recipient, String code, String room, String date) {
+        return bookingMails.get(type).render(recipient, code, room, date);
+    }
+
+    /**
+     * 회의 시작 전 알림 본문을 만듭니다.
+     *
+     * @param time 시작 시각
+     * @param room 회의실 이름
+     * @return 텍스트 본문
+     */
+    public String reminder(String time, String room) {
+        return reminder.render(time, room);
+    }
+
+    private static EmailTemplate compileBookingMail(String name) {
+        return EmailTemplate.compile(read(name), BookingEmailTemplates::partial, "recipient", "code", "room", "date");
+    }
+
+    private static String partial(String name) {
+        return read("_" + name + ".html");
+    }
+
+    private static String read(String name) {
+        try {
+            return new ClassPathResource(BASE + name).getContentAsString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("메일 템플릿을 읽을 수 없습니다: " + name, e);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.nhnacademy.bookingservice.common.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * 미리 파싱해 둔 메일 템플릿입니다.
+ * <ul>
+ *   <li>{@code {{name}}}은 발송할 때마다 채우는 값이고, {@code {{>name}}}은 파싱할 때 한 번 펼쳐 넣는 공통 조각입니다.</li>
+ *   <li>파싱 결과는 고정 문자열 조각과 값 자리 번호의 배열이므로, 렌더링은 조각과 값을 차례로 이어 붙이기만 합니다.</li>
+ *   <li>렌더링에 쓰는 {@link StringBuilder}는 스레드마다 하나를 재사용합니다.</li>
+ * </ul>
+ */
+public final class EmailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+    private static final int MAX_PARTIAL_DEPTH = 8;
+
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(4096));
+
+    private final String[] segments;
+    private final int[] slots;
+    private final int parameterCount;
+    private final int staticLength;
+
+    private EmailTemplate(String[] segments, int[] slots, int parameterCount) {
+        this.segments = segments;
+        this.slots = slots;
+        this.parameterCount = parameterCount;
+        int length = 0;
+        for (String segment : segments) {
+            length += segment.length();
+        }
+        this.staticLength = length;
+    }
+
+    /**
+     * 템플릿을 파싱합니다.
+     *
+     * @param source 템플릿 원문
+     * @param partials 공통 조각 이름으로 조각 원문을 찾는 함수
+     * @param parameters 값 이름, {@link #render(String...)}에 넘기는 값의 순서입니다.
+     * @return 파싱된 템플릿
+     * @throws IllegalArgumentException 닫히지 않은 자리표시자, 모르는 값 이름, 너무 깊은 공통 조각이 있는 경우
+     */
+    public static EmailTemplate compile(String source, UnaryOperator<String> partials, String... parameters) {
+        List<String> segments = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+
+        parse(source, partials, List.of(parameters), 0, current, segments, slots);
+        segments.add(current.toString());
+
+        return new EmailTemplate(segments.toArray(String[]::new), slots.stream().mapToInt(Integer::intValue).toArray(), parameters.length);
+    }
+
+    @SuppressWarnings("java:S107")
+    private static void parse(String source, UnaryOperator<String> partials, List<String> parameters, int depth,
+                              StringBuilder current, List<String> segments, List<Integer> slots) {
+        if (depth > MAX_PARTIAL_DEPTH) {
+            throw new IllegalArgumentException("공통 조각이 너무 깊게 중첩되었습니다.");
+        }
+
+        int from = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, from);
+            if (open < 0) {
+                current.append(source, from, source.length());
+                return;
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("닫히지 않은 자리표시자가 있습니다: " + source.substring(open));
+            }
+
+            current.append(source, from, open);
+            String name = source.substring(open + OPEN.length(), close).strip();
+            if (name.startsWith(">")) {
+                String partial = partials.apply(name.substring(1).strip());
+                parse(partial, partials, parameters, depth + 1, current, segments, slots);
+            } else {
+                int slot = parameters.indexOf(name);
+                if (slot < 0) {
+                    throw new IllegalArgumentException("알 수 없는 값 이름입니다: " + name);
+                }
+                segments.add(current.toString());
+                slots.add(slot);
+                current.setLength(0);
+            }
+            from = close + CLOSE.length();
+        }
+    }
+
+    /**
+     * 값을 채워 넣은 문자열을 만듭니다.
+     *
+     * @param values {@link #compile}에 넘긴 값 이름 순서의 값
+     * @return 렌더링 결과
+     */
+    public String render(String... values) {
+        StringBuilder builder = BUILDER.get();
+        builder.setLength(0);
+        renderTo(builder, values);
+        return builder.toString();
+    }
+
+    /**
+     * 주어진 {@link StringBuilder}에 값을 채워 넣은 결과를 이어 붙입니다.
+     *
+     * @param builder 결과를 붙일 곳
+     * @param values {@link #compile}에 넘긴 값 이름 순서의 값
+     */
+    public void renderTo(StringBuilder builder, String... values) {
+        if (values.length != parameterCount) {
+            throw new IllegalArgumentException("값 개수가 맞지 않습니다. 필요: %d, 입력: %d".formatted(parameterCount, values.length));
+        }
+
+        builder.ensureCapacity(builder.length() + staticLength + 32 * slots.length);
+        for (int i = 0; i < slots.length; i++) {
+            builder.append(segments[i]).append(values[slots[i]]);
+        }
+        builder.append(segments[slots.length]);
+    }
+}
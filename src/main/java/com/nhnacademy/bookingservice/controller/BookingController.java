@@ -1,27 +1,40 @@
 package com.nhnacademy.bookingservice.controller;
 
-import com.nhnacademy.bookingservice.common.adaptor.MemberAdaptor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.bookingservice.common.export.BookingRowWriter;
+import com.nhnacademy.bookingservice.common.export.ExportFormat;
+import com.nhnacademy.bookingservice.common.resolver.LoginMember;
+import com.nhnacademy.bookingservice.common.stream.RoomScheduleBroadcaster;
 import com.nhnacademy.bookingservice.dto.*;
 import com.nhnacademy.bookingservice.service.BookingService;
+import com.nhnacademy.bookingservice.service.BookingStatisticsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 
 /**
  * {@code BookingController}는 예약(Booking) 관련 요청을 처리하는 REST 컨트롤러입니다.
  * <ul>
- * <li> 모든 요청에는 "X-USER" 헤더를 통한 사용자 인증 정보가 필요합니다.
+ * <li> 회원 정보가 필요한 요청은 "X-USER" 헤더로 사용자를 식별합니다. ({@link LoginMember})
  * <li> 예약 등록, 조회, 수정, 삭제 및 특이사항 변경 기능을 제공합니다.
  * </ul>
  */
@@ -31,22 +44,10 @@ import java.util.Objects;
 @RequiredArgsConstructor
 public class BookingController {
 
-    private final MemberAdaptor memberAdaptor;
     private final BookingService bookingService;
-
-    /**
-     * 요청 헤더의 "X-USER" 값을 기반으로 사용자 정보를 조회합니다.
-     * 해당 정보는 다른 핸들러 메서드에서 {@code @ModelAttribute}로 주입됩니다.
-     *
-     * @param email 사용자 이메일 (요청 헤더 "X-USER"로 전달)
-     * @return 사용자 정보
-     * @throws feign.FeignException.Unauthorized 이메일이 없을 경우
-     * @see com.nhnacademy.bookingservice.common.advice.CommonAdvice 공통 예외 처리
-     */
-    @ModelAttribute("memberInfo")
-    public MemberResponse getMemberInfo(@RequestHeader(value = "X-USER", required = false) String email){
-        return  memberAdaptor.getMemberByEmail(email);
-    }
+    private final BookingStatisticsService bookingStatisticsService;
+    private final RoomScheduleBroadcaster roomScheduleBroadcaster;
+    private final ObjectMapper objectMapper;
 
     /**
      * 예약을 등록합니다.
@@ -55,7 +56,7 @@ public class BookingController {
      * @return 201 Created 응답
      */
     @PostMapping
-    public ResponseEntity<BookingRegisterResponse> registerBooking(@Validated @RequestBody BookingRegisterRequest request, @ModelAttribute("memberInfo") MemberResponse memberInfo){
+    public ResponseEntity<BookingRegisterResponse> registerBooking(@Validated @RequestBody BookingRegisterRequest request, @LoginMember MemberResponse memberInfo){
         BookingRegisterResponse response = bookingService.register(request, memberInfo);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
@@ -68,7 +69,7 @@ public class BookingController {
      * @return 예약 상세 정보
      */
     @GetMapping("/{no}")
-    public ResponseEntity<BookingResponse> getBooking(@PathVariable("no") Long no, @ModelAttribute("memberInfo") MemberResponse memberInfo) {
+    public ResponseEntity<BookingResponse> getBooking(@PathVariable("no") Long no, @LoginMember MemberResponse memberInfo) {
         BookingResponse response = bookingService.getBooking(no, memberInfo);
         return ResponseEntity.ok(response);
     }
@@ -80,7 +81,7 @@ public class BookingController {
      * @return 로그인한 회원의 예약 목록
      */
     @GetMapping("/me/statistics")
-    public ResponseEntity<List<BookingResponse>> getBookingsByMember(@ModelAttribute("memberInfo") MemberResponse memberInfo){
+    public ResponseEntity<List<BookingResponse>> getBookingsByMember(@LoginMember MemberResponse memberInfo){
         List<BookingResponse> responses = bookingService.getMemberBookings(memberInfo);
         return ResponseEntity.ok(responses);
     }
@@ -97,6 +98,61 @@ public class BookingController {
         return ResponseEntity.ok(responses);
     }
 
+    /**
+     * 회의실별 예약 통계를 일/주/월 단위로 조회합니다.
+     * 미리 집계된 일별 통계를 합산하므로 예약 원본을 읽지 않습니다.
+     * 관리자만 접근 가능합니다.
+     *
+     * @param unit 집계 단위 (DAY, WEEK, MONTH)
+     * @param from 조회 시작일 (yyyy-MM-dd, 포함)
+     * @param to 조회 종료일 (yyyy-MM-dd, 포함)
+     * @param roomNo 회의실 번호, 생략하면 전체 회의실
+     * @param memberInfo 요청 헤더 "X-USER"를 통해 주입된 회원 정보
+     * @return 회의실, 구간 시작일 순의 통계 목록
+     */
+    @GetMapping("/statistics/summary")
+    public ResponseEntity<List<BookingStatsResponse>> getStatisticsSummary(@RequestParam(value = "unit", defaultValue = "DAY") BookingStatsUnit unit,
+                                                                           @RequestParam("from") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate from,
+                                                                           @RequestParam("to") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate to,
+                                                                           @RequestParam(value = "roomNo", required = false) Long roomNo,
+                                                                           @LoginMember MemberResponse memberInfo){
+        if(!Objects.equals(memberInfo.getRoleName(), "ROLE_ADMIN")){
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        List<BookingStatsResponse> responses = bookingStatisticsService.getStatistics(roomNo, unit, from, to);
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * 로그인한 회원의 예약 통계 목록을 스트리밍으로 내보냅니다.
+     * Accept 헤더가 {@code application/x-ndjson} 또는 {@code text/csv}인 경우 선택되며,
+     * 목록을 묶음 단위로 조회하면서 바로 응답에 기록합니다.
+     *
+     * @param accept 요청 헤더 "Accept"
+     * @param memberInfo 요청 헤더 "X-USER"를 통해 주입된 회원 정보
+     * @return NDJSON 또는 CSV 스트리밍 응답
+     */
+    @GetMapping(value = "/me/statistics", produces = {ExportFormat.NDJSON_VALUE, ExportFormat.CSV_VALUE})
+    public ResponseEntity<StreamingResponseBody> exportBookingsByMember(@RequestHeader(HttpHeaders.ACCEPT) String accept, @LoginMember MemberResponse memberInfo){
+        ExportFormat format = ExportFormat.of(MediaType.parseMediaTypes(accept));
+        StreamingResponseBody body = out -> bookingService.exportMemberBookings(memberInfo, BookingRowWriter.of(format, out, objectMapper));
+        return ResponseEntity.ok().contentType(format.getMediaType()).body(body);
+    }
+
+    /**
+     * 전체 회원의 예약 통계 목록을 스트리밍으로 내보냅니다.
+     * Accept 헤더가 {@code application/x-ndjson} 또는 {@code text/csv}인 경우 선택됩니다.
+     *
+     * @param accept 요청 헤더 "Accept"
+     * @return NDJSON 또는 CSV 스트리밍 응답
+     */
+    @GetMapping(value = "/statistics", produces = {ExportFormat.NDJSON_VALUE, ExportFormat.CSV_VALUE})
+    public ResponseEntity<StreamingResponseBody> exportAllBookings(@RequestHeader(HttpHeaders.ACCEPT) String accept){
+        ExportFormat format = ExportFormat.of(MediaType.parseMediaTypes(accept));
+        StreamingResponseBody body = out -> bookingService.exportBookings(BookingRowWriter.of(format, out, objectMapper));
+        return ResponseEntity.ok().contentType(format.getMediaType()).body(body);
+    }
+
     /**
      * 로그인한 회원의 예약 목록(페이지네이션 포함)을 조회합니다.
      *
@@ -105,7 +161,7 @@ public class BookingController {
      * @return 로그인한 회원의 예약 목록 페이지
      */
     @GetMapping("/me")
-    public ResponseEntity<Page<BookingResponse>> getBookingsByMember(@PageableDefault(size = 10) Pageable pageable, @ModelAttribute("memberInfo") MemberResponse memberInfo){
+    public ResponseEntity<Page<BookingResponse>> getBookingsByMember(@PageableDefault(size = 10) Pageable pageable, @LoginMember MemberResponse memberInfo){
         Page<BookingResponse> responses = bookingService.getPagedMemberBookings(memberInfo, pageable);
         return ResponseEntity.ok(responses);
     }
@@ -119,7 +175,7 @@ public class BookingController {
      * @return 전체 예약 목록 페이지
      */
     @GetMapping
-    public ResponseEntity<Page<BookingResponse>> getAllBookings(@PageableDefault(size = 10) Pageable pageable, @ModelAttribute("memberInfo") MemberResponse memberInfo){
+    public ResponseEntity<Page<BookingResponse>> getAllBookings(@PageableDefault(size = 10) Pageable pageable, @LoginMember MemberResponse memberInfo){
         if(!Objects.equals(memberInfo.getRoleName(), "ROLE_ADMIN")){
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
@@ -127,19 +183,138 @@ public class BookingController {
         return ResponseEntity.ok(responses);
     }
 
+    /**
+     * 로그인한 회원의 예약 목록을 커서 기반으로 조회합니다. ({@code mode=cursor})
+     * offset 대신 이전 응답의 {@code nextCursor}로 이어서 조회하므로 뒤쪽 페이지도 첫 페이지와 비용이 같습니다.
+     *
+     * @param cursor 이전 응답의 {@code nextCursor}, 첫 페이지이면 생략
+     * @param size 페이지 크기 (최대 100)
+     * @param withTotal 전체 개수 포함 여부
+     * @param memberInfo 요청 헤더 "X-USER"를 통해 주입된 회원 정보
+     * @return 로그인한 회원의 예약 목록
+     */
+    @GetMapping(value = "/me", params = "mode=cursor")
+    public ResponseEntity<CursorPage<BookingResponse>> getBookingsByMemberCursor(@RequestParam(value = "cursor", required = false) String cursor,
+                                                                                @RequestParam(value = "size", defaultValue = "10") int size,
+                                                                                @RequestParam(value = "withTotal", defaultValue = "false") boolean withTotal,
+                                                                                @LoginMember MemberResponse memberInfo){
+        CursorPage<BookingResponse> responses = bookingService.getMemberBookingsByCursor(memberInfo, cursor, size, withTotal);
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * 전체 회원의 예약 목록을 커서 기반으로 조회합니다. ({@code mode=cursor})
+     * 관리자만 접근 가능합니다.
+     *
+     * @param cursor 이전 응답의 {@code nextCursor}, 첫 페이지이면 생략
+     * @param size 페이지 크기 (최대 100)
+     * @param withTotal 전체 개수 포함 여부
+     * @param memberInfo 요청 헤더 "X-USER"를 통해 주입된 회원 정보
+     * @return 전체 예약 목록
+     */
+    @GetMapping(params = "mode=cursor")
+    public ResponseEntity<CursorPage<BookingResponse>> getAllBookingsCursor(@RequestParam(value = "cursor", required = false) String cursor,
+                                                                           @RequestParam(value = "size", defaultValue = "10") int size,
+                                                                           @RequestParam(value = "withTotal", defaultValue = "false") boolean withTotal,
+                                                                           @LoginMember MemberResponse memberInfo){
+        if(!Objects.equals(memberInfo.getRoleName(), "ROLE_ADMIN")){
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        CursorPage<BookingResponse> responses = bookingService.getBookingsByCursor(cursor, size, withTotal);
+        return ResponseEntity.ok(responses);
+    }
+
     /**
      * 특정 회의실의 특정 날짜에 해당하는 예약 목록을 조회합니다.
+     * 응답에 회의실/날짜별 ETag를 붙이며, {@code If-None-Match}가 현재 ETag와 같으면 목록을 만들지 않고 304를 반환합니다.
      *
      * @param roomNo 회의실 번호
      * @param date 조회할 날짜 (yyyy-MM-dd 형식)
      * @return 해당 회의실의 일일 예약 목록
      */
     @GetMapping("/meeting-rooms/{roomNo}/date/{date}")
-    public ResponseEntity<List<DailyBookingResponse>> getDailyBookings(@PathVariable("roomNo") Long roomNo, @PathVariable("date") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date) {
+    public ResponseEntity<List<DailyBookingResponse>> getDailyBookings(@PathVariable("roomNo") Long roomNo, @PathVariable("date") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date,
+                                                                       WebRequest webRequest) {
+        String eTag = bookingService.getDailyBookingsETag(roomNo, date);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CacheControl.noCache()).build();
+        }
         List<DailyBookingResponse> responses = bookingService.getDailyBookings(roomNo, date);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(CacheControl.noCache()).body(responses);
+    }
+
+    /**
+     * 한 회의실의 예약 변경을 Server-Sent Events로 구독합니다.
+     * 생성/변경/연장/종료/취소/입실이 커밋될 때마다 {@link ScheduleChangeResponse}를 {@code schedule} 이벤트로 보냅니다.
+     *
+     * @param roomNo 회의실 번호
+     * @return 이벤트 스트림
+     */
+    @GetMapping(value = "/meeting-rooms/{roomNo}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeRoomSchedule(@PathVariable("roomNo") Long roomNo) {
+        return roomScheduleBroadcaster.subscribe(roomNo);
+    }
+
+    /**
+     * 모든 회의실의 예약 변경을 Server-Sent Events로 구독합니다.
+     *
+     * @return 이벤트 스트림
+     */
+    @GetMapping(value = "/meeting-rooms/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeSchedules() {
+        return roomScheduleBroadcaster.subscribe(null);
+    }
+
+    /**
+     * 모든 회의실에서 주어진 시간 구간 안에 예약할 수 있는 빈 구간을 찾습니다.
+     * 회의실마다, 날짜마다 일일 예약 목록을 조회하지 않고 한 번의 요청으로 최대 31일을 검색합니다.
+     *
+     * @param from 조회 시작 시각 (yyyy-MM-ddTHH:mm)
+     * @param to 조회 종료 시각 (yyyy-MM-ddTHH:mm)
+     * @param minutes 필요한 예약 길이(분)
+     * @param capacity 최소 수용 인원
+     * @return 시작 시각, 회의실 번호 순의 빈 구간 목록
+     */
+    @GetMapping("/meeting-rooms/free-slots")
+    public ResponseEntity<List<FreeSlotResponse>> getFreeSlots(@RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                               @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                               @RequestParam(value = "minutes", defaultValue = "60") int minutes,
+                                                               @RequestParam(value = "capacity", defaultValue = "1") int capacity) {
+        List<FreeSlotResponse> responses = bookingService.findFreeSlots(from, to, Duration.ofMinutes(minutes), capacity);
         return ResponseEntity.ok(responses);
     }
 
+    /**
+     * 주어진 날짜에 예약이 있는 모든 회의실의 점유 비트맵을 조회합니다.
+     * 회의실별 일일 예약 목록 대신 회의실마다 수십 바이트로 하루 예약 현황표를 그릴 수 있습니다.
+     *
+     * @param date 조회할 날짜 (yyyy-MM-dd 형식)
+     * @param granularity 비트 하나가 나타내는 분 단위 (10의 배수)
+     * @return 회의실별 Base64 점유 비트맵
+     */
+    @GetMapping("/meeting-rooms/occupancy")
+    public ResponseEntity<RoomOccupancyResponse> getOccupancies(@RequestParam("date") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date,
+                                                                @RequestParam(value = "granularity", defaultValue = "30") int granularity) {
+        RoomOccupancyResponse response = bookingService.getOccupancies(date, granularity);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 한 회의실의 하루 점유 비트맵을 바이너리로 조회합니다.
+     *
+     * @param roomNo 회의실 번호
+     * @param date 조회할 날짜 (yyyy-MM-dd 형식)
+     * @param granularity 비트 하나가 나타내는 분 단위 (10의 배수)
+     * @return 점유 비트 배열
+     */
+    @GetMapping(value = "/meeting-rooms/{roomNo}/date/{date}/occupancy", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<byte[]> getOccupancy(@PathVariable("roomNo") Long roomNo,
+                                               @PathVariable("date") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date,
+                                               @RequestParam(value = "granularity", defaultValue = "30") int granularity) {
+        byte[] bitmap = bookingService.getOccupancy(roomNo, date, granularity);
+        return ResponseEntity.ok(bitmap);
+    }
+
     /**
      * 예약 정보를 수정합니다.
      *
@@ -148,7 +323,7 @@ public class BookingController {
      * @return 수정된 예약 정보
      */
     @PutMapping("/{no}")
-    public ResponseEntity<BookingResponse> updateBooking(@PathVariable("no") Long no, @Validated @RequestBody BookingUpdateRequest request, @ModelAttribute("memberInfo") MemberResponse memberInfo){
+    public ResponseEntity<BookingResponse> updateBooking(@PathVariable("no") Long no, @Validated @RequestBody BookingUpdateRequest request, @LoginMember MemberResponse memberInfo){
         BookingResponse response = bookingService.updateBooking(no, request, memberInfo);
         return ResponseEntity.ok(response);
     }
@@ -160,7 +335,7 @@ public class BookingController {
      * @return 200 OK 응답
      */
     @PutMapping("/{no}/extend")
-    public ResponseEntity<BookingResponse> extendBooking(@PathVariable("no") Long bookingNo, @ModelAttribute("memberInfo") MemberResponse memberInfo) {
+    public ResponseEntity<BookingResponse> extendBooking(@PathVariable("no") Long bookingNo, @LoginMember MemberResponse memberInfo) {
         bookingService.extendBooking(bookingNo);
         BookingResponse extendedBooking = bookingService.getBooking(bookingNo, memberInfo);
 
@@ -187,7 +362,7 @@ public class BookingController {
      * @return 204 No Content 응답
      */
     @DeleteMapping("/{no}")
-    public ResponseEntity<BookingResponse> deleteBooking(@PathVariable("no") Long no, @ModelAttribute("memberInfo") MemberResponse memberInfo){
+    public ResponseEntity<BookingResponse> deleteBooking(@PathVariable("no") Long no, @LoginMember MemberResponse memberInfo){
         bookingService.cancelBooking(no, memberInfo);
         return ResponseEntity.noContent().build();
     }
@@ -199,7 +374,7 @@ public class BookingController {
      * @return EntryResponse 회의실 입실 응답 ResponseEntity
      */
     @PostMapping("/verify")
-    public ResponseEntity<EntryResponse> checkBooking(@ModelAttribute("memberInfo") MemberResponse memberInfo, @Validated @RequestBody EntryRequest entryRequest) {
+    public ResponseEntity<EntryResponse> checkBooking(@LoginMember MemberResponse memberInfo, @Validated @RequestBody EntryRequest entryRequest) {
         bookingService.checkBooking(memberInfo, entryRequest.getCode(), entryRequest.getEntryTime(), entryRequest.getBookingNo());
 
         return ResponseEntity
@@ -212,7 +387,7 @@ public class BookingController {
     }
 
     @PostMapping("/{no}/verify")
-    public ResponseEntity<Boolean> verifyPassword(@PathVariable("no") Long no, @Validated @RequestBody ConfirmPasswordRequest request, @ModelAttribute("memberInfo") MemberResponse memberInfo) {
+    public ResponseEntity<Boolean> verifyPassword(@PathVariable("no") Long no, @Validated @RequestBody ConfirmPasswordRequest request, @LoginMember MemberResponse memberInfo) {
         Boolean valid =  bookingService.verify(no, request, memberInfo);
         return ResponseEntity.ok(valid);
     }
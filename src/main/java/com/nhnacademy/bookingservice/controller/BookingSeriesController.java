@@ -0,0 +1,80 @@
+package com.nhnacademy.bookingservice.controller;
+
+import com.nhnacademy.bookingservice.common.resolver.LoginMember;
+import com.nhnacademy.bookingservice.dto.BookingSeriesRequest;
+import com.nhnacademy.bookingservice.dto.BookingSeriesResponse;
+import com.nhnacademy.bookingservice.dto.BookingSeriesUpdateRequest;
+import com.nhnacademy.bookingservice.dto.MemberResponse;
+import com.nhnacademy.bookingservice.service.BookingSeriesService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * {@code BookingSeriesController}는 정기 예약(BookingSeries) 관련 요청을 처리하는 REST 컨트롤러입니다.
+ * <ul>
+ * <li> 회원 정보가 필요한 요청은 "X-USER" 헤더로 사용자를 식별합니다. ({@link LoginMember})
+ * <li> 정기 예약 등록, 조회와 남은 회차의 일괄 변경, 일괄 취소 기능을 제공합니다.
+ * </ul>
+ */
+@RestController
+@RequestMapping("/api/v1/bookings/series")
+@RequiredArgsConstructor
+public class BookingSeriesController {
+
+    private final BookingSeriesService bookingSeriesService;
+
+    /**
+     * 정기 예약을 등록합니다. 겹치는 회차가 하나라도 있으면 409 Conflict로 응답하고 아무 회차도 등록하지 않습니다.
+     *
+     * @param request 정기 예약 등록 요청 정보
+     * @param memberInfo 사용자 정보
+     * @return 201 Created 응답
+     */
+    @PostMapping
+    public ResponseEntity<BookingSeriesResponse> registerSeries(@Validated @RequestBody BookingSeriesRequest request, @LoginMember MemberResponse memberInfo) {
+        BookingSeriesResponse response = bookingSeriesService.register(request, memberInfo);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * 정기 예약과 오늘 이후의 회차를 조회합니다.
+     *
+     * @param seriesNo 정기 예약 번호
+     * @param memberInfo 사용자 정보
+     * @return 정기 예약 정보
+     */
+    @GetMapping("/{seriesNo}")
+    public ResponseEntity<BookingSeriesResponse> getSeries(@PathVariable("seriesNo") Long seriesNo, @LoginMember MemberResponse memberInfo) {
+        return ResponseEntity.ok(bookingSeriesService.getSeries(seriesNo, memberInfo));
+    }
+
+    /**
+     * 아직 시작하지 않은 회차의 시간과 인원을 변경합니다.
+     *
+     * @param seriesNo 정기 예약 번호
+     * @param request 변경할 시간과 인원
+     * @param memberInfo 사용자 정보
+     * @return 변경된 정기 예약 정보
+     */
+    @PutMapping("/{seriesNo}")
+    public ResponseEntity<BookingSeriesResponse> updateSeries(@PathVariable("seriesNo") Long seriesNo, @Validated @RequestBody BookingSeriesUpdateRequest request,
+                                                              @LoginMember MemberResponse memberInfo) {
+        return ResponseEntity.ok(bookingSeriesService.updateSeries(seriesNo, request, memberInfo));
+    }
+
+    /**
+     * 아직 시작하지 않은 회차를 모두 취소합니다.
+     *
+     * @param seriesNo 정기 예약 번호
+     * @param memberInfo 사용자 정보
+     * @return 204 No Content 응답
+     */
+    @DeleteMapping("/{seriesNo}")
+    public ResponseEntity<Void> cancelSeries(@PathVariable("seriesNo") Long seriesNo, @LoginMember MemberResponse memberInfo) {
+        bookingSeriesService.cancelSeries(seriesNo, memberInfo);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -10,7 +10,13 @@ import org.hibernate.annotations.Comment;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+        @Index(name = "idx_bookings_date_no", columnList = "booking_date, booking_no"),
+        @Index(name = "idx_bookings_mb_date_no", columnList = "mb_no, booking_date, booking_no"),
+        @Index(name = "idx_bookings_room_date_finish", columnList = "meeting_room_no, booking_date, finishes_at"),
+        @Index(name = "idx_bookings_change_finish", columnList = "change_no, finishes_at"),
+        @Index(name = "idx_bookings_series_date", columnList = "series_no, booking_date")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @ToString
@@ -49,6 +55,10 @@ public class Booking {
     @Comment("회의실번호")
     private Long meetingRoomNo;
 
+    @Column(name = "series_no", nullable = true)
+    @Comment("정기예약번호")
+    private Long seriesNo;
+
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "change_no", referencedColumnName = "change_no", nullable = true)
     @Comment("특이사항번호")
@@ -73,6 +83,12 @@ public class Booking {
        return new Booking(code, date, attendees, finishesAt, mbNo, bookingChange, roomNo);
     }
 
+    public static Booking ofSeriesBooking(String code, LocalDateTime date, Integer attendees, LocalDateTime finishesAt, Long mbNo, Long roomNo, Long seriesNo){
+       Booking booking = new Booking(code, date, attendees, finishesAt, mbNo, null, roomNo);
+       booking.seriesNo = seriesNo;
+       return booking;
+    }
+
     public void update(LocalDateTime date, Integer attendees, LocalDateTime finishesAt, Long roomNo){
        this.bookingDate = date;
        this.attendeeCount = attendees;
@@ -6,8 +6,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import org.hibernate.annotations.Comment;
+import org.hibernate.annotations.Immutable;
 
+/**
+ * 예약 특이사항(연장, 종료, 취소, 변경, 사용중) 참조 데이터입니다.
+ * 기동 시 {@code BookingChangeRegistry}가 읽어 보관하며, 실행 중에는 변경하지 않습니다.
+ */
 @Entity
+@Immutable
 @Table(name = "booking_changes")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
@@ -26,9 +32,4 @@ public class BookingChange {
     public BookingChange(String name) {
         this.name = name;
     }
-
-    public void updateName(String name) {
-        this.name = name;
-    }
-
 }
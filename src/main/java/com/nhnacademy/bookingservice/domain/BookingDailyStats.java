@@ -0,0 +1,54 @@
+package com.nhnacademy.bookingservice.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Comment;
+
+/**
+ * 회의실별/일별 예약 집계 행입니다.
+ * <p>
+ * 예약이 생성/변경/연장/취소될 때마다 증감값만 반영되며, 통계 조회는 {@code bookings} 테이블 대신 이 행들을 읽습니다.
+ * 예약은 시작일 기준으로 집계하고, 취소된 예약은 {@code bookingCount}에 남기되 인원과 점유 시간에서는 제외합니다.
+ * </p>
+ */
+@Entity
+@Table(name = "booking_daily_stats", indexes = @Index(name = "idx_booking_daily_stats_date", columnList = "stat_date"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@ToString
+public class BookingDailyStats {
+
+    @EmbeddedId
+    private BookingDailyStatsId id;
+
+    @Column(name = "booking_count", nullable = false)
+    @Comment("예약건수")
+    private long bookingCount;
+
+    @Column(name = "cancel_count", nullable = false)
+    @Comment("취소건수")
+    private long cancelCount;
+
+    @Column(name = "attendee_sum", nullable = false)
+    @Comment("예약인원합계")
+    private long attendeeSum;
+
+    @Column(name = "occupied_minutes", nullable = false)
+    @Comment("점유시간(분)")
+    private long occupiedMinutes;
+
+    public BookingDailyStats(BookingDailyStatsId id, long bookingCount, long cancelCount, long attendeeSum, long occupiedMinutes) {
+        this.id = id;
+        this.bookingCount = bookingCount;
+        this.cancelCount = cancelCount;
+        this.attendeeSum = attendeeSum;
+        this.occupiedMinutes = occupiedMinutes;
+    }
+}
@@ -0,0 +1,31 @@
+package com.nhnacademy.bookingservice.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 예약 일별 집계의 식별자입니다. (회의실 번호, 예약 시작일)
+ */
+@Embeddable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Getter
+@ToString
+@EqualsAndHashCode
+public class BookingDailyStatsId implements Serializable {
+
+    @Column(name = "meeting_room_no")
+    private Long meetingRoomNo;
+
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+}
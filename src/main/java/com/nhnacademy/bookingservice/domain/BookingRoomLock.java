@@ -0,0 +1,43 @@
+package com.nhnacademy.bookingservice.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Comment;
+
+/**
+ * 회의실 단위 예약 잠금 행입니다.
+ * <p>
+ * 예약 생성/수정/연장 시 이 행을 {@code SELECT ... FOR UPDATE}로 잠가,
+ * 여러 인스턴스에서 같은 회의실의 겹침 검사와 저장이 동시에 일어나지 않도록 합니다.
+ * </p>
+ * <p>
+ * {@code schedule_version}은 잠금을 잡은 채 회의실 점유 구간을 늘리거나 옮길 때마다 1씩 올립니다.
+ * 인스턴스마다 있는 {@code RoomScheduleIndex}는 자신이 반영한 버전과 이 값이 같을 때만 겹침이 없다는 결과를 믿습니다.
+ * </p>
+ */
+@Entity
+@Table(name = "booking_room_locks")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@ToString
+public class BookingRoomLock {
+
+    @Id
+    @Column(name = "meeting_room_no")
+    @Comment("회의실번호")
+    private Long meetingRoomNo;
+
+    @Column(name = "schedule_version", nullable = false)
+    @Comment("점유구간버전")
+    private long scheduleVersion;
+
+    public BookingRoomLock(Long meetingRoomNo) {
+        this.meetingRoomNo = meetingRoomNo;
+    }
+}
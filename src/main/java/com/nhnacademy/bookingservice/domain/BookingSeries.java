@@ -0,0 +1,125 @@
+package com.nhnacademy.bookingservice.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 같은 회의실을 주기적으로 쓰는 정기 예약입니다.
+ * <p>
+ * 회차마다 {@link Booking}이 하나씩 만들어지며, 각 예약은 {@code series_no}로 이 정기 예약을 가리킵니다.
+ * 정기 예약을 변경하거나 취소하면 아직 시작하지 않은 회차에만 반영됩니다.
+ * </p>
+ */
+@Entity
+@Table(name = "booking_series", indexes = @Index(name = "idx_booking_series_mb", columnList = "mb_no"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@ToString
+public class BookingSeries {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "series_no")
+    private Long seriesNo;
+
+    @Column(name = "mb_no", nullable = false)
+    @Comment("예약자번호")
+    private Long mbNo;
+
+    @Column(name = "meeting_room_no", nullable = false)
+    @Comment("회의실번호")
+    private Long meetingRoomNo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "recurrence", length = 10, nullable = false)
+    @Comment("반복주기")
+    private Recurrence recurrence;
+
+    @Column(name = "start_time", nullable = false)
+    @Comment("시작시각")
+    private LocalTime startTime;
+
+    @Column(name = "finish_time", nullable = false)
+    @Comment("종료시각")
+    private LocalTime finishTime;
+
+    @Column(name = "attendee_count", nullable = false)
+    @Comment("예약인원")
+    private Integer attendeeCount;
+
+    @Column(name = "first_date", nullable = false)
+    @Comment("첫회차날짜")
+    private LocalDate firstDate;
+
+    @Column(name = "last_date", nullable = false)
+    @Comment("마지막회차날짜")
+    private LocalDate lastDate;
+
+    @Column(name = "occurrence_count", nullable = false)
+    @Comment("회차수")
+    private Integer occurrenceCount;
+
+    @Column(name = "created_at", nullable = false)
+    @Comment("생성시간")
+    private LocalDateTime createdAt;
+
+    @Column(name = "cancelled_at")
+    @Comment("취소시간")
+    private LocalDateTime cancelledAt;
+
+    @PrePersist
+    void prePersist() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    @SuppressWarnings("java:S107")
+    private BookingSeries(Long mbNo, Long meetingRoomNo, Recurrence recurrence, LocalTime startTime, LocalTime finishTime,
+                          Integer attendeeCount, LocalDate firstDate, LocalDate lastDate, Integer occurrenceCount) {
+        this.mbNo = mbNo;
+        this.meetingRoomNo = meetingRoomNo;
+        this.recurrence = recurrence;
+        this.startTime = startTime;
+        this.finishTime = finishTime;
+        this.attendeeCount = attendeeCount;
+        this.firstDate = firstDate;
+        this.lastDate = lastDate;
+        this.occurrenceCount = occurrenceCount;
+    }
+
+    @SuppressWarnings("java:S107")
+    public static BookingSeries ofNewSeries(Long mbNo, Long roomNo, Recurrence recurrence, LocalTime startTime, LocalTime finishTime,
+                                            Integer attendees, LocalDate firstDate, LocalDate lastDate, Integer occurrenceCount) {
+        return new BookingSeries(mbNo, roomNo, recurrence, startTime, finishTime, attendees, firstDate, lastDate, occurrenceCount);
+    }
+
+    public void update(LocalTime startTime, LocalTime finishTime, Integer attendees) {
+        this.startTime = startTime;
+        this.finishTime = finishTime;
+        this.attendeeCount = attendees;
+    }
+
+    public void cancel(LocalDateTime cancelledAt) {
+        this.cancelledAt = cancelledAt;
+    }
+
+    public boolean isCancelled() {
+        return cancelledAt != null;
+    }
+}
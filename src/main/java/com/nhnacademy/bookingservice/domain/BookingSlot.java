@@ -0,0 +1,56 @@
+package com.nhnacademy.bookingservice.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회의실을 점유하는 예약 구간을 나타내는 값 객체입니다.
+ * <p>
+ * 시작 시각은 포함하고 종료 시각은 포함하지 않는 반개구간 [startsAt, finishesAt) 으로 취급하며,
+ * {@code CustomBookingRepository#existsOverlappingBooking} 의 겹침 조건과 동일합니다.
+ * </p>
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class BookingSlot {
+
+    private final Long bookingNo;
+
+    private final Long meetingRoomNo;
+
+    private final LocalDateTime startsAt;
+
+    private final LocalDateTime finishesAt;
+
+    /**
+     * 예약 엔티티로부터 점유 구간을 생성합니다.
+     * 취소되어 종료 시각이 없는 예약은 회의실을 점유하지 않으므로 {@code null}을 반환합니다.
+     *
+     * @param booking 예약 엔티티
+     * @return 점유 구간, 점유하지 않는 예약이면 {@code null}
+     */
+    public static BookingSlot of(Booking booking) {
+        if (booking.getFinishesAt() == null) {
+            return null;
+        }
+        return new BookingSlot(booking.getBookingNo(), booking.getMeetingRoomNo(), booking.getBookingDate(), booking.getFinishesAt());
+    }
+
+    /**
+     * 주어진 회의실과 시간 구간이 이 예약 구간과 겹치는지 확인합니다.
+     *
+     * @param roomNo 회의실 번호
+     * @param from 확인할 시작 시각
+     * @param to 확인할 종료 시각
+     * @return 겹치면 true
+     */
+    public boolean overlaps(Long roomNo, LocalDateTime from, LocalDateTime to) {
+        return meetingRoomNo.equals(roomNo) && startsAt.isBefore(to) && finishesAt.isAfter(from);
+    }
+}
@@ -0,0 +1,27 @@
+package com.nhnacademy.bookingservice.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회의실이 비어 있는 구간을 나타내는 값 객체입니다.
+ * <p>
+ * {@link BookingSlot}과 같이 반개구간 [startsAt, finishesAt) 으로 취급합니다.
+ * </p>
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class FreeSlot {
+
+    private final Long meetingRoomNo;
+
+    private final LocalDateTime startsAt;
+
+    private final LocalDateTime finishesAt;
+}
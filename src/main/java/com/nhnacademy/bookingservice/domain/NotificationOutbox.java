@@ -0,0 +1,125 @@
+package com.nhnacademy.bookingservice.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 알림 발송함(transactional outbox) 행입니다.
+ * <p>
+ * 예약 변경과 같은 트랜잭션에서 {@link NotificationStatus#PENDING} 상태로 저장되고,
+ * 발송기가 {@code nextAttemptAt}이 지난 행을 가져가 발송한 뒤 결과를 기록합니다.
+ * 발송기가 가져간 행은 {@code nextAttemptAt}을 임대 만료 시각으로 미뤄 두므로, 발송 중 인스턴스가 죽어도 임대가 끝나면 다시 발송됩니다.
+ * </p>
+ */
+@Entity
+@Table(name = "notification_outbox", indexes = @Index(name = "idx_notification_outbox_status_next", columnList = "status, next_attempt_at"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@ToString
+public class NotificationOutbox {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_no")
+    private Long outboxNo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "notification_type", length = 30, nullable = false)
+    @Comment("알림유형")
+    private NotificationType type;
+
+    @Column(name = "booking_no", nullable = false)
+    @Comment("예약번호")
+    private Long bookingNo;
+
+    @Column(name = "recipient", length = 100, nullable = false)
+    @Comment("수신자이메일")
+    private String recipient;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 10, nullable = false)
+    @Comment("발송상태")
+    private NotificationStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    @Comment("발송시도횟수")
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    @Comment("다음발송시각")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    @Comment("마지막실패사유")
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    @Comment("생성시간")
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    @Comment("발송시간")
+    private LocalDateTime sentAt;
+
+    private NotificationOutbox(NotificationType type, Long bookingNo, String recipient, LocalDateTime now) {
+        this.type = type;
+        this.bookingNo = bookingNo;
+        this.recipient = recipient;
+        this.status = NotificationStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = now;
+        this.createdAt = now;
+    }
+
+    public static NotificationOutbox ofPending(NotificationType type, Long bookingNo, String recipient, LocalDateTime now) {
+        return new NotificationOutbox(type, bookingNo, recipient, now);
+    }
+
+    /**
+     * 발송기가 가져간 행의 다음 발송 시각을 임대 만료 시각으로 미룹니다.
+     *
+     * @param until 임대 만료 시각
+     */
+    public void lease(LocalDateTime until) {
+        this.nextAttemptAt = until;
+    }
+
+    public void markSent(LocalDateTime now) {
+        this.status = NotificationStatus.SENT;
+        this.attempts++;
+        this.sentAt = now;
+        this.lastError = null;
+    }
+
+    /**
+     * 발송 실패를 기록합니다. 다음 발송 시각이 없으면 더 이상 재시도하지 않습니다.
+     *
+     * @param error 실패 사유
+     * @param retryAt 다음 발송 시각, 재시도하지 않으면 {@code null}
+     */
+    public void markFailed(String error, LocalDateTime retryAt) {
+        this.attempts++;
+        this.lastError = error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+        if (retryAt == null) {
+            this.status = NotificationStatus.DEAD;
+        } else {
+            this.nextAttemptAt = retryAt;
+        }
+    }
+}
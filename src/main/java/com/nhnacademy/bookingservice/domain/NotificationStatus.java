@@ -0,0 +1,22 @@
+package com.nhnacademy.bookingservice.domain;
+
+/**
+ * 알림 발송함({@link NotificationOutbox}) 행의 발송 상태입니다.
+ */
+public enum NotificationStatus {
+
+    /**
+     * 발송 대기 (재시도 대기 포함)
+     */
+    PENDING,
+
+    /**
+     * 발송 완료
+     */
+    SENT,
+
+    /**
+     * 최대 재시도 횟수를 넘겨 더 이상 발송하지 않음
+     */
+    DEAD
+}
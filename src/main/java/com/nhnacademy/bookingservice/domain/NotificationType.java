@@ -0,0 +1,37 @@
+package com.nhnacademy.bookingservice.domain;
+
+/**
+ * 알림 발송함({@link NotificationOutbox})에 쌓이는 알림의 유형입니다.
+ */
+public enum NotificationType {
+
+    /**
+     * 예약 완료 메일
+     */
+    BOOKING_CREATED,
+
+    /**
+     * 예약 변경 메일
+     */
+    BOOKING_CHANGED,
+
+    /**
+     * 예약 취소 메일
+     */
+    BOOKING_CANCELLED,
+
+    /**
+     * 정기 예약 완료 요약 메일
+     */
+    BOOKING_SERIES_CREATED,
+
+    /**
+     * 정기 예약 변경 요약 메일
+     */
+    BOOKING_SERIES_CHANGED,
+
+    /**
+     * 정기 예약 취소 요약 메일
+     */
+    BOOKING_SERIES_CANCELLED
+}
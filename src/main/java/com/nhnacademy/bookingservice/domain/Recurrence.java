@@ -0,0 +1,60 @@
+package com.nhnacademy.bookingservice.domain;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 정기 예약({@link BookingSeries})의 반복 주기입니다.
+ */
+public enum Recurrence {
+
+    /**
+     * 매일
+     */
+    DAILY(1, "매일"),
+
+    /**
+     * 매주
+     */
+    WEEKLY(7, "매주"),
+
+    /**
+     * 격주
+     */
+    BIWEEKLY(14, "격주");
+
+    private final int intervalDays;
+    private final String name;
+
+    Recurrence(int intervalDays, String name) {
+        this.intervalDays = intervalDays;
+        this.name = name;
+    }
+
+    public int getIntervalDays() {
+        return intervalDays;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 첫 날짜부터 주기마다 반복되는 날짜를 만듭니다. {@code until}과 {@code count} 중 먼저 닿는 조건에서 멈춥니다.
+     *
+     * @param first 첫 날짜
+     * @param until 마지막 날짜 (포함, nullable)
+     * @param count 반복 횟수 (nullable)
+     * @param max 최대 반복 횟수, 넘으면 {@code max + 1}개를 반환해 호출한 쪽이 거절할 수 있게 합니다.
+     * @return 반복 날짜 목록
+     */
+    public List<LocalDate> dates(LocalDate first, LocalDate until, Integer count, int max) {
+        int limit = Math.min(count == null ? Integer.MAX_VALUE : count, max + 1);
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = first; dates.size() < limit && (until == null || !date.isAfter(until)); date = date.plusDays(intervalDays)) {
+            dates.add(date);
+        }
+        return dates;
+    }
+}
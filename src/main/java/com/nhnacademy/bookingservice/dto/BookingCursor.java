@@ -0,0 +1,60 @@
+package com.nhnacademy.bookingservice.dto;
+
+import com.nhnacademy.bookingservice.common.exception.booking.InvalidBookingCursorException;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서 기반 예약 목록 조회에서 마지막으로 반환한 예약의 위치를 나타냅니다.
+ * <p>
+ * 예약 목록은 (예약일시, 예약 번호) 내림차순으로 정렬되며, 다음 페이지는 이 위치보다 뒤에 있는 예약부터 조회합니다.
+ * 클라이언트에는 내부 구조를 드러내지 않도록 Base64(URL-safe) 문자열로 인코딩해 전달합니다.
+ * </p>
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class BookingCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime startsAt;
+
+    private final Long no;
+
+    public static BookingCursor of(BookingResponse booking) {
+        return new BookingCursor(booking.getStartsAt(), booking.getNo());
+    }
+
+    public String encode() {
+        String raw = startsAt + DELIMITER + no;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 문자열을 해석합니다.
+     *
+     * @param cursor 인코딩된 커서, 첫 페이지이면 {@code null} 또는 빈 문자열
+     * @return 커서, 첫 페이지이면 {@code null}
+     * @throws InvalidBookingCursorException 커서 형식이 올바르지 않은 경우
+     */
+    public static BookingCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new BookingCursor(LocalDateTime.parse(raw.substring(0, index)), Long.parseLong(raw.substring(index + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidBookingCursorException();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.nhnacademy.bookingservice.dto;
+
+import com.nhnacademy.bookingservice.domain.Recurrence;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.*;
+
+/**
+ * 정기 예약 등록 요청입니다. 반복을 끝낼 날짜({@code until})와 횟수({@code count}) 중 하나 이상이 필요합니다.
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class BookingSeriesRequest {
+
+    @NotNull(message = "회의실 번호는 필수입니다.")
+    private Long roomNo;
+
+    @NotNull(message = "반복 주기는 필수입니다.")
+    private Recurrence recurrence;
+
+    @NotBlank(message = "첫 예약 날짜는 비어 있을 수 없습니다.")
+    private String startDate;
+
+    @NotBlank(message = "시작 시간은 비어 있을 수 없습니다.")
+    private String startTime;
+
+    private String finishTime;
+
+    @NotNull(message = "참석 인원 수는 필수입니다.")
+    private Integer attendeeCount;
+
+    private String until;
+
+    @Positive(message = "반복 횟수는 1 이상이어야 합니다.")
+    private Integer count;
+}
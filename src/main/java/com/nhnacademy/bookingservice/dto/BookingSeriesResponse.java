@@ -0,0 +1,70 @@
+package com.nhnacademy.bookingservice.dto;
+
+import com.nhnacademy.bookingservice.domain.Booking;
+import com.nhnacademy.bookingservice.domain.BookingSeries;
+import com.nhnacademy.bookingservice.domain.Recurrence;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * 정기 예약과 취소되지 않은 회차 목록입니다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+@EqualsAndHashCode
+public class BookingSeriesResponse {
+
+    private final Long seriesNo;
+
+    private final Long roomNo;
+
+    private final Recurrence recurrence;
+
+    private final LocalTime startTime;
+
+    private final LocalTime finishTime;
+
+    private final Integer attendeeCount;
+
+    private final LocalDate firstDate;
+
+    private final LocalDate lastDate;
+
+    private final boolean cancelled;
+
+    private final List<Occurrence> bookings;
+
+    public static BookingSeriesResponse of(BookingSeries series, List<Booking> bookings) {
+        return new BookingSeriesResponse(series.getSeriesNo(), series.getMeetingRoomNo(), series.getRecurrence(),
+                series.getStartTime(), series.getFinishTime(), series.getAttendeeCount(),
+                series.getFirstDate(), series.getLastDate(), series.isCancelled(),
+                bookings.stream().map(Occurrence::of).toList());
+    }
+
+    @Getter
+    @ToString
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Occurrence {
+
+        private final Long no;
+
+        private final String code;
+
+        private final LocalDateTime startsAt;
+
+        private final LocalDateTime finishesAt;
+
+        static Occurrence of(Booking booking) {
+            return new Occurrence(booking.getBookingNo(), booking.getBookingCode(), booking.getBookingDate(), booking.getFinishesAt());
+        }
+    }
+}
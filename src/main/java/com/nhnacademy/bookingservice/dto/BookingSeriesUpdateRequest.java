@@ -0,0 +1,24 @@
+package com.nhnacademy.bookingservice.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+/**
+ * 정기 예약 변경 요청입니다. 아직 시작하지 않은 회차의 시간과 인원을 한꺼번에 바꿉니다.
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class BookingSeriesUpdateRequest {
+
+    @NotBlank(message = "시작 시간은 비어 있을 수 없습니다.")
+    private String startTime;
+
+    private String finishTime;
+
+    @NotNull(message = "참석 인원 수는 필수입니다.")
+    private Integer attendeeCount;
+}
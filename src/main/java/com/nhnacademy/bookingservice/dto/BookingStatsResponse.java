@@ -0,0 +1,37 @@
+package com.nhnacademy.bookingservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+/**
+ * 회의실별 집계 구간 하나의 예약 통계입니다.
+ * <ul>
+ *   <li>{@code cancelRate}: 취소 건수 / 예약 건수</li>
+ *   <li>{@code utilizationHours}: 취소되지 않은 예약의 점유 시간 합계</li>
+ *   <li>{@code averageAttendeeCount}: 취소되지 않은 예약의 평균 인원</li>
+ * </ul>
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+@EqualsAndHashCode
+public class BookingStatsResponse {
+
+    private final Long roomNo;
+
+    private final LocalDate periodStart;
+
+    private final long bookingCount;
+
+    private final long cancelCount;
+
+    private final double cancelRate;
+
+    private final double utilizationHours;
+
+    private final double averageAttendeeCount;
+}
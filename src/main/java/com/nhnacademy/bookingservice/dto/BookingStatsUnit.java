@@ -0,0 +1,40 @@
+package com.nhnacademy.bookingservice.dto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 예약 통계의 집계 단위입니다.
+ */
+public enum BookingStatsUnit {
+
+    /**
+     * 일별
+     */
+    DAY,
+
+    /**
+     * 주별 (월요일 시작)
+     */
+    WEEK,
+
+    /**
+     * 월별
+     */
+    MONTH;
+
+    /**
+     * 날짜가 속한 집계 구간의 시작일을 반환합니다.
+     *
+     * @param date 날짜
+     * @return 구간 시작일
+     */
+    public LocalDate truncate(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+}
@@ -0,0 +1,49 @@
+package com.nhnacademy.bookingservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * notify-service 일괄 발송({@code POST /api/v1/email/bulk}) 요청입니다.
+ * HTML 메일과 텍스트 알림을 한 요청에 함께 담을 수 있습니다.
+ */
+@ToString
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkEmailRequest {
+
+    private List<Message> messages;
+
+    @ToString
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Message {
+
+        public static final String HTML = "html";
+        public static final String TEXT = "text";
+
+        private String format;
+
+        private String to;
+
+        private String subject;
+
+        private String content;
+
+        private String roleType;
+
+        public static Message html(EmailRequest request) {
+            return new Message(HTML, request.getTo(), request.getSubject(), request.getContent(), request.getRoleType());
+        }
+
+        public static Message text(RemindRequest request) {
+            return new Message(TEXT, request.getTo(), request.getSubject(), request.getContent(), request.getRoleType());
+        }
+    }
+}
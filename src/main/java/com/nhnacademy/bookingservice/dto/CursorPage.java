@@ -0,0 +1,34 @@
+package com.nhnacademy.bookingservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 커서 기반 목록 조회 결과입니다.
+ * <p>
+ * {@code nextCursor}를 다음 요청의 {@code cursor}로 전달하면 이어지는 목록을 조회합니다.
+ * 전체 개수는 요청한 경우에만 계산하며, 그렇지 않으면 응답에서 생략됩니다.
+ * </p>
+ *
+ * @param <T> 목록 항목 타입
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private final List<T> content;
+
+    private final int size;
+
+    private final boolean hasNext;
+
+    private final String nextCursor;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long totalElements;
+}
@@ -0,0 +1,28 @@
+package com.nhnacademy.bookingservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약할 수 있는 빈 구간 하나입니다. 구간 안의 어느 시각에든 요청한 길이만큼 예약할 수 있습니다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+@EqualsAndHashCode
+public class FreeSlotResponse {
+
+    private final Long roomNo;
+
+    private final String roomName;
+
+    private final int capacity;
+
+    private final LocalDateTime startsAt;
+
+    private final LocalDateTime finishesAt;
+}
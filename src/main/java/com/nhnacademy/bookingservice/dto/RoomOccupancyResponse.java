@@ -0,0 +1,32 @@
+package com.nhnacademy.bookingservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 하루 동안 회의실별 점유 상태를 비트맵으로 담습니다.
+ * <ul>
+ *   <li>각 값은 Base64로 인코딩한 비트 배열이며, 첫 바이트의 최하위 비트가 00:00부터 {@code granularity}분 구간입니다.</li>
+ *   <li>비트가 1이면 그 구간에 예약이 조금이라도 걸쳐 있습니다.</li>
+ *   <li>목록에 없는 회의실은 하루 종일 비어 있습니다.</li>
+ * </ul>
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+@EqualsAndHashCode
+public class RoomOccupancyResponse {
+
+    private final LocalDate date;
+
+    private final int granularity;
+
+    private final int slotCount;
+
+    private final Map<Long, String> rooms;
+}
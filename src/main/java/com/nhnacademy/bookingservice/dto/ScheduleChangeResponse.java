@@ -0,0 +1,60 @@
+package com.nhnacademy.bookingservice.dto;
+
+import com.nhnacademy.bookingservice.common.event.BookingSlotChangedEvent;
+import com.nhnacademy.bookingservice.domain.BookingSlot;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 실시간 피드로 보내는 예약 변경 한 건입니다.
+ * <ul>
+ *   <li>{@code type}은 신규 예약이면 {@code CREATE}, 그 외에는 {@link com.nhnacademy.bookingservice.domain.BookingChangeType} 이름입니다.</li>
+ *   <li>{@code previous*}는 변경 전 점유 구간이며, 신규 예약이면 비어 있습니다.</li>
+ *   <li>{@code roomNo}, {@code startsAt}, {@code finishesAt}은 변경 후 점유 구간이며, 취소된 예약이면 비어 있습니다.</li>
+ * </ul>
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ScheduleChangeResponse {
+
+    public static final String CREATE = "CREATE";
+
+    private final Long bookingNo;
+
+    private final String type;
+
+    private final Long roomNo;
+
+    private final LocalDateTime startsAt;
+
+    private final LocalDateTime finishesAt;
+
+    private final Long previousRoomNo;
+
+    private final LocalDateTime previousStartsAt;
+
+    private final LocalDateTime previousFinishesAt;
+
+    private final Integer attendeeCount;
+
+    public static ScheduleChangeResponse of(BookingSlotChangedEvent event) {
+        BookingSlot previous = event.getPrevious();
+        BookingSlot current = event.getCurrent();
+        return new ScheduleChangeResponse(
+                event.getBookingNo(),
+                event.getChangeType() == null ? CREATE : event.getChangeType().name(),
+                current == null ? null : current.getMeetingRoomNo(),
+                current == null ? null : current.getStartsAt(),
+                current == null ? null : current.getFinishesAt(),
+                previous == null ? null : previous.getMeetingRoomNo(),
+                previous == null ? null : previous.getStartsAt(),
+                previous == null ? null : previous.getFinishesAt(),
+                event.getCurrentAttendeeCount());
+    }
+}
@@ -0,0 +1,23 @@
+package com.nhnacademy.bookingservice.repository;
+
+import com.nhnacademy.bookingservice.domain.Booking;
+
+import java.util.List;
+
+/**
+ * 예약을 JDBC 배치로 한꺼번에 저장합니다.
+ * <p>
+ * 예약 번호가 IDENTITY 전략이라 Hibernate는 INSERT를 묶어 보내지 못하므로, 정기 예약처럼 여러 건을 한 번에 만들 때 사용합니다.
+ * 영속성 컨텍스트를 거치지 않으므로 저장한 엔티티에 예약 번호가 채워지지 않습니다. 저장 후 필요한 값은 다시 조회해야 합니다.
+ * </p>
+ */
+public interface BookingBatchRepository {
+
+    /**
+     * 예약을 {@code booking.jdbc.batch-size}건씩 묶어 저장합니다.
+     *
+     * @param bookings 저장할 예약, 특이사항 없이 새로 만든 예약이어야 합니다.
+     * @return 저장한 건수
+     */
+    int insertAll(List<Booking> bookings);
+}
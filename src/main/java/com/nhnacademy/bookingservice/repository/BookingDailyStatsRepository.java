@@ -0,0 +1,30 @@
+package com.nhnacademy.bookingservice.repository;
+
+import com.nhnacademy.bookingservice.domain.BookingDailyStats;
+import com.nhnacademy.bookingservice.domain.BookingDailyStatsId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface BookingDailyStatsRepository extends JpaRepository<BookingDailyStats, BookingDailyStatsId> {
+
+    /**
+     * 집계 행에 증감값을 더합니다. 행이 없으면 0을 반환합니다.
+     */
+    @Modifying
+    @Query("update BookingDailyStats s set s.bookingCount = s.bookingCount + :bookings, s.cancelCount = s.cancelCount + :cancels, " +
+            "s.attendeeSum = s.attendeeSum + :attendees, s.occupiedMinutes = s.occupiedMinutes + :minutes " +
+            "where s.id = :id")
+    int increment(@Param("id") BookingDailyStatsId id, @Param("bookings") long bookings, @Param("cancels") long cancels,
+                  @Param("attendees") long attendees, @Param("minutes") long minutes);
+
+    @Query("select s from BookingDailyStats s where s.id.statDate between :from and :to order by s.id.statDate, s.id.meetingRoomNo")
+    List<BookingDailyStats> findAllBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("select s from BookingDailyStats s where s.id.meetingRoomNo = :roomNo and s.id.statDate between :from and :to order by s.id.statDate")
+    List<BookingDailyStats> findAllBetween(@Param("roomNo") Long roomNo, @Param("from") LocalDate from, @Param("to") LocalDate to);
+}
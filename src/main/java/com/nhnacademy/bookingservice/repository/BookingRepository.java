@@ -1,13 +1,27 @@
 package com.nhnacademy.bookingservice.repository;
 
 import com.nhnacademy.bookingservice.domain.Booking;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
 
-public interface BookingRepository extends JpaRepository<Booking, Long>, CustomBookingRepository {
+public interface BookingRepository extends JpaRepository<Booking, Long>, CustomBookingRepository, BookingBatchRepository {
 
     Optional<Booking> findBookingByBookingNo(Long bookingNo);
+
+    /**
+     * 예약을 행 잠금을 걸고 조회합니다. 미입실 일괄 취소와 입실 처리가 같은 예약을 동시에 바꾸지 않도록 할 때 씁니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
+    @Query("select b from Booking b where b.bookingNo = :bookingNo")
+    Optional<Booking> findForUpdate(@Param("bookingNo") Long bookingNo);
 }
@@ -0,0 +1,25 @@
+package com.nhnacademy.bookingservice.repository;
+
+import com.nhnacademy.bookingservice.domain.BookingRoomLock;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface BookingRoomLockRepository extends JpaRepository<BookingRoomLock, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
+    @Query("select l from BookingRoomLock l where l.meetingRoomNo = :roomNo")
+    Optional<BookingRoomLock> findForUpdate(@Param("roomNo") Long roomNo);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update BookingRoomLock l set l.scheduleVersion = l.scheduleVersion + 1 where l.meetingRoomNo = :roomNo")
+    int advanceScheduleVersion(@Param("roomNo") Long roomNo);
+}
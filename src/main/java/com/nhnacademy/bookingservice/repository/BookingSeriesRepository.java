@@ -0,0 +1,7 @@
+package com.nhnacademy.bookingservice.repository;
+
+import com.nhnacademy.bookingservice.domain.BookingSeries;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BookingSeriesRepository extends JpaRepository<BookingSeries, Long> {
+}
@@ -1,5 +1,9 @@
 package com.nhnacademy.bookingservice.repository;
 
+import com.nhnacademy.bookingservice.domain.Booking;
+import com.nhnacademy.bookingservice.domain.BookingChange;
+import com.nhnacademy.bookingservice.domain.BookingSlot;
+import com.nhnacademy.bookingservice.dto.BookingCursor;
 import com.nhnacademy.bookingservice.dto.BookingResponse;
 import com.nhnacademy.bookingservice.dto.DailyBookingResponse;
 import org.springframework.data.domain.Page;
@@ -53,6 +57,27 @@ public interface CustomBookingRepository {
      */
     Page<BookingResponse> findBookings(Long attendeeNo, Pageable pageable);
 
+    /**
+     * 커서 이후의 예약 목록을 (예약일시, 예약 번호) 내림차순으로 조회합니다.
+     * <p>
+     * offset 없이 커서 위치부터 인덱스를 탐색하므로 몇 번째 페이지든 조회 비용이 같습니다.
+     * 다음 페이지 존재 여부를 알 수 있도록 호출 측에서 필요한 개수보다 하나 더 요청합니다.
+     *
+     * @param attendeeNo 예약자 식별번호 (nullable)
+     * @param cursor 마지막으로 조회한 예약 위치, 첫 페이지이면 {@code null}
+     * @param limit 조회할 최대 개수
+     * @return 예약 목록
+     */
+    List<BookingResponse> findBookingsByCursor(Long attendeeNo, BookingCursor cursor, int limit);
+
+    /**
+     * 예약 개수를 조회합니다.
+     *
+     * @param attendeeNo 예약자 식별번호 (nullable)
+     * @return 예약 개수
+     */
+    long countBookings(Long attendeeNo);
+
     /**
      * 회의실 번호(roomNo)와 날짜(date)를 기반으로 예약 정보를 조회합니다.
      *
@@ -75,6 +100,18 @@ public interface CustomBookingRepository {
      */
     boolean existsOverlappingBooking(Long roomNo, LocalDateTime startsAt, LocalDateTime finishesAt);
 
+    /**
+     * 주어진 예약을 제외하고, 해당 회의실에 겹치는 예약이 존재하는지 확인합니다.
+     * 예약 수정 시 자기 자신과의 겹침을 무시하기 위해 사용합니다.
+     *
+     * @param roomNo 회의실 번호
+     * @param startsAt   예약 확인 기준 시작 시각
+     * @param finishesAt 예약 확인 기준 종료 시각
+     * @param excludeBookingNo 검사에서 제외할 예약 번호
+     * @return 겹치는 예약이 존재하면 true, 없으면 false
+     */
+    boolean existsOverlappingBookingExcept(Long roomNo, LocalDateTime startsAt, LocalDateTime finishesAt, Long excludeBookingNo);
+
     /**
      * 주어진 시각에 해당 회의실에서 정확히 그 시각에 시작하는 예약이 존재하는지 확인합니다.
      *
@@ -83,4 +120,109 @@ public interface CustomBookingRepository {
      * @return 정확히 그 시각에 시작하는 예약이 존재하면 true, 없으면 false
      */
     boolean hasBookingStartingAt(Long roomNo, LocalDateTime date);
-}
\ No newline at end of file
+
+    /**
+     * 주어진 시각 이후에 끝나는, 회의실을 점유 중인 예약 구간을 조회합니다.
+     * 취소되어 종료 시각이 없는 예약은 제외됩니다.
+     *
+     * @param from 기준 시각
+     * @return 예약 구간 목록
+     */
+    List<BookingSlot> findActiveSlots(LocalDateTime from);
+
+    /**
+     * 주어진 회의실에서 주어진 시각 이후에 끝나는, 회의실을 점유 중인 예약 구간을 조회합니다.
+     * 취소되어 종료 시각이 없는 예약은 제외됩니다.
+     *
+     * @param roomNo 회의실 번호
+     * @param from 기준 시각
+     * @return 예약 구간 목록
+     */
+    List<BookingSlot> findActiveSlots(Long roomNo, LocalDateTime from);
+
+    /**
+     * 주어진 회의실에서 시간 구간에 걸쳐 있는 예약 구간을 시작 시각 순으로 조회합니다.
+     * 취소되어 종료 시각이 없는 예약은 제외됩니다.
+     *
+     * @param roomNo 회의실 번호
+     * @param from 조회 시작 시각
+     * @param to 조회 종료 시각
+     * @return 예약 구간 목록
+     */
+    List<BookingSlot> findRoomSlots(Long roomNo, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * 정기 예약의 회차 중 주어진 시각 이후에 시작하는, 취소되지 않은 예약을 시작 시각 순으로 조회합니다.
+     *
+     * @param seriesNo 정기 예약 번호
+     * @param from 이 시각 이후(포함)에 시작하는 회차만 조회
+     * @return 회차 예약 목록
+     */
+    List<Booking> findSeriesBookings(Long seriesNo, LocalDateTime from);
+
+    /**
+     * 정기 예약의 회차 중 주어진 시각 이후에 시작하고 아직 입실 전인 예약을 시작 시각 순으로 조회하고 행 잠금을 겁니다.
+     * <p>
+     * 변경 이력이 없거나 {@code 변경}/{@code 연장} 상태인 회차만 대상입니다. 일찍 입실했거나 종료된 회차는 일괄 변경/취소하지 않습니다.
+     * </p>
+     *
+     * @param seriesNo 정기 예약 번호
+     * @param from 이 시각 이후(포함)에 시작하는 회차만 조회
+     * @return 회차 예약 목록
+     */
+    List<Booking> findPendingSeriesBookingsForUpdate(Long seriesNo, LocalDateTime from);
+
+    /**
+     * 시작한 지 유예 시간이 지났는데도 입실하지 않은 예약을 시작 시각 순으로 조회하고 행 잠금을 겁니다.
+     * <p>
+     * 변경 이력이 없거나 {@code 변경}/{@code 연장} 상태이고, 아직 회의실을 점유 중({@code finishes_at > now})인 예약이 대상입니다.
+     * 입실한 예약은 연장해도 {@code 사용중} 상태를 유지하므로, {@code 연장} 상태는 입실하지 않은 예약입니다.
+     * {@code idx_bookings_date_no} 범위 탐색을 위해 {@code startedBefore} 하루 전부터의 예약만 살펴봅니다.
+     * </p>
+     *
+     * @param startedBefore 이 시각 이전에 시작한 예약만 조회
+     * @param now 현재 시각
+     * @param limit 조회할 최대 개수
+     * @return 미입실 예약 목록
+     */
+    List<Booking> findNoShowBookingsForUpdate(LocalDateTime startedBefore, LocalDateTime now, int limit);
+
+    /**
+     * 주어진 예약들을 한 번의 UPDATE로 취소 처리합니다. 종료 시각을 비워 회의실 점유를 해제합니다.
+     * 영속성 컨텍스트를 거치지 않으므로 이미 읽어 둔 엔티티에는 반영되지 않습니다.
+     *
+     * @param bookingNos 취소할 예약 번호 목록
+     * @param cancel 취소 변경 유형
+     * @return 취소된 예약 수
+     */
+    long cancelAll(List<Long> bookingNos, BookingChange cancel);
+
+    /**
+     * 종료 시각이 지났는데도 사용중 상태로 남아 있는 예약을 종료 시각 순으로 조회합니다.
+     * 일괄 종료 후 회의실/날짜별 변경 이벤트를 만들 수 있도록 예약 전체를 읽고, 종료할 때까지 연장되지 않도록 행 잠금을 겁니다.
+     * 다른 트랜잭션이 잠근 행(연장 중인 예약 등)은 기다리지 않고 건너뛰어 다음 실행에서 다시 살펴봅니다(SKIP LOCKED).
+     *
+     * @param now 현재 시각
+     * @param limit 조회할 최대 개수
+     * @return 예약 목록
+     */
+    List<Booking> findExpiredInUseBookings(LocalDateTime now, int limit);
+
+    /**
+     * 주어진 예약 중 아직 사용중인 예약을 한 번의 UPDATE로 종료 처리합니다.
+     * 영속성 컨텍스트를 거치지 않으므로 이미 읽어 둔 엔티티에는 반영되지 않습니다.
+     *
+     * @param bookingNos 종료할 예약 번호 목록
+     * @param finish 종료 변경 유형
+     * @return 종료된 예약 수
+     */
+    long finishAll(List<Long> bookingNos, BookingChange finish);
+
+    /**
+     * 종료 시각이 지났는데도 사용중 상태로 남아 있는 예약 중 가장 이른 종료 시각을 조회합니다.
+     *
+     * @param now 현재 시각
+     * @return 가장 이른 종료 시각, 없으면 {@code empty}
+     */
+    Optional<LocalDateTime> findOldestExpiredInUseFinishesAt(LocalDateTime now);
+}
@@ -0,0 +1,26 @@
+package com.nhnacademy.bookingservice.repository;
+
+import com.nhnacademy.bookingservice.domain.NotificationOutbox;
+import com.nhnacademy.bookingservice.domain.NotificationStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * 발송 시각이 된 대기 행을 잠가 가져옵니다. 다른 인스턴스가 잠근 행은 기다리지 않고 건너뜁니다(SKIP LOCKED).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from NotificationOutbox o where o.status = :status and o.nextAttemptAt <= :now order by o.nextAttemptAt, o.outboxNo")
+    List<NotificationOutbox> findDueForUpdate(@Param("status") NotificationStatus status, @Param("now") LocalDateTime now, Limit limit);
+}
@@ -0,0 +1,63 @@
+package com.nhnacademy.bookingservice.repository.impl;
+
+import com.nhnacademy.bookingservice.domain.Booking;
+import com.nhnacademy.bookingservice.repository.BookingBatchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 예약을 JDBC 배치 INSERT로 저장합니다.
+ * <p>
+ * 예약 키는 IDENTITY로 생성되어 Hibernate가 INSERT를 배치로 묶지 못하므로, 정기 예약 회차처럼 한 번에 많은 예약을 저장할 때 씁니다.
+ * {@code booking.jdbc.batch-size}건씩 나눠 보내며, 저장한 예약 엔티티에는 키가 채워지지 않습니다.
+ * MySQL에서는 JDBC URL에 {@code rewriteBatchedStatements=true}가 있어야 묶음이 여러 행 INSERT 한 문장으로 전송됩니다.
+ * 없으면 드라이버가 행마다 따로 보내므로 기동 시 경고를 남깁니다.
+ * </p>
+ */
+@Slf4j
+public class BookingBatchRepositoryImpl implements BookingBatchRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO bookings (booking_code, booking_date, attendee_count, finishes_at, created_at, mb_no, meeting_room_no, series_no)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public BookingBatchRepositoryImpl(JdbcTemplate jdbcTemplate, @Value("${booking.jdbc.batch-size:100}") int batchSize,
+                                      @Value("${spring.datasource.url:}") String url) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        if (url.startsWith("jdbc:mysql:") && !url.contains("rewriteBatchedStatements=true")) {
+            log.warn("JDBC URL에 rewriteBatchedStatements=true가 없어 정기 예약 회차 INSERT가 행마다 따로 전송됩니다.");
+        }
+    }
+
+    @Override
+    public int insertAll(List<Booking> bookings) {
+        if (bookings.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, bookings, batchSize, (ps, booking) -> {
+            ps.setString(1, booking.getBookingCode());
+            ps.setTimestamp(2, Timestamp.valueOf(booking.getBookingDate()));
+            ps.setInt(3, booking.getAttendeeCount());
+            ps.setTimestamp(4, Timestamp.valueOf(booking.getFinishesAt()));
+            ps.setTimestamp(5, createdAt);
+            ps.setLong(6, booking.getMbNo());
+            ps.setLong(7, booking.getMeetingRoomNo());
+            ps.setObject(8, booking.getSeriesNo());
+        });
+        // 드라이버가 배치 결과 건수를 알려 주지 않으면 SUCCESS_NO_INFO(-2)를 돌려주므로 요청한 건수로 봅니다.
+        return Arrays.stream(counts).flatMapToInt(Arrays::stream).map(count -> count < 0 ? 1 : count).sum();
+    }
+}
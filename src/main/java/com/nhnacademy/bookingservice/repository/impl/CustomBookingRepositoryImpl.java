@@ -1,20 +1,25 @@
 package com.nhnacademy.bookingservice.repository.impl;
 
+import com.nhnacademy.bookingservice.dto.BookingCursor;
 import com.nhnacademy.bookingservice.dto.BookingResponse;
 import com.nhnacademy.bookingservice.dto.DailyBookingResponse;
 import com.nhnacademy.bookingservice.dto.QBookingResponse;
 import com.nhnacademy.bookingservice.dto.QDailyBookingResponse;
 import com.nhnacademy.bookingservice.domain.Booking;
+import com.nhnacademy.bookingservice.domain.BookingChange;
 import com.nhnacademy.bookingservice.domain.BookingChangeType;
+import com.nhnacademy.bookingservice.domain.BookingSlot;
 import com.nhnacademy.bookingservice.domain.QBooking;
 import com.nhnacademy.bookingservice.domain.QBookingChange;
 import com.nhnacademy.bookingservice.repository.CustomBookingRepository;
 import com.nhnacademy.bookingservice.repository.util.QueryDslUtil;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -92,6 +97,32 @@ public class CustomBookingRepositoryImpl implements CustomBookingRepository {
         return PageableExecutionUtils.getPage(bookingList, pageable, count::fetchOne);
     }
 
+    @Override
+    public List<BookingResponse> findBookingsByCursor(Long mbNo, BookingCursor cursor, int limit) {
+        BooleanBuilder where = whereExpression(mbNo);
+
+        if (cursor != null) {
+            where.and(qBooking.bookingDate.lt(cursor.getStartsAt())
+                    .or(qBooking.bookingDate.eq(cursor.getStartsAt()).and(qBooking.bookingNo.lt(cursor.getNo()))));
+        }
+
+        return getBookingQuery(queryFactory)
+                .where(where)
+                .orderBy(qBooking.bookingDate.desc(), qBooking.bookingNo.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long countBookings(Long mbNo) {
+        Long count = queryFactory.select(qBooking.count())
+                .from(qBooking)
+                .where(whereExpression(mbNo))
+                .fetchOne();
+
+        return count == null ? 0 : count;
+    }
+
     public BooleanBuilder whereExpression(Long mbNo){
         BooleanBuilder booleanBuilder = new BooleanBuilder();
 
@@ -154,6 +185,21 @@ public class CustomBookingRepositoryImpl implements CustomBookingRepository {
         return exist != null && exist > 0;
     }
 
+    @Override
+    public boolean existsOverlappingBookingExcept(Long meetingRoomNo, LocalDateTime startsAt, LocalDateTime finishesAt, Long excludeBookingNo) {
+
+        Long exist = queryFactory.select(qBooking.count())
+                .from(qBooking)
+                .where(qBooking.meetingRoomNo.eq(meetingRoomNo),
+                        qBooking.bookingDate.lt(finishesAt),
+                        qBooking.finishesAt.gt(startsAt),
+                        qBooking.bookingNo.ne(excludeBookingNo)
+                )
+                .fetchOne();
+
+        return exist != null && exist > 0;
+    }
+
     @Override
     public boolean hasBookingStartingAt(Long meetingRoomNo, LocalDateTime date) {
 
@@ -164,4 +210,154 @@ public class CustomBookingRepositoryImpl implements CustomBookingRepository {
 
         return exist != null && exist > 0;
     }
+
+    @Override
+    public List<BookingSlot> findActiveSlots(LocalDateTime from) {
+
+        return queryFactory
+                .select(Projections.constructor(BookingSlot.class,
+                        qBooking.bookingNo,
+                        qBooking.meetingRoomNo,
+                        qBooking.bookingDate,
+                        qBooking.finishesAt
+                ))
+                .from(qBooking)
+                .where(qBooking.finishesAt.gt(from))
+                .fetch();
+    }
+
+    @Override
+    public List<BookingSlot> findActiveSlots(Long roomNo, LocalDateTime from) {
+
+        return queryFactory
+                .select(Projections.constructor(BookingSlot.class,
+                        qBooking.bookingNo,
+                        qBooking.meetingRoomNo,
+                        qBooking.bookingDate,
+                        qBooking.finishesAt
+                ))
+                .from(qBooking)
+                .where(qBooking.meetingRoomNo.eq(roomNo),
+                        qBooking.finishesAt.gt(from))
+                .fetch();
+    }
+
+    @Override
+    public List<BookingSlot> findRoomSlots(Long meetingRoomNo, LocalDateTime from, LocalDateTime to) {
+
+        return queryFactory
+                .select(Projections.constructor(BookingSlot.class,
+                        qBooking.bookingNo,
+                        qBooking.meetingRoomNo,
+                        qBooking.bookingDate,
+                        qBooking.finishesAt
+                ))
+                .from(qBooking)
+                .where(qBooking.meetingRoomNo.eq(meetingRoomNo),
+                        qBooking.bookingDate.lt(to),
+                        qBooking.finishesAt.gt(from)
+                )
+                .orderBy(qBooking.bookingDate.asc(), qBooking.bookingNo.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<Booking> findSeriesBookings(Long seriesNo, LocalDateTime from) {
+
+        return queryFactory
+                .selectFrom(qBooking)
+                .where(qBooking.seriesNo.eq(seriesNo),
+                        qBooking.bookingDate.goe(from),
+                        qBooking.finishesAt.isNotNull()
+                )
+                .orderBy(qBooking.bookingDate.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<Booking> findPendingSeriesBookingsForUpdate(Long seriesNo, LocalDateTime from) {
+
+        return queryFactory
+                .selectFrom(qBooking)
+                .where(qBooking.seriesNo.eq(seriesNo),
+                        qBooking.bookingDate.goe(from),
+                        qBooking.finishesAt.isNotNull(),
+                        qBooking.bookingChange.isNull().or(qBooking.bookingChange.no.in(BookingChangeType.CHANGE.getId(), BookingChangeType.EXTEND.getId()))
+                )
+                .orderBy(qBooking.bookingDate.asc())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+    }
+
+    @Override
+    public List<Booking> findNoShowBookingsForUpdate(LocalDateTime startedBefore, LocalDateTime now, int limit) {
+
+        return queryFactory
+                .selectFrom(qBooking)
+                .where(qBooking.bookingDate.gt(startedBefore.minusDays(1)),
+                        qBooking.bookingDate.lt(startedBefore),
+                        qBooking.finishesAt.gt(now),
+                        qBooking.bookingChange.isNull().or(qBooking.bookingChange.no.in(BookingChangeType.CHANGE.getId(), BookingChangeType.EXTEND.getId()))
+                )
+                .orderBy(qBooking.bookingDate.asc(), qBooking.bookingNo.asc())
+                .limit(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+    }
+
+    @Override
+    public long cancelAll(List<Long> bookingNos, BookingChange cancel) {
+        if (bookingNos.isEmpty()) {
+            return 0;
+        }
+
+        return queryFactory
+                .update(qBooking)
+                .set(qBooking.bookingChange, cancel)
+                .setNull(qBooking.finishesAt)
+                .where(qBooking.bookingNo.in(bookingNos))
+                .execute();
+    }
+
+    @Override
+    public List<Booking> findExpiredInUseBookings(LocalDateTime now, int limit) {
+
+        return queryFactory
+                .selectFrom(qBooking)
+                .where(qBooking.bookingChange.no.eq(BookingChangeType.INUSE.getId()),
+                        qBooking.finishesAt.loe(now)
+                )
+                .orderBy(qBooking.finishesAt.asc())
+                .limit(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint("jakarta.persistence.lock.timeout", -2)
+                .fetch();
+    }
+
+    @Override
+    public long finishAll(List<Long> bookingNos, BookingChange finish) {
+        if (bookingNos.isEmpty()) {
+            return 0;
+        }
+
+        return queryFactory
+                .update(qBooking)
+                .set(qBooking.bookingChange, finish)
+                .where(qBooking.bookingNo.in(bookingNos),
+                        qBooking.bookingChange.no.eq(BookingChangeType.INUSE.getId())
+                )
+                .execute();
+    }
+
+    @Override
+    public Optional<LocalDateTime> findOldestExpiredInUseFinishesAt(LocalDateTime now) {
+
+        return Optional.ofNullable(queryFactory
+                .select(qBooking.finishesAt.min())
+                .from(qBooking)
+                .where(qBooking.bookingChange.no.eq(BookingChangeType.INUSE.getId()),
+                        qBooking.finishesAt.loe(now)
+                )
+                .fetchOne());
+    }
 }
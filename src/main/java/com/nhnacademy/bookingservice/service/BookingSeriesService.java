@@ -0,0 +1,55 @@
+package com.nhnacademy.bookingservice.service;
+
+import com.nhnacademy.bookingservice.dto.BookingSeriesRequest;
+import com.nhnacademy.bookingservice.dto.BookingSeriesResponse;
+import com.nhnacademy.bookingservice.dto.BookingSeriesUpdateRequest;
+import com.nhnacademy.bookingservice.dto.MemberResponse;
+
+/**
+ * 정기 예약(BookingSeries) 관련 비즈니스 로직을 정의하는 인터페이스입니다.
+ * <p>주요 기능:
+ * <ul>
+ *   <li>정기 예약 등록 (모든 회차를 한 번에 검사하고 일괄 저장)</li>
+ *   <li>정기 예약 조회</li>
+ *   <li>남은 회차 일괄 변경</li>
+ *   <li>남은 회차 일괄 취소</li>
+ * </ul>
+ */
+public interface BookingSeriesService {
+
+    /**
+     * 정기 예약을 등록합니다. 한 회차라도 기존 예약과 겹치면 아무 회차도 등록하지 않습니다.
+     *
+     * @param request 정기 예약 등록 요청
+     * @param memberInfo 예약하는 사용자 정보
+     * @return 등록된 정기 예약과 회차 목록
+     */
+    BookingSeriesResponse register(BookingSeriesRequest request, MemberResponse memberInfo);
+
+    /**
+     * 정기 예약과 오늘 이후의 취소되지 않은 회차를 조회합니다.
+     *
+     * @param seriesNo 정기 예약 번호
+     * @param memberInfo 사용자 정보, 예약자 본인 또는 관리자만 조회할 수 있습니다.
+     * @return 정기 예약과 회차 목록
+     */
+    BookingSeriesResponse getSeries(Long seriesNo, MemberResponse memberInfo);
+
+    /**
+     * 아직 시작하지 않은 회차의 시간과 인원을 한 번에 변경합니다.
+     *
+     * @param seriesNo 정기 예약 번호
+     * @param request 변경할 시간과 인원
+     * @param memberInfo 사용자 정보, 예약자 본인만 변경할 수 있습니다.
+     * @return 변경된 정기 예약과 회차 목록
+     */
+    BookingSeriesResponse updateSeries(Long seriesNo, BookingSeriesUpdateRequest request, MemberResponse memberInfo);
+
+    /**
+     * 아직 시작하지 않은 회차를 한 번에 취소합니다.
+     *
+     * @param seriesNo 정기 예약 번호
+     * @param memberInfo 사용자 정보, 예약자 본인 또는 관리자만 취소할 수 있습니다.
+     */
+    void cancelSeries(Long seriesNo, MemberResponse memberInfo);
+}
@@ -1,9 +1,12 @@
 package com.nhnacademy.bookingservice.service;
 
+import com.nhnacademy.bookingservice.common.export.BookingRowWriter;
 import com.nhnacademy.bookingservice.dto.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -52,6 +55,24 @@ public interface BookingService {
      */
     List<BookingResponse> getBookings();
 
+    /**
+     * 사용자의 예약 목록을 묶음 단위로 조회하면서 바로 기록합니다.
+     * 전체 목록을 메모리에 모으지 않으므로 예약 수와 관계없이 메모리 사용량이 일정합니다.
+     *
+     * @param memberInfo 예약한 사용자 정보
+     * @param writer 예약 행을 기록할 writer
+     * @throws IOException 기록 중 오류가 발생한 경우
+     */
+    void exportMemberBookings(MemberResponse memberInfo, BookingRowWriter writer) throws IOException;
+
+    /**
+     * 예약 전체 목록을 묶음 단위로 조회하면서 바로 기록합니다.
+     *
+     * @param writer 예약 행을 기록할 writer
+     * @throws IOException 기록 중 오류가 발생한 경우
+     */
+    void exportBookings(BookingRowWriter writer) throws IOException;
+
     /**
      * 예약 목록을 페이징 처리하여 조회합니다.
      *
@@ -69,6 +90,27 @@ public interface BookingService {
      */
     Page<BookingResponse> getPagedBookings(Pageable pageable);
 
+    /**
+     * 사용자의 예약 목록을 커서 기반으로 조회합니다. 예약일시 최신순으로 정렬됩니다.
+     *
+     * @param memberInfo 예약한 사용자 정보
+     * @param cursor 이전 응답의 {@code nextCursor}, 첫 페이지이면 {@code null}
+     * @param size 페이지 크기
+     * @param withTotal 전체 개수 포함 여부
+     * @return 조회된 예약 정보 {@link BookingResponse}를 포함하는 {@link CursorPage} 객체
+     */
+    CursorPage<BookingResponse> getMemberBookingsByCursor(MemberResponse memberInfo, String cursor, int size, boolean withTotal);
+
+    /**
+     * 예약 전체 목록을 커서 기반으로 조회합니다. 예약일시 최신순으로 정렬됩니다.
+     *
+     * @param cursor 이전 응답의 {@code nextCursor}, 첫 페이지이면 {@code null}
+     * @param size 페이지 크기
+     * @param withTotal 전체 개수 포함 여부
+     * @return 조회된 예약 정보 {@link BookingResponse}를 포함하는 {@link CursorPage} 객체
+     */
+    CursorPage<BookingResponse> getBookingsByCursor(String cursor, int size, boolean withTotal);
+
     /**
      * 지정한 회의실 번호와 날짜를 기준으로 하루 동안의 예약 목록을 조회합니다.
      *
@@ -78,6 +120,46 @@ public interface BookingService {
      */
     List<DailyBookingResponse> getDailyBookings(Long roomNo, LocalDate date);
 
+    /**
+     * 지정한 회의실과 날짜의 일일 예약 목록 ETag를 반환합니다. 예약이 바뀌면 ETag도 바뀝니다.
+     *
+     * @param roomNo 회의실 번호
+     * @param date 조회할 날짜
+     * @return 강한 ETag
+     */
+    String getDailyBookingsETag(Long roomNo, LocalDate date);
+
+    /**
+     * 모든 회의실에서 주어진 시간 구간 안에 {@code duration} 이상 비어 있는 구간을 찾습니다.
+     * 지난 시각은 제외하며, 결과는 시작 시각, 회의실 번호 순입니다.
+     *
+     * @param from 조회 시작 시각
+     * @param to 조회 종료 시각
+     * @param duration 필요한 예약 길이
+     * @param capacity 최소 수용 인원
+     * @return 비어 있는 구간 목록
+     */
+    List<FreeSlotResponse> findFreeSlots(LocalDateTime from, LocalDateTime to, Duration duration, int capacity);
+
+    /**
+     * 주어진 날짜에 예약이 있는 모든 회의실의 점유 비트맵을 조회합니다.
+     *
+     * @param date 조회할 날짜
+     * @param granularity 비트 하나가 나타내는 분 단위
+     * @return 회의실별 점유 비트맵
+     */
+    RoomOccupancyResponse getOccupancies(LocalDate date, int granularity);
+
+    /**
+     * 한 회의실의 하루 점유 비트맵을 조회합니다. 예약이 없으면 모든 비트가 0입니다.
+     *
+     * @param roomNo 회의실 번호
+     * @param date 조회할 날짜
+     * @param granularity 비트 하나가 나타내는 분 단위
+     * @return 점유 비트 배열
+     */
+    byte[] getOccupancy(Long roomNo, LocalDate date, int granularity);
+
     /**
      * 예약 정보를 수정합니다.
      *
@@ -110,6 +192,26 @@ public interface BookingService {
      */
     void cancelBooking(Long no, MemberResponse memberInfo);
 
+    /**
+     * 시작 후 10분이 지나도록 입실하지 않은 예약을 한 번에 취소합니다.
+     * 취소된 예약마다 {@code BookingSlotChangedEvent}를 발행해 회의실 점유를 해제합니다.
+     *
+     * @param now 기준 시각
+     * @param limit 한 번에 취소할 최대 개수
+     * @return 취소된 예약 수
+     */
+    int cancelNoShowBookings(LocalDateTime now, int limit);
+
+    /**
+     * 종료 시각이 지났는데도 사용중인 예약을 한 번에 종료 처리합니다.
+     * 종료한 예약마다 {@link com.nhnacademy.bookingservice.common.event.BookingSlotChangedEvent}를 발행합니다.
+     *
+     * @param now 기준 시각
+     * @param limit 한 번에 종료할 최대 개수
+     * @return 종료된 예약 수
+     */
+    int finishExpiredBookings(LocalDateTime now, int limit);
+
     /**
      *
      * @param memberInfo 인증된 사용자 정보
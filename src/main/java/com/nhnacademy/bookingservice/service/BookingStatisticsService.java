@@ -0,0 +1,25 @@
+package com.nhnacademy.bookingservice.service;
+
+import com.nhnacademy.bookingservice.dto.BookingStatsResponse;
+import com.nhnacademy.bookingservice.dto.BookingStatsUnit;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 미리 집계된 회의실별/일별 예약 통계를 조회하는 인터페이스입니다.
+ * 예약 원본 대신 집계 행만 읽으므로 조회 비용은 기간 내 구간 수에 비례합니다.
+ */
+public interface BookingStatisticsService {
+
+    /**
+     * 기간 내 예약 통계를 회의실과 집계 단위별로 조회합니다.
+     *
+     * @param roomNo 회의실 번호, 전체 회의실이면 {@code null}
+     * @param unit 집계 단위
+     * @param from 조회 시작일 (포함)
+     * @param to 조회 종료일 (포함)
+     * @return 회의실, 구간 시작일 순으로 정렬된 통계 목록
+     */
+    List<BookingStatsResponse> getStatistics(Long roomNo, BookingStatsUnit unit, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,262 @@
+package com.nhnacademy.bookingservice.service.impl;
+
+import com.nhnacademy.bookingservice.common.adaptor.MeetingRoomAdaptor;
+import com.nhnacademy.bookingservice.common.event.BookingSeriesEvent;
+import com.nhnacademy.bookingservice.common.event.BookingSlotChangedEvent;
+import com.nhnacademy.bookingservice.common.exception.BadRequestException;
+import com.nhnacademy.bookingservice.common.exception.ForbiddenException;
+import com.nhnacademy.bookingservice.common.exception.booking.BookingSeriesConflictException;
+import com.nhnacademy.bookingservice.common.exception.booking.BookingSeriesNotFoundException;
+import com.nhnacademy.bookingservice.common.exception.meeting.MeetingRoomCapacityExceededException;
+import com.nhnacademy.bookingservice.common.generator.CodeGenerator;
+import com.nhnacademy.bookingservice.common.index.RoomScheduleIndex;
+import com.nhnacademy.bookingservice.common.lock.RoomReservationLock;
+import com.nhnacademy.bookingservice.common.registry.BookingChangeRegistry;
+import com.nhnacademy.bookingservice.domain.Booking;
+import com.nhnacademy.bookingservice.domain.BookingChange;
+import com.nhnacademy.bookingservice.domain.BookingChangeType;
+import com.nhnacademy.bookingservice.domain.BookingSeries;
+import com.nhnacademy.bookingservice.domain.BookingSlot;
+import com.nhnacademy.bookingservice.domain.NotificationType;
+import com.nhnacademy.bookingservice.dto.BookingSeriesRequest;
+import com.nhnacademy.bookingservice.dto.BookingSeriesResponse;
+import com.nhnacademy.bookingservice.dto.BookingSeriesUpdateRequest;
+import com.nhnacademy.bookingservice.dto.MeetingRoomResponse;
+import com.nhnacademy.bookingservice.dto.MemberResponse;
+import com.nhnacademy.bookingservice.repository.BookingRepository;
+import com.nhnacademy.bookingservice.repository.BookingSeriesRepository;
+import com.nhnacademy.bookingservice.service.BookingSeriesService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 정기 예약을 처리합니다.
+ * <ul>
+ *   <li>등록할 회차 전체를 회의실 예약 구간 한 번의 조회와 한 번의 순회로 검사합니다. 회차마다 겹침 조회를 보내지 않습니다.</li>
+ *   <li>회차는 {@link BookingRepository#insertAll(List)}로 JDBC 배치 INSERT 합니다.</li>
+ *   <li>알림 메일은 회차마다 보내지 않고 정기 예약 단위로 한 통만 보냅니다.</li>
+ * </ul>
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class BookingSeriesServiceImpl implements BookingSeriesService {
+
+    static final int MAX_OCCURRENCES = 52;
+
+    private final CodeGenerator codeGenerator;
+    private final ApplicationEventPublisher publisher;
+
+    private final BookingRepository bookingRepository;
+    private final BookingSeriesRepository bookingSeriesRepository;
+    private final BookingChangeRegistry bookingChangeRegistry;
+    private final MeetingRoomAdaptor meetingRoomAdaptor;
+    private final RoomReservationLock roomReservationLock;
+    private final RoomScheduleIndex roomScheduleIndex;
+
+    @Override
+    public BookingSeriesResponse register(BookingSeriesRequest request, MemberResponse memberInfo) {
+        checkCapacity(request.getRoomNo(), request.getAttendeeCount());
+
+        LocalTime startTime = LocalTime.parse(request.getStartTime());
+        LocalTime finishTime = parseFinishTime(startTime, request.getFinishTime());
+
+        if (request.getUntil() == null && request.getCount() == null) {
+            throw new BadRequestException("반복을 끝낼 날짜나 반복 횟수 중 하나는 필수입니다.");
+        }
+        LocalDate until = request.getUntil() != null ? LocalDate.parse(request.getUntil()) : null;
+        List<LocalDate> dates = request.getRecurrence().dates(LocalDate.parse(request.getStartDate()), until, request.getCount(), MAX_OCCURRENCES);
+        if (dates.isEmpty()) {
+            throw new BadRequestException("반복을 끝낼 날짜가 첫 예약 날짜보다 앞섭니다.");
+        }
+        if (dates.size() > MAX_OCCURRENCES) {
+            throw new BadRequestException("정기 예약은 %d회까지 등록할 수 있습니다.".formatted(MAX_OCCURRENCES));
+        }
+
+        long version = roomReservationLock.lock(request.getRoomNo());
+        checkConflicts(request.getRoomNo(), dates, startTime, finishTime, Set.of());
+
+        BookingSeries series = BookingSeries.ofNewSeries(memberInfo.getNo(), request.getRoomNo(), request.getRecurrence(),
+                startTime, finishTime, request.getAttendeeCount(), dates.getFirst(), dates.getLast(), dates.size());
+        bookingSeriesRepository.save(series);
+
+        List<Booking> bookings = dates.stream()
+                .map(date -> Booking.ofSeriesBooking(codeGenerator.generateCode(), LocalDateTime.of(date, startTime),
+                        request.getAttendeeCount(), LocalDateTime.of(date, finishTime), memberInfo.getNo(), request.getRoomNo(), series.getSeriesNo()))
+                .toList();
+        bookingRepository.insertAll(bookings);
+
+        // 배치 INSERT는 생성된 키를 돌려주지 않으므로, 번호가 필요한 이벤트와 응답을 위해 한 번 다시 읽습니다.
+        List<Booking> saved = bookingRepository.findSeriesBookings(series.getSeriesNo(), LocalDateTime.of(dates.getFirst(), LocalTime.MIN));
+        for (Booking booking : saved) {
+            publisher.publishEvent(new BookingSlotChangedEvent(this, booking.getBookingNo(), null, null, BookingSlot.of(booking),
+                    null, booking.getAttendeeCount()));
+        }
+        scheduleChanged(request.getRoomNo(), version);
+        if (!saved.isEmpty()) {
+            publisher.publishEvent(new BookingSeriesEvent(this, NotificationType.BOOKING_SERIES_CREATED, memberInfo.getEmail(), saved.getFirst().getBookingNo()));
+        }
+        return BookingSeriesResponse.of(series, saved);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BookingSeriesResponse getSeries(Long seriesNo, MemberResponse memberInfo) {
+        BookingSeries series = getBookingSeries(seriesNo);
+        checkOwnerOrAdmin(series, memberInfo);
+
+        return BookingSeriesResponse.of(series, bookingRepository.findSeriesBookings(seriesNo, LocalDate.now().atStartOfDay()));
+    }
+
+    @Override
+    public BookingSeriesResponse updateSeries(Long seriesNo, BookingSeriesUpdateRequest request, MemberResponse memberInfo) {
+        BookingSeries series = getBookingSeries(seriesNo);
+        checkMember(series.getMbNo(), memberInfo.getNo());
+        checkCancelled(series);
+        checkCapacity(series.getMeetingRoomNo(), request.getAttendeeCount());
+
+        LocalTime startTime = LocalTime.parse(request.getStartTime());
+        LocalTime finishTime = parseFinishTime(startTime, request.getFinishTime());
+
+        // 입실과 연장처럼 회차 행을 먼저 잠근 뒤 회의실 잠금을 얻어, 잠금 순서를 맞춥니다.
+        List<Booking> upcoming = bookingRepository.findPendingSeriesBookingsForUpdate(seriesNo, LocalDateTime.now());
+        long version = roomReservationLock.lock(series.getMeetingRoomNo());
+        if (!upcoming.isEmpty()) {
+            List<LocalDate> dates = upcoming.stream().map(booking -> booking.getBookingDate().toLocalDate()).toList();
+            Set<Long> own = upcoming.stream().map(Booking::getBookingNo).collect(Collectors.toSet());
+            checkConflicts(series.getMeetingRoomNo(), dates, startTime, finishTime, own);
+        }
+
+        BookingChange change = bookingChangeRegistry.get(BookingChangeType.CHANGE);
+        for (Booking booking : upcoming) {
+            BookingSlot previous = BookingSlot.of(booking);
+            Integer previousAttendeeCount = booking.getAttendeeCount();
+            LocalDate date = booking.getBookingDate().toLocalDate();
+            booking.update(LocalDateTime.of(date, startTime), request.getAttendeeCount(), LocalDateTime.of(date, finishTime), series.getMeetingRoomNo());
+            booking.updateBookingEvent(change);
+
+            publisher.publishEvent(new BookingSlotChangedEvent(this, booking.getBookingNo(), BookingChangeType.CHANGE, previous, BookingSlot.of(booking),
+                    previousAttendeeCount, booking.getAttendeeCount()));
+        }
+        series.update(startTime, finishTime, request.getAttendeeCount());
+        scheduleChanged(series.getMeetingRoomNo(), version);
+
+        if (!upcoming.isEmpty()) {
+            publisher.publishEvent(new BookingSeriesEvent(this, NotificationType.BOOKING_SERIES_CHANGED, memberInfo.getEmail(), upcoming.getFirst().getBookingNo()));
+        }
+        return BookingSeriesResponse.of(series, upcoming);
+    }
+
+    @Override
+    public void cancelSeries(Long seriesNo, MemberResponse memberInfo) {
+        BookingSeries series = getBookingSeries(seriesNo);
+        checkOwnerOrAdmin(series, memberInfo);
+        checkCancelled(series);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Booking> upcoming = bookingRepository.findPendingSeriesBookingsForUpdate(seriesNo, now);
+        series.cancel(now);
+        if (upcoming.isEmpty()) {
+            return;
+        }
+
+        BookingChange change = bookingChangeRegistry.get(BookingChangeType.CANCEL);
+        bookingRepository.cancelAll(upcoming.stream().map(Booking::getBookingNo).toList(), change);
+
+        // 일괄 UPDATE는 엔티티를 거치지 않으므로, 읽어 둔 변경 전 상태로 이벤트를 만듭니다.
+        for (Booking booking : upcoming) {
+            publisher.publishEvent(new BookingSlotChangedEvent(this, booking.getBookingNo(), BookingChangeType.CANCEL,
+                    BookingSlot.of(booking), null, booking.getAttendeeCount(), booking.getAttendeeCount()));
+        }
+        publisher.publishEvent(new BookingSeriesEvent(this, NotificationType.BOOKING_SERIES_CANCELLED, memberInfo.getEmail(), upcoming.getFirst().getBookingNo()));
+    }
+
+    /**
+     * 회차 전체를 회의실 예약 구간과 한 번에 비교합니다.
+     * <p>
+     * 첫 회차 시작부터 마지막 회차 종료까지의 예약 구간을 시작 시각 순으로 한 번 읽고, 회차와 예약 구간을 나란히 한 번씩만 지나갑니다.
+     * 한 회의실의 예약 구간은 서로 겹치지 않으므로 시작 시각 순이면 종료 시각 순이기도 해서,
+     * 회차 시작 이전에 끝난 구간은 다음 회차에서도 다시 볼 필요가 없습니다.
+     * </p>
+     *
+     * @param exclude 겹침 검사에서 뺄 예약 번호 (정기 예약 변경 시 자기 회차)
+     * @throws BookingSeriesConflictException 겹치는 회차가 있으면 그 회차 시작 시각을 모두 담아 던집니다.
+     */
+    private void checkConflicts(Long roomNo, List<LocalDate> dates, LocalTime startTime, LocalTime finishTime, Collection<Long> exclude) {
+        List<BookingSlot> slots = bookingRepository.findRoomSlots(roomNo,
+                LocalDateTime.of(dates.getFirst(), startTime), LocalDateTime.of(dates.getLast(), finishTime));
+
+        List<LocalDateTime> conflicts = new ArrayList<>();
+        int i = 0;
+        for (LocalDate date : dates) {
+            LocalDateTime startsAt = LocalDateTime.of(date, startTime);
+            LocalDateTime finishesAt = LocalDateTime.of(date, finishTime);
+            while (i < slots.size() && (!slots.get(i).getFinishesAt().isAfter(startsAt) || exclude.contains(slots.get(i).getBookingNo()))) {
+                i++;
+            }
+            if (i < slots.size() && slots.get(i).getStartsAt().isBefore(finishesAt)) {
+                conflicts.add(startsAt);
+            }
+        }
+        if (!conflicts.isEmpty()) {
+            throw new BookingSeriesConflictException(conflicts);
+        }
+    }
+
+    /**
+     * 회의실의 점유 구간 버전을 올리고, 커밋되면 인덱스에도 반영합니다. 구간 변경 이벤트를 발행한 다음에 호출해야 합니다.
+     */
+    private void scheduleChanged(Long roomNo, long version) {
+        roomReservationLock.advance(roomNo);
+        roomScheduleIndex.advanceOnCommit(roomNo, version);
+    }
+
+    private static LocalTime parseFinishTime(LocalTime startTime, String finishTime) {
+        LocalTime parsed = finishTime != null ? LocalTime.parse(finishTime) : startTime.plusHours(1);
+        if (!parsed.isAfter(startTime)) {
+            throw new BadRequestException("종료 시간은 시작 시간보다 늦어야 합니다.");
+        }
+        return parsed;
+    }
+
+    private void checkCapacity(Long roomNo, Integer attendeeCount) {
+        MeetingRoomResponse room = meetingRoomAdaptor.getMeetingRoom(roomNo);
+        if (room.getMeetingRoomCapacity() < attendeeCount) {
+            throw new MeetingRoomCapacityExceededException(room.getMeetingRoomCapacity());
+        }
+    }
+
+    private BookingSeries getBookingSeries(Long seriesNo) {
+        return bookingSeriesRepository.findById(seriesNo).orElseThrow(() -> new BookingSeriesNotFoundException(seriesNo));
+    }
+
+    private static void checkCancelled(BookingSeries series) {
+        if (series.isCancelled()) {
+            throw new BadRequestException("이미 취소된 정기 예약입니다.");
+        }
+    }
+
+    private static void checkOwnerOrAdmin(BookingSeries series, MemberResponse memberInfo) {
+        if (!Objects.equals(memberInfo.getRoleName(), "ROLE_ADMIN")) {
+            checkMember(series.getMbNo(), memberInfo.getNo());
+        }
+    }
+
+    private static void checkMember(Long seriesMbNo, Long loginMbNo) {
+        if (!Objects.equals(seriesMbNo, loginMbNo)) {
+            throw new ForbiddenException();
+        }
+    }
+}
@@ -5,50 +5,79 @@ import com.nhnacademy.bookingservice.common.adaptor.MemberAdaptor;
 import com.nhnacademy.bookingservice.common.event.BookingCancelEvent;
 import com.nhnacademy.bookingservice.common.event.BookingChangeEvent;
 import com.nhnacademy.bookingservice.common.event.BookingCreatedEvent;
+import com.nhnacademy.bookingservice.common.event.BookingSlotChangedEvent;
 import com.nhnacademy.bookingservice.common.exception.BadRequestException;
 import com.nhnacademy.bookingservice.common.exception.ForbiddenException;
 import com.nhnacademy.bookingservice.common.exception.booking.AlreadyMeetingRoomTimeException;
-import com.nhnacademy.bookingservice.common.exception.booking.BookingChangeNotFoundException;
 import com.nhnacademy.bookingservice.common.exception.booking.BookingInfoDoesNotMatchException;
+import com.nhnacademy.bookingservice.common.exception.booking.BookingNotActiveException;
 import com.nhnacademy.bookingservice.common.exception.booking.BookingNotFoundException;
 import com.nhnacademy.bookingservice.common.exception.booking.BookingTimeHasPassedException;
 import com.nhnacademy.bookingservice.common.exception.booking.BookingTimeNotReachedException;
 import com.nhnacademy.bookingservice.common.exception.meeting.MeetingRoomCapacityExceededException;
 import com.nhnacademy.bookingservice.common.generator.CodeGenerator;
+import com.nhnacademy.bookingservice.common.executor.BoundedFanOut;
+import com.nhnacademy.bookingservice.common.export.BookingRowWriter;
+import com.nhnacademy.bookingservice.common.index.DailyScheduleVersions;
+import com.nhnacademy.bookingservice.common.index.RoomDayOccupancy;
+import com.nhnacademy.bookingservice.common.index.RoomScheduleIndex;
+import com.nhnacademy.bookingservice.common.lock.RoomReservationLock;
+import com.nhnacademy.bookingservice.common.registry.BookingChangeRegistry;
 import com.nhnacademy.bookingservice.domain.Booking;
 import com.nhnacademy.bookingservice.domain.BookingChange;
+import com.nhnacademy.bookingservice.domain.BookingSlot;
+import com.nhnacademy.bookingservice.domain.FreeSlot;
 import com.nhnacademy.bookingservice.dto.*;
 import com.nhnacademy.bookingservice.domain.BookingChangeType;
-import com.nhnacademy.bookingservice.repository.BookingChangeRepository;
 import com.nhnacademy.bookingservice.repository.BookingRepository;
 import com.nhnacademy.bookingservice.service.BookingService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 
 @Service
 @Transactional
+@Slf4j
 @RequiredArgsConstructor
 public class BookingServiceImpl implements BookingService{
 
+    private static final int MEMBER_BATCH_SIZE = 500;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final Duration MAX_FREE_SLOT_WINDOW = Duration.ofDays(31);
+    private static final int EXPORT_CHUNK_SIZE = 500;
+    /**
+     * 예약 시작 전후로 입실할 수 있는 시간입니다. 미입실 취소는 이 시간이 완전히 지난 뒤에만 합니다.
+     */
+    private static final Duration CHECK_IN_WINDOW = Duration.ofMinutes(10);
+
     private final CodeGenerator codeGenerator;
     private final ApplicationEventPublisher publisher;
 
     private final BookingRepository bookingRepository;
-    private final BookingChangeRepository bookingChangeRepository;
+    private final BookingChangeRegistry bookingChangeRegistry;
     private final MeetingRoomAdaptor meetingRoomAdaptor;
     private final MemberAdaptor memberAdaptor;
+    private final RoomScheduleIndex roomScheduleIndex;
+    private final DailyScheduleVersions dailyScheduleVersions;
+    private final RoomReservationLock roomReservationLock;
+    private final BoundedFanOut boundedFanOut;
 
     @Override
     public BookingRegisterResponse register(BookingRegisterRequest request, MemberResponse memberInfo) {
@@ -68,7 +97,8 @@ public class BookingServiceImpl implements BookingService{
         LocalDateTime startDateTime = LocalDateTime.of(date, startTime);
         LocalDateTime finishDateTime = LocalDateTime.of(date, finishTime);
 
-        if(bookingRepository.existsOverlappingBooking(request.getRoomNo(), startDateTime, finishDateTime)) {
+        long version = roomReservationLock.lock(request.getRoomNo());
+        if(existsOverlappingBooking(request.getRoomNo(), version, startDateTime, finishDateTime, null)) {
             throw new AlreadyMeetingRoomTimeException(startDateTime);
         }
 
@@ -76,6 +106,8 @@ public class BookingServiceImpl implements BookingService{
         bookingRepository.save(booking);
 
         publisher.publishEvent(new BookingCreatedEvent(this, memberInfo.getEmail(), booking.getBookingNo()));
+        publishSlotChanged(booking, null, null, null);
+        scheduleChanged(request.getRoomNo(), version);
 
         return new BookingRegisterResponse(booking.getBookingNo());
     }
@@ -112,11 +144,10 @@ public class BookingServiceImpl implements BookingService{
     @Transactional(readOnly = true)
     public List<BookingResponse> getBookings() {
         List<BookingResponse> bookings = bookingRepository.findBookingList(null);
+        Map<Long, MemberResponse> members = getMembers(bookings.stream().map(booking -> booking.getMember().getNo()).toList());
 
         bookings.forEach(booking -> {
-            MemberResponse member = getMember(booking.getMember().getNo());
-            booking.getMember().setName(member.getName());
-            booking.getMember().setEmail(member.getEmail());
+            setMemberInfo(booking.getMember(), members.get(booking.getMember().getNo()));
 
             MeetingRoomResponse room = getMeetingRoom(booking.getRoom().getNo());
             booking.getRoom().setName(room.getMeetingRoomName());
@@ -125,16 +156,35 @@ public class BookingServiceImpl implements BookingService{
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public Page<BookingResponse> getPagedMemberBookings(MemberResponse memberInfo, Pageable pageable) {
-        Page<BookingResponse> bookings = bookingRepository.findBookings(memberInfo.getNo(), pageable);
-
-        bookings.forEach(booking -> {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void exportMemberBookings(MemberResponse memberInfo, BookingRowWriter writer) throws IOException {
+        exportInChunks(memberInfo.getNo(), writer, chunk -> chunk.forEach(booking -> {
             booking.getMember().setName(memberInfo.getName());
 
             MeetingRoomResponse room = getMeetingRoom(booking.getRoom().getNo());
             booking.getRoom().setName(room.getMeetingRoomName());
+        }));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void exportBookings(BookingRowWriter writer) throws IOException {
+        exportInChunks(null, writer, chunk -> {
+            Map<Long, MemberResponse> members = getMembers(chunk.stream().map(booking -> booking.getMember().getNo()).toList());
+            chunk.forEach(booking -> {
+                setMemberInfo(booking.getMember(), members.get(booking.getMember().getNo()));
+
+                MeetingRoomResponse room = getMeetingRoom(booking.getRoom().getNo());
+                booking.getRoom().setName(room.getMeetingRoomName());
+            });
         });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<BookingResponse> getPagedMemberBookings(MemberResponse memberInfo, Pageable pageable) {
+        Page<BookingResponse> bookings = bookingRepository.findBookings(memberInfo.getNo(), pageable);
+        enrich(bookings.getContent(), memberInfo);
 
         return bookings;
     }
@@ -144,27 +194,44 @@ public class BookingServiceImpl implements BookingService{
     public Page<BookingResponse> getPagedBookings(Pageable pageable) {
 
         Page<BookingResponse> bookings = bookingRepository.findBookings(null, pageable);
+        enrich(bookings.getContent(), null);
 
-        bookings.forEach(booking -> {
-            MemberResponse member = getMember(booking.getMember().getNo());
-            booking.getMember().setName(member.getName());
-            booking.getMember().setEmail(member.getEmail());
+        return bookings;
+    }
 
-            MeetingRoomResponse room = getMeetingRoom(booking.getRoom().getNo());
-            booking.getRoom().setName(room.getMeetingRoomName());
-        });
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<BookingResponse> getMemberBookingsByCursor(MemberResponse memberInfo, String cursor, int size, boolean withTotal) {
+        int pageSize = Math.clamp(size, 1, MAX_CURSOR_PAGE_SIZE);
+        List<BookingResponse> fetched = bookingRepository.findBookingsByCursor(memberInfo.getNo(), BookingCursor.decode(cursor), pageSize + 1);
+        Long total = withTotal ? bookingRepository.countBookings(memberInfo.getNo()) : null;
+
+        CursorPage<BookingResponse> page = toCursorPage(fetched, pageSize, total);
+        enrich(page.getContent(), memberInfo);
+        return page;
+    }
 
-        return bookings;
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<BookingResponse> getBookingsByCursor(String cursor, int size, boolean withTotal) {
+        int pageSize = Math.clamp(size, 1, MAX_CURSOR_PAGE_SIZE);
+        List<BookingResponse> fetched = bookingRepository.findBookingsByCursor(null, BookingCursor.decode(cursor), pageSize + 1);
+        Long total = withTotal ? bookingRepository.countBookings(null) : null;
+
+        CursorPage<BookingResponse> page = toCursorPage(fetched, pageSize, total);
+        enrich(page.getContent(), null);
+        return page;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<DailyBookingResponse> getDailyBookings(Long roomNo, LocalDate date) {
         List<DailyBookingResponse> bookings = bookingRepository.findBookingsByDate(roomNo, date);
+        Map<Long, MemberResponse> members = getMembers(bookings.stream().map(DailyBookingResponse::getMbNo).toList());
 
         for (DailyBookingResponse booking : bookings) {
 
-            MemberResponse member = memberAdaptor.getMemberByMbNo(booking.getMbNo());
+            MemberResponse member = members.get(booking.getMbNo());
 
             if (member != null) {
                 String mbName = member.getName();
@@ -175,6 +242,70 @@ public class BookingServiceImpl implements BookingService{
         return bookings;
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String getDailyBookingsETag(Long roomNo, LocalDate date) {
+        return dailyScheduleVersions.getETag(roomNo, date);
+    }
+
+    /**
+     * 회의실 목록은 캐시에서, 예약 구간은 {@link RoomScheduleIndex}에서 읽으므로 DB를 조회하지 않습니다.
+     * 인덱스는 인스턴스마다 따로 유지되어 방금 다른 인스턴스에서 생긴 예약이 빠질 수 있으며, 실제 예약 시 다시 검사합니다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<FreeSlotResponse> findFreeSlots(LocalDateTime from, LocalDateTime to, Duration duration, int capacity) {
+        if (!from.isBefore(to) || Duration.between(from, to).compareTo(MAX_FREE_SLOT_WINDOW) > 0) {
+            throw new BadRequestException("조회 구간은 %d일 이내여야 합니다.".formatted(MAX_FREE_SLOT_WINDOW.toDays()));
+        }
+        if (duration.isNegative() || duration.isZero()) {
+            throw new BadRequestException("예약 길이는 0보다 커야 합니다.");
+        }
+
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        LocalDateTime start = from.isBefore(now) ? now : from;
+        if (!start.isBefore(to)) {
+            return List.of();
+        }
+
+        List<FreeSlotResponse> free = new ArrayList<>();
+        for (MeetingRoomResponse room : meetingRoomAdaptor.getMeetingRooms()) {
+            if (room.getMeetingRoomCapacity() < capacity) {
+                continue;
+            }
+            for (FreeSlot slot : roomScheduleIndex.findFreeSlots(room.getNo(), start, to, duration)) {
+                free.add(new FreeSlotResponse(room.getNo(), room.getMeetingRoomName(), room.getMeetingRoomCapacity(),
+                        slot.getStartsAt(), slot.getFinishesAt()));
+            }
+        }
+        free.sort(Comparator.comparing(FreeSlotResponse::getStartsAt).thenComparing(FreeSlotResponse::getRoomNo));
+        return free;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RoomOccupancyResponse getOccupancies(LocalDate date, int granularity) {
+        checkGranularity(granularity);
+        Map<Long, String> rooms = new LinkedHashMap<>();
+        roomScheduleIndex.findOccupancies(date).forEach((roomNo, occupancy) -> rooms.put(roomNo, occupancy.toBase64(granularity)));
+        return new RoomOccupancyResponse(date, granularity, RoomDayOccupancy.MINUTES_PER_DAY / granularity, rooms);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public byte[] getOccupancy(Long roomNo, LocalDate date, int granularity) {
+        checkGranularity(granularity);
+        return roomScheduleIndex.findOccupancy(roomNo, date)
+                .map(occupancy -> occupancy.toByteArray(granularity))
+                .orElseGet(() -> new byte[Math.ceilDiv(RoomDayOccupancy.MINUTES_PER_DAY / granularity, Byte.SIZE)]);
+    }
+
+    private static void checkGranularity(int granularity) {
+        if (!RoomDayOccupancy.isSupported(granularity)) {
+            throw new BadRequestException("점유 단위는 %d분의 배수이면서 하루를 나누어떨어지게 해야 합니다.".formatted(RoomDayOccupancy.SLOT_MINUTES));
+        }
+    }
+
     @Override
     public BookingResponse updateBooking(Long no, BookingUpdateRequest request, MemberResponse memberInfo){
         Booking booking = bookingRepository.findById(no).orElseThrow(() -> new BookingNotFoundException(no));
@@ -190,32 +321,50 @@ public class BookingServiceImpl implements BookingService{
         LocalDateTime startDateTime = LocalDateTime.of(date, startTime);
         LocalDateTime finishDateTime = LocalDateTime.of(date, finishTime);
 
+        long version = roomReservationLock.lock(room.getNo());
+        if(existsOverlappingBooking(room.getNo(), version, startDateTime, finishDateTime, booking.getBookingNo())) {
+            throw new AlreadyMeetingRoomTimeException(startDateTime);
+        }
 
+        BookingSlot previous = BookingSlot.of(booking);
+        Integer previousAttendeeCount = booking.getAttendeeCount();
         booking.update(startDateTime, request.getAttendeeCount(), finishDateTime, room.getNo());
 
-        BookingChange change = bookingChangeRepository.findById(BookingChangeType.CHANGE.getId())
-                .orElseThrow(() -> new BookingChangeNotFoundException(BookingChangeType.CHANGE.getId()));
+        BookingChange change = bookingChangeRegistry.get(BookingChangeType.CHANGE);
         booking.updateBookingEvent(change);
 
         publisher.publishEvent(new BookingChangeEvent(this, memberInfo.getEmail(), booking.getBookingNo()));
+        publishSlotChanged(booking, BookingChangeType.CHANGE, previous, previousAttendeeCount);
+        scheduleChanged(room.getNo(), version);
         return convertBookingResponse(booking, memberInfo.getName(), room.getMeetingRoomName());
     }
 
     @Override
     public void extendBooking(Long no){
-        Booking booking = bookingRepository.findById(no)
+        // 자동 종료와 동시에 처리되지 않도록 행 잠금을 걸고 읽습니다. 이미 취소/종료된 예약은 연장할 수 없습니다.
+        Booking booking = bookingRepository.findForUpdate(no)
                 .orElseThrow(() -> new BookingNotFoundException(no));
+        if (booking.getFinishesAt() == null || isChange(booking, BookingChangeType.FINISH)) {
+            throw new BookingNotActiveException(no);
+        }
 
-        if(bookingRepository.existsOverlappingBooking(booking.getMeetingRoomNo(), booking.getFinishesAt(), booking.getFinishesAt().plusHours(1))){
+        long version = roomReservationLock.lock(booking.getMeetingRoomNo());
+        if(existsOverlappingBooking(booking.getMeetingRoomNo(), version, booking.getFinishesAt(), booking.getFinishesAt().plusHours(1), null)){
             throw new AlreadyMeetingRoomTimeException();
         }
 
-        BookingChange change = bookingChangeRepository.findById(BookingChangeType.EXTEND.getId())
-                .orElseThrow(() -> new BookingChangeNotFoundException(BookingChangeType.EXTEND.getId()));
+        BookingChange change = bookingChangeRegistry.get(BookingChangeType.EXTEND);
 
-        booking.updateBookingEvent(change);
+        BookingSlot previous = BookingSlot.of(booking);
+        // 입실한 예약은 사용중 상태를 유지해야 자동 종료 대상이 되고, 연장 상태가 미입실 예약만 뜻하게 됩니다.
+        if (!isInUse(booking)) {
+            booking.updateBookingEvent(change);
+        }
         booking.updateFinishesAt(booking.getFinishesAt().plusHours(1));
 
+        publishSlotChanged(booking, BookingChangeType.EXTEND, previous, booking.getAttendeeCount());
+        scheduleChanged(booking.getMeetingRoomNo(), version);
+
     }
 
     @Override
@@ -223,11 +372,11 @@ public class BookingServiceImpl implements BookingService{
         Booking booking = bookingRepository.findById(no)
                 .orElseThrow(() -> new BookingNotFoundException(no));
 
-        BookingChange change = bookingChangeRepository.findById(BookingChangeType.FINISH.getId())
-                .orElseThrow(() -> new BookingChangeNotFoundException(BookingChangeType.FINISH.getId()));
+        BookingChange change = bookingChangeRegistry.get(BookingChangeType.FINISH);
 
         booking.updateBookingEvent(change);
 
+        publishSlotChanged(booking, BookingChangeType.FINISH, BookingSlot.of(booking), booking.getAttendeeCount());
     }
 
     @Override
@@ -238,13 +387,61 @@ public class BookingServiceImpl implements BookingService{
         if(!Objects.equals(memberInfo.getRoleName(), "ROLE_ADMIN")){
             checkMember(booking.getMbNo(), memberInfo.getNo());
         }
-        BookingChange change = bookingChangeRepository.findById(BookingChangeType.CANCEL.getId())
-                .orElseThrow(() -> new BookingChangeNotFoundException(BookingChangeType.CANCEL.getId()));
+        BookingChange change = bookingChangeRegistry.get(BookingChangeType.CANCEL);
 
+        BookingSlot previous = BookingSlot.of(booking);
         booking.updateBookingEvent(change);
         booking.updateFinishesAt(null);
 
         publisher.publishEvent(new BookingCancelEvent(this, memberInfo.getEmail(), booking.getBookingNo()));
+        publishSlotChanged(booking, BookingChangeType.CANCEL, previous, booking.getAttendeeCount());
+    }
+
+    @Override
+    public int cancelNoShowBookings(LocalDateTime now, int limit) {
+        List<Booking> noShows = bookingRepository.findNoShowBookingsForUpdate(now.minus(CHECK_IN_WINDOW), now, limit);
+        if (noShows.isEmpty()) {
+            return 0;
+        }
+
+        BookingChange change = bookingChangeRegistry.get(BookingChangeType.CANCEL);
+        bookingRepository.cancelAll(noShows.stream().map(Booking::getBookingNo).toList(), change);
+
+        // 취소 메일 수신자를 한 번에 조회합니다. member-service가 응답하지 못해 빠진 회원에게는 메일을 보내지 않습니다.
+        Map<Long, String> emails = new HashMap<>();
+        memberAdaptor.getMembersByMbNos(noShows.stream().map(Booking::getMbNo).distinct().toList())
+                .forEach(member -> emails.put(member.getNo(), member.getEmail()));
+
+        // 일괄 UPDATE는 엔티티를 거치지 않으므로, 읽어 둔 변경 전 상태로 이벤트를 만듭니다.
+        for (Booking booking : noShows) {
+            String email = emails.get(booking.getMbNo());
+            if (email != null) {
+                publisher.publishEvent(new BookingCancelEvent(this, email, booking.getBookingNo()));
+            } else {
+                log.warn("미입실 취소 메일 수신자 없음 - 예약번호: {}, 회원: {}", booking.getBookingNo(), booking.getMbNo());
+            }
+            publisher.publishEvent(new BookingSlotChangedEvent(this, booking.getBookingNo(), BookingChangeType.CANCEL,
+                    BookingSlot.of(booking), null, booking.getAttendeeCount(), booking.getAttendeeCount()));
+        }
+        return noShows.size();
+    }
+
+    @Override
+    public int finishExpiredBookings(LocalDateTime now, int limit) {
+        List<Booking> expired = bookingRepository.findExpiredInUseBookings(now, limit);
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        BookingChange change = bookingChangeRegistry.get(BookingChangeType.FINISH);
+        long finished = bookingRepository.finishAll(expired.stream().map(Booking::getBookingNo).toList(), change);
+
+        // 조회한 행은 잠겨 있으므로 모두 종료됩니다. 일괄 UPDATE는 엔티티를 거치지 않으므로, 단건 종료와 같은 이벤트를 직접 발행해
+        // 일정 ETag와 구독자에게 상태 변경을 알립니다.
+        for (Booking booking : expired) {
+            publishSlotChanged(booking, BookingChangeType.FINISH, BookingSlot.of(booking), booking.getAttendeeCount());
+        }
+        return Math.toIntExact(finished);
     }
 
     @Override
@@ -272,8 +469,11 @@ public class BookingServiceImpl implements BookingService{
      */
     @Override
     public boolean checkBooking(MemberResponse memberInfo, String code, LocalDateTime entryTime, Long bookingNo) {
-        // 저장된 예약정보 찾아오기
-        Booking booking = bookingRepository.findBookingByBookingNo(bookingNo).orElseThrow(() -> new BookingNotFoundException(bookingNo));
+        // 미입실 취소와 동시에 처리되지 않도록 행 잠금을 걸고 읽습니다. 이미 취소/종료/입실한 예약은 입실할 수 없습니다.
+        Booking booking = bookingRepository.findForUpdate(bookingNo).orElseThrow(() -> new BookingNotFoundException(bookingNo));
+        if (!isAwaitingCheckIn(booking)) {
+            throw new BookingNotActiveException(bookingNo);
+        }
         BookingResponse bookingResponse = bookingRepository.findByNo(bookingNo).orElseThrow(() -> new BookingNotFoundException(bookingNo));
 
         if(!bookingResponse.getMember().getNo().equals(memberInfo.getNo())) {
@@ -293,28 +493,22 @@ public class BookingServiceImpl implements BookingService{
         // 회의실 입실 날짜
         String entryDateStr = entryTime.format(dateFormatter);
 
-        // 예약 시간과 입실 시간 차이
-        Duration duration = Duration.between(bookingDateTime, entryTime);
-        long minutes = duration.toMinutesPart();
-
-        if (bookingCode.equals(code) && bookingDateStr.equals(entryDateStr)) {
-            if (Math.abs(minutes) <= 10) { // 예약 시간과 입실 시간 차이 절댓값 10 이하
-                BookingChange inUse = bookingChangeRepository.findById(BookingChangeType.INUSE.getId())
-                        .orElseThrow(() -> new BookingChangeNotFoundException(BookingChangeType.INUSE.getId()));
-
-                booking.updateBookingEvent(inUse);
-
-                return true;
-            } else if (minutes < -10) {
-                throw new BookingTimeNotReachedException();
-            } else if (minutes > 10) {
-                throw new BookingTimeHasPassedException();
-            }
-        } else {
+        if (!bookingCode.equals(code) || !bookingDateStr.equals(entryDateStr)) {
             throw new BookingInfoDoesNotMatchException();
         }
+        // 예약 시각 전후 10분(경계 포함)까지만 입실할 수 있습니다. 미입실 취소는 이 시각이 지난 뒤에만 합니다.
+        if (entryTime.isBefore(bookingDateTime.minus(CHECK_IN_WINDOW))) {
+            throw new BookingTimeNotReachedException();
+        }
+        if (entryTime.isAfter(bookingDateTime.plus(CHECK_IN_WINDOW))) {
+            throw new BookingTimeHasPassedException();
+        }
 
-        return false;
+        BookingChange inUse = bookingChangeRegistry.get(BookingChangeType.INUSE);
+        booking.updateBookingEvent(inUse);
+
+        publishSlotChanged(booking, BookingChangeType.INUSE, BookingSlot.of(booking), booking.getAttendeeCount());
+        return true;
     }
 
     private BookingResponse convertBookingResponse(Booking booking, String mbName, String roomName){
@@ -339,6 +533,72 @@ public class BookingServiceImpl implements BookingService{
         );
     }
 
+    /**
+     * 회의실 예약 인덱스로 겹침 여부를 확인합니다.
+     * 호출 전에 {@link RoomReservationLock}으로 회의실 잠금을 획득하고, 그때 읽은 점유 구간 버전을 넘겨야 합니다.
+     * <p>
+     * 인덱스가 그 버전까지 반영되어 있지 않으면(다른 인스턴스의 변경 등) 그 회의실의 구간만 DB에서 한 번 다시 읽습니다.
+     * 반영되어 있으면 겹침이 없다는 결과는 그대로 믿고, 겹치는 예약은 기본키로 다시 읽어 여전히 점유 중인지만 확인합니다.
+     * 인덱스가 보관하지 않는 오늘 이전에 시작하는 구간은 DB 범위 조회로 확인합니다.
+     * </p>
+     */
+    private boolean existsOverlappingBooking(Long roomNo, long version, LocalDateTime startsAt, LocalDateTime finishesAt, Long excludeBookingNo) {
+        if (startsAt.isBefore(RoomScheduleIndex.horizon())) {
+            if (excludeBookingNo == null) {
+                return bookingRepository.existsOverlappingBooking(roomNo, startsAt, finishesAt);
+            }
+            return bookingRepository.existsOverlappingBookingExcept(roomNo, startsAt, finishesAt, excludeBookingNo);
+        }
+
+        if (!roomScheduleIndex.isCurrent(roomNo, version)) {
+            roomScheduleIndex.reload(roomNo, version, bookingRepository.findActiveSlots(roomNo, RoomScheduleIndex.horizon()));
+        }
+
+        Optional<BookingSlot> indexed;
+        while ((indexed = roomScheduleIndex.findOverlapping(roomNo, startsAt, finishesAt, excludeBookingNo)).isPresent()) {
+            Long conflictNo = indexed.get().getBookingNo();
+            BookingSlot actual = bookingRepository.findById(conflictNo).map(BookingSlot::of).orElse(null);
+            if (actual != null && actual.overlaps(roomNo, startsAt, finishesAt)) {
+                return true;
+            }
+            // 취소/종료처럼 구간을 줄이는 변경은 버전을 올리지 않으므로, 오래된 구간은 여기서 교정합니다.
+            roomScheduleIndex.refresh(conflictNo, actual);
+        }
+        return false;
+    }
+
+    /**
+     * 회의실의 점유 구간 버전을 올리고, 커밋되면 인덱스에도 반영합니다. 구간 변경 이벤트를 발행한 다음에 호출해야 합니다.
+     */
+    private void scheduleChanged(Long roomNo, long version) {
+        roomReservationLock.advance(roomNo);
+        roomScheduleIndex.advanceOnCommit(roomNo, version);
+    }
+
+    private void publishSlotChanged(Booking booking, BookingChangeType changeType, BookingSlot previous, Integer previousAttendeeCount) {
+        publisher.publishEvent(new BookingSlotChangedEvent(this, booking.getBookingNo(), changeType, previous, BookingSlot.of(booking),
+                previousAttendeeCount, booking.getAttendeeCount()));
+    }
+
+    /**
+     * 취소/종료/입실되지 않아 입실을 기다리는 예약인지 확인합니다. 미입실 취소 대상 조건과 같습니다.
+     */
+    private static boolean isAwaitingCheckIn(Booking booking) {
+        if (booking.getFinishesAt() == null) {
+            return false;
+        }
+        BookingChange change = booking.getBookingChange();
+        return change == null || BookingChangeType.CHANGE.getId().equals(change.getNo()) || BookingChangeType.EXTEND.getId().equals(change.getNo());
+    }
+
+    private static boolean isInUse(Booking booking) {
+        return isChange(booking, BookingChangeType.INUSE);
+    }
+
+    private static boolean isChange(Booking booking, BookingChangeType type) {
+        return booking.getBookingChange() != null && type.getId().equals(booking.getBookingChange().getNo());
+    }
+
     private void checkMember(Long bookingMbNo, Long loginMbNo){
         if(!Objects.equals(bookingMbNo, loginMbNo)){
             throw new ForbiddenException();
@@ -349,7 +609,104 @@ public class BookingServiceImpl implements BookingService{
         return meetingRoomAdaptor.getMeetingRoom(roomNo);
     }
 
-    private MemberResponse getMember(Long mbNo) {
-        return memberAdaptor.getMemberByMbNo(mbNo);
+    /**
+     * 커서 기반 조회로 {@value #EXPORT_CHUNK_SIZE}건씩 읽어, 묶음마다 보강한 뒤 기록하고 flush 합니다.
+     * 긴 트랜잭션으로 커넥션을 붙잡지 않도록 묶음마다 별도로 조회합니다.
+     */
+    private void exportInChunks(Long mbNo, BookingRowWriter writer, Consumer<List<BookingResponse>> enricher) throws IOException {
+        BookingCursor cursor = null;
+        List<BookingResponse> chunk;
+        do {
+            chunk = bookingRepository.findBookingsByCursor(mbNo, cursor, EXPORT_CHUNK_SIZE);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            enricher.accept(chunk);
+            for (BookingResponse booking : chunk) {
+                writer.write(booking);
+            }
+            writer.flush();
+            cursor = BookingCursor.of(chunk.getLast());
+        } while (chunk.size() == EXPORT_CHUNK_SIZE);
+    }
+
+    /**
+     * 요청보다 하나 더 조회한 결과로 다음 페이지 존재 여부를 판단하고, 마지막 항목으로 다음 커서를 만듭니다.
+     */
+    private CursorPage<BookingResponse> toCursorPage(List<BookingResponse> fetched, int size, Long total) {
+        boolean hasNext = fetched.size() > size;
+        List<BookingResponse> content = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? BookingCursor.of(content.getLast()).encode() : null;
+        return new CursorPage<>(content, size, hasNext, nextCursor, total);
+    }
+
+    /**
+     * 목록 한 페이지에 회원 이름과 회의실 이름을 채웁니다.
+     * 회의실은 중복 없이 한 번씩, 회원은 {@value #MEMBER_BATCH_SIZE}명 단위 일괄 조회로 {@link BoundedFanOut}에서 동시에 조회하므로
+     * 응답 시간은 조회 횟수의 합이 아니라 가장 느린 조회 하나에 가까워집니다.
+     * 제한 시간 안에 끝나지 않은 조회의 이름은 비워 둔 채 응답합니다.
+     *
+     * @param bookings 보강할 목록
+     * @param owner 목록의 주인, null이면 행마다 예약한 회원을 조회합니다.
+     */
+    private void enrich(List<BookingResponse> bookings, MemberResponse owner) {
+        Map<Long, MeetingRoomResponse> rooms = new ConcurrentHashMap<>();
+        Map<Long, MemberResponse> members = new ConcurrentHashMap<>();
+        List<Runnable> lookups = new ArrayList<>();
+
+        bookings.stream().map(booking -> booking.getRoom().getNo()).filter(Objects::nonNull).distinct()
+                .forEach(roomNo -> lookups.add(() -> putIfPresent(rooms, roomNo, getMeetingRoom(roomNo))));
+        if (owner == null) {
+            List<Long> mbNos = bookings.stream().map(booking -> booking.getMember().getNo()).filter(Objects::nonNull).distinct().toList();
+            for (int from = 0; from < mbNos.size(); from += MEMBER_BATCH_SIZE) {
+                List<Long> chunk = mbNos.subList(from, Math.min(from + MEMBER_BATCH_SIZE, mbNos.size()));
+                lookups.add(() -> memberAdaptor.getMembersByMbNos(chunk).forEach(member -> members.put(member.getNo(), member)));
+            }
+        }
+        boundedFanOut.runAll(lookups);
+
+        bookings.forEach(booking -> {
+            if (owner != null) {
+                booking.getMember().setName(owner.getName());
+            } else {
+                setMemberInfo(booking.getMember(), members.get(booking.getMember().getNo()));
+            }
+
+            MeetingRoomResponse room = rooms.get(booking.getRoom().getNo());
+            if (room != null) {
+                booking.getRoom().setName(room.getMeetingRoomName());
+            }
+        });
+    }
+
+    private static <K, V> void putIfPresent(Map<K, V> map, K key, V value) {
+        if (value != null) {
+            map.put(key, value);
+        }
+    }
+
+    /**
+     * 목록에 등장하는 회원을 중복 없이 모아 일괄 조회합니다.
+     * 요청 본문이 과도하게 커지지 않도록 {@value #MEMBER_BATCH_SIZE}명 단위로 나누어 호출합니다.
+     *
+     * @param mbNos 회원 번호 목록 (중복, null 허용)
+     * @return 회원 번호별 회원 정보
+     */
+    private Map<Long, MemberResponse> getMembers(Collection<Long> mbNos) {
+        List<Long> distinct = mbNos.stream().filter(Objects::nonNull).distinct().toList();
+
+        Map<Long, MemberResponse> members = new HashMap<>(distinct.size());
+        for (int from = 0; from < distinct.size(); from += MEMBER_BATCH_SIZE) {
+            List<Long> chunk = distinct.subList(from, Math.min(from + MEMBER_BATCH_SIZE, distinct.size()));
+            memberAdaptor.getMembersByMbNos(chunk).forEach(member -> members.put(member.getNo(), member));
+        }
+        return members;
+    }
+
+    private void setMemberInfo(BookingResponse.MemberInfo info, MemberResponse member) {
+        if (member != null) {
+            info.setName(member.getName());
+            info.setEmail(member.getEmail());
+        }
     }
 }
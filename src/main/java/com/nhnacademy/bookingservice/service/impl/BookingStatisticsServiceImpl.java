@@ -0,0 +1,77 @@
+package com.nhnacademy.bookingservice.service.impl;
+
+import com.nhnacademy.bookingservice.common.exception.BadRequestException;
+import com.nhnacademy.bookingservice.domain.BookingDailyStats;
+import com.nhnacademy.bookingservice.dto.BookingStatsResponse;
+import com.nhnacademy.bookingservice.dto.BookingStatsUnit;
+import com.nhnacademy.bookingservice.repository.BookingDailyStatsRepository;
+import com.nhnacademy.bookingservice.service.BookingStatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class BookingStatisticsServiceImpl implements BookingStatisticsService {
+
+    private final BookingDailyStatsRepository bookingDailyStatsRepository;
+
+    @Override
+    public List<BookingStatsResponse> getStatistics(Long roomNo, BookingStatsUnit unit, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new BadRequestException("조회 시작일이 종료일보다 늦습니다.");
+        }
+
+        List<BookingDailyStats> rows = roomNo == null
+                ? bookingDailyStatsRepository.findAllBetween(from, to)
+                : bookingDailyStatsRepository.findAllBetween(roomNo, from, to);
+
+        Map<Bucket, Sums> buckets = new TreeMap<>(Comparator.comparing(Bucket::roomNo).thenComparing(Bucket::periodStart));
+        for (BookingDailyStats row : rows) {
+            Bucket bucket = new Bucket(row.getId().getMeetingRoomNo(), unit.truncate(row.getId().getStatDate()));
+            buckets.computeIfAbsent(bucket, key -> new Sums()).add(row);
+        }
+
+        List<BookingStatsResponse> responses = new ArrayList<>(buckets.size());
+        buckets.forEach((bucket, sums) -> responses.add(sums.toResponse(bucket)));
+        return responses;
+    }
+
+    private record Bucket(Long roomNo, LocalDate periodStart) {
+    }
+
+    private static final class Sums {
+        private long bookings;
+        private long cancels;
+        private long attendees;
+        private long minutes;
+
+        void add(BookingDailyStats row) {
+            bookings += row.getBookingCount();
+            cancels += row.getCancelCount();
+            attendees += row.getAttendeeSum();
+            minutes += row.getOccupiedMinutes();
+        }
+
+        BookingStatsResponse toResponse(Bucket bucket) {
+            long active = bookings - cancels;
+            return new BookingStatsResponse(
+                    bucket.roomNo(),
+                    bucket.periodStart(),
+                    bookings,
+                    cancels,
+                    bookings == 0 ? 0 : (double) cancels / bookings,
+                    minutes / 60.0,
+                    active <= 0 ? 0 : (double) attendees / active
+            );
+        }
+    }
+}
@@ -1,4 +1,11 @@
+-- 로컬 DB를 처음부터 다시 만드는 스크립트입니다. 결과는 db/migration/mysql 의 최신 버전(V8)과 같습니다.
+-- 이 스크립트로 만든 DB는 spring.flyway.baseline-version=8 으로 기준선을 잡아야 이미 반영된 버전을 다시 적용하지 않습니다.
+
+DROP TABLE IF EXISTS notification_outbox;
+DROP TABLE IF EXISTS booking_daily_stats;
+DROP TABLE IF EXISTS booking_room_locks;
 DROP TABLE IF EXISTS bookings;
+DROP TABLE IF EXISTS booking_series;
 DROP TABLE IF EXISTS meeting_rooms;
 DROP TABLE IF EXISTS booking_changes;
 
@@ -26,10 +33,65 @@ CREATE TABLE bookings (
                           booking_date timestamp NOT NULL COMMENT '예약 시작일자',
                           finishes_at timestamp DEFAULT NULL COMMENT '예약 종료일자',
                           created_at timestamp NOT NULL COMMENT '예약 생성일자',
+                          series_no bigint DEFAULT NULL COMMENT '정기 예약 번호',
                           PRIMARY KEY (booking_no),
-                          UNIQUE KEY booking_code (booking_code)
+                          UNIQUE KEY booking_code (booking_code),
+                          KEY idx_bookings_date_no (booking_date, booking_no),
+                          KEY idx_bookings_mb_date_no (mb_no, booking_date, booking_no),
+                          KEY idx_bookings_room_date_finish (meeting_room_no, booking_date, finishes_at),
+                          KEY idx_bookings_change_finish (change_no, finishes_at),
+                          KEY idx_bookings_series_date (series_no, booking_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE booking_series (
+                                series_no bigint NOT NULL AUTO_INCREMENT COMMENT '정기 예약 번호, autoincrement',
+                                mb_no bigint NOT NULL COMMENT '예약자 번호',
+                                meeting_room_no bigint NOT NULL COMMENT '회의실 번호',
+                                recurrence varchar(10) NOT NULL COMMENT '반복 주기 (DAILY, WEEKLY, BIWEEKLY)',
+                                start_time time NOT NULL COMMENT '회차 시작 시각',
+                                finish_time time NOT NULL COMMENT '회차 종료 시각',
+                                attendee_count int NOT NULL COMMENT '예약 인원',
+                                first_date date NOT NULL COMMENT '첫 회차 날짜',
+                                last_date date NOT NULL COMMENT '마지막 회차 날짜',
+                                occurrence_count int NOT NULL COMMENT '회차 수',
+                                created_at timestamp NOT NULL COMMENT '생성일자',
+                                cancelled_at timestamp NULL DEFAULT NULL COMMENT '취소일자',
+                                PRIMARY KEY (series_no),
+                                KEY idx_booking_series_mb (mb_no)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE booking_room_locks (
+                                    meeting_room_no bigint NOT NULL COMMENT '회의실 번호, 예약 직렬화용 잠금 행',
+                                    schedule_version bigint NOT NULL DEFAULT 0 COMMENT '점유 구간 버전',
+                                    PRIMARY KEY (meeting_room_no)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+
+CREATE TABLE booking_daily_stats (
+                                     meeting_room_no bigint NOT NULL COMMENT '회의실 번호',
+                                     stat_date date NOT NULL COMMENT '예약 시작일',
+                                     booking_count bigint NOT NULL COMMENT '예약 건수',
+                                     cancel_count bigint NOT NULL COMMENT '취소 건수',
+                                     attendee_sum bigint NOT NULL COMMENT '예약 인원 합계, 취소 제외',
+                                     occupied_minutes bigint NOT NULL COMMENT '점유 시간(분), 취소 제외',
+                                     PRIMARY KEY (meeting_room_no, stat_date),
+                                     KEY idx_booking_daily_stats_date (stat_date)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 
+CREATE TABLE notification_outbox (
+                                     outbox_no bigint NOT NULL AUTO_INCREMENT COMMENT '알림 번호, autoincrement',
+                                     notification_type varchar(30) NOT NULL COMMENT '알림 유형',
+                                     booking_no bigint NOT NULL COMMENT '예약 번호',
+                                     recipient varchar(100) NOT NULL COMMENT '수신자 이메일',
+                                     status varchar(10) NOT NULL COMMENT '발송 상태 (PENDING, SENT, DEAD)',
+                                     attempts int NOT NULL COMMENT '발송 시도 횟수',
+                                     next_attempt_at timestamp NOT NULL COMMENT '다음 발송 시각',
+                                     last_error varchar(500) DEFAULT NULL COMMENT '마지막 실패 사유',
+                                     created_at timestamp NOT NULL COMMENT '생성일자',
+                                     sent_at timestamp NULL DEFAULT NULL COMMENT '발송일자',
+                                     PRIMARY KEY (outbox_no),
+                                     KEY idx_notification_outbox_status_next (status, next_attempt_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 
 ALTER TABLE meeting_rooms
     MODIFY meeting_room_no bigint NOT NULL AUTO_INCREMENT COMMENT '회의실 번호, autoincrement';
@@ -43,7 +105,12 @@ ALTER TABLE bookings
 ALTER TABLE bookings
     ADD CONSTRAINT fk_bookings_members FOREIGN KEY (mb_no) REFERENCES members(mb_no),
 	ADD CONSTRAINT fk_bookings_rooms FOREIGN KEY (meeting_room_no) REFERENCES meeting_rooms(meeting_room_no),
-	ADD CONSTRAINT fk_bookings_changes FOREIGN KEY (change_no) REFERENCES booking_changes(change_no);
+	ADD CONSTRAINT fk_bookings_changes FOREIGN KEY (change_no) REFERENCES booking_changes(change_no),
+	ADD CONSTRAINT fk_bookings_series FOREIGN KEY (series_no) REFERENCES booking_series(series_no);
+
+ALTER TABLE booking_series
+    ADD CONSTRAINT fk_booking_series_members FOREIGN KEY (mb_no) REFERENCES members(mb_no),
+    ADD CONSTRAINT fk_booking_series_rooms FOREIGN KEY (meeting_room_no) REFERENCES meeting_rooms(meeting_room_no);
 
 ALTER TABLE booking_changes AUTO_INCREMENT = 1;
 
@@ -51,11 +118,25 @@ INSERT INTO booking_changes(change_name) VALUES
                                              ('연장'),
                                              ('종료'),
                                              ('취소'),
-                                             ('변경');
+                                             ('변경'),
+                                             ('사용중');
 
 INSERT INTO meeting_rooms (meeting_room_name, meeting_room_capacity) VALUES
                                                                          ('회의실A', 10),
                                                                          ('회의실B', 20),
                                                                          ('회의실C', 15),
                                                                          ('회의실D', 8),
-                                                                         ('회의실E', 25);
\ No newline at end of file
+                                                                         ('회의실E', 25);
+
+INSERT INTO booking_room_locks (meeting_room_no)
+SELECT meeting_room_no FROM meeting_rooms;
+
+INSERT INTO booking_daily_stats (meeting_room_no, stat_date, booking_count, cancel_count, attendee_sum, occupied_minutes)
+SELECT meeting_room_no,
+       DATE(booking_date),
+       COUNT(*),
+       SUM(CASE WHEN finishes_at IS NULL THEN 1 ELSE 0 END),
+       SUM(CASE WHEN finishes_at IS NULL THEN 0 ELSE attendee_count END),
+       SUM(CASE WHEN finishes_at IS NULL THEN 0 ELSE TIMESTAMPDIFF(MINUTE, booking_date, finishes_at) END)
+FROM bookings
+GROUP BY meeting_room_no, DATE(booking_date);
@@ -0,0 +1,28 @@
+CREATE TABLE IF NOT EXISTS booking_room_locks (
+                                    meeting_room_no bigint NOT NULL COMMENT '회의실 번호, 예약 직렬화용 잠금 행',
+                                    PRIMARY KEY (meeting_room_no)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+INSERT IGNORE INTO booking_room_locks (meeting_room_no)
+SELECT meeting_room_no FROM meeting_rooms;
+
+CREATE TABLE IF NOT EXISTS booking_daily_stats (
+                                     meeting_room_no bigint NOT NULL COMMENT '회의실 번호',
+                                     stat_date date NOT NULL COMMENT '예약 시작일',
+                                     booking_count bigint NOT NULL COMMENT '예약 건수',
+                                     cancel_count bigint NOT NULL COMMENT '취소 건수',
+                                     attendee_sum bigint NOT NULL COMMENT '예약 인원 합계, 취소 제외',
+                                     occupied_minutes bigint NOT NULL COMMENT '점유 시간(분), 취소 제외',
+                                     PRIMARY KEY (meeting_room_no, stat_date),
+                                     KEY idx_booking_daily_stats_date (stat_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+INSERT IGNORE INTO booking_daily_stats (meeting_room_no, stat_date, booking_count, cancel_count, attendee_sum, occupied_minutes)
+SELECT meeting_room_no,
+       DATE(booking_date),
+       COUNT(*),
+       SUM(CASE WHEN finishes_at IS NULL THEN 1 ELSE 0 END),
+       SUM(CASE WHEN finishes_at IS NULL THEN 0 ELSE attendee_count END),
+       SUM(CASE WHEN finishes_at IS NULL THEN 0 ELSE TIMESTAMPDIFF(MINUTE, booking_date, finishes_at) END)
+FROM bookings
+GROUP BY meeting_room_no, DATE(booking_date);
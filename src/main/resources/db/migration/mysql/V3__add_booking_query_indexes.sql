@@ -0,0 +1,13 @@
+-- 커서 조회 (findBookingsByCursor) : ORDER BY booking_date DESC, booking_no DESC
+-- 예약 알림 대상 조회 (findBookingsToRemind) : booking_date 1분 범위
+ALTER TABLE bookings
+    ADD INDEX idx_bookings_date_no (booking_date, booking_no);
+
+-- 회원별 목록/커서/개수 조회 (findBookings, findBookingsByCursor, countBookings) : mb_no = ?
+ALTER TABLE bookings
+    ADD INDEX idx_bookings_mb_date_no (mb_no, booking_date, booking_no);
+
+-- 겹침 검사 (existsOverlappingBooking) : meeting_room_no = ? AND booking_date < ? AND finishes_at > ?
+-- 일별 조회 (findBookingsByDate) : meeting_room_no = ? AND booking_date >= ? AND booking_date < ?
+ALTER TABLE bookings
+    ADD INDEX idx_bookings_room_date_finish (meeting_room_no, booking_date, finishes_at);
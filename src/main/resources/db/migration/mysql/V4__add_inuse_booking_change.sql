@@ -0,0 +1,4 @@
+-- BookingChangeType.INUSE(5, '사용중')에 해당하는 행이 V1 초기 데이터에 빠져 있어 추가합니다.
+INSERT INTO booking_changes (change_no, change_name)
+SELECT 5, '사용중' FROM DUAL
+WHERE NOT EXISTS (SELECT 1 FROM booking_changes WHERE change_no = 5);
@@ -0,0 +1,3 @@
+-- 자동 종료 대상 조회 (findExpiredInUseBookings) : change_no = 5(사용중) AND finishes_at <= ? ORDER BY finishes_at FOR UPDATE SKIP LOCKED
+ALTER TABLE bookings
+    ADD INDEX idx_bookings_change_finish (change_no, finishes_at);
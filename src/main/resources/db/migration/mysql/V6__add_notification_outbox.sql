@@ -0,0 +1,16 @@
+-- 예약 알림 발송함 : 예약 트랜잭션에서 적재하고 NotificationOutboxDispatcher가 발송합니다.
+-- 발송 대상 조회 (findDueForUpdate) : status = 'PENDING' AND next_attempt_at <= ? ORDER BY next_attempt_at
+CREATE TABLE IF NOT EXISTS notification_outbox (
+                                     outbox_no bigint NOT NULL AUTO_INCREMENT COMMENT '알림 번호, autoincrement',
+                                     notification_type varchar(30) NOT NULL COMMENT '알림 유형',
+                                     booking_no bigint NOT NULL COMMENT '예약 번호',
+                                     recipient varchar(100) NOT NULL COMMENT '수신자 이메일',
+                                     status varchar(10) NOT NULL COMMENT '발송 상태 (PENDING, SENT, DEAD)',
+                                     attempts int NOT NULL COMMENT '발송 시도 횟수',
+                                     next_attempt_at timestamp NOT NULL COMMENT '다음 발송 시각',
+                                     last_error varchar(500) DEFAULT NULL COMMENT '마지막 실패 사유',
+                                     created_at timestamp NOT NULL COMMENT '생성일자',
+                                     sent_at timestamp NULL DEFAULT NULL COMMENT '발송일자',
+                                     PRIMARY KEY (outbox_no),
+                                     KEY idx_notification_outbox_status_next (status, next_attempt_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
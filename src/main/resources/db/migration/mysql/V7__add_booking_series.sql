@@ -0,0 +1,25 @@
+-- 정기 예약 : 회차마다 bookings 행을 하나씩 만들고 series_no로 묶습니다.
+-- 회차 조회 (findSeriesBookings) : series_no = ? AND booking_date >= ? ORDER BY booking_date
+CREATE TABLE IF NOT EXISTS booking_series (
+                                series_no bigint NOT NULL AUTO_INCREMENT COMMENT '정기 예약 번호, autoincrement',
+                                mb_no bigint NOT NULL COMMENT '예약자 번호',
+                                meeting_room_no bigint NOT NULL COMMENT '회의실 번호',
+                                recurrence varchar(10) NOT NULL COMMENT '반복 주기 (DAILY, WEEKLY, BIWEEKLY)',
+                                start_time time NOT NULL COMMENT '회차 시작 시각',
+                                finish_time time NOT NULL COMMENT '회차 종료 시각',
+                                attendee_count int NOT NULL COMMENT '예약 인원',
+                                first_date date NOT NULL COMMENT '첫 회차 날짜',
+                                last_date date NOT NULL COMMENT '마지막 회차 날짜',
+                                occurrence_count int NOT NULL COMMENT '회차 수',
+                                created_at timestamp NOT NULL COMMENT '생성일자',
+                                cancelled_at timestamp NULL DEFAULT NULL COMMENT '취소일자',
+                                PRIMARY KEY (series_no),
+                                KEY idx_booking_series_mb (mb_no),
+                                CONSTRAINT fk_booking_series_members FOREIGN KEY (mb_no) REFERENCES members(mb_no),
+                                CONSTRAINT fk_booking_series_rooms FOREIGN KEY (meeting_room_no) REFERENCES meeting_rooms(meeting_room_no)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+ALTER TABLE bookings
+    ADD COLUMN series_no bigint DEFAULT NULL COMMENT '정기 예약 번호',
+    ADD INDEX idx_bookings_series_date (series_no, booking_date),
+    ADD CONSTRAINT fk_bookings_series FOREIGN KEY (series_no) REFERENCES booking_series(series_no);
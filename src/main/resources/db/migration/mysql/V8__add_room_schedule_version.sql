@@ -0,0 +1,4 @@
+-- 회의실 점유 구간 버전 : 잠금을 잡고 점유 구간을 늘리거나 옮길 때마다 1씩 올립니다.
+-- 인스턴스별 인메모리 인덱스는 자신이 반영한 버전과 같을 때만 "겹침 없음"을 믿고 DB 겹침 조회를 생략합니다.
+ALTER TABLE booking_room_locks
+    ADD COLUMN schedule_version bigint NOT NULL DEFAULT 0 COMMENT '점유 구간 버전';
@@ -0,0 +1,186 @@
+package com.nhnacademy.bookingservice;
+
+import com.nhnacademy.bookingservice.common.adaptor.MeetingRoomAdaptor;
+import com.nhnacademy.bookingservice.common.adaptor.MemberAdaptor;
+import com.nhnacademy.bookingservice.common.adaptor.NotifyAdaptor;
+import com.nhnacademy.bookingservice.common.exception.ConflictException;
+import com.nhnacademy.bookingservice.common.generator.CodeGenerator;
+import com.nhnacademy.bookingservice.domain.Booking;
+import com.nhnacademy.bookingservice.dto.BookingRegisterRequest;
+import com.nhnacademy.bookingservice.dto.MeetingRoomResponse;
+import com.nhnacademy.bookingservice.dto.MemberResponse;
+import com.nhnacademy.bookingservice.repository.BookingRepository;
+import com.nhnacademy.bookingservice.service.BookingService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * 같은 회의실에 동시에 예약 요청이 몰릴 때의 중복 예약 방지와 처리량을 확인합니다.
+ */
+@Slf4j
+@ActiveProfiles("test")
+@SpringBootTest(properties = "booking.lock.wait-timeout=PT10S")
+class BookingConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @MockitoBean
+    CodeGenerator codeGenerator;
+
+    @MockitoBean
+    MeetingRoomAdaptor meetingRoomAdaptor;
+
+    @MockitoBean
+    MemberAdaptor memberAdaptor;
+
+    @MockitoBean
+    NotifyAdaptor notifyAdaptor;
+
+    MemberResponse member;
+
+    @BeforeEach
+    void setUp() {
+        AtomicInteger sequence = new AtomicInteger();
+        when(codeGenerator.generateCode()).thenAnswer(invocation -> "C%08d".formatted(sequence.incrementAndGet()));
+        when(meetingRoomAdaptor.getMeetingRoom(Mockito.anyLong()))
+                .thenAnswer(invocation -> new MeetingRoomResponse(invocation.getArgument(0), "회의실", 10));
+        member = new MemberResponse(1L, "test", "test@test.com", "010-1111-1111", "ROLE_USER");
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 시간대 동시 예약 - 하나만 성공")
+    void register_sameSlot() throws Exception {
+        BookingRegisterRequest request = new BookingRegisterRequest(1L, "2030-01-07", "09:00", "10:00", 4);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger conflict = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    bookingService.register(request, member);
+                    success.incrementAndGet();
+                } catch (ConflictException e) {
+                    conflict.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        try {
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(success.get()).isEqualTo(1);
+        assertThat(conflict.get()).isEqualTo(THREADS - 1);
+        assertThat(bookingRepository.findAll()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("같은 회의실 경합 처리량 - 한 회의실과 여러 회의실 비교")
+    void register_contentionBenchmark() throws Exception {
+        int perThread = 10;
+
+        double sameRoom = measure(perThread, thread -> 1L);
+        assertNoOverlap(THREADS * perThread);
+        bookingRepository.deleteAll();
+
+        double spreadRooms = measure(perThread, thread -> 100L + thread);
+        assertNoOverlap(THREADS * perThread);
+
+        log.info("예약 처리량 - 한 회의실: {} ops/s, 회의실 {}개: {} ops/s",
+                "%.1f".formatted(sameRoom), THREADS, "%.1f".formatted(spreadRooms));
+    }
+
+    private double measure(int perThread, IntFunction<Long> roomOfThread) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    // 스레드마다 서로 다른 날짜, 같은 날짜 안에서는 30분 단위로 겹치지 않는 슬롯을 예약합니다.
+                    LocalDate date = LocalDate.parse("2030-01-01").plusDays(thread);
+                    LocalTime startsAt = LocalTime.of(8, 0).plusMinutes(30L * i);
+                    BookingRegisterRequest request = new BookingRegisterRequest(roomOfThread.apply(thread), date.toString(),
+                            startsAt.toString(), startsAt.plusMinutes(30).toString(), 4);
+                    bookingService.register(request, member);
+                }
+                return null;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        try {
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        long elapsed = System.nanoTime() - begin;
+
+        return THREADS * perThread / (elapsed / 1_000_000_000.0);
+    }
+
+    private void assertNoOverlap(int expected) {
+        List<Booking> bookings = new ArrayList<>(bookingRepository.findAll());
+        assertThat(bookings).hasSize(expected);
+
+        bookings.sort(Comparator.comparing(Booking::getMeetingRoomNo).thenComparing(Booking::getBookingDate));
+        for (int i = 1; i < bookings.size(); i++) {
+            Booking prev = bookings.get(i - 1);
+            Booking next = bookings.get(i);
+            if (prev.getMeetingRoomNo().equals(next.getMeetingRoomNo())) {
+                assertThat(prev.getFinishesAt()).isBeforeOrEqualTo(next.getBookingDate());
+            }
+        }
+    }
+}
@@ -25,6 +25,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -488,9 +489,7 @@ class BookingIntegrationTest {
         when(codeGenerator.generateCode()).thenReturn("B-CODE-003");
         bookingService.register(request3, other);
 
-        when(memberAdaptor.getMemberByMbNo(1L)).thenReturn(member);
-        when(memberAdaptor.getMemberByMbNo(2L)).thenReturn(admin);
-        when(memberAdaptor.getMemberByMbNo(3L)).thenReturn(other);
+        when(memberAdaptor.getMembersByMbNos(anyList())).thenReturn(List.of(member, admin, other));
 
         mockMvc.perform(
                         get("/api/v1/bookings/statistics")
@@ -518,9 +517,7 @@ class BookingIntegrationTest {
         when(codeGenerator.generateCode()).thenReturn("B-CODE-003");
         bookingService.register(request3, other);
 
-        when(memberAdaptor.getMemberByMbNo(1L)).thenReturn(member);
-        when(memberAdaptor.getMemberByMbNo(2L)).thenReturn(admin);
-        when(memberAdaptor.getMemberByMbNo(3L)).thenReturn(other);
+        when(memberAdaptor.getMembersByMbNos(anyList())).thenReturn(List.of(member, admin, other));
 
         mockMvc.perform(
                         get("/api/v1/bookings")
@@ -564,8 +561,7 @@ class BookingIntegrationTest {
         when(codeGenerator.generateCode()).thenReturn("B-CODE-003");
         bookingService.register(request3, other);
 
-        when(memberAdaptor.getMemberByMbNo(1L)).thenReturn(member);
-        when(memberAdaptor.getMemberByMbNo(2L)).thenReturn(admin);
+        when(memberAdaptor.getMembersByMbNos(anyList())).thenReturn(List.of(member, admin));
 
         mockMvc.perform(
                         get("/api/v1/bookings/meeting-rooms/{roomNo}/date/{date}", 1L, "2025-04-29")
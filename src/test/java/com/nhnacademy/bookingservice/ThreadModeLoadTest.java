@@ -0,0 +1,238 @@
+package com.nhnacademy.bookingservice;
+
+import com.nhnacademy.bookingservice.domain.Booking;
+import com.nhnacademy.bookingservice.repository.BookingRepository;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 플랫폼 스레드와 가상 스레드 모드에서 같은 부하를 주고 처리량과 p99 응답 시간을 비교합니다.
+ * <p>
+ * member-service, meeting-room-service는 응답마다 {@code booking.load-test.latency}만큼 지연하는 로컬 스텁 서버로 대체하고,
+ * 관리자 예약 목록({@code GET /api/v1/bookings})을 {@code booking.load-test.concurrency}개 클라이언트가 계속 호출합니다.
+ * 시간이 오래 걸리므로 평소에는 건너뛰며, 다음처럼 실행합니다.
+ * <pre>
+ * mvn test -Dtest=ThreadModeLoadTest -Dbooking.load-test=true [-Dbooking.load-test.concurrency=400 -Dbooking.load-test.duration=PT20S]
+ * </pre>
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "booking.load-test", matches = "true")
+class ThreadModeLoadTest {
+
+    private static final String ADMIN_EMAIL = "admin@test.com";
+
+    private final int concurrency = Integer.getInteger("booking.load-test.concurrency", 400);
+    private final Duration duration = Duration.parse(System.getProperty("booking.load-test.duration", "PT15S"));
+    private final Duration warmUp = Duration.parse(System.getProperty("booking.load-test.warm-up", "PT5S"));
+    private final Duration latency = Duration.parse(System.getProperty("booking.load-test.latency", "PT0.1S"));
+
+    private HttpServer stub;
+    private ExecutorService stubExecutor;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        stub = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        stub.setExecutor(stubExecutor);
+        stub.createContext("/api/v1/members", this::members);
+        stub.createContext("/api/v1/meeting-rooms", this::meetingRooms);
+        stub.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.stop(0);
+        stubExecutor.close();
+    }
+
+    @Test
+    @DisplayName("플랫폼 스레드 / 가상 스레드 처리량과 p99 비교")
+    void compare() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        log.warn("""
+
+                스레드 모드 부하 비교 (동시 클라이언트 {}, 스텁 지연 {}ms, 측정 {}초)
+                  mode      requests   errors   throughput(rps)   p50(ms)   p99(ms)   pinned
+                  {}
+                  {}""",
+                concurrency, latency.toMillis(), duration.toSeconds(), platform, virtual);
+
+        assertThat(platform.errors()).isZero();
+        assertThat(virtual.errors()).isZero();
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        String stubUrl = "http://localhost:" + stub.getAddress().getPort();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BookingServiceApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "member-service.url=" + stubUrl,
+                        "meeting-room-service.url=" + stubUrl,
+                        "spring.cloud.config.enabled=false",
+                        "eureka.client.enabled=false",
+                        "spring.datasource.hikari.maximum-pool-size=" + concurrency,
+                        "logging.level.root=WARN")
+                .run()) {
+            seed(context.getBean(BookingRepository.class));
+            URI uri = URI.create("http://localhost:%s/api/v1/bookings?page=0&size=10"
+                    .formatted(context.getEnvironment().getProperty("local.server.port")));
+
+            drive(uri, warmUp);
+            Result result = drive(uri, duration);
+
+            String mode = virtualThreads ? "virtual" : "platform";
+            Timer pinned = context.getBean(MeterRegistry.class).find("booking.virtual-thread.pinned").timer();
+            return result.withMode(mode, pinned == null ? 0 : pinned.count());
+        }
+    }
+
+    private void seed(BookingRepository bookingRepository) {
+        LocalDateTime base = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+        bookingRepository.saveAll(IntStream.range(0, 100)
+                .mapToObj(i -> Booking.ofNewBooking("load" + i, base.plusHours(i), 4, base.plusHours(i).plusMinutes(30),
+                        (long) (i % 10) + 1, null, (long) (i % 3) + 1))
+                .toList());
+    }
+
+    private Result drive(URI uri, Duration window) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+        HttpRequest request = HttpRequest.newBuilder(uri).header("X-USER", ADMIN_EMAIL).GET().build();
+        long until = System.nanoTime() + window.toNanos();
+        AtomicLong errors = new AtomicLong();
+        List<long[]> latencies = new ArrayList<>();
+
+        List<Thread> clients = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            long[] samples = new long[(int) Math.max(1024, window.toMillis())];
+            latencies.add(samples);
+            clients.add(Thread.ofVirtual().start(() -> {
+                int n = 0;
+                while (System.nanoTime() < until && n < samples.length - 1) {
+                    long start = System.nanoTime();
+                    try {
+                        if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (IOException e) {
+                        errors.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    samples[++n] = System.nanoTime() - start;
+                }
+                samples[0] = n;
+            }));
+        }
+        for (Thread thread : clients) {
+            thread.join();
+        }
+
+        long[] all = latencies.stream()
+                .flatMapToLong(samples -> Arrays.stream(samples, 1, (int) samples[0] + 1))
+                .sorted()
+                .toArray();
+        return new Result("", all.length, errors.get(), all.length / (double) window.toSeconds(),
+                percentile(all, 0.50), percentile(all, 0.99), 0);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1_000_000.0;
+    }
+
+    private void members(HttpExchange exchange) throws IOException {
+        sleep();
+        String path = exchange.getRequestURI().getPath();
+        String body;
+        if (path.endsWith("/batch")) {
+            String ids;
+            try (InputStream in = exchange.getRequestBody()) {
+                ids = new String(in.readAllBytes(), StandardCharsets.UTF_8).replaceAll("[\\[\\]\\s]", "");
+            }
+            body = ids.isEmpty() ? "[]" : Arrays.stream(ids.split(","))
+                    .map(no -> member(Long.parseLong(no), "member" + no + "@test.com", "ROLE_USER"))
+                    .collect(Collectors.joining(",", "[", "]"));
+        } else {
+            body = member(1L, ADMIN_EMAIL, "ROLE_ADMIN");
+        }
+        respond(exchange, body);
+    }
+
+    private void meetingRooms(HttpExchange exchange) throws IOException {
+        sleep();
+        String path = exchange.getRequestURI().getPath();
+        String no = path.substring(path.lastIndexOf('/') + 1);
+        respond(exchange, "{\"no\":%s,\"meetingRoomName\":\"회의실 %s\",\"meetingRoomCapacity\":10}".formatted(no, no));
+    }
+
+    private static String member(long no, String email, String role) {
+        return "{\"no\":%d,\"name\":\"회원%d\",\"email\":\"%s\",\"phoneNumber\":\"010-0000-0000\",\"roleName\":\"%s\"}"
+                .formatted(no, no, email, role);
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+
+    private record Result(String mode, long requests, long errors, double throughput, double p50, double p99, long pinned) {
+
+        Result withMode(String mode, long pinned) {
+            return new Result(mode, requests, errors, throughput, p50, p99, pinned);
+        }
+
+        @Override
+        public String toString() {
+            return "%-8s  %9d  %7d  %16.1f  %8.1f  %8.1f  %7d".formatted(mode, requests, errors, throughput, p50, p99, pinned);
+        }
+    }
+}
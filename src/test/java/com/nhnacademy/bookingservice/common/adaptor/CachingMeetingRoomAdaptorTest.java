@@ -0,0 +1,132 @@
+package com.nhnacademy.bookingservice.common.adaptor;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.nhnacademy.bookingservice.dto.MeetingRoomResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingMeetingRoomAdaptorTest {
+
+    @Mock
+    private MeetingRoomAdaptor meetingRoomClient;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = nanos::get;
+    private final Queue<Runnable> refreshes = new ArrayDeque<>();
+
+    private MeterRegistry meterRegistry;
+    private CachingMeetingRoomAdaptor adaptor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        adaptor = new CachingMeetingRoomAdaptor(meetingRoomClient, meterRegistry, 100,
+                Duration.ofMinutes(30), Duration.ofMinutes(10), ticker, refreshes::add);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private void runRefreshes() {
+        Runnable task;
+        while ((task = refreshes.poll()) != null) {
+            task.run();
+        }
+    }
+
+    @Test
+    @DisplayName("회의실 조회 - 두 번째 조회부터 캐시 적중")
+    void getMeetingRoom_hit() {
+        MeetingRoomResponse room = new MeetingRoomResponse(1L, "회의실 A", 10);
+        when(meetingRoomClient.getMeetingRoom(1L)).thenReturn(room);
+
+        assertEquals(room, adaptor.getMeetingRoom(1L));
+        assertEquals(room, adaptor.getMeetingRoom(1L));
+        assertEquals(room, adaptor.getMeetingRoom(1L));
+
+        verify(meetingRoomClient, times(1)).getMeetingRoom(1L);
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", "meetingRooms").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "meetingRooms").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("회의실 조회 - 갱신 주기가 지나면 기존 값을 반환하고 다시 읽음")
+    void getMeetingRoom_refreshAhead() {
+        MeetingRoomResponse before = new MeetingRoomResponse(1L, "회의실 A", 10);
+        MeetingRoomResponse after = new MeetingRoomResponse(1L, "회의실 A", 12);
+        when(meetingRoomClient.getMeetingRoom(1L)).thenReturn(before, after);
+
+        adaptor.getMeetingRoom(1L);
+        advance(Duration.ofMinutes(11));
+
+        assertEquals(before, adaptor.getMeetingRoom(1L));
+        runRefreshes();
+        assertEquals(after, adaptor.getMeetingRoom(1L));
+        verify(meetingRoomClient, times(2)).getMeetingRoom(1L);
+    }
+
+    @Test
+    @DisplayName("회의실 조회 - 만료 후 다시 읽음")
+    void getMeetingRoom_expired() {
+        MeetingRoomResponse before = new MeetingRoomResponse(1L, "회의실 A", 10);
+        MeetingRoomResponse after = new MeetingRoomResponse(1L, "회의실 B", 10);
+        when(meetingRoomClient.getMeetingRoom(1L)).thenReturn(before, after);
+
+        adaptor.getMeetingRoom(1L);
+        advance(Duration.ofMinutes(31));
+
+        assertEquals(after, adaptor.getMeetingRoom(1L));
+    }
+
+    @Test
+    @DisplayName("회의실 조회 - 갱신 풀이 가득 차 거절되면 기존 값을 반환")
+    void getMeetingRoom_refreshRejected() {
+        CachingMeetingRoomAdaptor rejecting = new CachingMeetingRoomAdaptor(meetingRoomClient, meterRegistry, 100,
+                Duration.ofMinutes(30), Duration.ofMinutes(10), ticker, task -> {
+                    throw new RejectedExecutionException("full");
+                });
+        MeetingRoomResponse room = new MeetingRoomResponse(1L, "회의실 A", 10);
+        when(meetingRoomClient.getMeetingRoom(1L)).thenReturn(room);
+
+        rejecting.getMeetingRoom(1L);
+        advance(Duration.ofMinutes(11));
+
+        assertEquals(room, rejecting.getMeetingRoom(1L));
+        verify(meetingRoomClient, times(1)).getMeetingRoom(1L);
+    }
+
+    @Test
+    @DisplayName("회의실 목록 조회 - 목록을 캐시하고 회의실별 항목도 채움")
+    void getMeetingRooms() {
+        MeetingRoomResponse room = new MeetingRoomResponse(1L, "회의실 A", 10);
+        when(meetingRoomClient.getMeetingRooms()).thenReturn(List.of(room));
+
+        assertEquals(List.of(room), adaptor.getMeetingRooms());
+        assertEquals(List.of(room), adaptor.getMeetingRooms());
+        assertEquals(room, adaptor.getMeetingRoom(1L));
+
+        verify(meetingRoomClient, times(1)).getMeetingRooms();
+        verify(meetingRoomClient, never()).getMeetingRoom(1L);
+    }
+}
@@ -0,0 +1,105 @@
+package com.nhnacademy.bookingservice.common.adaptor;
+
+import com.nhnacademy.bookingservice.dto.MemberResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingMemberAdaptorTest {
+
+    @Mock
+    private MemberAdaptor memberClient;
+
+    private CachingMemberAdaptor adaptor;
+
+    private MemberResponse member;
+
+    @BeforeEach
+    void setUp() {
+        adaptor = new CachingMemberAdaptor(memberClient, new SimpleMeterRegistry(), 100, Duration.ofSeconds(30));
+        member = new MemberResponse(1L, "test", "test@test.com", "010-1111-1111", "ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("이메일 조회 - 두 번째 조회부터 캐시 적중")
+    void getMemberByEmail_hit() {
+        when(memberClient.getMemberByEmail("test@test.com")).thenReturn(member);
+
+        assertSame(member, adaptor.getMemberByEmail("test@test.com"));
+        assertSame(member, adaptor.getMemberByEmail("test@test.com"));
+
+        verify(memberClient, times(1)).getMemberByEmail("test@test.com");
+    }
+
+    @Test
+    @DisplayName("이메일 조회 - 동시 조회는 한 번만 호출")
+    void getMemberByEmail_singleFlight() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(memberClient.getMemberByEmail("test@test.com")).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return member;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<MemberResponse>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> adaptor.getMemberByEmail("test@test.com")));
+            loading.await(5, TimeUnit.SECONDS);
+            for (int i = 0; i < 7; i++) {
+                futures.add(executor.submit(() -> adaptor.getMemberByEmail("test@test.com")));
+            }
+            release.countDown();
+
+            for (Future<MemberResponse> future : futures) {
+                assertSame(member, future.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(memberClient, times(1)).getMemberByEmail("test@test.com");
+    }
+
+    @Test
+    @DisplayName("회원 번호 조회 - 캐시하지 않고 위임")
+    void getMemberByMbNo() {
+        when(memberClient.getMemberByMbNo(1L)).thenReturn(member);
+
+        adaptor.getMemberByMbNo(1L);
+        adaptor.getMemberByMbNo(1L);
+
+        verify(memberClient, times(2)).getMemberByMbNo(1L);
+    }
+
+    @Test
+    @DisplayName("이메일 조회 - 헤더가 없으면 캐시하지 않고 위임")
+    void getMemberByEmail_null() {
+        when(memberClient.getMemberByEmail(null)).thenReturn(null);
+
+        assertNull(adaptor.getMemberByEmail(null));
+
+        verify(memberClient, times(1)).getMemberByEmail(null);
+    }
+}
@@ -0,0 +1,55 @@
+package com.nhnacademy.bookingservice.common.adaptor;
+
+import com.nhnacademy.bookingservice.common.config.ResilienceConfig;
+import com.nhnacademy.bookingservice.common.exception.CommonHttpException;
+import com.nhnacademy.bookingservice.common.exception.ServiceUnavailableException;
+import com.nhnacademy.bookingservice.dto.MeetingRoomResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ResilientMeetingRoomAdaptorTest {
+
+    @Mock
+    private MeetingRoomAdaptor meetingRoomClient;
+
+    private ResilientMeetingRoomAdaptor adaptor;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ResilienceConfig config = new ResilienceConfig();
+        adaptor = new ResilientMeetingRoomAdaptor(meetingRoomClient,
+                config.circuitBreakerRegistry(meterRegistry, 20, 10, 50, Duration.ofSeconds(2), Duration.ofSeconds(30), 3),
+                config.bulkheadRegistry(meterRegistry), 20, 100, Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("회의실 조회 실패 - 마지막으로 조회한 회의실 반환")
+    void getMeetingRoom_fallback() {
+        MeetingRoomResponse room = new MeetingRoomResponse(1L, "회의실 A", 10);
+        when(meetingRoomClient.getMeetingRoom(1L)).thenReturn(room).thenThrow(new CommonHttpException("unavailable", 503));
+
+        assertSame(room, adaptor.getMeetingRoom(1L));
+        assertSame(room, adaptor.getMeetingRoom(1L));
+    }
+
+    @Test
+    @DisplayName("회의실 조회 실패 - 조회한 적 없으면 503")
+    void getMeetingRoom_unavailable() {
+        when(meetingRoomClient.getMeetingRoom(2L)).thenThrow(new CommonHttpException("unavailable", 503));
+
+        assertThrows(ServiceUnavailableException.class, () -> adaptor.getMeetingRoom(2L));
+    }
+}
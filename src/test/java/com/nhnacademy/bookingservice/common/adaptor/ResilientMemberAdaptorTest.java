@@ -0,0 +1,107 @@
+package com.nhnacademy.bookingservice.common.adaptor;
+
+import com.nhnacademy.bookingservice.common.config.ResilienceConfig;
+import com.nhnacademy.bookingservice.common.exception.CommonHttpException;
+import com.nhnacademy.bookingservice.common.exception.NotFoundException;
+import com.nhnacademy.bookingservice.common.exception.ServiceUnavailableException;
+import com.nhnacademy.bookingservice.dto.ConfirmPasswordRequest;
+import com.nhnacademy.bookingservice.dto.MemberResponse;
+import feign.RetryableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ResilientMemberAdaptorTest {
+
+    @Mock
+    private MemberAdaptor memberClient;
+
+    private ResilientMemberAdaptor adaptor;
+
+    private MemberResponse member;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ResilienceConfig config = new ResilienceConfig();
+        adaptor = new ResilientMemberAdaptor(memberClient,
+                config.circuitBreakerRegistry(meterRegistry, 20, 10, 50, Duration.ofSeconds(2), Duration.ofSeconds(30), 3),
+                config.bulkheadRegistry(meterRegistry), 20, 100, Duration.ofHours(1));
+        member = new MemberResponse(1L, "test", "test@test.com", "010-1111-1111", "ROLE_USER");
+    }
+
+    private static RetryableException timeout() {
+        return Mockito.mock(RetryableException.class);
+    }
+
+    @Test
+    @DisplayName("이메일 조회 실패 - 로그인 확인이므로 조회한 적 있어도 503")
+    void getMemberByEmail_unavailable() {
+        when(memberClient.getMemberByEmail("test@test.com")).thenReturn(member).thenThrow(timeout());
+
+        assertSame(member, adaptor.getMemberByEmail("test@test.com"));
+        assertThrows(ServiceUnavailableException.class, () -> adaptor.getMemberByEmail("test@test.com"));
+    }
+
+    @Test
+    @DisplayName("회원 번호 조회 실패 - 이메일로 조회한 회원을 번호로 반환")
+    void getMemberByMbNo_fallback() {
+        when(memberClient.getMemberByEmail("test@test.com")).thenReturn(member);
+        when(memberClient.getMemberByMbNo(1L)).thenThrow(timeout());
+        adaptor.getMemberByEmail("test@test.com");
+
+        assertSame(member, adaptor.getMemberByMbNo(1L));
+    }
+
+    @Test
+    @DisplayName("회원 번호 조회 실패 - 조회한 적 없으면 503")
+    void getMemberByMbNo_unavailable() {
+        when(memberClient.getMemberByMbNo(1L)).thenThrow(new CommonHttpException("bad gateway", 502));
+
+        ServiceUnavailableException e = assertThrows(ServiceUnavailableException.class, () -> adaptor.getMemberByMbNo(1L));
+        assertEquals(503, e.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("회원 번호 조회 - 404는 대체 값 없이 그대로 던짐")
+    void getMemberByMbNo_notFound() {
+        when(memberClient.getMemberByEmail("test@test.com")).thenReturn(member);
+        when(memberClient.getMemberByMbNo(1L)).thenThrow(new NotFoundException());
+        adaptor.getMemberByEmail("test@test.com");
+
+        assertThrows(NotFoundException.class, () -> adaptor.getMemberByMbNo(1L));
+    }
+
+    @Test
+    @DisplayName("일괄 조회 실패 - 기억해 둔 회원만 반환")
+    void getMembersByMbNos_fallback() {
+        when(memberClient.getMemberByEmail("test@test.com")).thenReturn(member);
+        when(memberClient.getMembersByMbNos(List.of(1L, 2L))).thenThrow(timeout());
+        adaptor.getMemberByEmail("test@test.com");
+
+        assertEquals(List.of(member), adaptor.getMembersByMbNos(List.of(1L, 2L)));
+    }
+
+    @Test
+    @DisplayName("비밀번호 확인 실패 - 대체 값 없이 503")
+    void verify_unavailable() {
+        ConfirmPasswordRequest request = new ConfirmPasswordRequest();
+        when(memberClient.verify(1L, request)).thenThrow(timeout());
+
+        assertThrows(ServiceUnavailableException.class, () -> adaptor.verify(1L, request));
+    }
+}
@@ -1,108 +1,73 @@
 package com.nhnacademy.bookingservice.common.event;
 
-import com.nhnacademy.bookingservice.common.adaptor.MeetingRoomAdaptor;
-import com.nhnacademy.bookingservice.common.adaptor.NotifyAdaptor;
-import com.nhnacademy.bookingservice.dto.BookingResponse;
-import com.nhnacademy.bookingservice.dto.EmailRequest;
-import com.nhnacademy.bookingservice.dto.MeetingRoomResponse;
-import com.nhnacademy.bookingservice.repository.BookingRepository;
-import org.junit.jupiter.api.BeforeEach;
+import com.nhnacademy.bookingservice.domain.NotificationOutbox;
+import com.nhnacademy.bookingservice.domain.NotificationStatus;
+import com.nhnacademy.bookingservice.domain.NotificationType;
+import com.nhnacademy.bookingservice.repository.NotificationOutboxRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.time.LocalDateTime;
-import java.util.Optional;
-
-import static org.mockito.Mockito.when;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class BookingEmailEventListenerTest {
 
     @Mock
-    private MeetingRoomAdaptor meetingRoomAdaptor;
-
-    @Mock
-    private BookingRepository bookingRepository;
-
-    @Mock
-    private NotifyAdaptor notifyAdaptor;
+    private NotificationOutboxRepository notificationOutboxRepository;
 
     @InjectMocks
     private BookingEmailEventListener listener;
 
-    BookingResponse.MemberInfo member;
-    BookingResponse.MeetingRoomInfo room;
-
-    @BeforeEach
-    void setUp(){
-        member = new BookingResponse.MemberInfo();
-        member.setNo(1L);
-        member.setEmail("test@test.com");
-        member.setName("test");
-
-        room = new BookingResponse.MeetingRoomInfo();
-        room.setNo(1L);
-        room.setName("회의실 A");
+    private NotificationOutbox saved() {
+        ArgumentCaptor<NotificationOutbox> captor = ArgumentCaptor.forClass(NotificationOutbox.class);
+        verify(notificationOutboxRepository).save(captor.capture());
+        return captor.getValue();
     }
 
     @Test
-    @DisplayName("이메일 발송 - 예약 생성")
+    @DisplayName("발송함 적재 - 예약 생성")
     void handleBookingCreatedEvent() {
-        BookingResponse bookingResponse = new BookingResponse(1L, "test", LocalDateTime.parse("2025-04-29T09:30:00"), 8, LocalDateTime.parse("2025-04-29T08:30:00"), LocalDateTime.parse("2025-04-29T09:30:00"), null, member, room);
-        MeetingRoomResponse roomResponse = new MeetingRoomResponse(1L, "회의실 A", 6);
-
-        String email = "test@example.com";
-        Long bookingNo = 123L;
-        BookingCreatedEvent event = new BookingCreatedEvent(this, email, bookingNo);
-
-        when(bookingRepository.findByNo(Mockito.anyLong())).thenReturn(Optional.of(bookingResponse));
-        when(meetingRoomAdaptor.getMeetingRoom(Mockito.anyLong())).thenReturn(roomResponse);
-
-        listener.handleBookingCreatedEvent(event);
-
-        verify(notifyAdaptor, Mockito.times(1)).sendHtmlEmail(Mockito.any(EmailRequest.class));
+        listener.handleBookingCreatedEvent(new BookingCreatedEvent(this, "test@example.com", 123L));
+
+        NotificationOutbox outbox = saved();
+        assertAll(() -> {
+            assertEquals(NotificationType.BOOKING_CREATED, outbox.getType());
+            assertEquals(123L, outbox.getBookingNo());
+            assertEquals("test@example.com", outbox.getRecipient());
+            assertEquals(NotificationStatus.PENDING, outbox.getStatus());
+            assertEquals(0, outbox.getAttempts());
+        });
     }
 
     @Test
-    @DisplayName("이메일 발송 - 예약 수정")
+    @DisplayName("발송함 적재 - 예약 수정")
     void handleBookingChangeEvent() {
-        BookingResponse bookingResponse = new BookingResponse(1L, "test", LocalDateTime.parse("2025-04-29T09:30:00"), 8, LocalDateTime.parse("2025-04-29T08:30:00"), LocalDateTime.parse("2025-04-29T09:30:00"), null, member, room);
-        MeetingRoomResponse roomResponse = new MeetingRoomResponse(1L, "회의실 A", 6);
-
-        String email = "test@example.com";
-        Long bookingNo = 123L;
-        BookingChangeEvent event = new BookingChangeEvent(this, email, bookingNo);
-
-        when(bookingRepository.findByNo(Mockito.anyLong())).thenReturn(Optional.of(bookingResponse));
-        when(meetingRoomAdaptor.getMeetingRoom(Mockito.anyLong())).thenReturn(roomResponse);
-
-        listener.handleBookingChangeEvent(event);
+        listener.handleBookingChangeEvent(new BookingChangeEvent(this, "test@example.com", 123L));
 
-        verify(notifyAdaptor, Mockito.times(1)).sendHtmlEmail(Mockito.any(EmailRequest.class));
+        assertEquals(NotificationType.BOOKING_CHANGED, saved().getType());
     }
 
     @Test
-    @DisplayName("이메일 발송 - 예약 취소")
+    @DisplayName("발송함 적재 - 예약 취소")
     void handleBookingCancelEvent() {
-        BookingResponse bookingResponse = new BookingResponse(1L, "test", LocalDateTime.parse("2025-04-29T09:30:00"), 8, LocalDateTime.parse("2025-04-29T08:30:00"), LocalDateTime.parse("2025-04-29T09:30:00"),null, member, room);
-        MeetingRoomResponse roomResponse = new MeetingRoomResponse(1L, "회의실 A", 6);
+        listener.handleBookingCancelEvent(new BookingCancelEvent(this, "test@example.com", 123L));
 
-        String email = "test@example.com";
-        Long bookingNo = 123L;
-        BookingCancelEvent event = new BookingCancelEvent(this, email, bookingNo);
-
-        when(bookingRepository.findByNo(Mockito.anyLong())).thenReturn(Optional.of(bookingResponse));
-        when(meetingRoomAdaptor.getMeetingRoom(Mockito.anyLong())).thenReturn(roomResponse);
-
-        listener.handleBookingCancelEvent(event);
+        assertEquals(NotificationType.BOOKING_CANCELLED, saved().getType());
+    }
 
-        verify(notifyAdaptor, Mockito.times(1)).sendHtmlEmail(Mockito.any(EmailRequest.class));
+    @Test
+    @DisplayName("발송함 적재 - 정기 예약은 이벤트의 알림 유형 그대로")
+    void handleBookingSeriesEvent() {
+        listener.handleBookingSeriesEvent(new BookingSeriesEvent(this, NotificationType.BOOKING_SERIES_CANCELLED, "test@example.com", 123L));
 
+        NotificationOutbox outbox = saved();
+        assertEquals(NotificationType.BOOKING_SERIES_CANCELLED, outbox.getType());
+        assertEquals(123L, outbox.getBookingNo());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,102 @@
+package com.nhnacademy.bookingservice.common.event;
+
+import com.nhnacademy.bookingservice.common.adaptor.MeetingRoomAdaptor;
+import com.nhnacademy.bookingservice.common.adaptor.MemberAdaptor;
+import com.nhnacademy.bookingservice.common.notify.NotificationBatcher;
+import com.nhnacademy.bookingservice.common.template.BookingEmailTemplates;
+import com.nhnacademy.bookingservice.dto.BookingResponse;
+import com.nhnacademy.bookingservice.dto.BulkEmailRequest;
+import com.nhnacademy.bookingservice.dto.MeetingRoomResponse;
+import com.nhnacademy.bookingservice.dto.MemberResponse;
+import com.nhnacademy.bookingservice.repository.BookingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookingReminderEventListenerTest {
+
+    @Mock
+    private MeetingRoomAdaptor meetingRoomAdaptor;
+
+    @Mock
+    private MemberAdaptor memberAdaptor;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private NotificationBatcher notificationBatcher;
+
+    @Spy
+    private BookingEmailTemplates bookingEmailTemplates = new BookingEmailTemplates();
+
+    @InjectMocks
+    private BookingReminderEventListener listener;
+
+    BookingResponse.MemberInfo member;
+    BookingResponse.MeetingRoomInfo room;
+
+    @BeforeEach
+    void setUp() {
+        member = new BookingResponse.MemberInfo();
+        member.setNo(1L);
+
+        room = new BookingResponse.MeetingRoomInfo();
+        room.setNo(1L);
+    }
+
+    private BookingResponse booking(LocalDateTime startsAt, String changeName) {
+        return new BookingResponse(1L, "test", startsAt, 8, startsAt.plusHours(1), startsAt.minusDays(1), changeName, member, room);
+    }
+
+    @Test
+    @DisplayName("알림 발송")
+    void sendReminder() {
+        when(bookingRepository.findByNo(Mockito.anyLong())).thenReturn(Optional.of(booking(LocalDateTime.now().plusMinutes(10), null)));
+        when(memberAdaptor.getMemberByMbNo(1L)).thenReturn(new MemberResponse(1L, "test", "test@test.com", "010-1111-1111", "ROLE_USER"));
+        when(meetingRoomAdaptor.getMeetingRoom(Mockito.anyLong())).thenReturn(new MeetingRoomResponse(1L, "회의실 A", 6));
+        when(notificationBatcher.submit(Mockito.any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        listener.sendReminder(new BookingReminderEvent(this, 1L));
+
+        verify(notificationBatcher, Mockito.times(1)).submit(Mockito.argThat(message ->
+                BulkEmailRequest.Message.TEXT.equals(message.getFormat()) && message.getContent().contains("회의실 A에서 회의가 시작됩니다.")));
+    }
+
+    @Test
+    @DisplayName("알림 생략 - 취소된 예약")
+    void sendReminder_cancelled() {
+        when(bookingRepository.findByNo(Mockito.anyLong())).thenReturn(Optional.of(booking(LocalDateTime.now().plusMinutes(10), "취소")));
+
+        listener.sendReminder(new BookingReminderEvent(this, 1L));
+
+        verify(notificationBatcher, Mockito.never()).submit(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("알림 대상 - 10분 안에 시작하는 예약만")
+    void isRemindable() {
+        LocalDateTime now = LocalDateTime.parse("2025-04-29T09:20:00");
+
+        assertTrue(BookingReminderEventListener.isRemindable(booking(LocalDateTime.parse("2025-04-29T09:30:00"), "변경"), now));
+        assertFalse(BookingReminderEventListener.isRemindable(booking(LocalDateTime.parse("2025-04-29T09:30:01"), null), now));
+        assertFalse(BookingReminderEventListener.isRemindable(booking(LocalDateTime.parse("2025-04-29T10:00:00"), null), now));
+        assertFalse(BookingReminderEventListener.isRemindable(booking(LocalDateTime.parse("2025-04-29T09:20:00"), null), now));
+        assertFalse(BookingReminderEventListener.isRemindable(booking(LocalDateTime.parse("2025-04-29T09:30:00"), "사용중"), now));
+    }
+}
@@ -0,0 +1,141 @@
+package com.nhnacademy.bookingservice.common.executor;
+
+import com.nhnacademy.bookingservice.common.executor.BoundedExecutors.RejectionPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedExecutorsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ThreadPoolTaskExecutor executor;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    private ThreadPoolTaskExecutor executor(RejectionPolicy policy) {
+        executor = BoundedExecutors.create("test", 1, 1, 1, policy, false, meterRegistry);
+        executor.initialize();
+        return executor;
+    }
+
+    private void block() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).tag("name", "test").gauge().value();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 버리고 지표를 남김")
+    void drop() throws InterruptedException {
+        executor(RejectionPolicy.DROP);
+        block();
+        CountDownLatch queued = new CountDownLatch(1);
+        executor.execute(queued::countDown);
+
+        AtomicReference<String> dropped = new AtomicReference<>();
+        executor.execute(() -> dropped.set(Thread.currentThread().getName()));
+
+        assertAll(
+                () -> assertNull(dropped.get()),
+                () -> assertEquals(1.0, gauge(BoundedExecutors.ACTIVE_METRIC)),
+                () -> assertEquals(1.0, gauge(BoundedExecutors.QUEUED_METRIC)),
+                () -> assertEquals(1.0, meterRegistry.get(BoundedExecutors.REJECTED_METRIC).tag("policy", "drop").counter().count())
+        );
+
+        release.countDown();
+        assertTrue(queued.await(5, TimeUnit.SECONDS));
+        assertNull(dropped.get());
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 호출한 스레드에서 실행")
+    void callerRuns() throws InterruptedException {
+        executor(RejectionPolicy.CALLER_RUNS);
+        block();
+        executor.execute(() -> { });
+
+        AtomicReference<String> ranOn = new AtomicReference<>();
+        executor.execute(() -> ranOn.set(Thread.currentThread().getName()));
+
+        assertEquals(Thread.currentThread().getName(), ranOn.get());
+        assertEquals(1.0, meterRegistry.get(BoundedExecutors.REJECTED_METRIC).tag("policy", "caller_runs").counter().count());
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 제출한 쪽에 거절을 알림")
+    void reject() throws InterruptedException {
+        executor(RejectionPolicy.REJECT);
+        block();
+        executor.execute(() -> { });
+
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+        assertEquals(1.0, meterRegistry.get(BoundedExecutors.REJECTED_METRIC).tag("policy", "reject").counter().count());
+    }
+
+    @Test
+    @DisplayName("작업 대기/실행 시간 기록")
+    void taskLatency() throws InterruptedException {
+        executor(RejectionPolicy.DROP);
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<String> ranOn = new AtomicReference<>();
+
+        executor.execute(() -> {
+            ranOn.set(Thread.currentThread().getName());
+            done.countDown();
+        });
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        assertTrue(ranOn.get().startsWith("test-"));
+        assertEquals(1, meterRegistry.get(BoundedExecutors.WAIT_METRIC).tag("name", "test").timer().count());
+        assertEquals(1, meterRegistry.get(BoundedExecutors.DURATION_METRIC).tag("name", "test").timer().count());
+    }
+
+    @Test
+    @DisplayName("가상 스레드 모드 - 작업을 가상 스레드로 실행")
+    void virtualThreads() throws InterruptedException {
+        executor = BoundedExecutors.create("test", 1, 1, 1, RejectionPolicy.DROP, true, meterRegistry);
+        executor.initialize();
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<Boolean> virtual = new AtomicReference<>();
+
+        executor.execute(() -> {
+            virtual.set(Thread.currentThread().isVirtual());
+            done.countDown();
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(virtual.get());
+    }
+}
@@ -0,0 +1,133 @@
+package com.nhnacademy.bookingservice.common.executor;
+
+import com.nhnacademy.bookingservice.common.exception.NotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedFanOutTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    private BoundedFanOut fanOut(int parallelism, Duration deadline) {
+        return new BoundedFanOut(executor, meterRegistry, parallelism, deadline);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("동시에 실행 - 전체 소요 시간이 가장 느린 조회에 가까움")
+    void parallel() {
+        Map<Integer, Integer> results = new ConcurrentHashMap<>();
+        List<Runnable> lookups = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            int key = i;
+            lookups.add(() -> {
+                sleep(300);
+                results.put(key, key);
+            });
+        }
+
+        long start = System.nanoTime();
+        boolean completed = fanOut(4, Duration.ofSeconds(5)).runAll(lookups);
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(completed);
+        assertEquals(4, results.size());
+        assertTrue(elapsed < 1_000, "elapsed " + elapsed + "ms");
+        assertEquals(1, meterRegistry.get(BoundedFanOut.LATENCY_METRIC).timer().count());
+    }
+
+    @Test
+    @DisplayName("요청 하나의 동시 실행 수는 parallelism을 넘지 않음")
+    void boundedParallelism() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        List<Runnable> lookups = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            lookups.add(() -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(50);
+                running.decrementAndGet();
+            });
+        }
+
+        assertTrue(fanOut(2, Duration.ofSeconds(5)).runAll(lookups));
+        assertEquals(2, peak.get());
+    }
+
+    @Test
+    @DisplayName("제한 시간 초과 - 끝난 조회 결과만 남기고 false 반환")
+    void deadline() {
+        Map<String, String> results = new ConcurrentHashMap<>();
+        List<Runnable> lookups = List.of(
+                () -> results.put("fast", "ok"),
+                () -> {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    results.put("slow", "ok");
+                });
+
+        boolean completed = fanOut(2, Duration.ofMillis(200)).runAll(lookups);
+
+        assertFalse(completed);
+        assertEquals(Map.of("fast", "ok"), results);
+        assertEquals(1.0, meterRegistry.get(BoundedFanOut.TIMEOUT_METRIC).counter().count());
+    }
+
+    @Test
+    @DisplayName("조회 실패 - 예외를 그대로 던짐")
+    void failure() {
+        BoundedFanOut fanOut = fanOut(2, Duration.ofSeconds(5));
+        List<Runnable> lookups = List.of(() -> { }, () -> {
+            throw new NotFoundException("회의실을 찾을 수 없습니다.");
+        });
+
+        assertThrows(NotFoundException.class, () -> fanOut.runAll(lookups));
+    }
+
+    @Test
+    @DisplayName("조회할 것이 없으면 바로 완료")
+    void empty() {
+        assertTrue(fanOut(2, Duration.ofSeconds(5)).runAll(List.of()));
+        assertEquals(0, meterRegistry.get(BoundedFanOut.LATENCY_METRIC).timer().count());
+    }
+}
@@ -0,0 +1,68 @@
+package com.nhnacademy.bookingservice.common.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.nhnacademy.bookingservice.dto.BookingResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BookingRowWriterTest {
+
+    private BookingResponse booking;
+
+    @BeforeEach
+    void setUp() {
+        booking = new BookingResponse(1L, "test", LocalDateTime.parse("2025-04-29T09:30:00"), 8, LocalDateTime.parse("2025-04-29T10:30:00"), LocalDateTime.parse("2025-04-29T08:30:00"), null, 1L, 2L);
+        booking.getMember().setName("홍, \"길동\"");
+        booking.getRoom().setName("회의실 A");
+    }
+
+    @Test
+    @DisplayName("NDJSON - 한 줄에 한 건")
+    void ndjson() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule()).disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        BookingRowWriter writer = BookingRowWriter.of(ExportFormat.NDJSON, out, objectMapper);
+        writer.write(booking);
+        writer.write(booking);
+        writer.flush();
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(1L, objectMapper.readTree(lines[0]).get("no").asLong());
+        assertEquals("2025-04-29T09:30:00", objectMapper.readTree(lines[1]).get("startsAt").asText());
+    }
+
+    @Test
+    @DisplayName("CSV - 머리글과 이스케이프")
+    void csv() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        BookingRowWriter writer = BookingRowWriter.of(ExportFormat.CSV, out, null);
+        writer.write(booking);
+        writer.flush();
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals("no,code,startsAt,finishesAt,attendeeCount,changeName,memberNo,memberName,memberEmail,roomNo,roomName", lines[0]);
+        assertEquals("1,test,2025-04-29T09:30,2025-04-29T10:30,8,,1,\"홍, \"\"길동\"\"\",,2,회의실 A", lines[1]);
+    }
+
+    @Test
+    @DisplayName("Accept 헤더로 형식 선택")
+    void exportFormat() {
+        assertEquals(ExportFormat.CSV, ExportFormat.of(MediaType.parseMediaTypes("text/csv, application/x-ndjson")));
+        assertEquals(ExportFormat.NDJSON, ExportFormat.of(MediaType.parseMediaTypes("application/x-ndjson")));
+        assertEquals(ExportFormat.NDJSON, ExportFormat.of(MediaType.parseMediaTypes("*/*")));
+    }
+}
@@ -0,0 +1,67 @@
+package com.nhnacademy.bookingservice.common.index;
+
+import com.nhnacademy.bookingservice.common.event.BookingSlotChangedEvent;
+import com.nhnacademy.bookingservice.domain.BookingChangeType;
+import com.nhnacademy.bookingservice.domain.BookingSlot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DailyScheduleVersionsTest {
+
+    private static final LocalDate DAY = LocalDate.parse("2025-04-29");
+
+    private DailyScheduleVersions versions;
+
+    @BeforeEach
+    void setUp() {
+        versions = new DailyScheduleVersions(100, Duration.ofMinutes(1));
+    }
+
+    private static BookingSlot slot(Long roomNo, String startsAt) {
+        LocalDateTime start = LocalDateTime.parse(startsAt);
+        return new BookingSlot(1L, roomNo, start, start.plusHours(1));
+    }
+
+    @Test
+    @DisplayName("ETag - 변경이 없으면 같은 값")
+    void getETag() {
+        String eTag = versions.getETag(1L, DAY);
+
+        assertEquals(eTag, versions.getETag(1L, DAY));
+        assertNotEquals(eTag, versions.getETag(2L, DAY));
+        assertTrue(eTag.startsWith("\"") && eTag.endsWith("\""));
+    }
+
+    @Test
+    @DisplayName("ETag - 변경 전/후 예약의 회의실과 날짜만 바뀜")
+    void handleBookingSlotChangedEvent() {
+        String before = versions.getETag(1L, DAY);
+        String moved = versions.getETag(2L, DAY.plusDays(1));
+        String untouched = versions.getETag(3L, DAY);
+
+        versions.handleBookingSlotChangedEvent(new BookingSlotChangedEvent(this, 1L, BookingChangeType.CHANGE,
+                slot(1L, "2025-04-29T09:00:00"), slot(2L, "2025-04-30T09:00:00")));
+
+        assertNotEquals(before, versions.getETag(1L, DAY));
+        assertNotEquals(moved, versions.getETag(2L, DAY.plusDays(1)));
+        assertEquals(untouched, versions.getETag(3L, DAY));
+    }
+
+    @Test
+    @DisplayName("ETag - 취소된 예약은 변경 전 날짜만 바뀜")
+    void handleBookingSlotChangedEvent_cancel() {
+        String before = versions.getETag(1L, DAY);
+
+        versions.handleBookingSlotChangedEvent(new BookingSlotChangedEvent(this, 1L, BookingChangeType.CANCEL,
+                slot(1L, "2025-04-29T09:00:00"), null));
+
+        assertNotEquals(before, versions.getETag(1L, DAY));
+    }
+}
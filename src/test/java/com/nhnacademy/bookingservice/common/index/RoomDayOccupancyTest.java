@@ -0,0 +1,65 @@
+package com.nhnacademy.bookingservice.common.index;
+
+import com.nhnacademy.bookingservice.domain.BookingSlot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoomDayOccupancyTest {
+
+    private static final LocalDate DAY = LocalDate.parse("2025-04-29");
+
+    private static BookingSlot slot(Long no, String startsAt, String finishesAt) {
+        return new BookingSlot(no, 1L, LocalDateTime.parse(startsAt), LocalDateTime.parse(finishesAt));
+    }
+
+    @Test
+    @DisplayName("비트맵 생성 - 칸에 조금이라도 걸치면 점유, 다른 날 부분은 무시")
+    void of() {
+        RoomDayOccupancy occupancy = RoomDayOccupancy.of(DAY, List.of(
+                slot(1L, "2025-04-28T23:00:00", "2025-04-29T00:20:00"),
+                slot(2L, "2025-04-29T01:05:00", "2025-04-29T01:15:00")
+        ));
+
+        byte[] bytes = occupancy.toByteArray(10);
+
+        assertEquals(RoomDayOccupancy.SLOTS_PER_DAY / 8, bytes.length);
+        assertEquals((byte) 0b1100_0011, bytes[0]);
+        assertTrue(occupancy.isFree(LocalTime.of(0, 20), LocalTime.of(1, 0)));
+        assertFalse(occupancy.isFree(LocalTime.of(0, 20), LocalTime.of(1, 1)));
+        assertTrue(occupancy.isFree(LocalTime.of(1, 20), LocalTime.MIDNIGHT));
+    }
+
+    @Test
+    @DisplayName("비트맵 묶기 - 30분 단위로 묶으면 하나라도 점유된 칸은 점유")
+    void toByteArray_grouped() {
+        RoomDayOccupancy occupancy = RoomDayOccupancy.of(DAY, List.of(
+                slot(1L, "2025-04-29T00:40:00", "2025-04-29T00:50:00"),
+                slot(2L, "2025-04-29T23:50:00", "2025-04-30T00:00:00")
+        ));
+
+        byte[] bytes = occupancy.toByteArray(30);
+
+        assertEquals(6, bytes.length);
+        assertEquals(0b0000_0010, bytes[0]);
+        assertEquals((byte) 0b1000_0000, bytes[5]);
+        assertEquals("AgAAAACA", occupancy.toBase64(30));
+    }
+
+    @Test
+    @DisplayName("지원하는 단위 - 10의 배수이면서 하루를 나누어떨어지게 하는 값")
+    void isSupported() {
+        assertTrue(RoomDayOccupancy.isSupported(10));
+        assertTrue(RoomDayOccupancy.isSupported(30));
+        assertTrue(RoomDayOccupancy.isSupported(60));
+        assertFalse(RoomDayOccupancy.isSupported(15));
+        assertFalse(RoomDayOccupancy.isSupported(70));
+        assertFalse(RoomDayOccupancy.isSupported(0));
+    }
+}
@@ -0,0 +1,210 @@
+package com.nhnacademy.bookingservice.common.index;
+
+import com.nhnacademy.bookingservice.common.event.BookingSlotChangedEvent;
+import com.nhnacademy.bookingservice.domain.BookingChangeType;
+import com.nhnacademy.bookingservice.domain.BookingSlot;
+import com.nhnacademy.bookingservice.domain.FreeSlot;
+import com.nhnacademy.bookingservice.repository.BookingRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoomScheduleIndexTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @InjectMocks
+    private RoomScheduleIndex index;
+
+    private static BookingSlot slot(Long no, Long roomNo, String startsAt, String finishesAt) {
+        return new BookingSlot(no, roomNo, LocalDateTime.parse(startsAt), LocalDateTime.parse(finishesAt));
+    }
+
+    @Test
+    @DisplayName("인덱스 적재")
+    void warmUp() {
+        when(bookingRepository.findActiveSlots(Mockito.any())).thenReturn(List.of(
+                slot(1L, 1L, "2025-04-29T09:30:00", "2025-04-29T10:30:00"),
+                slot(2L, 2L, "2025-04-29T09:30:00", "2025-04-29T10:30:00")
+        ));
+
+        index.warmUp();
+
+        assertEquals(2, index.size());
+        assertTrue(index.findOverlapping(1L, LocalDateTime.parse("2025-04-29T10:00:00"), LocalDateTime.parse("2025-04-29T11:00:00"), null).isPresent());
+    }
+
+    @Test
+    @DisplayName("겹침 검사 - 반개구간 경계는 겹치지 않음")
+    void findOverlapping_boundary() {
+        index.put(slot(1L, 1L, "2025-04-29T09:30:00", "2025-04-29T10:30:00"));
+
+        assertTrue(index.findOverlapping(1L, LocalDateTime.parse("2025-04-29T10:30:00"), LocalDateTime.parse("2025-04-29T11:30:00"), null).isEmpty());
+        assertTrue(index.findOverlapping(1L, LocalDateTime.parse("2025-04-29T08:30:00"), LocalDateTime.parse("2025-04-29T09:30:00"), null).isEmpty());
+        assertTrue(index.findOverlapping(2L, LocalDateTime.parse("2025-04-29T09:30:00"), LocalDateTime.parse("2025-04-29T10:30:00"), null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("겹침 검사 - 긴 예약이 뒤 예약보다 먼저 시작하는 경우")
+    void findOverlapping_longBooking() {
+        index.put(slot(1L, 1L, "2025-04-29T09:00:00", "2025-04-29T17:00:00"));
+        index.put(slot(2L, 1L, "2025-04-29T13:00:00", "2025-04-29T14:00:00"));
+
+        Optional<BookingSlot> actual = index.findOverlapping(1L, LocalDateTime.parse("2025-04-29T15:00:00"), LocalDateTime.parse("2025-04-29T16:00:00"), null);
+
+        assertTrue(actual.isPresent());
+        assertEquals(1L, actual.get().getBookingNo());
+    }
+
+    @Test
+    @DisplayName("겹침 검사 - 자기 자신 제외")
+    void findOverlapping_exclude() {
+        index.put(slot(1L, 1L, "2025-04-29T09:30:00", "2025-04-29T10:30:00"));
+
+        assertTrue(index.findOverlapping(1L, LocalDateTime.parse("2025-04-29T10:00:00"), LocalDateTime.parse("2025-04-29T11:00:00"), 1L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("재적재 - 회의실 구간을 교체하고 버전을 기록")
+    void reload() {
+        index.put(slot(1L, 1L, "2025-04-29T09:30:00", "2025-04-29T10:30:00"));
+        index.put(slot(2L, 2L, "2025-04-29T09:30:00", "2025-04-29T10:30:00"));
+        assertFalse(index.isCurrent(1L, 0L));
+
+        index.reload(1L, 3L, List.of(slot(3L, 1L, "2025-04-29T13:00:00", "2025-04-29T14:00:00")));
+
+        assertTrue(index.isCurrent(1L, 3L));
+        assertFalse(index.isCurrent(1L, 2L));
+        assertFalse(index.isCurrent(2L, 3L));
+        assertTrue(index.findOverlapping(1L, LocalDateTime.parse("2025-04-29T10:00:00"), LocalDateTime.parse("2025-04-29T11:00:00"), null).isEmpty());
+        assertEquals(3L, index.findOverlapping(1L, LocalDateTime.parse("2025-04-29T13:30:00"), LocalDateTime.parse("2025-04-29T14:30:00"), null).get().getBookingNo());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("버전 반영 - 커밋되면 하나 올리고, 롤백되면 그대로 둠")
+    void advanceOnCommit() {
+        index.reload(1L, 3L, List.of());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.advanceOnCommit(1L, 3L);
+            assertTrue(index.isCurrent(1L, 3L));
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertTrue(index.isCurrent(1L, 3L));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.advanceOnCommit(1L, 3L);
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertTrue(index.isCurrent(1L, 4L));
+    }
+
+    @Test
+    @DisplayName("버전 반영 - 트랜잭션 밖에서는 기록을 지워 다음 검사에서 다시 읽음")
+    void advanceOnCommit_withoutTransaction() {
+        index.reload(1L, 3L, List.of());
+
+        index.advanceOnCommit(1L, 3L);
+
+        assertFalse(index.isCurrent(1L, 3L));
+        assertFalse(index.isCurrent(1L, 4L));
+    }
+
+    @Test
+    @DisplayName("이벤트 반영 - 회의실 변경 후 취소")
+    void handleBookingSlotChangedEvent() {
+        BookingSlot created = slot(1L, 1L, "2025-04-29T09:30:00", "2025-04-29T10:30:00");
+        BookingSlot moved = slot(1L, 2L, "2025-04-29T11:30:00", "2025-04-29T12:30:00");
+
+        index.handleBookingSlotChangedEvent(new BookingSlotChangedEvent(this, 1L, null, null, created));
+        index.handleBookingSlotChangedEvent(new BookingSlotChangedEvent(this, 1L, BookingChangeType.CHANGE, created, moved));
+
+        assertTrue(index.findOverlapping(1L, created.getStartsAt(), created.getFinishesAt(), null).isEmpty());
+        assertTrue(index.findOverlapping(2L, moved.getStartsAt(), moved.getFinishesAt(), null).isPresent());
+
+        index.handleBookingSlotChangedEvent(new BookingSlotChangedEvent(this, 1L, BookingChangeType.CANCEL, moved, null));
+
+        assertEquals(0, index.size());
+        assertTrue(index.findOverlapping(2L, moved.getStartsAt(), moved.getFinishesAt(), null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("구간 조회 - 시작 시각 순")
+    void findSlots() {
+        index.put(slot(2L, 1L, "2025-04-29T13:00:00", "2025-04-29T14:00:00"));
+        index.put(slot(1L, 1L, "2025-04-29T09:00:00", "2025-04-29T10:00:00"));
+        index.put(slot(3L, 1L, "2025-04-30T09:00:00", "2025-04-30T10:00:00"));
+
+        List<BookingSlot> actual = index.findSlots(1L, LocalDateTime.parse("2025-04-29T00:00:00"), LocalDateTime.parse("2025-04-30T00:00:00"));
+
+        assertEquals(List.of(1L, 2L), actual.stream().map(BookingSlot::getBookingNo).toList());
+    }
+
+    @Test
+    @DisplayName("빈 구간 - 예약 사이와 앞뒤의 빈 구간을 길이 조건으로 걸러 반환")
+    void findFreeSlots() {
+        index.put(slot(1L, 1L, "2025-04-29T08:00:00", "2025-04-29T09:30:00"));
+        index.put(slot(2L, 1L, "2025-04-29T10:00:00", "2025-04-29T12:00:00"));
+        index.put(slot(3L, 1L, "2025-04-29T11:00:00", "2025-04-29T11:30:00"));
+        index.put(slot(4L, 1L, "2025-04-29T13:00:00", "2025-04-29T14:00:00"));
+        index.put(slot(5L, 2L, "2025-04-29T09:00:00", "2025-04-29T18:00:00"));
+
+        List<FreeSlot> actual = index.findFreeSlots(1L, LocalDateTime.parse("2025-04-29T09:00:00"), LocalDateTime.parse("2025-04-29T18:00:00"), Duration.ofHours(1));
+
+        assertEquals(List.of(
+                new FreeSlot(1L, LocalDateTime.parse("2025-04-29T12:00:00"), LocalDateTime.parse("2025-04-29T13:00:00")),
+                new FreeSlot(1L, LocalDateTime.parse("2025-04-29T14:00:00"), LocalDateTime.parse("2025-04-29T18:00:00"))
+        ), actual);
+        assertTrue(index.findFreeSlots(2L, LocalDateTime.parse("2025-04-29T09:00:00"), LocalDateTime.parse("2025-04-29T18:00:00"), Duration.ofMinutes(30)).isEmpty());
+        assertEquals(1, index.findFreeSlots(3L, LocalDateTime.parse("2025-04-29T09:00:00"), LocalDateTime.parse("2025-04-29T18:00:00"), Duration.ofHours(9)).size());
+    }
+
+    @Test
+    @DisplayName("점유 비트맵 - 추가/변경/취소 시 걸친 날짜만 다시 만듦")
+    void occupancy() {
+        LocalDate day = LocalDate.parse("2025-04-29");
+        index.put(slot(1L, 1L, "2025-04-29T09:00:00", "2025-04-29T10:00:00"));
+        index.put(slot(2L, 1L, "2025-04-29T23:30:00", "2025-04-30T00:30:00"));
+
+        RoomDayOccupancy occupancy = index.findOccupancy(1L, day).orElseThrow();
+        assertFalse(occupancy.isFree(LocalTime.of(9, 50), LocalTime.of(10, 0)));
+        assertTrue(occupancy.isFree(LocalTime.of(10, 0), LocalTime.of(23, 30)));
+        assertFalse(index.findOccupancy(1L, day.plusDays(1)).orElseThrow().isFree(LocalTime.MIDNIGHT, LocalTime.of(0, 30)));
+
+        index.put(slot(1L, 1L, "2025-04-29T14:00:00", "2025-04-29T15:00:00"));
+        occupancy = index.findOccupancy(1L, day).orElseThrow();
+        assertTrue(occupancy.isFree(LocalTime.of(9, 0), LocalTime.of(10, 0)));
+        assertFalse(occupancy.isFree(LocalTime.of(14, 0), LocalTime.of(14, 10)));
+        assertEquals(List.of(1L), List.copyOf(index.findOccupancies(day).keySet()));
+
+        index.remove(2L);
+        assertTrue(index.findOccupancy(1L, day.plusDays(1)).isEmpty());
+        index.remove(1L);
+        assertTrue(index.findOccupancies(day).isEmpty());
+    }
+}
@@ -0,0 +1,37 @@
+package com.nhnacademy.bookingservice.common.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoomLockStripesTest {
+
+    @Test
+    @DisplayName("같은 회의실은 항상 같은 잠금")
+    void get_sameRoom() {
+        RoomLockStripes stripes = new RoomLockStripes(16);
+
+        assertSame(stripes.get(1L), stripes.get(1L));
+        assertSame(stripes.get(17L), stripes.get(17L));
+    }
+
+    @Test
+    @DisplayName("회의실 번호가 여러 잠금에 고르게 분산")
+    void get_distribution() {
+        RoomLockStripes stripes = new RoomLockStripes(8);
+
+        long distinct = java.util.stream.LongStream.rangeClosed(1, 8)
+                .mapToObj(stripes::get)
+                .distinct()
+                .count();
+
+        assertEquals(8, distinct);
+    }
+
+    @Test
+    @DisplayName("잘못된 스트라이프 개수")
+    void constructor_exception() {
+        assertThrows(IllegalArgumentException.class, () -> new RoomLockStripes(0));
+    }
+}
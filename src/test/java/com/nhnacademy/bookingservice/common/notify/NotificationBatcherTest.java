@@ -0,0 +1,150 @@
+package com.nhnacademy.bookingservice.common.notify;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.bookingservice.common.adaptor.NotifyAdaptor;
+import com.nhnacademy.bookingservice.dto.BulkEmailRequest;
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.SpringEncoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 로컬 스텁 서버를 notify-service로 두고 실제 Feign 클라이언트로 일괄 발송을 확인합니다.
+ */
+class NotificationBatcherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Integer> receivedBatches = new CopyOnWriteArrayList<>();
+
+    private HttpServer server;
+    private NotifyAdaptor notifyAdaptor;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationBatcher batcher;
+
+    private volatile CountDownLatch release = new CountDownLatch(0);
+    private volatile int status = 200;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v1/email/bulk", exchange -> {
+            JsonNode body = objectMapper.readTree(exchange.getRequestBody());
+            receivedBatches.add(body.get("messages").size());
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] response = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, response.length);
+            exchange.getResponseBody().write(response);
+            exchange.close();
+        });
+        server.start();
+
+        HttpMessageConverters converters = new HttpMessageConverters(new MappingJackson2HttpMessageConverter());
+        notifyAdaptor = Feign.builder()
+                .contract(new SpringMvcContract())
+                .encoder(new SpringEncoder(() -> converters))
+                .target(NotifyAdaptor.class, "http://localhost:%d/api/v1/email".formatted(server.getAddress().getPort()));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (batcher != null) {
+            batcher.stop();
+        }
+        server.stop(0);
+    }
+
+    private NotificationBatcher batcher(int maxBatchSize, Duration maxWait, int queueCapacity, Duration offerTimeout) {
+        batcher = new NotificationBatcher(notifyAdaptor, meterRegistry, maxBatchSize, maxWait, queueCapacity, offerTimeout);
+        batcher.start();
+        return batcher;
+    }
+
+    private BulkEmailRequest.Message message(int i) {
+        return new BulkEmailRequest.Message(BulkEmailRequest.Message.TEXT, "user" + i + "@test.com", "알림", "내용", "ROLE_ALL");
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 메시지를 묶어서 발송")
+    void submit_coalesced() {
+        batcher(10, Duration.ofMillis(200), 100, Duration.ofSeconds(1));
+
+        List<CompletableFuture<Void>> results = IntStream.range(0, 25)
+                .mapToObj(i -> batcher.submit(message(i)))
+                .toList();
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+
+        assertAll(
+                () -> assertEquals(25, receivedBatches.stream().mapToInt(Integer::intValue).sum()),
+                () -> assertEquals(List.of(10, 10, 5), receivedBatches),
+                () -> assertEquals(3, meterRegistry.get(NotificationBatcher.SIZE_METRIC).summary().count()),
+                () -> assertEquals(10.0, meterRegistry.get(NotificationBatcher.SIZE_METRIC).summary().max()),
+                () -> assertEquals(3, meterRegistry.get(NotificationBatcher.LATENCY_METRIC).tag("outcome", "success").timer().count())
+        );
+    }
+
+    @Test
+    @DisplayName("발송 실패 - 묶음의 모든 요청이 실패로 완료")
+    void submit_failed() {
+        status = 503;
+        batcher(10, Duration.ofMillis(50), 100, Duration.ofSeconds(1));
+
+        CompletableFuture<Void> first = batcher.submit(message(1));
+        CompletableFuture<Void> second = batcher.submit(message(2));
+
+        assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+        assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, meterRegistry.get(NotificationBatcher.LATENCY_METRIC).tag("outcome", "failure").timer().count());
+    }
+
+    @Test
+    @DisplayName("notify-service가 느리면 대기열이 차고 새 요청을 거절")
+    void submit_backpressure() throws Exception {
+        release = new CountDownLatch(1);
+        batcher(1, Duration.ZERO, 2, Duration.ofMillis(100));
+
+        CompletableFuture<Void> inFlight = batcher.submit(message(0));
+        while (receivedBatches.isEmpty()) {
+            Thread.sleep(10);
+        }
+        batcher.submit(message(1));
+        batcher.submit(message(2));
+
+        CompletableFuture<Void> rejected = batcher.submit(message(3));
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> rejected.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+        assertEquals(2.0, meterRegistry.get(NotificationBatcher.QUEUE_METRIC).gauge().value());
+
+        release.countDown();
+        assertDoesNotThrow(() -> inFlight.get(5, TimeUnit.SECONDS));
+    }
+}
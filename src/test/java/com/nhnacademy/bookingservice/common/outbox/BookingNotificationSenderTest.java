@@ -0,0 +1,157 @@
+package com.nhnacademy.bookingservice.common.outbox;
+
+import com.nhnacademy.bookingservice.common.adaptor.MeetingRoomAdaptor;
+import com.nhnacademy.bookingservice.common.notify.NotificationBatcher;
+import com.nhnacademy.bookingservice.common.template.BookingEmailTemplates;
+import com.nhnacademy.bookingservice.domain.Booking;
+import com.nhnacademy.bookingservice.domain.BookingSeries;
+import com.nhnacademy.bookingservice.domain.NotificationOutbox;
+import com.nhnacademy.bookingservice.domain.NotificationType;
+import com.nhnacademy.bookingservice.domain.Recurrence;
+import com.nhnacademy.bookingservice.dto.BookingResponse;
+import com.nhnacademy.bookingservice.dto.BulkEmailRequest;
+import com.nhnacademy.bookingservice.dto.MeetingRoomResponse;
+import com.nhnacademy.bookingservice.repository.BookingRepository;
+import com.nhnacademy.bookingservice.repository.BookingSeriesRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BookingNotificationSenderTest {
+
+    @Mock
+    private MeetingRoomAdaptor meetingRoomAdaptor;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private BookingSeriesRepository bookingSeriesRepository;
+
+    @Mock
+    private NotificationBatcher notificationBatcher;
+
+    @Spy
+    private BookingEmailTemplates bookingEmailTemplates = new BookingEmailTemplates();
+
+    @InjectMocks
+    private BookingNotificationSender sender;
+
+    BookingResponse.MemberInfo member;
+    BookingResponse.MeetingRoomInfo room;
+
+    @BeforeEach
+    void setUp(){
+        member = new BookingResponse.MemberInfo();
+        member.setNo(1L);
+        member.setEmail("test@test.com");
+        member.setName("test");
+
+        room = new BookingResponse.MeetingRoomInfo();
+        room.setNo(1L);
+        room.setName("회의실 A");
+    }
+
+    @Test
+    @DisplayName("이메일 발송 - 예약 생성")
+    void send_created() {
+        BookingResponse bookingResponse = new BookingResponse(1L, "test", LocalDateTime.parse("2025-04-29T09:30:00"), 8, LocalDateTime.parse("2025-04-29T08:30:00"), LocalDateTime.parse("2025-04-29T09:30:00"), null, member, room);
+        MeetingRoomResponse roomResponse = new MeetingRoomResponse(1L, "회의실 A", 6);
+
+        String email = "test@example.com";
+        Long bookingNo = 123L;
+        NotificationOutbox outbox = NotificationOutbox.ofPending(NotificationType.BOOKING_CREATED, bookingNo, email, LocalDateTime.now());
+
+        when(bookingRepository.findByNo(Mockito.anyLong())).thenReturn(Optional.of(bookingResponse));
+        when(meetingRoomAdaptor.getMeetingRoom(Mockito.anyLong())).thenReturn(roomResponse);
+        when(notificationBatcher.submit(Mockito.any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        sender.send(outbox);
+
+        verify(notificationBatcher, Mockito.times(1)).submit(Mockito.argThat(message ->
+                BulkEmailRequest.Message.HTML.equals(message.getFormat())
+                        && message.getContent().contains("회의실 예약이 완료되었습니다")
+                        && message.getContent().contains("<strong>회의실:</strong> 회의실 A<br>")));
+    }
+
+    @Test
+    @DisplayName("이메일 발송 - 예약 수정")
+    void send_changed() {
+        BookingResponse bookingResponse = new BookingResponse(1L, "test", LocalDateTime.parse("2025-04-29T09:30:00"), 8, LocalDateTime.parse("2025-04-29T08:30:00"), LocalDateTime.parse("2025-04-29T09:30:00"), null, member, room);
+        MeetingRoomResponse roomResponse = new MeetingRoomResponse(1L, "회의실 A", 6);
+
+        String email = "test@example.com";
+        Long bookingNo = 123L;
+        NotificationOutbox outbox = NotificationOutbox.ofPending(NotificationType.BOOKING_CHANGED, bookingNo, email, LocalDateTime.now());
+
+        when(bookingRepository.findByNo(Mockito.anyLong())).thenReturn(Optional.of(bookingResponse));
+        when(meetingRoomAdaptor.getMeetingRoom(Mockito.anyLong())).thenReturn(roomResponse);
+        when(notificationBatcher.submit(Mockito.any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        sender.send(outbox);
+
+        verify(notificationBatcher, Mockito.times(1)).submit(Mockito.argThat(message -> BulkEmailRequest.Message.HTML.equals(message.getFormat())));
+    }
+
+    @Test
+    @DisplayName("이메일 발송 - 예약 취소")
+    void send_cancelled() {
+        BookingResponse bookingResponse = new BookingResponse(1L, "test", LocalDateTime.parse("2025-04-29T09:30:00"), 8, LocalDateTime.parse("2025-04-29T08:30:00"), LocalDateTime.parse("2025-04-29T09:30:00"),null, member, room);
+        MeetingRoomResponse roomResponse = new MeetingRoomResponse(1L, "회의실 A", 6);
+
+        String email = "test@example.com";
+        Long bookingNo = 123L;
+        NotificationOutbox outbox = NotificationOutbox.ofPending(NotificationType.BOOKING_CANCELLED, bookingNo, email, LocalDateTime.now());
+
+        when(bookingRepository.findByNo(Mockito.anyLong())).thenReturn(Optional.of(bookingResponse));
+        when(meetingRoomAdaptor.getMeetingRoom(Mockito.anyLong())).thenReturn(roomResponse);
+        when(notificationBatcher.submit(Mockito.any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        sender.send(outbox);
+
+        verify(notificationBatcher, Mockito.times(1)).submit(Mockito.argThat(message -> BulkEmailRequest.Message.HTML.equals(message.getFormat())));
+
+    }
+
+    @Test
+    @DisplayName("이메일 발송 - 정기 예약 생성은 회차 대신 반복 일정 요약")
+    void send_seriesCreated() {
+        BookingResponse bookingResponse = new BookingResponse(123L, "test", LocalDateTime.parse("2025-05-05T09:00:00"), 4, LocalDateTime.parse("2025-05-05T10:00:00"), LocalDateTime.parse("2025-04-29T09:30:00"), null, member, room);
+        MeetingRoomResponse roomResponse = new MeetingRoomResponse(1L, "회의실 A", 6);
+        Booking first = Booking.ofSeriesBooking("test", LocalDateTime.parse("2025-05-05T09:00:00"), 4, LocalDateTime.parse("2025-05-05T10:00:00"), 1L, 1L, 7L);
+        BookingSeries series = BookingSeries.ofNewSeries(1L, 1L, Recurrence.WEEKLY, LocalTime.parse("09:00"), LocalTime.parse("10:00"), 4,
+                LocalDate.parse("2025-05-05"), LocalDate.parse("2025-07-28"), 13);
+        ReflectionTestUtils.setField(series, "seriesNo", 7L);
+
+        NotificationOutbox outbox = NotificationOutbox.ofPending(NotificationType.BOOKING_SERIES_CREATED, 123L, "test@example.com", LocalDateTime.now());
+
+        when(bookingRepository.findByNo(123L)).thenReturn(Optional.of(bookingResponse));
+        when(bookingRepository.findBookingByBookingNo(123L)).thenReturn(Optional.of(first));
+        when(bookingSeriesRepository.findById(7L)).thenReturn(Optional.of(series));
+        when(meetingRoomAdaptor.getMeetingRoom(Mockito.anyLong())).thenReturn(roomResponse);
+        when(notificationBatcher.submit(Mockito.any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        sender.send(outbox);
+
+        verify(notificationBatcher, Mockito.times(1)).submit(Mockito.argThat(message ->
+                message.getContent().contains("회의실 정기 예약이 완료되었습니다")
+                        && message.getContent().contains("매주 09:00~10:00 (2025-05-05 ~ 2025-07-28, 총 13회)")));
+    }
+}
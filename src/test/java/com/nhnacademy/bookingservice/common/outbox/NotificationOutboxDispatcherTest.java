@@ -0,0 +1,195 @@
+package com.nhnacademy.bookingservice.common.outbox;
+
+import com.nhnacademy.bookingservice.domain.NotificationOutbox;
+import com.nhnacademy.bookingservice.domain.NotificationStatus;
+import com.nhnacademy.bookingservice.domain.NotificationType;
+import com.nhnacademy.bookingservice.repository.NotificationOutboxRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxDispatcherTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.parse("2025-04-29T09:00:00");
+
+    @Mock
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Mock
+    private BookingNotificationSender sender;
+
+    private ExecutorService executor;
+
+    private NotificationOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        Clock clock = Clock.fixed(Instant.parse("2025-04-29T09:00:00Z"), ZoneOffset.UTC);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class));
+        dispatcher = new NotificationOutboxDispatcher(notificationOutboxRepository, sender, transactionTemplate, executor, clock,
+                10, Duration.ofMinutes(1), 3, Duration.ofSeconds(10), Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private NotificationOutbox outbox(Long no, int attempts) {
+        NotificationOutbox outbox = NotificationOutbox.ofPending(NotificationType.BOOKING_CREATED, 1L, "test@test.com", NOW.minusMinutes(1));
+        ReflectionTestUtils.setField(outbox, "outboxNo", no);
+        ReflectionTestUtils.setField(outbox, "attempts", attempts);
+        when(notificationOutboxRepository.findById(no)).thenReturn(Optional.of(outbox));
+        return outbox;
+    }
+
+    @Test
+    @DisplayName("발송 성공 - 발송 완료로 기록")
+    void dispatchBatch_sent() {
+        NotificationOutbox outbox = outbox(1L, 0);
+        when(notificationOutboxRepository.findDueForUpdate(NotificationStatus.PENDING, NOW, Limit.of(10))).thenReturn(List.of(outbox));
+        when(sender.send(outbox)).thenReturn(CompletableFuture.completedFuture(null));
+
+        assertEquals(1, dispatcher.dispatchBatch().join());
+
+        Mockito.verify(sender).send(outbox);
+        assertAll(() -> {
+            assertEquals(NotificationStatus.SENT, outbox.getStatus());
+            assertEquals(1, outbox.getAttempts());
+            assertEquals(NOW, outbox.getSentAt());
+        });
+    }
+
+    @Test
+    @DisplayName("발송 실패 - 지수 백오프로 재시도 예약")
+    void dispatchBatch_retry() {
+        NotificationOutbox outbox = outbox(1L, 1);
+        when(notificationOutboxRepository.findDueForUpdate(NotificationStatus.PENDING, NOW, Limit.of(10))).thenReturn(List.of(outbox));
+        when(sender.send(outbox)).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("notify-service down")));
+
+        dispatcher.dispatchBatch().join();
+
+        assertAll(() -> {
+            assertEquals(NotificationStatus.PENDING, outbox.getStatus());
+            assertEquals(2, outbox.getAttempts());
+            assertEquals(NOW.plusSeconds(20), outbox.getNextAttemptAt());
+            assertEquals("notify-service down", outbox.getLastError());
+        });
+    }
+
+    @Test
+    @DisplayName("발송 실패 - 최대 시도 횟수를 넘기면 DEAD")
+    void dispatchBatch_dead() {
+        NotificationOutbox outbox = outbox(1L, 2);
+        when(notificationOutboxRepository.findDueForUpdate(NotificationStatus.PENDING, NOW, Limit.of(10))).thenReturn(List.of(outbox));
+        when(sender.send(outbox)).thenThrow(new IllegalStateException("booking not found"));
+
+        dispatcher.dispatchBatch().join();
+
+        assertEquals(NotificationStatus.DEAD, outbox.getStatus());
+        assertEquals(3, outbox.getAttempts());
+    }
+
+    @Test
+    @DisplayName("발송 대상 없음")
+    void dispatchBatch_empty() {
+        when(notificationOutboxRepository.findDueForUpdate(NotificationStatus.PENDING, NOW, Limit.of(10))).thenReturn(List.of());
+
+        assertEquals(0, dispatcher.dispatchBatch().join());
+        Mockito.verifyNoInteractions(sender);
+    }
+
+    @Test
+    @DisplayName("백오프 - 두 배씩 늘어나고 최대값을 넘지 않음")
+    void backoff() {
+        assertEquals(Duration.ofSeconds(10), dispatcher.backoff(1));
+        assertEquals(Duration.ofSeconds(20), dispatcher.backoff(2));
+        assertEquals(Duration.ofSeconds(30), dispatcher.backoff(3));
+        assertEquals(Duration.ofSeconds(30), dispatcher.backoff(40));
+    }
+
+    @Test
+    @DisplayName("발송 시작 - 발송을 기다리지 않고, 발송 중에는 다음 묶음을 가져오지 않음")
+    void dispatch_nonBlocking() {
+        NotificationOutbox outbox = NotificationOutbox.ofPending(NotificationType.BOOKING_CREATED, 1L, "test@test.com", NOW.minusMinutes(1));
+        CompletableFuture<Void> sending = new CompletableFuture<>();
+        when(notificationOutboxRepository.findDueForUpdate(NotificationStatus.PENDING, NOW, Limit.of(10))).thenReturn(List.of(outbox));
+        when(sender.send(outbox)).thenReturn(sending);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> dispatcher.dispatch());
+        dispatcher.dispatch();
+
+        Mockito.verify(sender, Mockito.timeout(1000)).send(outbox);
+        Mockito.verify(notificationOutboxRepository, Mockito.times(1)).findDueForUpdate(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    @DisplayName("발송 풀이 가득 참 - 시도 횟수를 늘리지 않고 대기 상태로 둠")
+    void dispatchBatch_rejected() {
+        executor.shutdownNow();
+        NotificationOutbox outbox = NotificationOutbox.ofPending(NotificationType.BOOKING_CREATED, 1L, "test@test.com", NOW.minusMinutes(1));
+        when(notificationOutboxRepository.findDueForUpdate(NotificationStatus.PENDING, NOW, Limit.of(10))).thenReturn(List.of(outbox));
+
+        assertEquals(0, dispatcher.dispatchBatch().join());
+
+        Mockito.verifyNoInteractions(sender);
+        assertAll(() -> {
+            assertEquals(NotificationStatus.PENDING, outbox.getStatus());
+            assertEquals(0, outbox.getAttempts());
+            assertEquals(NOW.plusMinutes(1), outbox.getNextAttemptAt());
+        });
+    }
+
+    @Test
+    @DisplayName("발송 후 풀이 가득 참 - 이미 보낸 메일은 발송 완료로 기록")
+    void dispatchBatch_sentThenRejected() {
+        AtomicInteger accepted = new AtomicInteger();
+        Executor oneShot = task -> {
+            if (accepted.getAndIncrement() > 0) {
+                throw new RejectedExecutionException("full");
+            }
+            task.run();
+        };
+        dispatcher = new NotificationOutboxDispatcher(notificationOutboxRepository, sender,
+                new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class)), oneShot,
+                Clock.fixed(Instant.parse("2025-04-29T09:00:00Z"), ZoneOffset.UTC),
+                10, Duration.ofMinutes(1), 3, Duration.ofSeconds(10), Duration.ofSeconds(30));
+
+        NotificationOutbox outbox = outbox(1L, 0);
+        when(notificationOutboxRepository.findDueForUpdate(NotificationStatus.PENDING, NOW, Limit.of(10))).thenReturn(List.of(outbox));
+        when(sender.send(outbox)).thenReturn(CompletableFuture.completedFuture(null));
+
+        assertEquals(1, dispatcher.dispatchBatch().join());
+
+        assertEquals(NotificationStatus.SENT, outbox.getStatus());
+        assertEquals(1, outbox.getAttempts());
+    }
+}
@@ -0,0 +1,75 @@
+package com.nhnacademy.bookingservice.common.registry;
+
+import com.nhnacademy.bookingservice.domain.BookingChange;
+import com.nhnacademy.bookingservice.domain.BookingChangeType;
+import com.nhnacademy.bookingservice.repository.BookingChangeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookingChangeRegistryTest {
+
+    @Mock
+    private BookingChangeRepository bookingChangeRepository;
+
+    private static BookingChange change(Long no, String name) {
+        BookingChange change = new BookingChange(name);
+        ReflectionTestUtils.setField(change, "no", no);
+        return change;
+    }
+
+    private static List<BookingChange> rows() {
+        return new ArrayList<>(Arrays.stream(BookingChangeType.values())
+                .map(type -> change(type.getId(), type.getName()))
+                .toList());
+    }
+
+    @Test
+    @DisplayName("적재 후 조회 - 추가 쿼리 없음")
+    void get() {
+        when(bookingChangeRepository.findAll()).thenReturn(rows());
+
+        BookingChangeRegistry registry = new BookingChangeRegistry(bookingChangeRepository);
+        registry.afterSingletonsInstantiated();
+
+        for (BookingChangeType type : BookingChangeType.values()) {
+            assertEquals(type.getId(), registry.get(type).getNo());
+            assertEquals(type.getName(), registry.get(type).getName());
+        }
+        verify(bookingChangeRepository, times(1)).findAll();
+        verifyNoMoreInteractions(bookingChangeRepository);
+    }
+
+    @Test
+    @DisplayName("행 누락 - 기동 실패")
+    void load_missing() {
+        List<BookingChange> rows = rows();
+        rows.removeIf(change -> change.getNo().equals(BookingChangeType.INUSE.getId()));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> BookingChangeRegistry.load(rows));
+        assertTrue(e.getMessage().contains("INUSE"));
+    }
+
+    @Test
+    @DisplayName("이름 불일치, 열거형에 없는 행 - 기동 실패")
+    void load_mismatch() {
+        List<BookingChange> rows = rows();
+        rows.set(0, change(BookingChangeType.EXTEND.getId(), "연장됨"));
+        rows.add(change(6L, "보류"));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> BookingChangeRegistry.load(rows));
+        assertTrue(e.getMessage().contains("연장됨"));
+        assertTrue(e.getMessage().contains("보류"));
+    }
+}
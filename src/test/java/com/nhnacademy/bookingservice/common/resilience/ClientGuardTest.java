@@ -0,0 +1,104 @@
+package com.nhnacademy.bookingservice.common.resilience;
+
+import com.nhnacademy.bookingservice.common.config.ResilienceConfig;
+import com.nhnacademy.bookingservice.common.exception.CommonHttpException;
+import com.nhnacademy.bookingservice.common.exception.NotFoundException;
+import com.nhnacademy.bookingservice.common.exception.ServiceUnavailableException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientGuardTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ClientGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ResilienceConfig config = new ResilienceConfig();
+        guard = new ClientGuard("test-service", 1,
+                config.circuitBreakerRegistry(meterRegistry, 4, 4, 50, Duration.ofSeconds(2), Duration.ofMillis(200), 1),
+                config.bulkheadRegistry(meterRegistry));
+    }
+
+    private static String fail() {
+        throw new CommonHttpException("server error", 500);
+    }
+
+    @Test
+    @DisplayName("실패가 쌓이면 열리고, 열린 동안은 호출하지 않고 대체 값 반환")
+    void open() {
+        for (int i = 0; i < 4; i++) {
+            assertEquals("fallback", guard.call(ClientGuardTest::fail, () -> Optional.of("fallback")));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, guard.getState());
+
+        AtomicInteger calls = new AtomicInteger();
+        assertEquals("fallback", guard.call(() -> String.valueOf(calls.incrementAndGet()), () -> Optional.of("fallback")));
+        assertEquals(0, calls.get());
+        assertEquals(1.0, meterRegistry.get("resilience4j.circuitbreaker.state")
+                .tag("name", "test-service").tag("state", "open").gauge().value());
+    }
+
+    @Test
+    @DisplayName("열린 뒤 대기 시간이 지나면 반열림 상태에서 시험 호출하고, 성공하면 닫힘")
+    void halfOpen() throws InterruptedException {
+        for (int i = 0; i < 4; i++) {
+            assertThrows(ServiceUnavailableException.class, () -> guard.call(ClientGuardTest::fail));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, guard.getState());
+
+        Thread.sleep(400);
+
+        assertEquals("ok", guard.call(() -> "ok"));
+        assertEquals(CircuitBreaker.State.CLOSED, guard.getState());
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 실패로 세지 않고 그대로 던짐")
+    void clientError() {
+        for (int i = 0; i < 8; i++) {
+            assertThrows(NotFoundException.class, () -> guard.call(() -> {
+                throw new NotFoundException();
+            }, () -> Optional.of("fallback")));
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, guard.getState());
+    }
+
+    @Test
+    @DisplayName("동시 호출 수를 넘으면 기다리지 않고 대체 값 반환")
+    void bulkhead() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> slow = CompletableFuture.supplyAsync(() -> guard.call(() -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "slow";
+        }));
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        assertEquals("fallback", guard.call(() -> "fast", () -> Optional.of("fallback")));
+        assertThrows(ServiceUnavailableException.class, () -> guard.call(() -> "fast"));
+
+        release.countDown();
+        assertEquals("slow", slow.get(5, TimeUnit.SECONDS));
+        assertEquals(CircuitBreaker.State.CLOSED, guard.getState());
+    }
+}
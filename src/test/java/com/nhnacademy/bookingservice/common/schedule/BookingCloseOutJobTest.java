@@ -0,0 +1,66 @@
+package com.nhnacademy.bookingservice.common.schedule;
+
+import com.nhnacademy.bookingservice.repository.BookingRepository;
+import com.nhnacademy.bookingservice.service.BookingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookingCloseOutJobTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.parse("2025-04-29T12:00:00");
+
+    @Mock
+    private BookingService bookingService;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private BookingCloseOutJob job() {
+        Clock clock = Clock.fixed(Instant.parse("2025-04-29T12:00:00Z"), ZoneOffset.UTC);
+        return new BookingCloseOutJob(bookingService, bookingRepository, meterRegistry, 2, clock);
+    }
+
+    @Test
+    @DisplayName("배치 단위 종료 및 처리 건수 기록")
+    void finishExpiredBookings() {
+        BookingCloseOutJob job = job();
+        when(bookingService.finishExpiredBookings(NOW, 2)).thenReturn(2, 1);
+        when(bookingRepository.findOldestExpiredInUseFinishesAt(NOW)).thenReturn(Optional.empty());
+
+        job.finishExpiredBookings();
+
+        verify(bookingService, Mockito.times(2)).finishExpiredBookings(NOW, 2);
+        assertEquals(3.0, meterRegistry.get(BookingCloseOutJob.ROWS_METRIC).counter().count());
+        assertEquals(0.0, meterRegistry.get(BookingCloseOutJob.LAG_METRIC).gauge().value());
+    }
+
+    @Test
+    @DisplayName("처리하지 못한 예약이 남으면 지연 시간 기록")
+    void finishExpiredBookings_lag() {
+        BookingCloseOutJob job = job();
+        when(bookingService.finishExpiredBookings(NOW, 2)).thenReturn(0);
+        when(bookingRepository.findOldestExpiredInUseFinishesAt(NOW)).thenReturn(Optional.of(NOW.minusMinutes(3)));
+
+        job.finishExpiredBookings();
+
+        assertEquals(180.0, meterRegistry.get(BookingCloseOutJob.LAG_METRIC).gauge().value());
+    }
+}
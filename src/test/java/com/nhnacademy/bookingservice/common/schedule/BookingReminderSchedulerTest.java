@@ -0,0 +1,152 @@
+package com.nhnacademy.bookingservice.common.schedule;
+
+import com.nhnacademy.bookingservice.common.event.BookingReminderEvent;
+import com.nhnacademy.bookingservice.common.event.BookingSlotChangedEvent;
+import com.nhnacademy.bookingservice.domain.BookingChangeType;
+import com.nhnacademy.bookingservice.domain.BookingSlot;
+import com.nhnacademy.bookingservice.repository.BookingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookingReminderSchedulerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.parse("2025-04-29T09:00:00");
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private ApplicationEventPublisher publisher;
+
+    private MutableClock clock;
+
+    private BookingReminderScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW.toInstant(ZoneOffset.UTC));
+        scheduler = new BookingReminderScheduler(bookingRepository, publisher, Duration.ofSeconds(1), clock);
+    }
+
+    private static BookingSlot slot(Long no, String startsAt) {
+        LocalDateTime start = LocalDateTime.parse(startsAt);
+        return new BookingSlot(no, 1L, start, start.plusHours(1));
+    }
+
+    private void tickUntil(String time) {
+        LocalDateTime target = LocalDateTime.parse(time);
+        while (LocalDateTime.now(clock).isBefore(target)) {
+            clock.advance(Duration.ofSeconds(1));
+            scheduler.sendUpcomingBookingReminders();
+        }
+    }
+
+    private List<Long> published() {
+        ArgumentCaptor<BookingReminderEvent> captor = ArgumentCaptor.forClass(BookingReminderEvent.class);
+        verify(publisher, Mockito.atLeast(0)).publishEvent(captor.capture());
+        return captor.getAllValues().stream().map(BookingReminderEvent::getBookingNo).toList();
+    }
+
+    @Test
+    @DisplayName("기동 시 적재 - 알림 시각이 지난 예약은 제외")
+    void warmUp() {
+        when(bookingRepository.findActiveSlots(Mockito.any())).thenReturn(List.of(
+                slot(1L, "2025-04-29T09:30:00"),
+                slot(2L, "2025-04-29T09:05:00"),
+                slot(3L, "2025-04-30T09:00:00")
+        ));
+
+        scheduler.warmUp();
+
+        assertEquals(2, scheduler.size());
+    }
+
+    @Test
+    @DisplayName("알림 - 시작 10분 전에 정확히 발행")
+    void sendUpcomingBookingReminders() {
+        scheduler.handleBookingSlotChangedEvent(new BookingSlotChangedEvent(this, 1L, null, null, slot(1L, "2025-04-29T09:30:00")));
+
+        tickUntil("2025-04-29T09:19:59");
+        assertTrue(published().isEmpty());
+
+        tickUntil("2025-04-29T09:20:00");
+        assertEquals(List.of(1L), published());
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    @DisplayName("이벤트 반영 - 변경 시 다시 등록, 취소 시 제거")
+    void handleBookingSlotChangedEvent() {
+        BookingSlot created = slot(1L, "2025-04-29T09:30:00");
+        BookingSlot moved = slot(1L, "2025-04-29T10:00:00");
+
+        scheduler.handleBookingSlotChangedEvent(new BookingSlotChangedEvent(this, 1L, null, null, created));
+        scheduler.handleBookingSlotChangedEvent(new BookingSlotChangedEvent(this, 1L, BookingChangeType.CHANGE, created, moved));
+
+        tickUntil("2025-04-29T09:20:00");
+        assertTrue(published().isEmpty());
+        assertEquals(1, scheduler.size());
+
+        scheduler.handleBookingSlotChangedEvent(new BookingSlotChangedEvent(this, 1L, BookingChangeType.CANCEL, moved, null));
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    @DisplayName("이벤트 반영 - 입실한 예약은 제거")
+    void handleBookingSlotChangedEvent_inUse() {
+        BookingSlot created = slot(1L, "2025-04-29T09:30:00");
+        scheduler.handleBookingSlotChangedEvent(new BookingSlotChangedEvent(this, 1L, null, null, created));
+
+        scheduler.handleBookingSlotChangedEvent(new BookingSlotChangedEvent(this, 1L, BookingChangeType.INUSE, created, created));
+
+        assertEquals(0, scheduler.size());
+    }
+
+    static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
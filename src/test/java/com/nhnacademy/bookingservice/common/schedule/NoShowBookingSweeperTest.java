@@ -0,0 +1,38 @@
+package com.nhnacademy.bookingservice.common.schedule;
+
+import com.nhnacademy.bookingservice.service.BookingService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NoShowBookingSweeperTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.parse("2025-04-29T09:30:00");
+
+    @Mock
+    private BookingService bookingService;
+
+    @Test
+    @DisplayName("배치가 가득 차면 다음 배치를 이어서 취소")
+    void cancelNoShowBookings() {
+        Clock clock = Clock.fixed(Instant.parse("2025-04-29T09:30:00Z"), ZoneOffset.UTC);
+        NoShowBookingSweeper sweeper = new NoShowBookingSweeper(bookingService, 2, clock);
+        when(bookingService.cancelNoShowBookings(NOW, 2)).thenReturn(2, 2, 1);
+
+        sweeper.cancelNoShowBookings();
+
+        verify(bookingService, Mockito.times(3)).cancelNoShowBookings(NOW, 2);
+    }
+}
@@ -0,0 +1,102 @@
+package com.nhnacademy.bookingservice.common.schedule;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private static final long SECOND = 1_000L;
+
+    private final TimingWheel<Long> wheel = new TimingWheel<>(Duration.ofSeconds(1), 5, 0L);
+
+    @Test
+    @DisplayName("만료 - 등록한 시각에 정확히 만료")
+    void advance_exact() {
+        wheel.schedule(1L, 30 * SECOND);
+
+        assertTrue(wheel.advance(29 * SECOND).isEmpty());
+        assertEquals(List.of(1L), wheel.advance(30 * SECOND));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("만료 - 상위 단계에서 내려온 타이머도 정확한 틱에 만료")
+    void advance_cascade() {
+        long twoHours = Duration.ofHours(2).toMillis() + 7 * SECOND;
+        long threeDays = Duration.ofDays(3).toMillis() + 13 * SECOND;
+        wheel.schedule(1L, twoHours);
+        wheel.schedule(2L, threeDays);
+
+        for (long now = SECOND; now < twoHours; now += SECOND) {
+            assertTrue(wheel.advance(now).isEmpty(), "early expiry at " + now);
+        }
+        assertEquals(List.of(1L), wheel.advance(twoHours));
+
+        assertTrue(wheel.advance(threeDays - SECOND).isEmpty());
+        assertEquals(List.of(2L), wheel.advance(threeDays));
+    }
+
+    @Test
+    @DisplayName("만료 - 틱 단위로 올림하여 일찍 만료되지 않음")
+    void advance_roundUp() {
+        wheel.schedule(1L, 10 * SECOND + 1);
+
+        assertTrue(wheel.advance(10 * SECOND).isEmpty());
+        assertEquals(List.of(1L), wheel.advance(11 * SECOND));
+    }
+
+    @Test
+    @DisplayName("만료 - 여러 틱을 한 번에 진행하면 만료 시각 순으로 반환")
+    void advance_order() {
+        wheel.schedule(3L, Duration.ofMinutes(90).toMillis());
+        wheel.schedule(1L, 5 * SECOND);
+        wheel.schedule(2L, Duration.ofMinutes(2).toMillis());
+
+        assertEquals(List.of(1L, 2L, 3L), wheel.advance(Duration.ofHours(2).toMillis()));
+    }
+
+    @Test
+    @DisplayName("등록 - 이미 지난 시각은 다음 진행에서 만료")
+    void schedule_past() {
+        wheel.advance(60 * SECOND);
+        wheel.schedule(1L, 10 * SECOND);
+
+        assertEquals(List.of(1L), wheel.advance(60 * SECOND));
+    }
+
+    @Test
+    @DisplayName("등록 - 같은 키는 새 시각으로 대체")
+    void schedule_replace() {
+        wheel.schedule(1L, 30 * SECOND);
+        wheel.schedule(1L, Duration.ofHours(1).toMillis());
+
+        assertTrue(wheel.advance(30 * SECOND).isEmpty());
+        assertEquals(1, wheel.size());
+        assertEquals(List.of(1L), wheel.advance(Duration.ofHours(1).toMillis()));
+    }
+
+    @Test
+    @DisplayName("취소")
+    void cancel() {
+        wheel.schedule(1L, Duration.ofHours(5).toMillis());
+
+        assertTrue(wheel.cancel(1L));
+        assertFalse(wheel.cancel(1L));
+        assertTrue(wheel.advance(Duration.ofHours(6).toMillis()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("범위 밖 - 최상위 단계보다 먼 타이머도 정확히 만료")
+    void schedule_beyondSpan() {
+        TimingWheel<Long> small = new TimingWheel<>(Duration.ofSeconds(1), 1, 0L);
+        small.schedule(1L, 200 * SECOND);
+
+        assertTrue(small.advance(199 * SECOND).isEmpty());
+        assertEquals(List.of(1L), small.advance(200 * SECOND));
+    }
+}
@@ -0,0 +1,101 @@
+package com.nhnacademy.bookingservice.common.stats;
+
+import com.nhnacademy.bookingservice.common.event.BookingSlotChangedEvent;
+import com.nhnacademy.bookingservice.domain.BookingChangeType;
+import com.nhnacademy.bookingservice.domain.BookingDailyStats;
+import com.nhnacademy.bookingservice.domain.BookingDailyStatsId;
+import com.nhnacademy.bookingservice.domain.BookingSlot;
+import com.nhnacademy.bookingservice.repository.BookingDailyStatsRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookingStatsRollupTest {
+
+    @Mock
+    private BookingDailyStatsRepository bookingDailyStatsRepository;
+
+    @InjectMocks
+    private BookingStatsRollup rollup;
+
+    private static BookingSlot slot(Long roomNo, String startsAt, String finishesAt) {
+        return new BookingSlot(1L, roomNo, LocalDateTime.parse(startsAt), LocalDateTime.parse(finishesAt));
+    }
+
+    private static BookingDailyStatsId id(Long roomNo, String date) {
+        return new BookingDailyStatsId(roomNo, LocalDate.parse(date));
+    }
+
+    @Test
+    @DisplayName("신규 예약 - 집계 행이 없으면 생성")
+    void created() {
+        BookingSlot current = slot(1L, "2025-04-29T09:30:00", "2025-04-29T10:30:00");
+        when(bookingDailyStatsRepository.increment(id(1L, "2025-04-29"), 1, 0, 8, 60)).thenReturn(0);
+
+        rollup.handleBookingSlotChangedEvent(new BookingSlotChangedEvent(this, 1L, null, null, current, null, 8));
+
+        ArgumentCaptor<BookingDailyStats> captor = ArgumentCaptor.forClass(BookingDailyStats.class);
+        verify(bookingDailyStatsRepository).saveAndFlush(captor.capture());
+        assertEquals(1L, captor.getValue().getBookingCount());
+        assertEquals(8L, captor.getValue().getAttendeeSum());
+        assertEquals(60L, captor.getValue().getOccupiedMinutes());
+    }
+
+    @Test
+    @DisplayName("연장 - 늘어난 시간만 반영")
+    void extended() {
+        BookingSlot previous = slot(1L, "2025-04-29T09:30:00", "2025-04-29T10:30:00");
+        BookingSlot current = slot(1L, "2025-04-29T09:30:00", "2025-04-29T11:30:00");
+        when(bookingDailyStatsRepository.increment(id(1L, "2025-04-29"), 0, 0, 0, 60)).thenReturn(1);
+
+        rollup.handleBookingSlotChangedEvent(new BookingSlotChangedEvent(this, 1L, BookingChangeType.EXTEND, previous, current, 8, 8));
+
+        verify(bookingDailyStatsRepository, never()).saveAndFlush(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("변경 - 이전 날짜에서 빼고 새 날짜에 더함")
+    void changed() {
+        BookingSlot previous = slot(1L, "2025-04-29T09:30:00", "2025-04-29T10:30:00");
+        BookingSlot current = slot(2L, "2025-04-30T09:00:00", "2025-04-30T11:00:00");
+        when(bookingDailyStatsRepository.increment(Mockito.any(), Mockito.anyLong(), Mockito.anyLong(), Mockito.anyLong(), Mockito.anyLong())).thenReturn(1);
+
+        rollup.handleBookingSlotChangedEvent(new BookingSlotChangedEvent(this, 1L, BookingChangeType.CHANGE, previous, current, 8, 4));
+
+        verify(bookingDailyStatsRepository).increment(id(1L, "2025-04-29"), -1, 0, -8, -60);
+        verify(bookingDailyStatsRepository).increment(id(2L, "2025-04-30"), 1, 0, 4, 120);
+    }
+
+    @Test
+    @DisplayName("취소 - 예약 건수는 유지하고 인원/시간만 뺌")
+    void cancelled() {
+        BookingSlot previous = slot(1L, "2025-04-29T09:30:00", "2025-04-29T10:30:00");
+        when(bookingDailyStatsRepository.increment(id(1L, "2025-04-29"), 0, 1, -8, -60)).thenReturn(1);
+
+        rollup.handleBookingSlotChangedEvent(new BookingSlotChangedEvent(this, 1L, BookingChangeType.CANCEL, previous, null, 8, 8));
+
+        verify(bookingDailyStatsRepository).increment(id(1L, "2025-04-29"), 0, 1, -8, -60);
+    }
+
+    @Test
+    @DisplayName("종료 - 점유 구간이 같으면 반영하지 않음")
+    void finished() {
+        BookingSlot slot = slot(1L, "2025-04-29T09:30:00", "2025-04-29T10:30:00");
+
+        rollup.handleBookingSlotChangedEvent(new BookingSlotChangedEvent(this, 1L, BookingChangeType.FINISH, slot, slot, 8, 8));
+
+        verifyNoInteractions(bookingDailyStatsRepository);
+    }
+}
@@ -0,0 +1,126 @@
+package com.nhnacademy.bookingservice.common.stream;
+
+import com.nhnacademy.bookingservice.common.event.BookingSlotChangedEvent;
+import com.nhnacademy.bookingservice.common.exception.ServiceUnavailableException;
+import com.nhnacademy.bookingservice.domain.BookingChangeType;
+import com.nhnacademy.bookingservice.domain.BookingSlot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoomScheduleBroadcasterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    /**
+     * 전송 작업을 실행하지 않는 executor로 만들어, 버퍼에 쌓인 이벤트가 빠지지 않는 느린 구독자를 흉내 냅니다.
+     * 버퍼 크기 2 중 한 칸은 구독 직후의 연결 이벤트가 차지합니다.
+     */
+    private RoomScheduleBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new RoomScheduleBroadcaster(task -> { }, meterRegistry, 2, 3, Duration.ofMinutes(1), Duration.ofSeconds(3));
+    }
+
+    private static BookingSlotChangedEvent moved(Long fromRoomNo, Long toRoomNo) {
+        LocalDateTime start = LocalDateTime.parse("2025-04-29T09:00:00");
+        return new BookingSlotChangedEvent(new Object(), 1L, BookingChangeType.CHANGE,
+                new BookingSlot(1L, fromRoomNo, start, start.plusHours(1)),
+                new BookingSlot(1L, toRoomNo, start, start.plusHours(1)), 4, 4);
+    }
+
+    private double evictions(String reason) {
+        return meterRegistry.get(RoomScheduleBroadcaster.EVICTIONS_METRIC).tag("reason", reason).counter().count();
+    }
+
+    @Test
+    @DisplayName("구독 - 최대 구독자 수를 넘으면 503")
+    void subscribe_tooMany() {
+        broadcaster.subscribe(1L);
+        broadcaster.subscribe(2L);
+        broadcaster.subscribe(null);
+
+        assertThrows(ServiceUnavailableException.class, () -> broadcaster.subscribe(1L));
+        assertEquals(3, broadcaster.getSubscriberCount());
+        assertEquals(3, meterRegistry.get(RoomScheduleBroadcaster.SUBSCRIBERS_METRIC).gauge().value());
+    }
+
+    @Test
+    @DisplayName("느린 구독자 - 버퍼가 가득 차면 연결을 끊음")
+    void slowSubscriber_evicted() {
+        broadcaster.subscribe(1L);
+
+        broadcaster.handleBookingSlotChangedEvent(moved(1L, 1L));
+        assertEquals(1, broadcaster.getSubscriberCount());
+
+        broadcaster.handleBookingSlotChangedEvent(moved(1L, 1L));
+        assertEquals(0, broadcaster.getSubscriberCount());
+        assertEquals(1, evictions("overflow"));
+    }
+
+    @Test
+    @DisplayName("회의실별 구독 - 다른 회의실의 변경은 받지 않음")
+    void roomFilter() {
+        broadcaster.subscribe(1L);
+        broadcaster.subscribe(2L);
+
+        broadcaster.handleBookingSlotChangedEvent(moved(1L, 1L));
+        broadcaster.handleBookingSlotChangedEvent(moved(1L, 1L));
+
+        assertEquals(1, broadcaster.getSubscriberCount());
+        assertEquals(1, evictions("overflow"));
+    }
+
+    @Test
+    @DisplayName("회의실 이동 - 이동 전/후 회의실과 전체 구독자 모두 받음")
+    void roomMoved() {
+        broadcaster.subscribe(1L);
+        broadcaster.subscribe(2L);
+        broadcaster.subscribe(null);
+
+        broadcaster.handleBookingSlotChangedEvent(moved(1L, 2L));
+        broadcaster.heartbeat();
+
+        assertEquals(0, broadcaster.getSubscriberCount());
+        assertEquals(3, evictions("overflow"));
+    }
+
+    @Test
+    @DisplayName("자동 종료 - 구간이 그대로인 종료 이벤트도 해당 회의실 구독자에게 보냄")
+    void finished() {
+        LocalDateTime start = LocalDateTime.parse("2025-04-29T09:00:00");
+        BookingSlot slot = new BookingSlot(1L, 1L, start, start.plusHours(1));
+        BookingSlotChangedEvent finished = new BookingSlotChangedEvent(new Object(), 1L, BookingChangeType.FINISH, slot, slot, 4, 4);
+
+        broadcaster.subscribe(1L);
+        broadcaster.subscribe(2L);
+
+        broadcaster.handleBookingSlotChangedEvent(finished);
+        broadcaster.handleBookingSlotChangedEvent(finished);
+
+        assertEquals(1, broadcaster.getSubscriberCount());
+        assertEquals(1, evictions("overflow"));
+    }
+
+    @Test
+    @DisplayName("전송 풀이 가득 참 - 발행한 스레드가 보내지 않고 연결을 끊음")
+    void executorRejected_evicted() {
+        broadcaster = new RoomScheduleBroadcaster(task -> {
+            throw new RejectedExecutionException("full");
+        }, meterRegistry, 2, 3, Duration.ofMinutes(1), Duration.ofSeconds(3));
+
+        broadcaster.subscribe(1L);
+
+        assertEquals(0, broadcaster.getSubscriberCount());
+        assertEquals(1, evictions("rejected"));
+    }
+}
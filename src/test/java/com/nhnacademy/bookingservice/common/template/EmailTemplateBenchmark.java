@@ -0,0 +1,112 @@
+package com.nhnacademy.bookingservice.common.template;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 완료 메일 본문 생성 비용을 기존 {@code String.formatted} 방식과 {@link EmailTemplate}로 비교합니다.
+ * 세 방식 모두 같은 본문을 만들며, {@code templateIntoReusedBuilder}는 문자열 생성까지 뺀 렌더링 비용입니다.
+ * <p>
+ * {@code mvn test-compile} 후 IDE에서 {@link #main}을 실행하면 처리량과 함께
+ * {@code gc.alloc.rate.norm}(메일 한 통당 할당 바이트)이 출력됩니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailTemplateBenchmark {
+
+    private static final String CREATED = """
+            <h2>회의실 예약이 완료되었습니다</h2>
+               <p><strong>%s</strong>님, 요청하신 회의실 예약이 아래와 같이 정상적으로 완료되었습니다.</p>
+                <br>
+
+               <hr>
+                <p>
+                    <strong>예약 번호:</strong> %s<br>
+                    <strong>회의실:</strong> %s<br>
+                    <strong>날짜:</strong> %s<br>
+                </p>
+                <hr>
+                <br>
+
+               <p>
+                    회의 시작 <strong>10분 후</strong>까지 입장 확인이 되지 않을 경우, 해당 예약은 자동으로 취소됩니다.<br>
+                    예약 변경이나 취소가 필요하신 경우, 아래 버튼을 눌러 주세요.
+               </p>
+
+               <div class="cta">
+                   <a href="https://aiot2.live/booking/history">예약 확인/변경하기</a>
+               </div>
+                <br>
+
+               <p style="color: gray; font-size: small;">
+                    본 메일은 시스템에 의해 자동 발송되었습니다.<br>
+                    문의사항이 있으시면 <a href="mailto:help@aiot2.live">help@aiot2.live</a> 으로 연락 주세요.
+               </p>
+            """;
+
+    private static final String CREATED_TEMPLATE = CREATED.replaceFirst("%s", "{{recipient}}")
+            .replaceFirst("%s", "{{code}}")
+            .replaceFirst("%s", "{{room}}")
+            .replaceFirst("%s", "{{date}}");
+
+    private EmailTemplate template;
+    private StringBuilder builder;
+
+    private String recipient;
+    private String code;
+    private String room;
+    private String date;
+
+    @Setup
+    public void setUp() {
+        template = EmailTemplate.compile(CREATED_TEMPLATE, name -> "", "recipient", "code", "room", "date");
+        builder = new StringBuilder(4096);
+        recipient = "test@test.com";
+        code = "A1B2C3";
+        room = "회의실 A";
+        date = "2025-04-29 09:30";
+    }
+
+    @Benchmark
+    public String formatted() {
+        return CREATED.formatted(recipient, code, room, date);
+    }
+
+    @Benchmark
+    public String template() {
+        return template.render(recipient, code, room, date);
+    }
+
+    @Benchmark
+    public void templateIntoReusedBuilder(Blackhole blackhole) {
+        builder.setLength(0);
+        template.renderTo(builder, recipient, code, room, date);
+        blackhole.consume(builder);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EmailTemplateBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,82 @@
+package com.nhnacademy.bookingservice.common.template;
+
+import com.nhnacademy.bookingservice.domain.NotificationType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailTemplateTest {
+
+    private static final UnaryOperator<String> NO_PARTIALS = name -> {
+        throw new IllegalArgumentException(name);
+    };
+
+    @Test
+    @DisplayName("렌더링 - 값 이름 순서대로 채움")
+    void render() {
+        EmailTemplate template = EmailTemplate.compile("<p>{{room}}은 {{ date }}에 {{room}}</p>", NO_PARTIALS, "date", "room");
+
+        assertEquals("<p>회의실 A은 2025-04-29에 회의실 A</p>", template.render("2025-04-29", "회의실 A"));
+        assertEquals("<p>B은 C에 B</p>", template.render("C", "B"));
+    }
+
+    @Test
+    @DisplayName("렌더링 - 공통 조각은 파싱할 때 펼침")
+    void render_partial() {
+        Map<String, String> partials = Map.of("footer", "<small>{{name}}</small>{{>sign}}", "sign", "!");
+        EmailTemplate template = EmailTemplate.compile("<b>{{name}}</b>{{>footer}}", partials::get, "name");
+
+        assertEquals("<b>test</b><small>test</small>!", template.render("test"));
+    }
+
+    @Test
+    @DisplayName("렌더링 - 주어진 StringBuilder에 이어 붙임")
+    void renderTo() {
+        EmailTemplate template = EmailTemplate.compile("[{{v}}]", NO_PARTIALS, "v");
+        StringBuilder builder = new StringBuilder("a");
+
+        template.renderTo(builder, "b");
+
+        assertEquals("a[b]", builder.toString());
+    }
+
+    @Test
+    @DisplayName("파싱 실패 - 모르는 값 이름, 닫히지 않은 자리표시자, 순환 조각")
+    void compile_invalid() {
+        assertThrows(IllegalArgumentException.class, () -> EmailTemplate.compile("{{unknown}}", NO_PARTIALS, "name"));
+        assertThrows(IllegalArgumentException.class, () -> EmailTemplate.compile("{{name", NO_PARTIALS, "name"));
+        assertThrows(IllegalArgumentException.class, () -> EmailTemplate.compile("{{>loop}}", name -> "{{>loop}}"));
+    }
+
+    @Test
+    @DisplayName("렌더링 실패 - 값 개수 불일치")
+    void render_invalidValues() {
+        EmailTemplate template = EmailTemplate.compile("{{a}}{{b}}", NO_PARTIALS, "a", "b");
+
+        assertThrows(IllegalArgumentException.class, () -> template.render("a"));
+    }
+
+    @Test
+    @DisplayName("예약 메일 템플릿 - 공통 조각과 값이 모두 채워짐")
+    void bookingEmailTemplates() {
+        BookingEmailTemplates templates = new BookingEmailTemplates();
+
+        String created = templates.bookingMail(NotificationType.BOOKING_CREATED, "test@test.com", "ABC123", "회의실 A", "2025-04-29 09:30");
+        String cancelled = templates.bookingMail(NotificationType.BOOKING_CANCELLED, "test@test.com", "ABC123", "회의실 A", "2025-04-29 09:30");
+
+        assertAll(
+                () -> assertTrue(created.contains("<strong>test@test.com</strong>님, 요청하신 회의실 예약이")),
+                () -> assertTrue(created.contains("<strong>예약 번호:</strong> ABC123<br>")),
+                () -> assertTrue(created.contains("예약 확인/변경하기")),
+                () -> assertTrue(created.contains("help@aiot2.live")),
+                () -> assertTrue(cancelled.contains("<strong>날짜:</strong> 2025-04-29 09:30<br>")),
+                () -> assertFalse(cancelled.contains("예약 확인/변경하기")),
+                () -> assertFalse(created.contains("{{")),
+                () -> assertEquals("09:30에 회의실 A에서 회의가 시작됩니다. 입실해 주세요.", templates.reminder("09:30", "회의실 A"))
+        );
+    }
+}
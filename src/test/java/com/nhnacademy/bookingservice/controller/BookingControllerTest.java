@@ -3,11 +3,15 @@ package com.nhnacademy.bookingservice.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nhnacademy.bookingservice.common.adaptor.MemberAdaptor;
 import com.nhnacademy.bookingservice.common.exception.ForbiddenException;
+import com.nhnacademy.bookingservice.common.export.BookingRowWriter;
+import com.nhnacademy.bookingservice.common.export.ExportFormat;
 import com.nhnacademy.bookingservice.common.exception.booking.*;
 import com.nhnacademy.bookingservice.common.exception.NotFoundException;
 import com.nhnacademy.bookingservice.common.exception.meeting.MeetingRoomCapacityExceededException;
+import com.nhnacademy.bookingservice.common.stream.RoomScheduleBroadcaster;
 import com.nhnacademy.bookingservice.dto.*;
 import com.nhnacademy.bookingservice.service.BookingService;
+import com.nhnacademy.bookingservice.service.BookingStatisticsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,22 +20,31 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
@@ -44,6 +57,12 @@ class BookingControllerTest {
     @MockitoBean
     BookingService bookingService;
 
+    @MockitoBean
+    BookingStatisticsService bookingStatisticsService;
+
+    @MockitoBean
+    RoomScheduleBroadcaster roomScheduleBroadcaster;
+
     @MockitoBean
     MemberAdaptor memberAdaptor;
 
@@ -270,6 +289,161 @@ class BookingControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("예약 통계 내보내기 - CSV 스트리밍")
+    void exportAllBookings_csv() throws Exception {
+        BookingResponse response = new BookingResponse(1L, "test", LocalDateTime.parse("2025-04-29T09:30:00"), 9, LocalDateTime.parse("2025-04-29T10:30:00"), LocalDateTime.parse("2025-04-29T08:30:00"), null, 1L, 1L);
+        doAnswer(invocation -> {
+            BookingRowWriter writer = invocation.getArgument(0);
+            writer.write(response);
+            writer.flush();
+            return null;
+        }).when(bookingService).exportBookings(Mockito.any());
+
+        MvcResult result = mockMvc.perform(
+                        get("/api/v1/bookings/statistics")
+                                .header("X-USER", "test@test.com")
+                                .accept(ExportFormat.CSV_VALUE)
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(ExportFormat.CSV.getMediaType()))
+                .andExpect(content().string(containsString("1,test,2025-04-29T09:30,2025-04-29T10:30,9,,1,,,1,")))
+                .andDo(print());
+
+        Mockito.verify(bookingService, never()).getBookings();
+    }
+
+    @Test
+    @DisplayName("예약 통계 요약 - 주별")
+    void getStatisticsSummary() throws Exception {
+        MemberResponse admin = new MemberResponse(2L, "admin", "admin@test.com", "010-1111-1111", "ROLE_ADMIN");
+        when(memberAdaptor.getMemberByEmail("admin@test.com")).thenReturn(admin);
+        when(bookingStatisticsService.getStatistics(1L, BookingStatsUnit.WEEK, LocalDate.parse("2025-04-01"), LocalDate.parse("2025-04-30")))
+                .thenReturn(List.of(new BookingStatsResponse(1L, LocalDate.parse("2025-04-28"), 4, 1, 0.25, 3.5, 5.0)));
+
+        mockMvc.perform(
+                        get("/api/v1/bookings/statistics/summary")
+                                .param("unit", "WEEK")
+                                .param("from", "2025-04-01")
+                                .param("to", "2025-04-30")
+                                .param("roomNo", "1")
+                                .header("X-USER", "admin@test.com")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].periodStart").value("2025-04-28"))
+                .andExpect(jsonPath("$[0].cancelRate").value(0.25))
+                .andExpect(jsonPath("$[0].utilizationHours").value(3.5))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("예약 통계 요약 - 일반 사용자")
+    void getStatisticsSummary_user() throws Exception {
+        mockMvc.perform(
+                        get("/api/v1/bookings/statistics/summary")
+                                .param("from", "2025-04-01")
+                                .param("to", "2025-04-30")
+                                .header("X-USER", "test@test.com")
+                )
+                .andExpect(status().isForbidden());
+
+        Mockito.verify(bookingStatisticsService, never()).getStatistics(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    @DisplayName("빈 구간 검색")
+    void getFreeSlots() throws Exception {
+        LocalDateTime from = LocalDateTime.parse("2025-05-01T09:00:00");
+        LocalDateTime to = LocalDateTime.parse("2025-05-07T18:00:00");
+        FreeSlotResponse response = new FreeSlotResponse(1L, "회의실 A", 8, from, LocalDateTime.parse("2025-05-01T11:00:00"));
+        when(bookingService.findFreeSlots(from, to, Duration.ofMinutes(90), 4)).thenReturn(List.of(response));
+
+        mockMvc.perform(
+                        get("/api/v1/bookings/meeting-rooms/free-slots")
+                                .param("from", "2025-05-01T09:00")
+                                .param("to", "2025-05-07T18:00")
+                                .param("minutes", "90")
+                                .param("capacity", "4")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].roomNo").value(1L))
+                .andExpect(jsonPath("$[0].roomName").value("회의실 A"))
+                .andExpect(jsonPath("$[0].startsAt").value("2025-05-01T09:00:00"))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("예약 변경 구독 - 회의실별")
+    void subscribeRoomSchedule() throws Exception {
+        when(roomScheduleBroadcaster.subscribe(1L)).thenReturn(new SseEmitter());
+
+        mockMvc.perform(
+                        get("/api/v1/bookings/meeting-rooms/{roomNo}/events", 1L)
+                                .accept(MediaType.TEXT_EVENT_STREAM)
+                )
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted())
+                .andDo(print());
+
+        Mockito.verify(roomScheduleBroadcaster).subscribe(1L);
+    }
+
+    @Test
+    @DisplayName("예약 변경 구독 - 전체 회의실")
+    void subscribeSchedules() throws Exception {
+        when(roomScheduleBroadcaster.subscribe(null)).thenReturn(new SseEmitter());
+
+        mockMvc.perform(
+                        get("/api/v1/bookings/meeting-rooms/events")
+                                .accept(MediaType.TEXT_EVENT_STREAM)
+                )
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted())
+                .andDo(print());
+
+        Mockito.verify(roomScheduleBroadcaster).subscribe(null);
+    }
+
+    @Test
+    @DisplayName("점유 비트맵 조회 - 전체 회의실")
+    void getOccupancies() throws Exception {
+        LocalDate date = LocalDate.parse("2025-05-01");
+        RoomOccupancyResponse response = new RoomOccupancyResponse(date, 30, 48, Map.of(1L, "AgAAAACA"));
+        when(bookingService.getOccupancies(date, 30)).thenReturn(response);
+
+        mockMvc.perform(
+                        get("/api/v1/bookings/meeting-rooms/occupancy")
+                                .param("date", "2025-05-01")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.granularity").value(30))
+                .andExpect(jsonPath("$.slotCount").value(48))
+                .andExpect(jsonPath("$.rooms.1").value("AgAAAACA"))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("점유 비트맵 조회 - 회의실 하나, 바이너리")
+    void getOccupancy() throws Exception {
+        LocalDate date = LocalDate.parse("2025-05-01");
+        byte[] bitmap = new byte[18];
+        bitmap[0] = 1;
+        when(bookingService.getOccupancy(1L, date, 10)).thenReturn(bitmap);
+
+        mockMvc.perform(
+                        get("/api/v1/bookings/meeting-rooms/1/date/2025-05-01/occupancy")
+                                .param("granularity", "10")
+                )
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+                .andExpect(content().bytes(bitmap))
+                .andDo(print());
+    }
+
     @Test
     @DisplayName("예약 조회(페이징) - 사용자별")
     void getBookingsByMember() throws Exception {
@@ -393,6 +567,66 @@ class BookingControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("예약 조회(커서) - 사용자별")
+    void getBookingsByMemberCursor() throws Exception {
+        BookingResponse.MemberInfo member1 = new BookingResponse.MemberInfo();
+        member1.setNo(1L);
+        member1.setName("test");
+
+        BookingResponse.MeetingRoomInfo room = new BookingResponse.MeetingRoomInfo();
+        room.setNo(1L);
+        room.setName("회의실 A");
+
+        BookingResponse response1 = new BookingResponse(1L, "test", LocalDateTime.parse("2025-04-29T09:30:00"), 9,LocalDateTime.parse("2025-04-29T10:30:00"), LocalDateTime.parse("2025-04-29T08:30:00"), null, member1, room);
+        String nextCursor = BookingCursor.of(response1).encode();
+
+        when(bookingService.getMemberBookingsByCursor(member, "prev", 1, false)).thenReturn(new CursorPage<>(List.of(response1), 1, true, nextCursor, null));
+
+        mockMvc.perform(
+                        get("/api/v1/bookings/me")
+                                .param("mode", "cursor")
+                                .param("cursor", "prev")
+                                .param("size", "1")
+                                .header("X-USER", "test@test.com")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.[0].no").value(1L))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(nextCursor))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("예약 전체 조회(커서) - 일반 사용자")
+    void getAllBookingsCursor_user() throws Exception {
+        mockMvc.perform(
+                        get("/api/v1/bookings")
+                                .param("mode", "cursor")
+                                .header("X-USER", "test@test.com")
+                )
+                .andExpect(status().isForbidden())
+                .andDo(print());
+
+        Mockito.verify(bookingService, never()).getBookingsByCursor(Mockito.any(), Mockito.anyInt(), Mockito.anyBoolean());
+    }
+
+    @Test
+    @DisplayName("예약 조회(커서) - 잘못된 커서")
+    void getBookingsByMemberCursor_invalidCursor() throws Exception {
+        when(bookingService.getMemberBookingsByCursor(member, "broken", 10, false)).thenThrow(new InvalidBookingCursorException());
+
+        mockMvc.perform(
+                        get("/api/v1/bookings/me")
+                                .param("mode", "cursor")
+                                .param("cursor", "broken")
+                                .header("X-USER", "test@test.com")
+                )
+                .andExpect(status().isBadRequest())
+                .andDo(print());
+    }
+
     @Test
     @DisplayName("예약 조회(페이징) 정렬")
     void getAllBookings_sort() throws Exception {
@@ -461,6 +695,33 @@ class BookingControllerTest {
                 .andExpect(jsonPath("$[1].startsAt").value("2025-04-29T10:30:00"))
                 .andExpect(jsonPath("$[1].finishesAt").value("2025-04-29T11:30:00"))
                 .andDo(print());
+
+        Mockito.verify(memberAdaptor, never()).getMemberByEmail(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("예약 조회 - 회의실 날짜별, ETag")
+    void getDailyBookings_eTag() throws Exception {
+        LocalDate date = LocalDate.parse("2025-04-29");
+        when(bookingService.getDailyBookingsETag(2L, date)).thenReturn("\"a-1\"");
+        when(bookingService.getDailyBookings(2L, date)).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/v1/bookings/meeting-rooms/{roomNo}/date/{date}", 2L, "2025-04-29"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"a-1\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andDo(print());
+
+        mockMvc.perform(
+                        get("/api/v1/bookings/meeting-rooms/{roomNo}/date/{date}", 2L, "2025-04-29")
+                                .header(HttpHeaders.IF_NONE_MATCH, "\"a-1\"")
+                )
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"a-1\""))
+                .andExpect(content().string(""))
+                .andDo(print());
+
+        Mockito.verify(bookingService, times(1)).getDailyBookings(2L, date);
     }
 
     @Test
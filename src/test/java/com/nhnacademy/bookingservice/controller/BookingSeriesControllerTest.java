@@ -0,0 +1,111 @@
+package com.nhnacademy.bookingservice.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.bookingservice.common.adaptor.MemberAdaptor;
+import com.nhnacademy.bookingservice.common.exception.booking.BookingSeriesConflictException;
+import com.nhnacademy.bookingservice.common.exception.booking.BookingSeriesNotFoundException;
+import com.nhnacademy.bookingservice.domain.Recurrence;
+import com.nhnacademy.bookingservice.dto.BookingSeriesRequest;
+import com.nhnacademy.bookingservice.dto.BookingSeriesResponse;
+import com.nhnacademy.bookingservice.dto.MemberResponse;
+import com.nhnacademy.bookingservice.service.BookingSeriesService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = BookingSeriesController.class)
+class BookingSeriesControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    BookingSeriesService bookingSeriesService;
+
+    @MockitoBean
+    MemberAdaptor memberAdaptor;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    MemberResponse member;
+
+    @BeforeEach
+    void modelAttribute() {
+        member = new MemberResponse(1L, "test", "test@test.com", "010-1111-1111", "ROLE_USER");
+        when(memberAdaptor.getMemberByEmail("test@test.com")).thenReturn(member);
+    }
+
+    @Test
+    @DisplayName("정기 예약 등록 성공")
+    void registerSeries() throws Exception {
+        BookingSeriesRequest request = new BookingSeriesRequest(1L, Recurrence.WEEKLY, "2025-05-05", "09:00", "10:00", 4, null, 2);
+        BookingSeriesResponse response = new BookingSeriesResponse(7L, 1L, Recurrence.WEEKLY, LocalTime.parse("09:00"), LocalTime.parse("10:00"), 4,
+                LocalDate.parse("2025-05-05"), LocalDate.parse("2025-05-12"), false,
+                List.of(new BookingSeriesResponse.Occurrence(1L, "code1", LocalDateTime.parse("2025-05-05T09:00:00"), LocalDateTime.parse("2025-05-05T10:00:00")),
+                        new BookingSeriesResponse.Occurrence(2L, "code2", LocalDateTime.parse("2025-05-12T09:00:00"), LocalDateTime.parse("2025-05-12T10:00:00"))));
+        when(bookingSeriesService.register(request, member)).thenReturn(response);
+
+        mockMvc.perform(
+                        post("/api/v1/bookings/series")
+                                .header("X-USER", "test@test.com")
+                                .content(mapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.seriesNo").value(7L))
+                .andExpect(jsonPath("$.bookings.length()").value(2))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("정기 예약 등록 실패 - 겹치는 회차")
+    void registerSeries_conflict() throws Exception {
+        BookingSeriesRequest request = new BookingSeriesRequest(1L, Recurrence.DAILY, "2025-05-05", "09:00", "10:00", 4, "2025-05-09", null);
+        doThrow(new BookingSeriesConflictException(List.of(LocalDateTime.parse("2025-05-06T09:00:00"))))
+                .when(bookingSeriesService).register(request, member);
+
+        mockMvc.perform(
+                        post("/api/v1/bookings/series")
+                                .header("X-USER", "test@test.com")
+                                .content(mapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isConflict())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("정기 예약 취소 성공")
+    void cancelSeries() throws Exception {
+        mockMvc.perform(delete("/api/v1/bookings/series/{seriesNo}", 7L).header("X-USER", "test@test.com"))
+                .andExpect(status().isNoContent());
+
+        verify(bookingSeriesService).cancelSeries(7L, member);
+    }
+
+    @Test
+    @DisplayName("정기 예약 조회 실패 - 없는 정기 예약")
+    void getSeries_notFound() throws Exception {
+        doThrow(new BookingSeriesNotFoundException(7L)).when(bookingSeriesService).getSeries(7L, member);
+
+        mockMvc.perform(get("/api/v1/bookings/series/{seriesNo}", 7L).header("X-USER", "test@test.com"))
+                .andExpect(status().isNotFound());
+    }
+}
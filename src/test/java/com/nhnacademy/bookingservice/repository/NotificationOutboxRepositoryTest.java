@@ -0,0 +1,52 @@
+package com.nhnacademy.bookingservice.repository;
+
+import com.nhnacademy.bookingservice.common.config.QuerydslConfig;
+import com.nhnacademy.bookingservice.domain.NotificationOutbox;
+import com.nhnacademy.bookingservice.domain.NotificationStatus;
+import com.nhnacademy.bookingservice.domain.NotificationType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(QuerydslConfig.class)
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+class NotificationOutboxRepositoryTest {
+
+    @Autowired
+    NotificationOutboxRepository notificationOutboxRepository;
+
+    @Autowired
+    TestEntityManager manager;
+
+    @Test
+    @DisplayName("발송 대상 조회 - 발송 시각이 된 대기 행만 오래된 순으로")
+    void findDueForUpdate() {
+        LocalDateTime now = LocalDateTime.parse("2025-04-29T09:00:00");
+        NotificationOutbox later = NotificationOutbox.ofPending(NotificationType.BOOKING_CREATED, 1L, "a@test.com", now.minusMinutes(1));
+        NotificationOutbox earlier = NotificationOutbox.ofPending(NotificationType.BOOKING_CHANGED, 2L, "b@test.com", now.minusMinutes(5));
+        NotificationOutbox notYet = NotificationOutbox.ofPending(NotificationType.BOOKING_CREATED, 3L, "c@test.com", now.plusMinutes(1));
+        NotificationOutbox sent = NotificationOutbox.ofPending(NotificationType.BOOKING_CANCELLED, 4L, "d@test.com", now.minusMinutes(10));
+        sent.markSent(now.minusMinutes(9));
+        List.of(later, earlier, notYet, sent).forEach(manager::persist);
+        manager.flush();
+        manager.clear();
+
+        List<NotificationOutbox> due = notificationOutboxRepository.findDueForUpdate(NotificationStatus.PENDING, now, Limit.of(10));
+
+        assertEquals(List.of(2L, 1L), due.stream().map(NotificationOutbox::getBookingNo).toList());
+        assertEquals(1, notificationOutboxRepository.findDueForUpdate(NotificationStatus.PENDING, now, Limit.of(1)).size());
+    }
+}
@@ -0,0 +1,160 @@
+package com.nhnacademy.bookingservice.repository.impl;
+
+import com.nhnacademy.bookingservice.common.config.QuerydslConfig;
+import com.nhnacademy.bookingservice.domain.Booking;
+import com.nhnacademy.bookingservice.domain.BookingChangeType;
+import com.nhnacademy.bookingservice.repository.BookingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link CustomBookingRepositoryImpl}이 실제로 만드는 SQL을 가로채 H2의 EXPLAIN으로 실행 계획을 확인합니다.
+ * 조회 조건이 바뀌어 인덱스를 타지 못하게 되거나, 마이그레이션에서 인덱스가 빠지면 실패합니다.
+ */
+@Slf4j
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(QuerydslConfig.class)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.nhnacademy.bookingservice.repository.impl.BookingQueryPlanTest$CapturingStatementInspector")
+class BookingQueryPlanTest {
+
+    private static final String MIGRATIONS = "classpath:db/migration/mysql/*.sql";
+
+    @Autowired
+    BookingRepository bookingRepository;
+
+    @Autowired
+    TestEntityManager manager;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 20; i++) {
+            LocalDateTime startsAt = LocalDateTime.parse("2025-04-29T09:00:00").plusHours(i);
+            manager.persist(Booking.ofNewBooking("plan" + i, startsAt, 4, startsAt.plusHours(1), (long) i % 3, null, (long) i % 5));
+        }
+        manager.flush();
+        manager.clear();
+        CapturingStatementInspector.clear();
+    }
+
+    @Test
+    @DisplayName("겹침 검사 - 회의실/시작/종료 인덱스")
+    void existsOverlappingBooking() {
+        LocalDateTime startsAt = LocalDateTime.parse("2025-04-29T10:00:00");
+        LocalDateTime finishesAt = LocalDateTime.parse("2025-04-29T11:00:00");
+
+        bookingRepository.existsOverlappingBooking(1L, startsAt, finishesAt);
+
+        assertUsesIndex(explain(1L, finishesAt, startsAt), "IDX_BOOKINGS_ROOM_DATE_FINISH");
+    }
+
+    @Test
+    @DisplayName("일별 조회 - 회의실/시작/종료 인덱스")
+    void findBookingsByDate() {
+        LocalDate date = LocalDate.parse("2025-04-29");
+
+        bookingRepository.findBookingsByDate(1L, date);
+
+        assertUsesIndex(explain(1L, BookingChangeType.CANCEL.getId(), date.atStartOfDay(), date.plusDays(1).atStartOfDay()),
+                "IDX_BOOKINGS_ROOM_DATE_FINISH");
+    }
+
+    @Test
+    @DisplayName("회원별 커서 조회 - 회원/시작/번호 인덱스")
+    void findBookingsByCursor() {
+        bookingRepository.findBookingsByCursor(1L, null, 10);
+
+        assertUsesIndex(explain(1L, 10), "IDX_BOOKINGS_MB_DATE_NO");
+    }
+
+    @Test
+    @DisplayName("알림 대상 조회 - 시작/번호 인덱스")
+    void findBookingsToRemind() {
+        LocalDateTime date = LocalDateTime.parse("2025-04-29T10:00:00");
+
+        bookingRepository.findBookingsToRemind(date);
+
+        assertUsesIndex(explain(date, date.plusMinutes(1), BookingChangeType.CANCEL.getId()), "IDX_BOOKINGS_DATE_NO");
+    }
+
+    @Test
+    @DisplayName("자동 종료 대상 조회 - 변경 유형/종료 인덱스")
+    void findExpiredInUseBookings() {
+        LocalDateTime now = LocalDateTime.parse("2025-04-29T12:00:00");
+
+        bookingRepository.findExpiredInUseBookings(now, 100);
+
+        assertUsesIndex(explain(BookingChangeType.INUSE.getId(), now, 100), "IDX_BOOKINGS_CHANGE_FINISH");
+    }
+
+    /**
+     * 마지막으로 실행된 SQL에 같은 파라미터를 넣어 EXPLAIN 합니다.
+     */
+    private String explain(Object... params) {
+        String sql = CapturingStatementInspector.last();
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, params);
+        log.info("{}\n{}", sql, plan);
+        return plan;
+    }
+
+    private static void assertUsesIndex(String plan, String index) {
+        assertThat(plan).containsIgnoringCase(index);
+        assertThat(plan).doesNotContainIgnoringCase("tableScan");
+        assertThat(migration()).containsIgnoringCase(index);
+    }
+
+    private static String migration() {
+        try {
+            StringBuilder migrations = new StringBuilder();
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(MIGRATIONS)) {
+                migrations.append(resource.getContentAsString(StandardCharsets.UTF_8));
+            }
+            return migrations.toString();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+
+        static String last() {
+            return STATEMENTS.getLast();
+        }
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package com.nhnacademy.bookingservice.repository.impl;
 
 import com.nhnacademy.bookingservice.common.config.QuerydslConfig;
+import com.nhnacademy.bookingservice.dto.BookingCursor;
 import com.nhnacademy.bookingservice.dto.BookingResponse;
 import com.nhnacademy.bookingservice.dto.DailyBookingResponse;
 import com.nhnacademy.bookingservice.domain.Booking;
 import com.nhnacademy.bookingservice.domain.BookingChange;
+import com.nhnacademy.bookingservice.domain.BookingChangeType;
+import com.nhnacademy.bookingservice.domain.BookingSlot;
 import com.nhnacademy.bookingservice.repository.BookingRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,6 +30,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -38,7 +42,7 @@ import static org.junit.jupiter.api.Assertions.*;
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @ActiveProfiles("test")
 @Import(QuerydslConfig.class)
-@DataJpaTest
+@DataJpaTest(properties = "spring.sql.init.mode=never")
 class BookingRepositoryImplTest {
 
     @Autowired
@@ -228,6 +232,36 @@ class BookingRepositoryImplTest {
         });
     }
 
+    @Test
+    @DisplayName("예약 조회(커서) - 최신순으로 이어서 조회")
+    void findBookingsByCursor() {
+        Booking booking1 = Booking.ofNewBooking("test1", LocalDateTime.parse("2025-04-29T09:30:00"), 8, LocalDateTime.parse("2025-04-29T10:30:00"), 1L, null, 1L);
+        Booking booking2 = Booking.ofNewBooking("test2", LocalDateTime.parse("2025-04-29T10:30:00"), 8, LocalDateTime.parse("2025-04-29T11:30:00"), 1L, null, 1L);
+        Booking booking3 = Booking.ofNewBooking("test3", LocalDateTime.parse("2025-04-29T10:30:00"), 8, LocalDateTime.parse("2025-04-29T11:30:00"), 1L, null, 2L);
+        Booking booking4 = Booking.ofNewBooking("test4", LocalDateTime.parse("2025-04-30T12:30:00"), 8, LocalDateTime.parse("2025-04-30T13:30:00"), 1L, null, 1L);
+        Booking other = Booking.ofNewBooking("test5", LocalDateTime.parse("2025-04-30T09:30:00"), 8, LocalDateTime.parse("2025-04-30T10:30:00"), 2L, null, 1L);
+
+        manager.persist(booking1);
+        manager.persist(booking2);
+        manager.persist(booking3);
+        manager.persist(booking4);
+        manager.persist(other);
+        manager.flush();
+        manager.clear();
+
+        List<BookingResponse> first = bookingRepository.findBookingsByCursor(1L, null, 2);
+        List<BookingResponse> second = bookingRepository.findBookingsByCursor(1L, BookingCursor.of(first.getLast()), 2);
+        List<BookingResponse> third = bookingRepository.findBookingsByCursor(1L, BookingCursor.of(second.getLast()), 2);
+
+        assertAll(() -> {
+            assertEquals(List.of("test4", "test3"), first.stream().map(BookingResponse::getCode).toList());
+            assertEquals(List.of("test2", "test1"), second.stream().map(BookingResponse::getCode).toList());
+            assertTrue(third.isEmpty());
+            assertEquals(4, bookingRepository.countBookings(1L));
+            assertEquals(5, bookingRepository.countBookings(null));
+        });
+    }
+
     @Test
     @DisplayName("예약 조회 - 날짜별")
     void findBookingsByDate() {
@@ -310,6 +344,19 @@ class BookingRepositoryImplTest {
         assertFalse(actual);
     }
 
+    @Test
+    @DisplayName("예약 중복 체크 - 자기 자신 제외")
+    void existsOverlappingBookingExcept() {
+        Booking booking = Booking.ofNewBooking("test3", LocalDateTime.parse("2025-04-29T09:30:00"), 8, LocalDateTime.parse("2025-04-29T10:30:00"), 1L, null, 2L);
+        Booking other = Booking.ofNewBooking("test4", LocalDateTime.parse("2025-04-29T11:30:00"), 8, LocalDateTime.parse("2025-04-29T12:30:00"), 1L, null, 2L);
+        manager.persist(booking);
+        manager.persist(other);
+        manager.flush();
+
+        assertFalse(bookingRepository.existsOverlappingBookingExcept(2L, LocalDateTime.parse("2025-04-29T10:00:00"), LocalDateTime.parse("2025-04-29T11:00:00"), booking.getBookingNo()));
+        assertTrue(bookingRepository.existsOverlappingBookingExcept(2L, LocalDateTime.parse("2025-04-29T10:00:00"), LocalDateTime.parse("2025-04-29T12:00:00"), booking.getBookingNo()));
+    }
+
     @Test
     @DisplayName("예약 중복 체크 - True")
     void hasBookingStartingAt_true() {
@@ -331,4 +378,163 @@ class BookingRepositoryImplTest {
 
         assertFalse(actual);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("점유 중인 예약 구간 조회")
+    void findActiveSlots() {
+        Booking past = Booking.ofNewBooking("test1", LocalDateTime.parse("2025-04-28T09:30:00"), 8, LocalDateTime.parse("2025-04-28T10:30:00"), 1L, null, 2L);
+        Booking active = Booking.ofNewBooking("test2", LocalDateTime.parse("2025-04-29T09:30:00"), 8, LocalDateTime.parse("2025-04-29T10:30:00"), 1L, null, 2L);
+        Booking cancelled = Booking.ofNewBooking("test3", LocalDateTime.parse("2025-04-29T11:30:00"), 8, null, 1L, null, 2L);
+        manager.persist(past);
+        manager.persist(active);
+        manager.persist(cancelled);
+        manager.flush();
+        manager.clear();
+
+        List<BookingSlot> slots = bookingRepository.findActiveSlots(LocalDateTime.parse("2025-04-29T00:00:00"));
+
+        assertAll(() -> {
+            assertEquals(1, slots.size());
+            assertEquals(active.getBookingNo(), slots.getFirst().getBookingNo());
+            assertEquals(2L, slots.getFirst().getMeetingRoomNo());
+            assertEquals(LocalDateTime.parse("2025-04-29T10:30:00"), slots.getFirst().getFinishesAt());
+        });
+    }
+
+    @Test
+    @DisplayName("미입실 예약 조회 후 일괄 취소")
+    void findNoShowBookingsForUpdate_cancelAll() {
+        List<BookingChange> changes = new ArrayList<>();
+        for (BookingChangeType type : BookingChangeType.values()) {
+            BookingChange change = new BookingChange(type.getName());
+            manager.persist(change);
+            changes.add(change);
+        }
+        BookingChange extended = changes.get(0);
+        BookingChange cancel = changes.get(2);
+        BookingChange changed = changes.get(3);
+        BookingChange inUse = changes.get(4);
+
+        Booking noShow = Booking.ofNewBooking("test1", LocalDateTime.parse("2025-04-29T09:00:00"), 8, LocalDateTime.parse("2025-04-29T10:00:00"), 1L, null, 1L);
+        Booking checkedIn = Booking.ofNewBooking("test2", LocalDateTime.parse("2025-04-29T09:00:00"), 8, LocalDateTime.parse("2025-04-29T10:00:00"), 1L, inUse, 2L);
+        Booking moved = Booking.ofNewBooking("test3", LocalDateTime.parse("2025-04-29T09:10:00"), 8, LocalDateTime.parse("2025-04-29T10:00:00"), 1L, changed, 3L);
+        Booking notYet = Booking.ofNewBooking("test4", LocalDateTime.parse("2025-04-29T09:25:00"), 8, LocalDateTime.parse("2025-04-29T10:00:00"), 1L, null, 4L);
+        Booking cancelled = Booking.ofNewBooking("test5", LocalDateTime.parse("2025-04-29T09:00:00"), 8, null, 1L, cancel, 5L);
+        Booking ended = Booking.ofNewBooking("test6", LocalDateTime.parse("2025-04-29T08:00:00"), 8, LocalDateTime.parse("2025-04-29T09:00:00"), 1L, null, 6L);
+        Booking extendedNoShow = Booking.ofNewBooking("test7", LocalDateTime.parse("2025-04-29T09:05:00"), 8, LocalDateTime.parse("2025-04-29T11:05:00"), 1L, extended, 7L);
+        Booking lastMinute = Booking.ofNewBooking("test8", LocalDateTime.parse("2025-04-29T09:20:00"), 8, LocalDateTime.parse("2025-04-29T10:20:00"), 1L, null, 8L);
+        List.of(noShow, checkedIn, moved, notYet, cancelled, ended, extendedNoShow, lastMinute).forEach(manager::persist);
+        manager.flush();
+        manager.clear();
+
+        List<Booking> noShows = bookingRepository.findNoShowBookingsForUpdate(
+                LocalDateTime.parse("2025-04-29T09:20:00"), LocalDateTime.parse("2025-04-29T09:30:00"), 10);
+
+        assertEquals(List.of(noShow.getBookingNo(), extendedNoShow.getBookingNo(), moved.getBookingNo()), noShows.stream().map(Booking::getBookingNo).toList());
+
+        long updated = bookingRepository.cancelAll(noShows.stream().map(Booking::getBookingNo).toList(), cancel);
+        manager.clear();
+
+        Booking actual = manager.find(Booking.class, noShow.getBookingNo());
+        assertAll(() -> {
+            assertEquals(3, updated);
+            assertNull(actual.getFinishesAt());
+            assertEquals("취소", actual.getBookingChange().getName());
+            assertNotNull(manager.find(Booking.class, notYet.getBookingNo()).getFinishesAt());
+        });
+    }
+
+    @Test
+    @DisplayName("종료 시각이 지난 사용중 예약 일괄 종료")
+    void findExpiredInUseBookings_finishAll() {
+        List<BookingChange> changes = new ArrayList<>();
+        for (BookingChangeType type : BookingChangeType.values()) {
+            BookingChange change = new BookingChange(type.getName());
+            manager.persist(change);
+            changes.add(change);
+        }
+        BookingChange finish = changes.get(1);
+        BookingChange inUse = changes.get(4);
+
+        Booking expired1 = Booking.ofNewBooking("test1", LocalDateTime.parse("2025-04-29T09:00:00"), 8, LocalDateTime.parse("2025-04-29T11:00:00"), 1L, inUse, 1L);
+        Booking expired2 = Booking.ofNewBooking("test2", LocalDateTime.parse("2025-04-29T09:00:00"), 8, LocalDateTime.parse("2025-04-29T10:00:00"), 1L, inUse, 2L);
+        Booking running = Booking.ofNewBooking("test3", LocalDateTime.parse("2025-04-29T11:00:00"), 8, LocalDateTime.parse("2025-04-29T13:00:00"), 1L, inUse, 3L);
+        Booking notCheckedIn = Booking.ofNewBooking("test4", LocalDateTime.parse("2025-04-29T09:00:00"), 8, LocalDateTime.parse("2025-04-29T10:00:00"), 1L, null, 4L);
+        List.of(expired1, expired2, running, notCheckedIn).forEach(manager::persist);
+        manager.flush();
+        manager.clear();
+
+        LocalDateTime now = LocalDateTime.parse("2025-04-29T12:00:00");
+        List<Long> expired = bookingRepository.findExpiredInUseBookings(now, 10).stream().map(Booking::getBookingNo).toList();
+        Optional<LocalDateTime> oldest = bookingRepository.findOldestExpiredInUseFinishesAt(now);
+
+        assertEquals(List.of(expired2.getBookingNo(), expired1.getBookingNo()), expired);
+        assertEquals(Optional.of(LocalDateTime.parse("2025-04-29T10:00:00")), oldest);
+
+        long updated = bookingRepository.finishAll(expired, finish);
+        manager.clear();
+
+        assertAll(() -> {
+            assertEquals(2, updated);
+            assertEquals("종료", manager.find(Booking.class, expired1.getBookingNo()).getBookingChange().getName());
+            assertEquals("사용중", manager.find(Booking.class, running.getBookingNo()).getBookingChange().getName());
+            assertTrue(bookingRepository.findOldestExpiredInUseFinishesAt(now).isEmpty());
+        });
+    }
+
+    @Test
+    @DisplayName("정기 예약 회차 배치 저장 후 회차/예약 구간 조회")
+    void insertAll_findSeriesBookings_findRoomSlots() {
+        Booking other = Booking.ofNewBooking("other", LocalDateTime.parse("2025-05-12T09:30:00"), 8, LocalDateTime.parse("2025-05-12T10:30:00"), 2L, null, 1L);
+        manager.persist(other);
+        manager.flush();
+
+        List<Booking> occurrences = List.of(
+                Booking.ofSeriesBooking("s1", LocalDateTime.parse("2025-05-05T09:00:00"), 4, LocalDateTime.parse("2025-05-05T10:00:00"), 1L, 1L, 7L),
+                Booking.ofSeriesBooking("s2", LocalDateTime.parse("2025-05-19T09:00:00"), 4, LocalDateTime.parse("2025-05-19T10:00:00"), 1L, 1L, 7L),
+                Booking.ofSeriesBooking("s3", LocalDateTime.parse("2025-06-02T09:00:00"), 4, LocalDateTime.parse("2025-06-02T10:00:00"), 1L, 1L, 7L));
+
+        int inserted = bookingRepository.insertAll(occurrences);
+        manager.clear();
+
+        List<Booking> upcoming = bookingRepository.findSeriesBookings(7L, LocalDateTime.parse("2025-05-10T00:00:00"));
+        List<BookingSlot> slots = bookingRepository.findRoomSlots(1L, LocalDateTime.parse("2025-05-05T10:00:00"), LocalDateTime.parse("2025-06-02T09:00:00"));
+
+        assertAll(() -> {
+            assertEquals(3, inserted);
+            assertEquals(List.of("s2", "s3"), upcoming.stream().map(Booking::getBookingCode).toList());
+            assertNotNull(upcoming.getFirst().getCreatedAt());
+            assertEquals(List.of(LocalDateTime.parse("2025-05-12T09:30:00"), LocalDateTime.parse("2025-05-19T09:00:00")),
+                    slots.stream().map(BookingSlot::getStartsAt).toList());
+        });
+    }
+
+    @Test
+    @DisplayName("정기 예약 회차 중 입실 전인 회차만 조회 - 일찍 입실/종료된 회차 제외")
+    void findPendingSeriesBookingsForUpdate() {
+        List<BookingChange> changes = new ArrayList<>();
+        for (BookingChangeType type : BookingChangeType.values()) {
+            BookingChange change = new BookingChange(type.getName());
+            manager.persist(change);
+            changes.add(change);
+        }
+        BookingChange extended = changes.get(0);
+        BookingChange finish = changes.get(1);
+        BookingChange inUse = changes.get(4);
+
+        Booking checkedInEarly = Booking.ofSeriesBooking("s1", LocalDateTime.parse("2025-05-05T09:00:00"), 4, LocalDateTime.parse("2025-05-05T10:00:00"), 1L, 1L, 7L);
+        checkedInEarly.updateBookingEvent(inUse);
+        Booking finishedEarly = Booking.ofSeriesBooking("s2", LocalDateTime.parse("2025-05-05T11:00:00"), 4, LocalDateTime.parse("2025-05-05T12:00:00"), 1L, 1L, 7L);
+        finishedEarly.updateBookingEvent(finish);
+        Booking pending = Booking.ofSeriesBooking("s3", LocalDateTime.parse("2025-05-12T09:00:00"), 4, LocalDateTime.parse("2025-05-12T10:00:00"), 1L, 1L, 7L);
+        Booking extendedPending = Booking.ofSeriesBooking("s4", LocalDateTime.parse("2025-05-19T09:00:00"), 4, LocalDateTime.parse("2025-05-19T11:00:00"), 1L, 1L, 7L);
+        extendedPending.updateBookingEvent(extended);
+        List.of(checkedInEarly, finishedEarly, pending, extendedPending).forEach(manager::persist);
+        manager.flush();
+        manager.clear();
+
+        List<Booking> upcoming = bookingRepository.findPendingSeriesBookingsForUpdate(7L, LocalDateTime.parse("2025-05-05T08:55:00"));
+
+        assertEquals(List.of("s3", "s4"), upcoming.stream().map(Booking::getBookingCode).toList());
+    }
+}
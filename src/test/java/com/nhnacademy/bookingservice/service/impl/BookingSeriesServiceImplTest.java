@@ -0,0 +1,185 @@
+package com.nhnacademy.bookingservice.service.impl;
+
+import com.nhnacademy.bookingservice.common.adaptor.MeetingRoomAdaptor;
+import com.nhnacademy.bookingservice.common.event.BookingSeriesEvent;
+import com.nhnacademy.bookingservice.common.event.BookingSlotChangedEvent;
+import com.nhnacademy.bookingservice.common.exception.BadRequestException;
+import com.nhnacademy.bookingservice.common.exception.ForbiddenException;
+import com.nhnacademy.bookingservice.common.exception.booking.BookingSeriesConflictException;
+import com.nhnacademy.bookingservice.common.generator.CodeGenerator;
+import com.nhnacademy.bookingservice.common.index.RoomScheduleIndex;
+import com.nhnacademy.bookingservice.common.lock.RoomReservationLock;
+import com.nhnacademy.bookingservice.common.registry.BookingChangeRegistry;
+import com.nhnacademy.bookingservice.domain.Booking;
+import com.nhnacademy.bookingservice.domain.BookingChange;
+import com.nhnacademy.bookingservice.domain.BookingChangeType;
+import com.nhnacademy.bookingservice.domain.BookingSeries;
+import com.nhnacademy.bookingservice.domain.BookingSlot;
+import com.nhnacademy.bookingservice.domain.NotificationType;
+import com.nhnacademy.bookingservice.domain.Recurrence;
+import com.nhnacademy.bookingservice.dto.BookingSeriesRequest;
+import com.nhnacademy.bookingservice.dto.BookingSeriesResponse;
+import com.nhnacademy.bookingservice.dto.MeetingRoomResponse;
+import com.nhnacademy.bookingservice.dto.MemberResponse;
+import com.nhnacademy.bookingservice.repository.BookingRepository;
+import com.nhnacademy.bookingservice.repository.BookingSeriesRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookingSeriesServiceImplTest {
+
+    @Mock
+    private CodeGenerator codeGenerator;
+
+    @Mock
+    private ApplicationEventPublisher publisher;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private BookingSeriesRepository bookingSeriesRepository;
+
+    @Mock
+    private BookingChangeRegistry bookingChangeRegistry;
+
+    @Mock
+    private MeetingRoomAdaptor meetingRoomAdaptor;
+
+    @Mock
+    private RoomReservationLock roomReservationLock;
+
+    @Mock
+    private RoomScheduleIndex roomScheduleIndex;
+
+    @InjectMocks
+    private BookingSeriesServiceImpl bookingSeriesService;
+
+    MemberResponse memberInfo;
+
+    @BeforeEach
+    void setUp() {
+        memberInfo = new MemberResponse(1L, "test", "test@test.com", "010-1111-1111", "ROLE_USER");
+    }
+
+    private static Booking occurrence(Long no, String startsAt) {
+        LocalDateTime start = LocalDateTime.parse(startsAt);
+        Booking booking = Booking.ofSeriesBooking("code" + no, start, 4, start.plusHours(1), 1L, 1L, 7L);
+        ReflectionTestUtils.setField(booking, "bookingNo", no);
+        return booking;
+    }
+
+    private static BookingSeries series(Long mbNo) {
+        BookingSeries series = BookingSeries.ofNewSeries(mbNo, 1L, Recurrence.WEEKLY, LocalTime.parse("09:00"), LocalTime.parse("10:00"), 4,
+                LocalDate.parse("2025-05-05"), LocalDate.parse("2025-05-19"), 3);
+        ReflectionTestUtils.setField(series, "seriesNo", 7L);
+        return series;
+    }
+
+    @Test
+    @DisplayName("정기 예약 등록 - 회차 전체를 한 번 조회해 검사하고 배치 저장, 요약 알림은 한 건")
+    void register() {
+        BookingSeriesRequest request = new BookingSeriesRequest(1L, Recurrence.WEEKLY, "2025-05-05", "09:00", "10:00", 4, null, 3);
+        when(meetingRoomAdaptor.getMeetingRoom(1L)).thenReturn(new MeetingRoomResponse(1L, "회의실 A", 6));
+        // 회차 사이에 있는 예약은 겹치지 않습니다.
+        when(bookingRepository.findRoomSlots(1L, LocalDateTime.parse("2025-05-05T09:00:00"), LocalDateTime.parse("2025-05-19T10:00:00")))
+                .thenReturn(List.of(new BookingSlot(100L, 1L, LocalDateTime.parse("2025-05-05T10:00:00"), LocalDateTime.parse("2025-05-05T11:00:00")),
+                        new BookingSlot(101L, 1L, LocalDateTime.parse("2025-05-12T08:00:00"), LocalDateTime.parse("2025-05-12T09:00:00"))));
+        when(bookingSeriesRepository.save(Mockito.any(BookingSeries.class))).thenAnswer(invocation -> {
+            ReflectionTestUtils.setField((Object) invocation.getArgument(0), "seriesNo", 7L);
+            return invocation.getArgument(0);
+        });
+        when(bookingRepository.findSeriesBookings(7L, LocalDateTime.parse("2025-05-05T00:00:00")))
+                .thenReturn(List.of(occurrence(1L, "2025-05-05T09:00:00"), occurrence(2L, "2025-05-12T09:00:00"), occurrence(3L, "2025-05-19T09:00:00")));
+
+        BookingSeriesResponse response = bookingSeriesService.register(request, memberInfo);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Booking>> inserted = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(bookingRepository).insertAll(inserted.capture());
+        ArgumentCaptor<BookingSeriesEvent> mail = ArgumentCaptor.forClass(BookingSeriesEvent.class);
+        Mockito.verify(publisher).publishEvent(mail.capture());
+        assertAll(() -> {
+            assertEquals(List.of(7L, 7L, 7L), inserted.getValue().stream().map(Booking::getSeriesNo).toList());
+            assertEquals(LocalDateTime.parse("2025-05-19T10:00:00"), inserted.getValue().getLast().getFinishesAt());
+            assertEquals(3, response.getBookings().size());
+            assertEquals(NotificationType.BOOKING_SERIES_CREATED, mail.getValue().getType());
+            assertEquals(1L, mail.getValue().getBookingNo());
+        });
+        Mockito.verify(roomReservationLock).lock(1L);
+        Mockito.verify(bookingRepository, Mockito.never()).existsOverlappingBooking(Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.verify(publisher, Mockito.times(3)).publishEvent(Mockito.any(BookingSlotChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("정기 예약 등록 실패 - 겹치는 회차를 모두 알려 주고 아무것도 저장하지 않음")
+    void register_conflict() {
+        BookingSeriesRequest request = new BookingSeriesRequest(1L, Recurrence.DAILY, "2025-05-05", "09:00", "10:00", 4, "2025-05-08", null);
+        when(meetingRoomAdaptor.getMeetingRoom(1L)).thenReturn(new MeetingRoomResponse(1L, "회의실 A", 6));
+        when(bookingRepository.findRoomSlots(Mockito.eq(1L), Mockito.any(), Mockito.any()))
+                .thenReturn(List.of(new BookingSlot(100L, 1L, LocalDateTime.parse("2025-05-06T09:30:00"), LocalDateTime.parse("2025-05-06T10:30:00")),
+                        new BookingSlot(101L, 1L, LocalDateTime.parse("2025-05-08T08:00:00"), LocalDateTime.parse("2025-05-08T12:00:00"))));
+
+        BookingSeriesConflictException exception = assertThrows(BookingSeriesConflictException.class, () -> bookingSeriesService.register(request, memberInfo));
+
+        assertTrue(exception.getMessage().contains("2025-05-06T09:00, 2025-05-08T09:00"));
+        Mockito.verify(bookingSeriesRepository, Mockito.never()).save(Mockito.any());
+        Mockito.verify(bookingRepository, Mockito.never()).insertAll(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("정기 예약 등록 실패 - 최대 회차 수 초과")
+    void register_tooMany() {
+        BookingSeriesRequest request = new BookingSeriesRequest(1L, Recurrence.DAILY, "2025-05-05", "09:00", "10:00", 4, "2026-05-05", null);
+        when(meetingRoomAdaptor.getMeetingRoom(1L)).thenReturn(new MeetingRoomResponse(1L, "회의실 A", 6));
+
+        assertThrows(BadRequestException.class, () -> bookingSeriesService.register(request, memberInfo));
+        Mockito.verify(roomReservationLock, Mockito.never()).lock(Mockito.anyLong());
+    }
+
+    @Test
+    @DisplayName("정기 예약 취소 - 남은 회차를 일괄 취소하고 요약 알림은 한 건")
+    void cancelSeries() {
+        BookingSeries series = series(1L);
+        BookingChange cancel = new BookingChange(BookingChangeType.CANCEL.getName());
+        when(bookingSeriesRepository.findById(7L)).thenReturn(Optional.of(series));
+        when(bookingRepository.findPendingSeriesBookingsForUpdate(Mockito.eq(7L), Mockito.any()))
+                .thenReturn(List.of(occurrence(2L, "2025-05-12T09:00:00"), occurrence(3L, "2025-05-19T09:00:00")));
+        when(bookingChangeRegistry.get(BookingChangeType.CANCEL)).thenReturn(cancel);
+
+        bookingSeriesService.cancelSeries(7L, memberInfo);
+
+        Mockito.verify(bookingRepository).cancelAll(List.of(2L, 3L), cancel);
+        Mockito.verify(publisher, Mockito.times(2)).publishEvent(Mockito.any(BookingSlotChangedEvent.class));
+        Mockito.verify(publisher).publishEvent(Mockito.any(BookingSeriesEvent.class));
+        assertTrue(series.isCancelled());
+    }
+
+    @Test
+    @DisplayName("정기 예약 취소 실패 - 다른 사용자의 정기 예약")
+    void cancelSeries_forbidden() {
+        when(bookingSeriesRepository.findById(7L)).thenReturn(Optional.of(series(2L)));
+
+        assertThrows(ForbiddenException.class, () -> bookingSeriesService.cancelSeries(7L, memberInfo));
+        Mockito.verify(bookingRepository, Mockito.never()).cancelAll(Mockito.any(), Mockito.any());
+    }
+}
@@ -4,29 +4,41 @@ import com.nhnacademy.bookingservice.common.adaptor.MeetingRoomAdaptor;
 import com.nhnacademy.bookingservice.common.adaptor.MemberAdaptor;
 import com.nhnacademy.bookingservice.common.event.BookingCancelEvent;
 import com.nhnacademy.bookingservice.common.event.BookingCreatedEvent;
+import com.nhnacademy.bookingservice.common.event.BookingSlotChangedEvent;
 import com.nhnacademy.bookingservice.common.exception.BadRequestException;
+import com.nhnacademy.bookingservice.common.executor.BoundedFanOut;
+import com.nhnacademy.bookingservice.common.export.BookingRowWriter;
 import com.nhnacademy.bookingservice.common.exception.ForbiddenException;
 import com.nhnacademy.bookingservice.common.exception.booking.*;
 import com.nhnacademy.bookingservice.common.exception.NotFoundException;
 import com.nhnacademy.bookingservice.common.exception.meeting.MeetingRoomCapacityExceededException;
 import com.nhnacademy.bookingservice.common.generator.CodeGenerator;
+import com.nhnacademy.bookingservice.common.index.DailyScheduleVersions;
+import com.nhnacademy.bookingservice.common.index.RoomScheduleIndex;
+import com.nhnacademy.bookingservice.common.lock.RoomReservationLock;
+import com.nhnacademy.bookingservice.common.registry.BookingChangeRegistry;
 import com.nhnacademy.bookingservice.dto.*;
 import com.nhnacademy.bookingservice.domain.Booking;
 import com.nhnacademy.bookingservice.domain.BookingChange;
 import com.nhnacademy.bookingservice.domain.BookingChangeType;
-import com.nhnacademy.bookingservice.repository.BookingChangeRepository;
+import com.nhnacademy.bookingservice.domain.BookingSlot;
+import com.nhnacademy.bookingservice.domain.FreeSlot;
 import com.nhnacademy.bookingservice.repository.BookingRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -48,7 +60,7 @@ class BookingServiceImplTest {
     private BookingRepository bookingRepository;
 
     @Mock
-    private BookingChangeRepository bookingChangeRepository;
+    private BookingChangeRegistry bookingChangeRegistry;
 
     @Mock
     private MemberAdaptor memberAdaptor;
@@ -56,6 +68,18 @@ class BookingServiceImplTest {
     @Mock
     private MeetingRoomAdaptor meetingRoomAdaptor;
 
+    @Mock
+    private RoomScheduleIndex roomScheduleIndex;
+
+    @Mock
+    private RoomReservationLock roomReservationLock;
+
+    @Mock
+    private DailyScheduleVersions dailyScheduleVersions;
+
+    @Spy
+    private BoundedFanOut boundedFanOut = new BoundedFanOut(Runnable::run, new SimpleMeterRegistry(), 8, Duration.ofSeconds(1));
+
     @InjectMocks
     private BookingServiceImpl bookingService;
 
@@ -95,6 +119,7 @@ class BookingServiceImplTest {
         bookingService.register(request, memberInfo);
 
         Mockito.verify(codeGenerator, Mockito.times(1)).generateCode();
+        Mockito.verify(roomReservationLock, Mockito.times(1)).lock(1L);
         Mockito.verify(bookingRepository, Mockito.times(1)).save(Mockito.any(Booking.class));
         Mockito.verify(publisher, Mockito.times(1)).publishEvent(Mockito.any(BookingCreatedEvent.class));
 
@@ -140,6 +165,96 @@ class BookingServiceImplTest {
         Mockito.verify(bookingRepository, Mockito.never()).save(Mockito.any(Booking.class));
     }
 
+    @Test
+    @DisplayName("예약 생성 실패 - 인덱스에서 찾은 예약이 여전히 점유 중")
+    void register_exception_case4() {
+        LocalDate date = LocalDate.now().plusDays(1);
+        BookingRegisterRequest request = new BookingRegisterRequest(1L, date.toString(), "10:00", "11:00", 5);
+        MeetingRoomResponse roomResponse = new MeetingRoomResponse(1L, "회의실 A", 6);
+
+        Booking conflict = Booking.ofNewBooking("test", date.atTime(9, 30), 4, date.atTime(10, 30), 2L, null, 1L);
+        ReflectionTestUtils.setField(conflict, "bookingNo", 2L);
+
+        when(meetingRoomAdaptor.getMeetingRoom(Mockito.anyLong())).thenReturn(roomResponse);
+        when(roomReservationLock.lock(1L)).thenReturn(3L);
+        when(roomScheduleIndex.isCurrent(1L, 3L)).thenReturn(true);
+        when(roomScheduleIndex.findOverlapping(Mockito.eq(1L), Mockito.any(), Mockito.any(), Mockito.isNull())).thenReturn(Optional.of(BookingSlot.of(conflict)));
+        when(bookingRepository.findById(2L)).thenReturn(Optional.of(conflict));
+
+        Assertions.assertThrows(AlreadyMeetingRoomTimeException.class, () -> bookingService.register(request, memberInfo));
+
+        Mockito.verify(bookingRepository, Mockito.never()).existsOverlappingBooking(Mockito.anyLong(), Mockito.any(), Mockito.any());
+        Mockito.verify(bookingRepository, Mockito.never()).save(Mockito.any(Booking.class));
+        Mockito.verify(roomReservationLock, Mockito.never()).advance(Mockito.anyLong());
+    }
+
+    @Test
+    @DisplayName("예약 생성 성공 - 인덱스가 최신이면 DB 범위 조회 없이 저장")
+    void register_current_index() {
+        LocalDate date = LocalDate.now().plusDays(1);
+        BookingRegisterRequest request = new BookingRegisterRequest(1L, date.toString(), "10:00", "11:00", 5);
+        MeetingRoomResponse roomResponse = new MeetingRoomResponse(1L, "회의실 A", 6);
+
+        when(meetingRoomAdaptor.getMeetingRoom(Mockito.anyLong())).thenReturn(roomResponse);
+        when(roomReservationLock.lock(1L)).thenReturn(3L);
+        when(roomScheduleIndex.isCurrent(1L, 3L)).thenReturn(true);
+        when(roomScheduleIndex.findOverlapping(Mockito.eq(1L), Mockito.any(), Mockito.any(), Mockito.isNull())).thenReturn(Optional.empty());
+
+        bookingService.register(request, memberInfo);
+
+        Mockito.verify(bookingRepository, Mockito.never()).existsOverlappingBooking(Mockito.anyLong(), Mockito.any(), Mockito.any());
+        Mockito.verify(bookingRepository, Mockito.never()).findActiveSlots(Mockito.anyLong(), Mockito.any());
+        Mockito.verify(bookingRepository, Mockito.times(1)).save(Mockito.any(Booking.class));
+        Mockito.verify(roomReservationLock, Mockito.times(1)).advance(1L);
+        Mockito.verify(roomScheduleIndex, Mockito.times(1)).advanceOnCommit(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("예약 생성 성공 - 인덱스의 버전이 다르면 회의실 구간을 다시 읽음")
+    void register_outdated_index() {
+        LocalDate date = LocalDate.now().plusDays(1);
+        BookingRegisterRequest request = new BookingRegisterRequest(1L, date.toString(), "10:00", "11:00", 5);
+        MeetingRoomResponse roomResponse = new MeetingRoomResponse(1L, "회의실 A", 6);
+        List<BookingSlot> slots = List.of(new BookingSlot(2L, 1L, date.atTime(13, 0), date.atTime(14, 0)));
+
+        when(meetingRoomAdaptor.getMeetingRoom(Mockito.anyLong())).thenReturn(roomResponse);
+        when(roomReservationLock.lock(1L)).thenReturn(3L);
+        when(roomScheduleIndex.isCurrent(1L, 3L)).thenReturn(false);
+        when(bookingRepository.findActiveSlots(Mockito.eq(1L), Mockito.any())).thenReturn(slots);
+        when(roomScheduleIndex.findOverlapping(Mockito.eq(1L), Mockito.any(), Mockito.any(), Mockito.isNull())).thenReturn(Optional.empty());
+
+        bookingService.register(request, memberInfo);
+
+        Mockito.verify(roomScheduleIndex, Mockito.times(1)).reload(1L, 3L, slots);
+        Mockito.verify(bookingRepository, Mockito.never()).existsOverlappingBooking(Mockito.anyLong(), Mockito.any(), Mockito.any());
+        Mockito.verify(bookingRepository, Mockito.times(1)).save(Mockito.any(Booking.class));
+    }
+
+    @Test
+    @DisplayName("예약 생성 성공 - 인덱스의 예약이 이미 취소된 경우 교정 후 다시 확인")
+    void register_stale_index() {
+        LocalDate date = LocalDate.now().plusDays(1);
+        BookingRegisterRequest request = new BookingRegisterRequest(1L, date.toString(), "10:00", "11:00", 5);
+        MeetingRoomResponse roomResponse = new MeetingRoomResponse(1L, "회의실 A", 6);
+
+        Booking cancelled = Booking.ofNewBooking("test", date.atTime(9, 30), 4, null, 2L, null, 1L);
+        ReflectionTestUtils.setField(cancelled, "bookingNo", 2L);
+        BookingSlot stale = new BookingSlot(2L, 1L, date.atTime(9, 30), date.atTime(10, 30));
+
+        when(meetingRoomAdaptor.getMeetingRoom(Mockito.anyLong())).thenReturn(roomResponse);
+        when(roomReservationLock.lock(1L)).thenReturn(3L);
+        when(roomScheduleIndex.isCurrent(1L, 3L)).thenReturn(true);
+        when(roomScheduleIndex.findOverlapping(Mockito.eq(1L), Mockito.any(), Mockito.any(), Mockito.isNull()))
+                .thenReturn(Optional.of(stale), Optional.empty());
+        when(bookingRepository.findById(2L)).thenReturn(Optional.of(cancelled));
+
+        bookingService.register(request, memberInfo);
+
+        Mockito.verify(roomScheduleIndex, Mockito.times(1)).refresh(2L, null);
+        Mockito.verify(bookingRepository, Mockito.never()).existsOverlappingBooking(Mockito.anyLong(), Mockito.any(), Mockito.any());
+        Mockito.verify(bookingRepository, Mockito.times(1)).save(Mockito.any(Booking.class));
+    }
+
     @Test
     @DisplayName("예약 조회")
     void getBooking() {
@@ -204,13 +319,13 @@ class BookingServiceImplTest {
     @DisplayName("예약 전체 조회 - 리스트")
     void getAllBookings_list() {
         when(bookingRepository.findBookingList(null)).thenReturn(List.of(bookingResponse));
-        when(memberAdaptor.getMemberByMbNo(Mockito.anyLong())).thenReturn(memberInfo);
+        when(memberAdaptor.getMembersByMbNos(Mockito.anyList())).thenReturn(List.of(memberInfo));
         when(meetingRoomAdaptor.getMeetingRoom(Mockito.anyLong())).thenReturn(meetingRoomResponse);
 
         bookingService.getBookings();
 
         Mockito.verify(bookingRepository, Mockito.atLeast(1)).findBookingList(null);
-        Mockito.verify(memberAdaptor, Mockito.atLeast(1)).getMemberByMbNo(Mockito.anyLong());
+        Mockito.verify(memberAdaptor, Mockito.atLeast(1)).getMembersByMbNos(Mockito.anyList());
         Mockito.verify(meetingRoomAdaptor, Mockito.atLeast(1)).getMeetingRoom(Mockito.anyLong());
     }
 
@@ -230,35 +345,161 @@ class BookingServiceImplTest {
     @DisplayName("예약 전체 조회 - 페이징")
     void getAllBookings_page() {
         when(bookingRepository.findBookings(null, Pageable.ofSize(1))).thenReturn(new PageImpl<>(List.of(bookingResponse)));
-        when(memberAdaptor.getMemberByMbNo(Mockito.anyLong())).thenReturn(memberInfo);
+        when(memberAdaptor.getMembersByMbNos(Mockito.anyList())).thenReturn(List.of(memberInfo));
         when(meetingRoomAdaptor.getMeetingRoom(Mockito.anyLong())).thenReturn(meetingRoomResponse);
 
         bookingService.getPagedBookings(Pageable.ofSize(1));
 
         Mockito.verify(bookingRepository, Mockito.atLeast(1)).findBookings(null, Pageable.ofSize(1));
-        Mockito.verify(memberAdaptor, Mockito.atLeast(1)).getMemberByMbNo(Mockito.anyLong());
+        Mockito.verify(memberAdaptor, Mockito.atLeast(1)).getMembersByMbNos(Mockito.anyList());
         Mockito.verify(meetingRoomAdaptor, Mockito.atLeast(1)).getMeetingRoom(Mockito.anyLong());
     }
 
+    @Test
+    @DisplayName("예약 전체 조회 - 페이징, 같은 회의실은 한 번만 조회")
+    void getAllBookings_page_distinctRooms() {
+        BookingResponse.MemberInfo member = new BookingResponse.MemberInfo();
+        member.setNo(1L);
+        BookingResponse.MeetingRoomInfo room = new BookingResponse.MeetingRoomInfo();
+        room.setNo(1L);
+        BookingResponse other = new BookingResponse(2L, "test2", LocalDateTime.parse("2025-04-28T09:30:00"), 8, LocalDateTime.parse("2025-04-28T10:30:00"), LocalDateTime.parse("2025-04-28T08:30:00"), null, member, room);
+
+        when(bookingRepository.findBookings(null, Pageable.ofSize(2))).thenReturn(new PageImpl<>(List.of(bookingResponse, other)));
+        when(memberAdaptor.getMembersByMbNos(List.of(1L))).thenReturn(List.of(memberInfo));
+        when(meetingRoomAdaptor.getMeetingRoom(1L)).thenReturn(meetingRoomResponse);
+
+        bookingService.getPagedBookings(Pageable.ofSize(2));
+
+        Mockito.verify(meetingRoomAdaptor, Mockito.times(1)).getMeetingRoom(1L);
+        Mockito.verify(boundedFanOut, Mockito.times(1)).runAll(Mockito.anyList());
+        Assertions.assertEquals("회의실 A", other.getRoom().getName());
+        Assertions.assertEquals(memberInfo.getName(), other.getMember().getName());
+    }
+
+    @Test
+    @DisplayName("빈 구간 검색 - 수용 인원이 모자란 회의실 제외, 시작 시각 순 정렬")
+    void findFreeSlots() {
+        LocalDateTime from = LocalDateTime.parse("2099-05-01T09:00:00");
+        LocalDateTime to = LocalDateTime.parse("2099-05-01T18:00:00");
+        MeetingRoomResponse small = new MeetingRoomResponse(3L, "회의실 C", 2);
+        MeetingRoomResponse large = new MeetingRoomResponse(2L, "회의실 B", 10);
+        when(meetingRoomAdaptor.getMeetingRooms()).thenReturn(List.of(meetingRoomResponse, small, large));
+        when(roomScheduleIndex.findFreeSlots(1L, from, to, Duration.ofHours(1))).thenReturn(List.of(
+                new FreeSlot(1L, LocalDateTime.parse("2099-05-01T13:00:00"), to)));
+        when(roomScheduleIndex.findFreeSlots(2L, from, to, Duration.ofHours(1))).thenReturn(List.of(
+                new FreeSlot(2L, from, LocalDateTime.parse("2099-05-01T10:00:00")),
+                new FreeSlot(2L, LocalDateTime.parse("2099-05-01T13:00:00"), to)));
+
+        List<FreeSlotResponse> actual = bookingService.findFreeSlots(from, to, Duration.ofHours(1), 4);
+
+        Assertions.assertEquals(List.of(
+                new FreeSlotResponse(2L, "회의실 B", 10, from, LocalDateTime.parse("2099-05-01T10:00:00")),
+                new FreeSlotResponse(1L, "회의실 A", 5, LocalDateTime.parse("2099-05-01T13:00:00"), to),
+                new FreeSlotResponse(2L, "회의실 B", 10, LocalDateTime.parse("2099-05-01T13:00:00"), to)
+        ), actual);
+        Mockito.verify(roomScheduleIndex, Mockito.never()).findFreeSlots(Mockito.eq(3L), Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    @DisplayName("빈 구간 검색 - 조회 구간이 31일을 넘으면 실패")
+    void findFreeSlots_tooLong() {
+        LocalDateTime from = LocalDateTime.parse("2099-05-01T00:00:00");
+        LocalDateTime to = from.plusDays(32);
+        Duration duration = Duration.ofHours(1);
+
+        Assertions.assertThrows(BadRequestException.class, () -> bookingService.findFreeSlots(from, to, duration, 1));
+        Mockito.verify(meetingRoomAdaptor, Mockito.never()).getMeetingRooms();
+    }
+
+    @Test
+    @DisplayName("점유 비트맵 조회 - 예약이 없는 회의실은 모두 0")
+    void getOccupancy_empty() {
+        LocalDate date = LocalDate.parse("2099-05-01");
+        when(roomScheduleIndex.findOccupancy(1L, date)).thenReturn(Optional.empty());
+
+        Assertions.assertArrayEquals(new byte[6], bookingService.getOccupancy(1L, date, 30));
+        Assertions.assertThrows(BadRequestException.class, () -> bookingService.getOccupancy(1L, date, 15));
+    }
+
+    @Test
+    @DisplayName("예약 사용자별 조회 - 커서")
+    void getBookingsByMember_cursor() {
+        BookingResponse.MemberInfo member = new BookingResponse.MemberInfo();
+        member.setNo(1L);
+        BookingResponse.MeetingRoomInfo room = new BookingResponse.MeetingRoomInfo();
+        room.setNo(1L);
+        BookingResponse older = new BookingResponse(2L, "test2", LocalDateTime.parse("2025-04-28T09:30:00"), 8, LocalDateTime.parse("2025-04-28T10:30:00"), LocalDateTime.parse("2025-04-28T08:30:00"), null, member, room);
+
+        when(bookingRepository.findBookingsByCursor(1L, null, 2)).thenReturn(List.of(bookingResponse, older));
+        when(meetingRoomAdaptor.getMeetingRoom(Mockito.anyLong())).thenReturn(meetingRoomResponse);
+
+        CursorPage<BookingResponse> page = bookingService.getMemberBookingsByCursor(memberInfo, null, 1, false);
+
+        Assertions.assertEquals(List.of(bookingResponse), page.getContent());
+        Assertions.assertTrue(page.isHasNext());
+        Assertions.assertEquals(BookingCursor.of(bookingResponse), BookingCursor.decode(page.getNextCursor()));
+        Assertions.assertNull(page.getTotalElements());
+        Mockito.verify(bookingRepository, Mockito.never()).countBookings(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("예약 전체 조회 - 커서, 마지막 페이지와 전체 개수")
+    void getAllBookings_cursor() {
+        BookingCursor cursor = new BookingCursor(LocalDateTime.parse("2025-04-30T09:30:00"), 5L);
+        when(bookingRepository.findBookingsByCursor(null, cursor, 11)).thenReturn(List.of(bookingResponse));
+        when(bookingRepository.countBookings(null)).thenReturn(6L);
+        when(memberAdaptor.getMembersByMbNos(List.of(1L))).thenReturn(List.of(memberInfo));
+        when(meetingRoomAdaptor.getMeetingRoom(Mockito.anyLong())).thenReturn(meetingRoomResponse);
+
+        CursorPage<BookingResponse> page = bookingService.getBookingsByCursor(cursor.encode(), 10, true);
+
+        Assertions.assertEquals(1, page.getContent().size());
+        Assertions.assertFalse(page.isHasNext());
+        Assertions.assertNull(page.getNextCursor());
+        Assertions.assertEquals(6L, page.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("예약 전체 조회 - 커서 형식 오류")
+    void getAllBookings_cursor_invalid() {
+        Assertions.assertThrows(InvalidBookingCursorException.class, () -> bookingService.getBookingsByCursor("not-a-cursor", 10, false));
+    }
+
+    @Test
+    @DisplayName("예약 전체 내보내기 - 마지막 청크에서 종료")
+    void exportBookings() throws Exception {
+        when(bookingRepository.findBookingsByCursor(null, null, 500)).thenReturn(List.of(bookingResponse));
+        when(memberAdaptor.getMembersByMbNos(List.of(1L))).thenReturn(List.of(memberInfo));
+        when(meetingRoomAdaptor.getMeetingRoom(Mockito.anyLong())).thenReturn(meetingRoomResponse);
+        BookingRowWriter writer = Mockito.mock(BookingRowWriter.class);
+
+        bookingService.exportBookings(writer);
+
+        Mockito.verify(writer).write(bookingResponse);
+        Mockito.verify(writer).flush();
+        Mockito.verify(bookingRepository, Mockito.times(1)).findBookingsByCursor(Mockito.any(), Mockito.any(), Mockito.anyInt());
+        Assertions.assertEquals(memberInfo.getName(), bookingResponse.getMember().getName());
+    }
+
     @Test
     @DisplayName("예약 전체 조회 - memberNotFound")
     void getAllBookings_exception_case1() {
         when(bookingRepository.findBookings(null, Pageable.ofSize(1))).thenReturn(new PageImpl<>(List.of(bookingResponse)));
-        when(memberAdaptor.getMemberByMbNo(Mockito.anyLong())).thenThrow(NotFoundException.class);
+        when(memberAdaptor.getMembersByMbNos(Mockito.anyList())).thenThrow(NotFoundException.class);
 
         Pageable pageable = Pageable.ofSize(1);
 
         Assertions.assertThrows(NotFoundException.class, () -> bookingService.getPagedBookings(pageable));
 
         Mockito.verify(bookingRepository, Mockito.atLeast(1)).findBookings(null, Pageable.ofSize(1));
-        Mockito.verify(memberAdaptor, Mockito.atLeast(1)).getMemberByMbNo(Mockito.anyLong());
+        Mockito.verify(memberAdaptor, Mockito.atLeast(1)).getMembersByMbNos(Mockito.anyList());
     }
 
     @Test
     @DisplayName("예약 전체 조회 - meetingRoomNotFound")
     void getAllBookings_exception_case2() {
         when(bookingRepository.findBookings(null, Pageable.ofSize(1))).thenReturn(new PageImpl<>(List.of(bookingResponse)));
-        when(memberAdaptor.getMemberByMbNo(Mockito.anyLong())).thenReturn(memberInfo);
+        when(memberAdaptor.getMembersByMbNos(Mockito.anyList())).thenReturn(List.of(memberInfo));
         when(meetingRoomAdaptor.getMeetingRoom(Mockito.anyLong())).thenThrow(NotFoundException.class);
 
         Pageable pageable = Pageable.ofSize(1);
@@ -266,7 +507,7 @@ class BookingServiceImplTest {
         Assertions.assertThrows(NotFoundException.class, () -> bookingService.getPagedBookings(pageable));
 
         Mockito.verify(bookingRepository, Mockito.atLeast(1)).findBookings(null, Pageable.ofSize(1));
-        Mockito.verify(memberAdaptor, Mockito.atLeast(1)).getMemberByMbNo(Mockito.anyLong());
+        Mockito.verify(memberAdaptor, Mockito.atLeast(1)).getMembersByMbNos(Mockito.anyList());
         Mockito.verify(meetingRoomAdaptor, Mockito.atLeast(1)).getMeetingRoom(Mockito.anyLong());
     }
 
@@ -285,6 +526,25 @@ class BookingServiceImplTest {
         Assertions.assertEquals(1L, responseList.getFirst().getNo());
     }
 
+    @Test
+    @DisplayName("예약 날짜별 조회 - 회원 일괄 조회")
+    void getDailyBookings_batchMembers() {
+        List<DailyBookingResponse> responses = List.of(
+                new DailyBookingResponse(1L, 1L, 8, LocalDateTime.parse("2025-04-29T09:30:00"), LocalDateTime.parse("2025-04-29T10:30:00"), null),
+                new DailyBookingResponse(2L, 2L, 8, LocalDateTime.parse("2025-04-29T10:30:00"), LocalDateTime.parse("2025-04-29T11:30:00"), null),
+                new DailyBookingResponse(3L, 1L, 8, LocalDateTime.parse("2025-04-29T11:30:00"), LocalDateTime.parse("2025-04-29T12:30:00"), null)
+        );
+        MemberResponse other = new MemberResponse(2L, "other", "other@test.com", "010-2222-2222", "ROLE_USER");
+        when(bookingRepository.findBookingsByDate(Mockito.anyLong(), Mockito.any())).thenReturn(responses);
+        when(memberAdaptor.getMembersByMbNos(List.of(1L, 2L))).thenReturn(List.of(memberInfo, other));
+
+        List<DailyBookingResponse> responseList = bookingService.getDailyBookings(1L, LocalDate.parse("2025-04-29"));
+
+        Mockito.verify(memberAdaptor, Mockito.times(1)).getMembersByMbNos(Mockito.anyList());
+        Mockito.verify(memberAdaptor, Mockito.never()).getMemberByMbNo(Mockito.anyLong());
+        Assertions.assertEquals(List.of("test", "other", "test"), responseList.stream().map(DailyBookingResponse::getMbName).toList());
+    }
+
     @Test
     @DisplayName("예약 수정")
     void updateBooking() {
@@ -298,13 +558,31 @@ class BookingServiceImplTest {
 
         when(bookingRepository.findById(Mockito.anyLong())).thenReturn(Optional.of(booking));
         when(meetingRoomAdaptor.getMeetingRoom(Mockito.anyLong())).thenReturn(meetingRoomResponse);
-        when(bookingChangeRepository.findById(BookingChangeType.CHANGE.getId())).thenReturn(Optional.of(bookingChange));
+        when(bookingChangeRegistry.get(BookingChangeType.CHANGE)).thenReturn(bookingChange);
 
         bookingService.updateBooking(1L, request, memberInfo);
 
         Mockito.verify(bookingRepository, Mockito.times(1)).findById(Mockito.anyLong());
         Mockito.verify(meetingRoomAdaptor, Mockito.times(1)).getMeetingRoom(Mockito.anyLong());
-        Mockito.verify(bookingChangeRepository, Mockito.times(1)).findById(BookingChangeType.CHANGE.getId());
+        Mockito.verify(bookingChangeRegistry, Mockito.times(1)).get(BookingChangeType.CHANGE);
+    }
+
+    @Test
+    @DisplayName("예약 수정 실패 - 다른 예약과 겹침")
+    void updateBooking_exception_case2() {
+        BookingUpdateRequest request = new BookingUpdateRequest(1L, "2025-04-29", "11:30", "12:30", 4);
+
+        Booking booking = Booking.ofNewBooking("test", LocalDateTime.parse("2025-04-29T09:30:00"), 4, LocalDateTime.parse("2025-04-29T10:30:00"), 1L, null, 1L);
+        ReflectionTestUtils.setField(booking, "bookingNo", 1L);
+
+        when(bookingRepository.findById(Mockito.anyLong())).thenReturn(Optional.of(booking));
+        when(meetingRoomAdaptor.getMeetingRoom(Mockito.anyLong())).thenReturn(meetingRoomResponse);
+        when(bookingRepository.existsOverlappingBookingExcept(Mockito.eq(1L), Mockito.any(), Mockito.any(), Mockito.eq(1L))).thenReturn(true);
+
+        Assertions.assertThrows(AlreadyMeetingRoomTimeException.class, () -> bookingService.updateBooking(1L, request, memberInfo));
+
+        Mockito.verify(roomReservationLock, Mockito.times(1)).lock(1L);
+        Mockito.verify(bookingChangeRegistry, Mockito.never()).get(Mockito.any());
     }
 
     @Test
@@ -331,14 +609,49 @@ class BookingServiceImplTest {
         BookingChange bookingChange = new BookingChange("연장");
         ReflectionTestUtils.setField(bookingChange, "no", 1L);
 
-        when(bookingRepository.findById(Mockito.anyLong())).thenReturn(Optional.of(booking));
-        when(bookingChangeRepository.findById(BookingChangeType.EXTEND.getId())).thenReturn(Optional.of(bookingChange));
+        when(bookingRepository.findForUpdate(Mockito.anyLong())).thenReturn(Optional.of(booking));
+        when(bookingChangeRegistry.get(BookingChangeType.EXTEND)).thenReturn(bookingChange);
 
         bookingService.extendBooking(1L);
 
-        Mockito.verify(bookingRepository, Mockito.times(1)).findById(Mockito.anyLong());
-        Mockito.verify(bookingChangeRepository, Mockito.times(1)).findById(BookingChangeType.EXTEND.getId());
+        Mockito.verify(bookingRepository, Mockito.times(1)).findForUpdate(Mockito.anyLong());
+        Mockito.verify(bookingChangeRegistry, Mockito.times(1)).get(BookingChangeType.EXTEND);
+        Assertions.assertEquals("연장", booking.getBookingChange().getName());
+    }
+
+    @Test
+    @DisplayName("예약 연장 - 입실한 예약은 사용중 상태 유지")
+    void extendBooking_inUse() {
+        BookingChange inUse = new BookingChange("사용중");
+        ReflectionTestUtils.setField(inUse, "no", BookingChangeType.INUSE.getId());
+        Booking booking = Booking.ofNewBooking("test", LocalDateTime.parse("2025-04-29T09:30:00"), 8, LocalDateTime.parse("2025-04-29T10:30:00"), 1L, inUse, 1L);
+        ReflectionTestUtils.setField(booking, "bookingNo", 1L);
+
+        when(bookingRepository.findForUpdate(Mockito.anyLong())).thenReturn(Optional.of(booking));
+
+        bookingService.extendBooking(1L);
 
+        Assertions.assertAll(
+                () -> Assertions.assertSame(inUse, booking.getBookingChange()),
+                () -> Assertions.assertEquals(LocalDateTime.parse("2025-04-29T11:30:00"), booking.getFinishesAt())
+        );
+    }
+
+    @Test
+    @DisplayName("예약 연장 실패 - 자동 종료된 예약")
+    void extendBooking_finished() {
+        BookingChange finish = new BookingChange("종료");
+        ReflectionTestUtils.setField(finish, "no", BookingChangeType.FINISH.getId());
+        Booking booking = Booking.ofNewBooking("test", LocalDateTime.parse("2025-04-29T09:30:00"), 8, LocalDateTime.parse("2025-04-29T10:30:00"), 1L, finish, 1L);
+        ReflectionTestUtils.setField(booking, "bookingNo", 1L);
+
+        when(bookingRepository.findForUpdate(1L)).thenReturn(Optional.of(booking));
+
+        Assertions.assertThrows(BookingNotActiveException.class, () -> bookingService.extendBooking(1L));
+
+        Assertions.assertEquals(LocalDateTime.parse("2025-04-29T10:30:00"), booking.getFinishesAt());
+        Mockito.verify(roomReservationLock, Mockito.never()).lock(Mockito.anyLong());
+        Mockito.verify(publisher, Mockito.never()).publishEvent(Mockito.any(Object.class));
     }
 
     @Test
@@ -350,12 +663,12 @@ class BookingServiceImplTest {
         BookingChange bookingChange = new BookingChange("연장");
         ReflectionTestUtils.setField(bookingChange, "no", 1L);
 
-        when(bookingRepository.findById(Mockito.anyLong())).thenReturn(Optional.of(booking));
+        when(bookingRepository.findForUpdate(Mockito.anyLong())).thenReturn(Optional.of(booking));
         when(bookingRepository.existsOverlappingBooking(Mockito.anyLong(), Mockito.any(), Mockito.any())).thenReturn(true);
 
         Assertions.assertThrows(AlreadyMeetingRoomTimeException.class, () -> bookingService.extendBooking(1L));
 
-        Mockito.verify(bookingRepository, Mockito.times(1)).findById(Mockito.anyLong());
+        Mockito.verify(bookingRepository, Mockito.times(1)).findForUpdate(Mockito.anyLong());
         Mockito.verify(bookingRepository, Mockito.times(1)).existsOverlappingBooking(Mockito.anyLong(), Mockito.any(), Mockito.any());
     }
 
@@ -369,28 +682,12 @@ class BookingServiceImplTest {
         ReflectionTestUtils.setField(bookingChange, "no", 2L);
 
         when(bookingRepository.findById(Mockito.anyLong())).thenReturn(Optional.of(booking));
-        when(bookingChangeRepository.findById(BookingChangeType.FINISH.getId())).thenReturn(Optional.of(bookingChange));
+        when(bookingChangeRegistry.get(BookingChangeType.FINISH)).thenReturn(bookingChange);
 
         bookingService.finishBooking(1L);
 
         Mockito.verify(bookingRepository, Mockito.times(1)).findById(Mockito.anyLong());
-        Mockito.verify(bookingChangeRepository, Mockito.times(1)).findById(BookingChangeType.FINISH.getId());
-
-    }
-
-    @Test
-    @DisplayName("예약 종료 실패")
-    void finishBooking_exception_case1() {
-        Booking booking = Booking.ofNewBooking("test", LocalDateTime.parse("2025-04-29T09:30:00"), 8, LocalDateTime.parse("2025-04-29T10:30:00"), 1L, null, 1L);
-        ReflectionTestUtils.setField(booking, "bookingNo", 1L);
-
-        when(bookingRepository.findById(Mockito.anyLong())).thenReturn(Optional.of(booking));
-        when(bookingChangeRepository.findById(BookingChangeType.FINISH.getId())).thenReturn(Optional.empty());
-
-        Assertions.assertThrows(BookingChangeNotFoundException.class, () -> bookingService.finishBooking(1L));
-
-        Mockito.verify(bookingRepository, Mockito.times(1)).findById(Mockito.anyLong());
-        Mockito.verify(bookingChangeRepository, Mockito.times(1)).findById(BookingChangeType.FINISH.getId());
+        Mockito.verify(bookingChangeRegistry, Mockito.times(1)).get(BookingChangeType.FINISH);
 
     }
 
@@ -406,12 +703,12 @@ class BookingServiceImplTest {
         ReflectionTestUtils.setField(bookingChange, "no", 3L);
 
         when(bookingRepository.findById(Mockito.anyLong())).thenReturn(Optional.of(booking));
-        when(bookingChangeRepository.findById(BookingChangeType.CANCEL.getId())).thenReturn(Optional.of(bookingChange));
+        when(bookingChangeRegistry.get(BookingChangeType.CANCEL)).thenReturn(bookingChange);
 
         bookingService.cancelBooking(1L, adminInfo);
 
         Mockito.verify(bookingRepository, Mockito.times(1)).findById(Mockito.anyLong());
-        Mockito.verify(bookingChangeRepository, Mockito.times(1)).findById(BookingChangeType.CANCEL.getId());
+        Mockito.verify(bookingChangeRegistry, Mockito.times(1)).get(BookingChangeType.CANCEL);
         Mockito.verify(publisher, Mockito.times(1)).publishEvent(Mockito.any(BookingCancelEvent.class));
     }
 
@@ -425,15 +722,86 @@ class BookingServiceImplTest {
         ReflectionTestUtils.setField(bookingChange, "no", 3L);
 
         when(bookingRepository.findById(Mockito.anyLong())).thenReturn(Optional.of(booking));
-        when(bookingChangeRepository.findById(BookingChangeType.CANCEL.getId())).thenReturn(Optional.of(bookingChange));
+        when(bookingChangeRegistry.get(BookingChangeType.CANCEL)).thenReturn(bookingChange);
 
         bookingService.cancelBooking(1L, memberInfo);
 
         Mockito.verify(bookingRepository, Mockito.times(1)).findById(Mockito.anyLong());
-        Mockito.verify(bookingChangeRepository, Mockito.times(1)).findById(BookingChangeType.CANCEL.getId());
+        Mockito.verify(bookingChangeRegistry, Mockito.times(1)).get(BookingChangeType.CANCEL);
         Mockito.verify(publisher, Mockito.times(1)).publishEvent(Mockito.any(BookingCancelEvent.class));
     }
 
+    @Test
+    @DisplayName("미입실 예약 일괄 취소")
+    void cancelNoShowBookings() {
+        Booking booking = Booking.ofNewBooking("test", LocalDateTime.parse("2025-04-29T09:00:00"), 8, LocalDateTime.parse("2025-04-29T10:00:00"), 1L, null, 1L);
+        ReflectionTestUtils.setField(booking, "bookingNo", 1L);
+
+        BookingChange bookingChange = new BookingChange("취소");
+        ReflectionTestUtils.setField(bookingChange, "no", 3L);
+
+        LocalDateTime now = LocalDateTime.parse("2025-04-29T09:30:00");
+        when(bookingRepository.findNoShowBookingsForUpdate(LocalDateTime.parse("2025-04-29T09:20:00"), now, 100)).thenReturn(List.of(booking));
+        when(bookingChangeRegistry.get(BookingChangeType.CANCEL)).thenReturn(bookingChange);
+        when(memberAdaptor.getMembersByMbNos(List.of(1L))).thenReturn(List.of(memberInfo));
+
+        int actual = bookingService.cancelNoShowBookings(now, 100);
+
+        ArgumentCaptor<BookingSlotChangedEvent> captor = ArgumentCaptor.forClass(BookingSlotChangedEvent.class);
+        ArgumentCaptor<BookingCancelEvent> cancelCaptor = ArgumentCaptor.forClass(BookingCancelEvent.class);
+        Mockito.verify(bookingRepository, Mockito.times(1)).cancelAll(List.of(1L), bookingChange);
+        Mockito.verify(publisher, Mockito.times(1)).publishEvent(captor.capture());
+        Mockito.verify(publisher, Mockito.times(1)).publishEvent(cancelCaptor.capture());
+        Assertions.assertAll(() -> {
+            Assertions.assertEquals(1, actual);
+            Assertions.assertEquals(BookingChangeType.CANCEL, captor.getValue().getChangeType());
+            Assertions.assertEquals(BookingSlot.of(booking), captor.getValue().getPrevious());
+            Assertions.assertNull(captor.getValue().getCurrent());
+            Assertions.assertEquals("test@test.com", cancelCaptor.getValue().getEmail());
+            Assertions.assertEquals(1L, cancelCaptor.getValue().getBookingNo());
+        });
+    }
+
+    @Test
+    @DisplayName("미입실 예약 일괄 취소 - 대상 없음")
+    void cancelNoShowBookings_empty() {
+        when(bookingRepository.findNoShowBookingsForUpdate(Mockito.any(), Mockito.any(), Mockito.anyInt())).thenReturn(List.of());
+
+        Assertions.assertEquals(0, bookingService.cancelNoShowBookings(LocalDateTime.parse("2025-04-29T09:30:00"), 100));
+
+        Mockito.verify(bookingRepository, Mockito.never()).cancelAll(Mockito.any(), Mockito.any());
+        Mockito.verify(publisher, Mockito.never()).publishEvent(Mockito.any(Object.class));
+    }
+
+    @Test
+    @DisplayName("사용중 예약 자동 종료")
+    void finishExpiredBookings() {
+        BookingChange bookingChange = new BookingChange("종료");
+        ReflectionTestUtils.setField(bookingChange, "no", 2L);
+
+        Booking first = Booking.ofNewBooking("test1", LocalDateTime.parse("2025-04-29T09:00:00"), 4, LocalDateTime.parse("2025-04-29T10:00:00"), 1L, null, 1L);
+        ReflectionTestUtils.setField(first, "bookingNo", 1L);
+        Booking second = Booking.ofNewBooking("test2", LocalDateTime.parse("2025-04-29T10:00:00"), 6, LocalDateTime.parse("2025-04-29T11:00:00"), 2L, null, 2L);
+        ReflectionTestUtils.setField(second, "bookingNo", 2L);
+
+        LocalDateTime now = LocalDateTime.parse("2025-04-29T12:00:00");
+        when(bookingRepository.findExpiredInUseBookings(now, 100)).thenReturn(List.of(first, second));
+        when(bookingChangeRegistry.get(BookingChangeType.FINISH)).thenReturn(bookingChange);
+        when(bookingRepository.finishAll(List.of(1L, 2L), bookingChange)).thenReturn(2L);
+
+        Assertions.assertEquals(2, bookingService.finishExpiredBookings(now, 100));
+
+        ArgumentCaptor<BookingSlotChangedEvent> captor = ArgumentCaptor.forClass(BookingSlotChangedEvent.class);
+        Mockito.verify(publisher, Mockito.times(2)).publishEvent(captor.capture());
+        BookingSlotChangedEvent event = captor.getAllValues().get(1);
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(2L, event.getBookingNo()),
+                () -> Assertions.assertEquals(BookingChangeType.FINISH, event.getChangeType()),
+                () -> Assertions.assertEquals(BookingSlot.of(second), event.getPrevious()),
+                () -> Assertions.assertEquals(BookingSlot.of(second), event.getCurrent())
+        );
+    }
+
     @Test
     @DisplayName("본인인증 성공")
     void verify() {
@@ -492,8 +860,8 @@ class BookingServiceImplTest {
         ReflectionTestUtils.setField(bookingChange, "no", BookingChangeType.INUSE.getId());
 
         when(bookingRepository.findByNo(Mockito.anyLong())).thenReturn(Optional.of(response));
-        when(bookingRepository.findBookingByBookingNo(Mockito.anyLong())).thenReturn(Optional.of(booking));
-        when(bookingChangeRepository.findById(BookingChangeType.INUSE.getId())).thenReturn(Optional.of(bookingChange));
+        when(bookingRepository.findForUpdate(Mockito.anyLong())).thenReturn(Optional.of(booking));
+        when(bookingChangeRegistry.get(BookingChangeType.INUSE)).thenReturn(bookingChange);
 
         // when
         boolean result = bookingService.checkBooking(memberInfo, code, LocalDateTime.parse("2025-04-29T09:20:00"), bookingNo);
@@ -537,7 +905,7 @@ class BookingServiceImplTest {
 
         // mock 반환값 지정
         when(bookingRepository.findByNo(no)).thenReturn(Optional.of(response));
-        when(bookingRepository.findBookingByBookingNo(no)).thenReturn(Optional.of(
+        when(bookingRepository.findForUpdate(no)).thenReturn(Optional.of(
                 Booking.ofNewBooking(correctCode, date, attendeeCount, finishesAt, mbNo, null, roomNo)
         ));
 
@@ -584,7 +952,7 @@ class BookingServiceImplTest {
 
         // mock 반환값 지정
         when(bookingRepository.findByNo(no)).thenReturn(Optional.of(response));
-        when(bookingRepository.findBookingByBookingNo(no)).thenReturn(Optional.of(
+        when(bookingRepository.findForUpdate(no)).thenReturn(Optional.of(
                 Booking.ofNewBooking(code, date, attendeeCount, finishesAt, mbNo, null, roomNo)
         ));
 
@@ -630,7 +998,7 @@ class BookingServiceImplTest {
         );
 
         when(bookingRepository.findByNo(no)).thenReturn(Optional.of(response));
-        when(bookingRepository.findBookingByBookingNo(no)).thenReturn(Optional.of(
+        when(bookingRepository.findForUpdate(no)).thenReturn(Optional.of(
                 Booking.ofNewBooking(code, startTime, attendeeCount, finishesAt, mbNo, null, roomNo)
         ));
 
@@ -670,7 +1038,7 @@ class BookingServiceImplTest {
 
         // mock 설정
         when(bookingRepository.findByNo(no)).thenReturn(Optional.of(response));
-        when(bookingRepository.findBookingByBookingNo(no)).thenReturn(Optional.of(
+        when(bookingRepository.findForUpdate(no)).thenReturn(Optional.of(
                 Booking.ofNewBooking(code, startTime, attendeeCount, finishesAt, mbNo, null, roomNo)
         ));
 
@@ -683,4 +1051,36 @@ class BookingServiceImplTest {
         );
     }
 
+    @Test
+    @DisplayName("입실 - 예약시간 10분 30초 후는 미입실 취소 전이어도 입실 불가")
+    void checkBookingAfterWindow() {
+        LocalDateTime startTime = LocalDateTime.parse("2025-04-29T09:30:00");
+        BookingResponse response = new BookingResponse(1L, "testCode", startTime, 8, startTime.plusHours(1), LocalDateTime.now(), null, 1L, 1L);
+        Booking booking = Booking.ofNewBooking("testCode", startTime, 8, startTime.plusHours(1), 1L, null, 1L);
+
+        when(bookingRepository.findByNo(1L)).thenReturn(Optional.of(response));
+        when(bookingRepository.findForUpdate(1L)).thenReturn(Optional.of(booking));
+
+        Assertions.assertThrows(BookingTimeHasPassedException.class, () ->
+                bookingService.checkBooking(memberInfo, "testCode", startTime.plusMinutes(10).plusSeconds(30), 1L));
+        Assertions.assertNull(booking.getBookingChange());
+    }
+
+    @Test
+    @DisplayName("입실 - 미입실 취소된 예약은 입실 불가")
+    void checkBookingCancelledBySweep() {
+        LocalDateTime startTime = LocalDateTime.parse("2025-04-29T09:30:00");
+        BookingChange cancel = new BookingChange("취소");
+        ReflectionTestUtils.setField(cancel, "no", BookingChangeType.CANCEL.getId());
+        Booking booking = Booking.ofNewBooking("testCode", startTime, 8, null, 1L, cancel, 1L);
+
+        when(bookingRepository.findForUpdate(1L)).thenReturn(Optional.of(booking));
+
+        Assertions.assertThrows(BookingNotActiveException.class, () ->
+                bookingService.checkBooking(memberInfo, "testCode", startTime.plusMinutes(10).plusSeconds(30), 1L));
+        Assertions.assertSame(cancel, booking.getBookingChange());
+        Mockito.verify(bookingChangeRegistry, Mockito.never()).get(BookingChangeType.INUSE);
+        Mockito.verify(publisher, Mockito.never()).publishEvent(Mockito.any(Object.class));
+    }
+
 }
\ No newline at end of file
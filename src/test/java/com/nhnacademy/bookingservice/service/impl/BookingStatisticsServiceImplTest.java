@@ -0,0 +1,79 @@
+package com.nhnacademy.bookingservice.service.impl;
+
+import com.nhnacademy.bookingservice.common.exception.BadRequestException;
+import com.nhnacademy.bookingservice.domain.BookingDailyStats;
+import com.nhnacademy.bookingservice.domain.BookingDailyStatsId;
+import com.nhnacademy.bookingservice.dto.BookingStatsResponse;
+import com.nhnacademy.bookingservice.dto.BookingStatsUnit;
+import com.nhnacademy.bookingservice.repository.BookingDailyStatsRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookingStatisticsServiceImplTest {
+
+    @Mock
+    private BookingDailyStatsRepository bookingDailyStatsRepository;
+
+    @InjectMocks
+    private BookingStatisticsServiceImpl bookingStatisticsService;
+
+    private static BookingDailyStats stats(Long roomNo, String date, long bookings, long cancels, long attendees, long minutes) {
+        return new BookingDailyStats(new BookingDailyStatsId(roomNo, LocalDate.parse(date)), bookings, cancels, attendees, minutes);
+    }
+
+    @Test
+    @DisplayName("주별 통계 - 같은 주의 일별 집계를 합산")
+    void getStatistics_week() {
+        LocalDate from = LocalDate.parse("2025-04-28");
+        LocalDate to = LocalDate.parse("2025-05-11");
+        when(bookingDailyStatsRepository.findAllBetween(from, to)).thenReturn(List.of(
+                stats(1L, "2025-04-28", 2, 0, 10, 120),
+                stats(2L, "2025-04-29", 1, 1, 0, 0),
+                stats(1L, "2025-05-02", 2, 1, 5, 90),
+                stats(1L, "2025-05-05", 1, 0, 3, 60)
+        ));
+
+        List<BookingStatsResponse> actual = bookingStatisticsService.getStatistics(null, BookingStatsUnit.WEEK, from, to);
+
+        Assertions.assertEquals(List.of(
+                new BookingStatsResponse(1L, LocalDate.parse("2025-04-28"), 4, 1, 0.25, 3.5, 5.0),
+                new BookingStatsResponse(1L, LocalDate.parse("2025-05-05"), 1, 0, 0, 1.0, 3.0),
+                new BookingStatsResponse(2L, LocalDate.parse("2025-04-28"), 1, 1, 1.0, 0, 0)
+        ), actual);
+    }
+
+    @Test
+    @DisplayName("월별 통계 - 회의실 지정")
+    void getStatistics_month_room() {
+        LocalDate from = LocalDate.parse("2025-04-01");
+        LocalDate to = LocalDate.parse("2025-05-31");
+        when(bookingDailyStatsRepository.findAllBetween(1L, from, to)).thenReturn(List.of(
+                stats(1L, "2025-04-28", 2, 0, 10, 120),
+                stats(1L, "2025-05-02", 2, 1, 5, 90)
+        ));
+
+        List<BookingStatsResponse> actual = bookingStatisticsService.getStatistics(1L, BookingStatsUnit.MONTH, from, to);
+
+        Assertions.assertEquals(2, actual.size());
+        Assertions.assertEquals(LocalDate.parse("2025-05-01"), actual.get(1).getPeriodStart());
+    }
+
+    @Test
+    @DisplayName("기간 오류")
+    void getStatistics_invalidRange() {
+        LocalDate from = LocalDate.parse("2025-05-01");
+        LocalDate to = LocalDate.parse("2025-04-01");
+        Assertions.assertThrows(BadRequestException.class, () -> bookingStatisticsService.getStatistics(null, BookingStatsUnit.DAY, from, to));
+    }
+}
@@ -0,0 +1 @@
+INSERT INTO booking_changes (change_name) VALUES ('연장'), ('종료'), ('취소'), ('변경'), ('사용중');